@@ -0,0 +1,73 @@
+package org.apereo.cas.configuration.model.core.audit;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link AuditAsynchronousQueueProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-audit", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("AuditAsynchronousQueueProperties")
+public class AuditAsynchronousQueueProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 5320981645207318476L;
+
+    /**
+     * Maximum number of audit records that can be waiting
+     * in the queue of an audit manager that records audit records asynchronously.
+     * Once the queue is full, the overflow policy decides what happens to new audit records.
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Maximum number of queued audit records that are collected and
+     * handed over together to the audit storage, i.e. as a multi-row insert or a bulk write,
+     * if the audit manager supports it.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Decide what should happen to new audit records when the queue is full.
+     */
+    private OverflowPolicyTypes overflowPolicy = OverflowPolicyTypes.BLOCK;
+
+    /**
+     * When the overflow policy is set to sample audit records, once the queue
+     * is at least half full, only one out of every given number of audit records is queued
+     * and the rest are dropped.
+     */
+    private int sampleRate = 10;
+
+    /**
+     * The overflow policy types.
+     */
+    public enum OverflowPolicyTypes {
+        /**
+         * Block the caller until there is room in the queue.
+         */
+        BLOCK,
+        /**
+         * Drop audit records that do not fit into the queue.
+         */
+        DROP,
+        /**
+         * Sample audit records once the queue is at least half full,
+         * and drop audit records that do not fit into the queue.
+         */
+        SAMPLE
+    }
+}
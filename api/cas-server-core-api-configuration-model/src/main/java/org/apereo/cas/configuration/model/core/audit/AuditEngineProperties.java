@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -119,6 +120,13 @@ public class AuditEngineProperties implements Serializable {
      */
     private int abbreviationLength = 125;
 
+    /**
+     * Control the queue used by audit managers that record
+     * audit records asynchronously.
+     */
+    @NestedConfigurationProperty
+    private AuditAsynchronousQueueProperties queue = new AuditAsynchronousQueueProperties();
+
     /**
      * The audit format types.
      */
@@ -38,4 +38,15 @@ public class AuthenticationEngineProperties implements Serializable {
     @NestedConfigurationProperty
     private GroovyAuthenticationEngineProcessorProperties groovyPostProcessor = new GroovyAuthenticationEngineProcessorProperties();
 
+    /**
+     * Maximum number of authentication handlers that are invoked concurrently
+     * by a single authentication attempt for a credential. When more than one handler supports the credential,
+     * up to this many handlers are invoked at the same time, and remaining handlers are started as running
+     * ones complete. The first result that satisfies the authentication policy is used and handlers that are
+     * still running are then cancelled. The limit applies to each authentication attempt on its own;
+     * handlers are executed on a shared thread pool that grows with the number of concurrent authentication attempts.
+     * A value of {@code 1} or less invokes authentication handlers one after another on the calling thread.
+     */
+    private int maxConcurrentHandlers;
+
 }
@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.core.slo;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -34,4 +35,46 @@ public class SingleLogOutProperties implements Serializable {
      * Whether SLO should be entirely disabled globally for the CAS deployment.
      */
     private boolean disabled;
+
+    /**
+     * Maximum number of single logout requests that are dispatched concurrently
+     * to applications when a ticket-granting ticket is destroyed.
+     * A value of {@code 1} or less dispatches requests one after another on the calling thread.
+     */
+    private int maxConcurrentRequests = 10;
+
+    /**
+     * Maximum number of single logout requests that are dispatched concurrently
+     * to the same application host when a ticket-granting ticket is destroyed.
+     */
+    private int maxConcurrentRequestsPerHost = 2;
+
+    /**
+     * Maximum number of single logout requests that may wait to be dispatched
+     * once all concurrent slots are in use. Requests beyond this limit are
+     * dispatched on the calling thread.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * Overall deadline for dispatching all single logout requests
+     * when a ticket-granting ticket is destroyed. Requests that have not
+     * completed by then are abandoned and recorded as failures.
+     */
+    @DurationCapable
+    private String timeout = "PT10S";
+
+    /**
+     * Number of times a failed single logout request is retried
+     * before it is recorded as a failure.
+     */
+    private int maxRetries = 1;
+
+    /**
+     * Delay before retrying a failed single logout request. The delay
+     * is doubled for each subsequent attempt, and retries stop once the overall
+     * deadline has passed.
+     */
+    @DurationCapable
+    private String retryBackoff = "PT0.2S";
 }
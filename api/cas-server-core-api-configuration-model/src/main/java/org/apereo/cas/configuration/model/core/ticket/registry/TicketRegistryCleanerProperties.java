@@ -0,0 +1,65 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+
+/**
+ * This is {@link TicketRegistryCleanerProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("TicketRegistryCleanerProperties")
+public class TicketRegistryCleanerProperties extends ScheduledJobProperties {
+
+    @Serial
+    private static final long serialVersionUID = 2386475893120147613L;
+
+    /**
+     * Number of expired tickets that are collected and handed over
+     * together to a cleaner thread for removal.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum number of threads that remove expired tickets
+     * and process logout requests concurrently during a cleaner run.
+     */
+    private int maxConcurrency = 4;
+
+    /**
+     * Indicates how the cleanup work is divided between cleaner runs,
+     * typically on different CAS nodes that share the same ticket registry and locking repository.
+     * Partitions are claimed via a lock for as long as they are being cleaned, and
+     * partitions that are already claimed by another cleaner run are skipped.
+     */
+    private CleanerPartitioningTypes partitioning = CleanerPartitioningTypes.NONE;
+
+    /**
+     * Strategies used to divide the cleanup work into partitions.
+     */
+    public enum CleanerPartitioningTypes {
+        /**
+         * Expired tickets are cleaned up in a single pass
+         * without claiming any partitions.
+         */
+        NONE,
+        /**
+         * Every ticket type registered in the ticket catalog is a partition.
+         * Each cleaner run starts with a random partition and only cleans up
+         * tickets of partitions that it can claim.
+         */
+        TICKET_TYPE
+    }
+}
@@ -40,4 +40,26 @@ public class WebflowSessionManagementProperties implements Serializable {
      */
     @RequiredProperty
     private boolean storage;
+
+    /**
+     * Strategy used to encode the webflow state before it is encrypted and stored on the client.
+     * Only applicable when webflow sessions are stored client side.
+     * All CAS nodes must use the same strategy to decode the state produced by other nodes.
+     */
+    private WebflowStateTranscoderTypes transcoder = WebflowStateTranscoderTypes.SERIALIZATION;
+
+    /**
+     * Strategies used to encode the webflow state stored on the client.
+     */
+    public enum WebflowStateTranscoderTypes {
+        /**
+         * Encode the state using Java serialization with gzip compression.
+         */
+        SERIALIZATION,
+        /**
+         * Encode the state using Java serialization without class descriptors,
+         * writing registered classes by identifier, with fast deflate compression.
+         */
+        COMPACT
+    }
 }
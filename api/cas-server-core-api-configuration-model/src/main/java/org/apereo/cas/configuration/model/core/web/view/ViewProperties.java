@@ -72,6 +72,28 @@ public class ViewProperties implements Serializable {
      */
     private ThemeSourceTypes themeSourceType = ThemeSourceTypes.DEFAULT;
 
+    /**
+     * How CAS2 and CAS3 service validation responses should be rendered.
+     * The {@link ServiceValidationRendererTypes#TEMPLATE} type renders the response
+     * using the templates defined for the CAS2 and CAS3 success and failure views.
+     * The {@link ServiceValidationRendererTypes#STREAMING} type writes the response document
+     * directly to the response, producing the same output as the default templates
+     * without executing a template for each request. Template locations
+     * defined for the CAS2 and CAS3 views are ignored by this type.
+     */
+    private ServiceValidationRendererTypes serviceValidationRendererType = ServiceValidationRendererTypes.TEMPLATE;
+
+    public enum ServiceValidationRendererTypes {
+        /**
+         * Render validation responses using templates.
+         */
+        TEMPLATE,
+        /**
+         * Write validation responses directly to the response.
+         */
+        STREAMING
+    }
+
     public enum ThemeSourceTypes {
         /**
          * Theme source that gets the first theme property file found in the prefix locations.
@@ -11,6 +11,8 @@ import lombok.experimental.Accessors;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This is {@link CassandraTicketRegistryProperties}.
@@ -31,6 +33,15 @@ public class CassandraTicketRegistryProperties extends BaseCassandraProperties {
      */
     private boolean dropTablesOnStartup;
 
+    /**
+     * Names of authentication and principal attributes that are recorded in a lookup table,
+     * so that sessions can be found by these attributes without scanning all tickets.
+     * Only attributes that are used to query for sessions should be listed here; attributes
+     * that carry the same value for many sessions are best left out. Queries for attributes
+     * that are not listed here scan the ticket-granting tickets.
+     */
+    private List<String> indexedAttributes = new ArrayList<>();
+
     /**
      * Crypto settings for the registry.
      */
@@ -50,6 +50,28 @@ public class DynamoDbTicketRegistryProperties extends AbstractDynamoDbProperties
      */
     private String transientSessionTicketsTableName = "transientSessionTicketsTable";
 
+    /**
+     * The table name used and created by CAS to hold counters of tickets in DynamoDb.
+     * Counters are maintained as tickets are added and removed, grouped by ticket prefix
+     * and expiration time, and are used to count tickets without scanning ticket tables.
+     */
+    private String ticketCountersTableName = "ticketCountersTable";
+
+    /**
+     * The number of shards over which each counter of tickets is spread.
+     * Updates to a counter are written to a random shard so that adding and removing tickets
+     * across the cluster does not contend on a single item, and counts are summed over all shards.
+     * Counts only include shards below this number, so it should not be lowered while counters are in use.
+     */
+    private int ticketCounterShards = 10;
+
+    /**
+     * The number of segments that are scanned in parallel when all tickets are fetched from a table.
+     * Each segment is scanned by its own thread and consumes read capacity independently.
+     * A value of {@code 1} or less scans tables sequentially.
+     */
+    private int scanSegments = 4;
+
     /**
      * Crypto settings for the registry.
      */
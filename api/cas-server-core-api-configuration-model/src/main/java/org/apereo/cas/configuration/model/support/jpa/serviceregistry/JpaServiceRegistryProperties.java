@@ -33,6 +33,17 @@ public class JpaServiceRegistryProperties extends AbstractJpaProperties {
     @RequiredProperty
     private boolean enabled = true;
 
+    /**
+     * Flag indicating whether changes to service definitions should be tracked,
+     * using a revision that is incremented when service definitions are saved or removed.
+     * When enabled, reloading the service registry only fetches rows that are added or modified
+     * since the last load, and only applies those changes to cached service definitions
+     * instead of loading and caching all service definitions again.
+     * Service definitions that are modified directly in the database without going through CAS
+     * are not detected until the next full load.
+     */
+    private boolean changeTrackingEnabled;
+
     public JpaServiceRegistryProperties() {
         super.setUrl("jdbc:hsqldb:mem:cas-service-registry");
     }
@@ -58,6 +58,22 @@ public class RedisTicketRegistryProperties extends BaseRedisProperties {
      */
     private boolean enableRedisSearch = true;
 
+    /**
+     * The number of keys requested from Redis in each iteration
+     * of a cursor-based {@code SCAN} operation when tickets are streamed,
+     * which is also the number of ticket documents fetched in a single pipelined batch.
+     * Streaming tickets never issues a blocking {@code KEYS} command.
+     */
+    private long scanCount = 1_000;
+
+    /**
+     * The maximum number of tickets that are written to Redis
+     * in a single pipelined call when tickets are added in bulk.
+     * Each ticket write, including the update of the principal session index,
+     * is always sent in one round trip regardless of this setting.
+     */
+    private long writeBatchSize = 100;
+
     public RedisTicketRegistryProperties() {
         crypto.setEnabled(false);
     }
@@ -45,6 +45,15 @@ public class JsonServiceRegistryProperties extends SpringResourceProperties {
      */
     private boolean watcherEnabled = true;
 
+    /**
+     * Flag indicating whether changes to service definition files should be tracked,
+     * using the modification time, size and checksum of each file.
+     * When enabled, reloading the service registry only parses files that are added or modified
+     * since the last load, and only applies those changes to cached service definitions
+     * instead of loading and caching all service definitions again.
+     */
+    private boolean changeDetectionEnabled;
+
     public JsonServiceRegistryProperties() {
         setLocation(DEFAULT_LOCATION);
     }
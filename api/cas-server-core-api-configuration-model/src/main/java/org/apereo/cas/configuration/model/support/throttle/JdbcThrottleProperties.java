@@ -51,4 +51,21 @@ public class JdbcThrottleProperties extends AbstractJpaProperties {
      */
     private String auditQuery = SQL_AUDIT_QUERY_BY_USER_AND_IP;
 
+    /**
+     * Locate authentication failures by executing the audit query
+     * against the audit table, instead of keeping track of failures
+     * in a dedicated throttle table.
+     */
+    private boolean auditQueryEnabled;
+
+    /**
+     * Name of the dedicated table that keeps track of authentication failures,
+     * keyed by a hash of the application code, client address and username.
+     * The table and its index are created on startup if missing, unless the DDL
+     * setting is set to {@code none} or {@code validate}.
+     * Failures that fall outside the configured failure range are removed in bulk
+     * every time the throttling cleaner runs.
+     */
+    private String tableName = "CAS_THROTTLE_FAILURES";
+
 }
@@ -5,6 +5,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -84,6 +85,22 @@ public interface ServiceRegistry {
      */
     Collection<RegisteredService> load();
 
+    /**
+     * Retrieve the service definitions that have changed in the data store since
+     * services were last loaded, without loading all services again.
+     * Registries that are unable to track changes, or have not loaded services yet,
+     * return an empty result, in which case services should be loaded via {@link #load()}.
+     * <p>
+     * Changes are reported once; the registry remembers what it has reported, so the changes are consumed
+     * by the caller. When several services managers share the same registry, only one of them
+     * may load changes, and the others are expected to load services via {@link #load()}.
+     *
+     * @return the changes, if any can be determined
+     */
+    default Optional<ServiceRegistryChangeSet> loadChanges() {
+        return Optional.empty();
+    }
+
     /**
      * Gets services stream.
      * <p>
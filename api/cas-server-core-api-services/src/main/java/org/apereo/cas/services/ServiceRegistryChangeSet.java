@@ -0,0 +1,49 @@
+package org.apereo.cas.services;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * This is {@link ServiceRegistryChangeSet} that describes the service definitions
+ * that have been added, modified or removed in a service registry since
+ * service definitions were last loaded from it.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ServiceRegistryChangeSet {
+    /**
+     * Service definitions that are added or modified.
+     */
+    private final Collection<RegisteredService> modifiedServices;
+
+    /**
+     * Service definitions that are removed.
+     */
+    private final Collection<RegisteredService> removedServices;
+
+    /**
+     * Change set that carries no changes.
+     *
+     * @return the change set
+     */
+    public static ServiceRegistryChangeSet empty() {
+        return new ServiceRegistryChangeSet(new ArrayList<>(0), new ArrayList<>(0));
+    }
+
+    /**
+     * Are there any changes?
+     *
+     * @return true/false
+     */
+    public boolean isEmpty() {
+        return modifiedServices.isEmpty() && removedServices.isEmpty();
+    }
+}
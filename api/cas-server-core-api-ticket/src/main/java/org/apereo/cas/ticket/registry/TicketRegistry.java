@@ -2,6 +2,7 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.ticket.AuthenticationAwareTicket;
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketDefinition;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 
 import org.jooq.lambda.Unchecked;
@@ -157,6 +158,35 @@ public interface TicketRegistry {
         return getTickets().stream();
     }
 
+    /**
+     * Gets tickets that may be expired and are candidates for removal
+     * by the ticket registry cleaner. Registries that keep track of ticket expiration
+     * in the underlying storage may narrow down the results via a storage-side query,
+     * as long as expired tickets are not left out. Callers are still expected
+     * to check each ticket for expiration.
+     * <p>
+     * The returning stream may be bound to an IO channel (such as database connection),
+     * so it should be properly closed after usage.
+     *
+     * @return the tickets stream
+     */
+    default Stream<? extends Ticket> getExpiredTicketCandidates() {
+        return stream();
+    }
+
+    /**
+     * Gets tickets of the given ticket definition that may be expired
+     * and are candidates for removal by the ticket registry cleaner.
+     *
+     * @param definition the ticket definition
+     * @return the tickets stream
+     * @see #getExpiredTicketCandidates()
+     */
+    default Stream<? extends Ticket> getExpiredTicketCandidates(final TicketDefinition definition) {
+        return getExpiredTicketCandidates()
+            .filter(ticket -> ticket != null && definition.getPrefix().equals(ticket.getPrefix()));
+    }
+
     /**
      * Count the number of single sign-on sessions
      * that are recorded in the ticket registry for
@@ -2,6 +2,8 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.ticket.Ticket;
 
+import java.util.Optional;
+
 /**
  * This is {@link TicketRegistryCleaner}.
  *
@@ -30,4 +32,13 @@ public interface TicketRegistryCleaner {
     default int cleanTicket(final Ticket ticket) {
         return 0;
     }
+
+    /**
+     * Gets the statistics of the last completed cleaner run, if any.
+     *
+     * @return the statistics
+     */
+    default Optional<TicketRegistryCleanerStatistics> getStatistics() {
+        return Optional.empty();
+    }
 }
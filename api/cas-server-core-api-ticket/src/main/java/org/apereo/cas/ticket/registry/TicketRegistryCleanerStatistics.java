@@ -0,0 +1,18 @@
+package org.apereo.cas.ticket.registry;
+
+import java.time.Duration;
+
+/**
+ * This is {@link TicketRegistryCleanerStatistics} that summarizes a single run of the ticket registry cleaner.
+ *
+ * @param scanned    the number of candidate tickets fetched from the ticket registry
+ * @param expired    the number of candidate tickets found to be expired
+ * @param deleted    the number of tickets removed from the ticket registry, including child tickets
+ * @param partitions the number of partitions claimed and cleaned by the run
+ * @param duration   the duration of the run
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public record TicketRegistryCleanerStatistics(long scanned, long expired, long deleted,
+                                              long partitions, Duration duration) {
+}
@@ -49,4 +49,15 @@ public interface TicketSerializationExecutionPlan {
      * @return the ticket serializer
      */
     StringSerializer<Ticket> getTicketSerializer(String clazz);
+
+    /**
+     * Gets the ticket type by its name.
+     *
+     * @param type the type name
+     * @return the ticket type
+     * @throws ClassNotFoundException if the type cannot be found
+     */
+    default Class<? extends Ticket> getTicketType(final String type) throws ClassNotFoundException {
+        return Class.forName(type).asSubclass(Ticket.class);
+    }
 }
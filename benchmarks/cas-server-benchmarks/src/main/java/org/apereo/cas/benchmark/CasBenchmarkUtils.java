@@ -0,0 +1,70 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.authentication.principal.WebApplicationServiceFactory;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.ServiceTicketImpl;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.CollectionUtils;
+
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * This is {@link CasBenchmarkUtils} that builds the fixtures shared by benchmark suites.
+ * Fixtures are constructed directly rather than through the Spring application context
+ * so that each suite only measures the component under test.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@UtilityClass
+public class CasBenchmarkUtils {
+    private static final WebApplicationServiceFactory SERVICE_FACTORY = new WebApplicationServiceFactory();
+
+    /**
+     * Build a web application service for the given url.
+     *
+     * @param url the url
+     * @return the service
+     */
+    public static Service service(final String url) {
+        return SERVICE_FACTORY.createService(url);
+    }
+
+    /**
+     * Build a ticket-granting ticket for the given principal.
+     *
+     * @param principalId the principal id
+     * @return the ticket granting ticket
+     */
+    public static TicketGrantingTicket ticketGrantingTicket(final String principalId) {
+        val attributes = new HashMap<String, List<Object>>();
+        attributes.put("mail", CollectionUtils.wrapList(principalId + "@example.org"));
+        attributes.put("memberOf", CollectionUtils.wrapList("staff", "faculty"));
+        val principal = CoreAuthenticationTestUtils.getPrincipal(principalId, attributes);
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(principal);
+        return new TicketGrantingTicketImpl(TicketGrantingTicket.PREFIX + '-' + UUID.randomUUID(),
+            authentication, NeverExpiresExpirationPolicy.INSTANCE);
+    }
+
+    /**
+     * Build a service ticket issued by the given ticket-granting ticket.
+     *
+     * @param ticketGrantingTicket the ticket granting ticket
+     * @param serviceUrl           the service url
+     * @return the service ticket
+     */
+    public static ServiceTicket serviceTicket(final TicketGrantingTicket ticketGrantingTicket,
+                                              final String serviceUrl) {
+        return new ServiceTicketImpl(ServiceTicket.PREFIX + '-' + UUID.randomUUID(), ticketGrantingTicket,
+            service(serviceUrl), false, NeverExpiresExpirationPolicy.INSTANCE);
+    }
+}
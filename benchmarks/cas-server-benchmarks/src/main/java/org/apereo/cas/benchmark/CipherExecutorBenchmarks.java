@@ -0,0 +1,94 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.util.cipher.BaseStringCipherExecutor;
+import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
+import org.apereo.cas.util.cipher.TicketGrantingCookieCipherExecutor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link CipherExecutorBenchmarks} that measures the string cipher
+ * used for cookies and tokens, and the binary cipher used for ticket encryption.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CipherExecutorBenchmarks {
+    private static final String VALUE = "TGT-1-kFoJ8Wc6BfJgdC3I9H0lXq7cP4mYbWqU2zpRs5Tvo1eAaNdLx-cas.example.org";
+
+    private BaseStringCipherExecutor stringCipherExecutor;
+
+    private DefaultTicketCipherExecutor ticketCipherExecutor;
+
+    private String encodedString;
+
+    private byte[] encodedTicket;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        stringCipherExecutor = new TicketGrantingCookieCipherExecutor();
+        encodedString = stringCipherExecutor.encode(VALUE);
+
+        ticketCipherExecutor = new DefaultTicketCipherExecutor(null, null, "AES", 512, 16, "benchmark");
+        encodedTicket = ticketCipherExecutor.encode(VALUE.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Encrypt and sign a value with the string cipher.
+     *
+     * @return the encoded value
+     */
+    @Benchmark
+    public String encodeString() {
+        return stringCipherExecutor.encode(VALUE);
+    }
+
+    /**
+     * Verify and decrypt a value with the string cipher.
+     *
+     * @return the decoded value
+     */
+    @Benchmark
+    public String decodeString() {
+        return stringCipherExecutor.decode(encodedString);
+    }
+
+    /**
+     * Encrypt and sign a value with the ticket cipher.
+     *
+     * @return the encoded value
+     */
+    @Benchmark
+    public byte[] encodeTicket() {
+        return ticketCipherExecutor.encode(VALUE.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Verify and decrypt a value with the ticket cipher.
+     *
+     * @return the decoded value
+     */
+    @Benchmark
+    public byte[] decodeTicket() {
+        return ticketCipherExecutor.decode(encodedTicket);
+    }
+}
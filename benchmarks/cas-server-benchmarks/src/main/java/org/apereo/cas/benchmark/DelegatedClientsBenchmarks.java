@@ -0,0 +1,121 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.support.pac4j.authentication.clients.DelegatedClientFactory;
+import org.apereo.cas.support.pac4j.authentication.clients.RefreshableDelegatedClients;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pac4j.cas.client.CasClient;
+import org.pac4j.cas.config.CasConfiguration;
+import org.pac4j.core.client.Clients;
+import org.pac4j.core.client.IndirectClient;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * This is {@link DelegatedClientsBenchmarks} that measures how identity providers are looked up
+ * when the login page is rendered with many configured providers. Every provider is listed
+ * and then looked up by name, as is done when authorizing providers for the login page.
+ * The baseline rebuilds the clients on every lookup, as if the client factory always reported a new version.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DelegatedClientsBenchmarks {
+    private static final String CALLBACK_URL = "https://sso.example.org/cas/login";
+
+    @Param({"50", "200"})
+    private int clientCount;
+
+    private Clients clients;
+
+    private Clients rebuildingClients;
+
+    private List<String> clientNames;
+
+    private static DelegatedClientFactory getClientFactory(final Collection<IndirectClient> clients, final boolean rebuildOnLookup) {
+        val version = new AtomicLong();
+        return new DelegatedClientFactory() {
+            @Override
+            public Collection<IndirectClient> build() {
+                return clients;
+            }
+
+            @Override
+            public Collection<IndirectClient> rebuild() {
+                version.incrementAndGet();
+                return build();
+            }
+
+            @Override
+            public long getVersion() {
+                return rebuildOnLookup ? version.incrementAndGet() : version.get();
+            }
+        };
+    }
+
+    private static int resolveLoginPageProviders(final Clients clients, final List<String> clientNames) {
+        var count = clients.findAllClients().size();
+        for (val name : clientNames) {
+            if (clients.findClient(name).isPresent()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        val configuredClients = IntStream.range(0, clientCount)
+            .mapToObj(i -> {
+                val client = new CasClient(new CasConfiguration("https://cas" + i + ".example.org/cas/login"));
+                client.setName("CasClient" + i);
+                return (IndirectClient) client;
+            })
+            .toList();
+        clientNames = configuredClients.stream().map(IndirectClient::getName).toList();
+        clients = new RefreshableDelegatedClients(CALLBACK_URL, getClientFactory(configuredClients, false));
+        rebuildingClients = new RefreshableDelegatedClients(CALLBACK_URL, getClientFactory(configuredClients, true));
+    }
+
+    /**
+     * List and look up all providers for the login page from the client registry.
+     *
+     * @return the number of providers found
+     */
+    @Benchmark
+    public int resolveLoginPageProviders() {
+        return resolveLoginPageProviders(clients, clientNames);
+    }
+
+    /**
+     * List and look up all providers for the login page, rebuilding clients on every lookup.
+     *
+     * @return the number of providers found
+     */
+    @Benchmark
+    public int resolveLoginPageProvidersRebuildingOnLookup() {
+        return resolveLoginPageProviders(rebuildingClients, clientNames);
+    }
+}
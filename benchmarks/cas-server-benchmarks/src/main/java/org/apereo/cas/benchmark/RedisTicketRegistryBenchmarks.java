@@ -0,0 +1,129 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.authentication.CasSSLContext;
+import org.apereo.cas.configuration.model.support.redis.RedisTicketRegistryProperties;
+import org.apereo.cas.redis.core.RedisObjectFactory;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.registry.RedisTicketDocument;
+import org.apereo.cas.ticket.registry.RedisTicketRegistry;
+import org.apereo.cas.ticket.registry.pub.DefaultRedisTicketRegistryMessagePublisher;
+import org.apereo.cas.ticket.serialization.DefaultTicketSerializationExecutionPlan;
+import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManager;
+import org.apereo.cas.util.PublisherIdentifier;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link RedisTicketRegistryBenchmarks} that measures the latency of ticket writes
+ * issued by {@link RedisTicketRegistry} during a typical login, which adds a ticket-granting ticket,
+ * adds a service ticket and updates the ticket-granting ticket. The latency of these operations
+ * is dominated by the number of round trips to Redis, so comparing the results of this benchmark
+ * across revisions shows the effect of changes to the registry write path.
+ * <p>
+ * This benchmark requires a Redis server, which is expected on {@code localhost:6379} unless
+ * specified otherwise via the {@code cas.benchmark.redis.host} and {@code cas.benchmark.redis.port}
+ * system properties.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisTicketRegistryBenchmarks {
+    private static final String SERVICE_URL = "https://app.example.org/login";
+
+    @Param({"100"})
+    public int batchSize;
+
+    private final AtomicLong principalCounter = new AtomicLong();
+
+    private LettuceConnectionFactory connectionFactory;
+
+    private RedisTicketRegistry ticketRegistry;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        val properties = new RedisTicketRegistryProperties();
+        properties.setHost(System.getProperty("cas.benchmark.redis.host", "localhost"));
+        properties.setPort(Integer.getInteger("cas.benchmark.redis.port", 6379));
+        properties.setWriteBatchSize(batchSize);
+
+        connectionFactory = (LettuceConnectionFactory) RedisObjectFactory.newRedisConnectionFactory(properties, true, CasSSLContext.disabled());
+        val ticketsTemplate = RedisObjectFactory.<String, RedisTicketDocument>newRedisTemplate(connectionFactory);
+        ticketsTemplate.initialize();
+        val sessionsTemplate = RedisObjectFactory.<String, String>newRedisTemplate(connectionFactory);
+        sessionsTemplate.initialize();
+
+        val serializationManager = new DefaultTicketStringSerializationManager(new DefaultTicketSerializationExecutionPlan());
+        ticketRegistry = new RedisTicketRegistry(CipherExecutor.noOp(), serializationManager, new DefaultTicketCatalog(),
+            new RedisTicketRegistry.CasRedisTemplates(ticketsTemplate, sessionsTemplate),
+            Caffeine.newBuilder().maximumSize(10_000).<String, Ticket>build(),
+            new DefaultRedisTicketRegistryMessagePublisher(ticketsTemplate, new PublisherIdentifier()),
+            Optional.empty(), properties);
+        ticketRegistry.deleteAll();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ticketRegistry.deleteAll();
+        ticketRegistry.destroy();
+        connectionFactory.destroy();
+    }
+
+    /**
+     * Issue the ticket writes of a single login.
+     *
+     * @return the ticket-granting ticket
+     * @throws Exception the exception
+     */
+    @Benchmark
+    public TicketGrantingTicket login() throws Exception {
+        val ticketGrantingTicket = CasBenchmarkUtils.ticketGrantingTicket("casuser" + principalCounter.incrementAndGet());
+        ticketRegistry.addTicket(ticketGrantingTicket);
+        ticketRegistry.addTicket(CasBenchmarkUtils.serviceTicket(ticketGrantingTicket, SERVICE_URL));
+        ticketRegistry.updateTicket(ticketGrantingTicket);
+        return ticketGrantingTicket;
+    }
+
+    /**
+     * Add a batch of ticket-granting tickets at once.
+     *
+     * @return the number of tickets
+     */
+    @Benchmark
+    public int addTicketBatch() {
+        val tickets = new ArrayList<Ticket>(batchSize);
+        for (var i = 0; i < batchSize; i++) {
+            tickets.add(CasBenchmarkUtils.ticketGrantingTicket("casuser" + principalCounter.incrementAndGet()));
+        }
+        ticketRegistry.addTicket(tickets.stream());
+        return tickets.size();
+    }
+}
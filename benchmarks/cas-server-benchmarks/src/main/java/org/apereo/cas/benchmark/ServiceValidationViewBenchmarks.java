@@ -0,0 +1,150 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.validation.CasProtocolValidationSpecification.CasProtocolVersions;
+import org.apereo.cas.web.view.CasMustacheView;
+import org.apereo.cas.web.view.CasServiceValidationStreamingView;
+import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
+
+import com.samskivert.mustache.Mustache;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.support.RequestContext;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link ServiceValidationViewBenchmarks} that compares rendering a CAS3 service validation
+ * success response through the default template, with and without buffering the response,
+ * against writing it directly via {@link CasServiceValidationStreamingView}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceValidationViewBenchmarks {
+    private static final String CONTENT_TYPE = "text/html;charset=UTF-8";
+
+    /**
+     * Number of attributes released in the response.
+     */
+    @Param({"5", "50"})
+    public int attributeCount;
+
+    private View templateView;
+
+    private View streamingView;
+
+    private MockServletContext servletContext;
+
+    private GenericWebApplicationContext applicationContext;
+
+    private Map<String, Object> model;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        servletContext = new MockServletContext();
+        applicationContext = new GenericWebApplicationContext(servletContext);
+
+        val mustacheView = new CasMustacheView();
+        mustacheView.setCompiler(Mustache.compiler());
+        mustacheView.setUrl("classpath:templates/protocol/3.0/casServiceValidationSuccess.mustache");
+        mustacheView.setContentType(CONTENT_TYPE);
+        mustacheView.setApplicationContext(applicationContext);
+        templateView = mustacheView;
+        streamingView = new CasServiceValidationStreamingView(true, CasProtocolVersions.CAS30, CONTENT_TYPE);
+
+        val attributes = new LinkedHashMap<String, Object>();
+        for (var i = 0; i < attributeCount; i++) {
+            attributes.put("attribute" + i, CollectionUtils.wrapList("value-" + i, "other-value-" + i));
+        }
+        val formattedAttributes = new DefaultCas30ProtocolAttributesRenderer().render(attributes);
+
+        model = new HashMap<>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL, CoreAuthenticationTestUtils.getPrincipal("casuser"));
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU, "PGTIOU-" + UUID.randomUUID());
+        model.put(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES, List.copyOf(formattedAttributes));
+    }
+
+    /**
+     * Render the response through the template, writing directly to the response.
+     *
+     * @return the response
+     * @throws Exception the exception
+     */
+    @Benchmark
+    public MockHttpServletResponse renderTemplate() throws Exception {
+        val response = new MockHttpServletResponse();
+        templateView.render(new HashMap<>(model), getRequest(), response);
+        return response;
+    }
+
+    /**
+     * Render the response through the template into a buffer that is logged
+     * and then copied to the response, as is done when debug logging is enabled.
+     *
+     * @param blackhole the blackhole
+     * @return the response
+     * @throws Exception the exception
+     */
+    @Benchmark
+    public MockHttpServletResponse renderTemplateWithBufferedResponse(final Blackhole blackhole) throws Exception {
+        val response = new MockHttpServletResponse();
+        val responseWrapper = new ContentCachingResponseWrapper(response);
+        templateView.render(new HashMap<>(model), getRequest(), responseWrapper);
+        val output = new String(responseWrapper.getContentAsByteArray(), responseWrapper.getCharacterEncoding());
+        blackhole.consume(String.format("Final CAS response for [%s] is:%n%s%n", templateView, output));
+        responseWrapper.copyBodyToResponse();
+        return response;
+    }
+
+    /**
+     * Write the response directly without a template.
+     *
+     * @return the response
+     * @throws Exception the exception
+     */
+    @Benchmark
+    public MockHttpServletResponse renderStreaming() throws Exception {
+        val response = new MockHttpServletResponse();
+        streamingView.render(new HashMap<>(model), getRequest(), response);
+        return response;
+    }
+
+    private MockHttpServletRequest getRequest() {
+        val request = new MockHttpServletRequest(servletContext);
+        request.setAttribute(RequestContext.WEB_APPLICATION_CONTEXT_ATTRIBUTE, applicationContext);
+        return request;
+    }
+}
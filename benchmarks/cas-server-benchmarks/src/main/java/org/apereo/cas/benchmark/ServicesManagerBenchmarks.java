@@ -0,0 +1,123 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.DefaultRegisteredServicesTemplatesManager;
+import org.apereo.cas.services.DefaultServicesManagerRegisteredServiceLocator;
+import org.apereo.cas.services.InMemoryServiceRegistry;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.services.ServicesManagerConfigurationContext;
+import org.apereo.cas.services.mgmt.DefaultServicesManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.StaticApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link ServicesManagerBenchmarks} that measures {@link ServicesManager#findServiceBy(Service)}
+ * against registries of increasing size. Registered services are host-anchored regular expressions,
+ * which is how the majority of deployments define their service definitions.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServicesManagerBenchmarks {
+
+    @Param({"1000", "10000", "50000"})
+    public int serviceCount;
+
+    private ServicesManager servicesManager;
+
+    private List<Service> services;
+
+    private Service unknownService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        val registeredServices = new ArrayList<RegisteredService>(serviceCount);
+        for (var i = 0; i < serviceCount; i++) {
+            val registeredService = new CasRegisteredService();
+            registeredService.setId(i + 1);
+            registeredService.setName("Application " + i);
+            registeredService.setServiceId("^https://app" + i + "\\.example\\.org/.*");
+            registeredService.setEvaluationOrder(i);
+            registeredServices.add(registeredService);
+        }
+
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+        val serviceRegistry = new InMemoryServiceRegistry(applicationContext, registeredServices, new ArrayList<>());
+        val context = ServicesManagerConfigurationContext.builder()
+            .serviceRegistry(serviceRegistry)
+            .applicationContext(applicationContext)
+            .environments(new HashSet<>(0))
+            .registeredServiceLocators(List.of(new DefaultServicesManagerRegisteredServiceLocator()))
+            .registeredServicesTemplatesManager(new DefaultRegisteredServicesTemplatesManager(new ArrayList<>(), null))
+            .servicesCache(Caffeine.newBuilder().initialCapacity(serviceCount).build())
+            .build();
+        servicesManager = new DefaultServicesManager(context);
+        servicesManager.load();
+
+        services = new ArrayList<>(serviceCount);
+        for (var i = 0; i < serviceCount; i++) {
+            services.add(CasBenchmarkUtils.service("https://app" + i + ".example.org/cas/login"));
+        }
+        unknownService = CasBenchmarkUtils.service("https://unknown.example.net/cas/login");
+    }
+
+    /**
+     * Locate a registered service for a random known service url.
+     *
+     * @return the registered service
+     */
+    @Benchmark
+    public RegisteredService findServiceByRandomService() {
+        val service = services.get(ThreadLocalRandom.current().nextInt(services.size()));
+        return servicesManager.findServiceBy(service);
+    }
+
+    /**
+     * Locate the registered service with the lowest precedence.
+     *
+     * @return the registered service
+     */
+    @Benchmark
+    public RegisteredService findServiceByLastService() {
+        return servicesManager.findServiceBy(services.get(services.size() - 1));
+    }
+
+    /**
+     * Attempt to locate a service url that matches no registered service.
+     *
+     * @return the registered service
+     */
+    @Benchmark
+    public RegisteredService findServiceByUnknownService() {
+        return servicesManager.findServiceBy(unknownService);
+    }
+}
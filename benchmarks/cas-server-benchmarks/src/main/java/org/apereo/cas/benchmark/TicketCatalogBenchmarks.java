@@ -0,0 +1,151 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.DefaultTicketDefinition;
+import org.apereo.cas.ticket.ProxyGrantingTicketImpl;
+import org.apereo.cas.ticket.ProxyTicketImpl;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.ServiceTicketImpl;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.TransientSessionTicket;
+import org.apereo.cas.ticket.TransientSessionTicketImpl;
+import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
+import org.apereo.cas.ticket.proxy.ProxyTicket;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.Ordered;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link TicketCatalogBenchmarks} that measures the {@link DefaultTicketCatalog} lookups
+ * issued by distributed ticket registries, which locate the ticket definition by ticket id or ticket
+ * for every add, get, update and delete operation and by ticket type when querying sessions.
+ * Additional ticket definitions stand in for those registered by modules such as OAuth or SAML.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class TicketCatalogBenchmarks {
+    private static final String SERVICE_URL = "https://app.example.org/login";
+
+    /**
+     * Number of ticket definitions registered in addition to the default ones.
+     */
+    @Param({"0", "25"})
+    public int additionalDefinitionCount;
+
+    private TicketCatalog ticketCatalog;
+
+    private List<Ticket> tickets;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ticketCatalog = new DefaultTicketCatalog();
+        ticketCatalog.register(new DefaultTicketDefinition(ProxyTicketImpl.class, ProxyTicket.class,
+            ProxyTicket.PROXY_TICKET_PREFIX, Ordered.HIGHEST_PRECEDENCE));
+        ticketCatalog.register(new DefaultTicketDefinition(ServiceTicketImpl.class, ServiceTicket.class,
+            ServiceTicket.PREFIX, Ordered.HIGHEST_PRECEDENCE));
+        ticketCatalog.register(new DefaultTicketDefinition(ProxyGrantingTicketImpl.class, ProxyGrantingTicket.class,
+            ProxyGrantingTicket.PROXY_GRANTING_TICKET_PREFIX, Ordered.LOWEST_PRECEDENCE));
+        ticketCatalog.register(new DefaultTicketDefinition(TicketGrantingTicketImpl.class, TicketGrantingTicket.class,
+            TicketGrantingTicket.PREFIX, Ordered.LOWEST_PRECEDENCE));
+        ticketCatalog.register(new DefaultTicketDefinition(TransientSessionTicketImpl.class, TransientSessionTicket.class,
+            TransientSessionTicket.PREFIX, Ordered.LOWEST_PRECEDENCE));
+        for (var i = 0; i < additionalDefinitionCount; i++) {
+            ticketCatalog.register(new DefaultTicketDefinition(TransientSessionTicketImpl.class, TransientSessionTicket.class,
+                "EXT" + i, Ordered.LOWEST_PRECEDENCE));
+        }
+
+        tickets = new ArrayList<>();
+        for (var i = 0; i < 100; i++) {
+            val tgt = CasBenchmarkUtils.ticketGrantingTicket("casuser" + i);
+            tickets.add(tgt);
+            tickets.add(CasBenchmarkUtils.serviceTicket(tgt, SERVICE_URL));
+        }
+    }
+
+    /**
+     * Locate the ticket definition for a ticket id, as done when fetching or deleting a ticket.
+     *
+     * @return the ticket definition
+     */
+    @Benchmark
+    public TicketDefinition findByTicketId() {
+        return ticketCatalog.find(randomTicket().getId());
+    }
+
+    /**
+     * Locate the ticket definition for a ticket, as done when adding or updating a ticket.
+     *
+     * @return the ticket definition
+     */
+    @Benchmark
+    public TicketDefinition findByTicket() {
+        return ticketCatalog.find(randomTicket());
+    }
+
+    /**
+     * Locate the ticket definitions whose implementations are ticket-granting tickets,
+     * as done when querying sessions.
+     *
+     * @return the ticket definitions
+     */
+    @Benchmark
+    public Collection<TicketDefinition> findTicketImplementations() {
+        return ticketCatalog.findTicketImplementations(TicketGrantingTicket.class);
+    }
+
+    /**
+     * Locate the ticket definition for the ticket-granting ticket type.
+     *
+     * @return the ticket definition
+     */
+    @Benchmark
+    public Optional<TicketDefinition> findTicketDefinition() {
+        return ticketCatalog.findTicketDefinition(TicketGrantingTicket.class);
+    }
+
+    /**
+     * Locate all ticket definitions, as done when counting or fetching all tickets.
+     *
+     * @return the ticket definitions
+     */
+    @Benchmark
+    public Collection<TicketDefinition> findAll() {
+        return ticketCatalog.findAll();
+    }
+
+    private Ticket randomTicket() {
+        return tickets.get(ThreadLocalRandom.current().nextInt(tickets.size()));
+    }
+}
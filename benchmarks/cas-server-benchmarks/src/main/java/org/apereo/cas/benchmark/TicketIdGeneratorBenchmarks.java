@@ -0,0 +1,89 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.util.RandomUtils;
+import org.apereo.cas.util.ServiceTicketIdGenerator;
+import org.apereo.cas.util.gen.RandomStringGenerator;
+import org.apereo.cas.util.gen.StripedSecureRandom;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link TicketIdGeneratorBenchmarks} that measures service ticket id generation
+ * from many threads at once, comparing a single shared native secure random instance,
+ * which synchronizes internally, with the striped pool shared by random string generators.
+ * The thread count may be changed on the command line via {@code -t}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+public class TicketIdGeneratorBenchmarks {
+    private SecureRandom nativeSecureRandom;
+
+    private SecureRandom stripedSecureRandom;
+
+    private ServiceTicketIdGenerator serviceTicketIdGenerator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        nativeSecureRandom = RandomUtils.getNativeInstance();
+        stripedSecureRandom = StripedSecureRandom.getSharedInstance();
+        serviceTicketIdGenerator = new ServiceTicketIdGenerator(RandomStringGenerator.DEFAULT_LENGTH, "benchmark");
+    }
+
+    /**
+     * Draw the random part of a ticket id from a single shared native instance.
+     *
+     * @return the bytes
+     */
+    @Benchmark
+    public byte[] nextBytesFromNativeInstance() {
+        val bytes = new byte[RandomStringGenerator.DEFAULT_LENGTH];
+        nativeSecureRandom.nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Draw the random part of a ticket id from the striped pool.
+     *
+     * @return the bytes
+     */
+    @Benchmark
+    public byte[] nextBytesFromStripedInstance() {
+        val bytes = new byte[RandomStringGenerator.DEFAULT_LENGTH];
+        stripedSecureRandom.nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Generate a service ticket id.
+     *
+     * @return the ticket id
+     */
+    @Benchmark
+    public String generateServiceTicketId() {
+        return serviceTicketIdGenerator.getNewTicketId(ServiceTicket.PREFIX);
+    }
+}
@@ -0,0 +1,118 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.serialization.DefaultTicketSerializationExecutionPlan;
+import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManager;
+import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link TicketRegistryBenchmarks} that measures add, get and delete operations
+ * of the map-based {@link DefaultTicketRegistry}, with and without ticket encryption.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketRegistryBenchmarks {
+    private static final String SERVICE_URL = "https://app.example.org/login";
+
+    @Param({"false", "true"})
+    public boolean encrypted;
+
+    @Param({"10000"})
+    public int ticketCount;
+
+    private TicketRegistry ticketRegistry;
+
+    private List<String> ticketIds;
+
+    private TicketGrantingTicket ticketGrantingTicket;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        val cipher = encrypted
+            ? new DefaultTicketCipherExecutor(null, null, "AES", 512, 16, "benchmark")
+            : CipherExecutor.noOp();
+        val serializationManager = new DefaultTicketStringSerializationManager(new DefaultTicketSerializationExecutionPlan());
+        ticketRegistry = new DefaultTicketRegistry(cipher, serializationManager, new DefaultTicketCatalog());
+
+        ticketIds = new ArrayList<>(ticketCount);
+        for (var i = 0; i < ticketCount; i++) {
+            val tgt = CasBenchmarkUtils.ticketGrantingTicket("casuser" + i);
+            ticketRegistry.addTicket(tgt);
+            ticketIds.add(tgt.getId());
+        }
+        ticketGrantingTicket = CasBenchmarkUtils.ticketGrantingTicket("casuser");
+        ticketRegistry.addTicket(ticketGrantingTicket);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ticketRegistry.deleteAll();
+    }
+
+    /**
+     * Fetch an existing ticket-granting ticket.
+     *
+     * @return the ticket
+     */
+    @Benchmark
+    public Ticket getTicket() {
+        val id = ticketIds.get(ThreadLocalRandom.current().nextInt(ticketIds.size()));
+        return ticketRegistry.getTicket(id);
+    }
+
+    /**
+     * Add and then delete a service ticket, which is the lifecycle of every validated service ticket.
+     *
+     * @return the number of deleted tickets
+     * @throws Exception the exception
+     */
+    @Benchmark
+    public int addAndDeleteServiceTicket() throws Exception {
+        val serviceTicket = CasBenchmarkUtils.serviceTicket(ticketGrantingTicket, SERVICE_URL);
+        ticketRegistry.addTicket(serviceTicket);
+        return ticketRegistry.deleteTicket(serviceTicket.getId());
+    }
+
+    /**
+     * Update an existing ticket-granting ticket.
+     *
+     * @return the ticket
+     * @throws Exception the exception
+     */
+    @Benchmark
+    public Ticket updateTicket() throws Exception {
+        return ticketRegistry.updateTicket(ticketGrantingTicket);
+    }
+}
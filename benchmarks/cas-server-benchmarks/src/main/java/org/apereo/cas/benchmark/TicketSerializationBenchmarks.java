@@ -0,0 +1,130 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.serialization.DefaultTicketSerializationExecutionPlan;
+import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManager;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.serialization.StringSerializer;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link TicketSerializationBenchmarks} that measures JSON round-trips
+ * through {@link DefaultTicketStringSerializationManager}, as performed by every
+ * JSON-backed ticket registry on each read and write.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketSerializationBenchmarks {
+    private TicketSerializationManager ticketSerializationManager;
+
+    private StringSerializer<Ticket> ticketGrantingTicketSerializer;
+
+    private TicketGrantingTicket ticketGrantingTicket;
+
+    private ServiceTicket serviceTicket;
+
+    private String serializedTicketGrantingTicket;
+
+    private String serializedServiceTicket;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        val plan = new DefaultTicketSerializationExecutionPlan();
+        ticketSerializationManager = new DefaultTicketStringSerializationManager(plan);
+        ticketGrantingTicket = CasBenchmarkUtils.ticketGrantingTicket("casuser");
+        serviceTicket = CasBenchmarkUtils.serviceTicket(ticketGrantingTicket, "https://app.example.org/login");
+        serializedTicketGrantingTicket = ticketSerializationManager.serializeTicket(ticketGrantingTicket);
+        serializedServiceTicket = ticketSerializationManager.serializeTicket(serviceTicket);
+        ticketGrantingTicketSerializer = plan.getTicketSerializer(ticketGrantingTicket);
+    }
+
+    /**
+     * Serialize a ticket-granting ticket.
+     *
+     * @return the serialized ticket
+     */
+    @Benchmark
+    public String serializeTicketGrantingTicket() {
+        return ticketSerializationManager.serializeTicket(ticketGrantingTicket);
+    }
+
+    /**
+     * Deserialize a ticket-granting ticket by its type name, as registries do with stored documents.
+     *
+     * @return the ticket
+     */
+    @Benchmark
+    public Ticket deserializeTicketGrantingTicket() {
+        return ticketSerializationManager.deserializeTicket(serializedTicketGrantingTicket,
+            ticketGrantingTicket.getClass().getName());
+    }
+
+    /**
+     * Serialize and deserialize a service ticket.
+     *
+     * @return the ticket
+     */
+    @Benchmark
+    public Ticket roundTripServiceTicket() {
+        val result = ticketSerializationManager.serializeTicket(serviceTicket);
+        return ticketSerializationManager.deserializeTicket(result, serviceTicket.getClass());
+    }
+
+    /**
+     * Deserialize a service ticket by its type name.
+     *
+     * @return the ticket
+     */
+    @Benchmark
+    public Ticket deserializeServiceTicket() {
+        return ticketSerializationManager.deserializeTicket(serializedServiceTicket,
+            serviceTicket.getClass().getName());
+    }
+
+    /**
+     * Deserialize a ticket-granting ticket by the name of its ticket interface,
+     * which registries use when the concrete type is not recorded.
+     *
+     * @return the ticket
+     */
+    @Benchmark
+    public Ticket deserializeTicketGrantingTicketByInterface() {
+        return ticketSerializationManager.deserializeTicket(serializedTicketGrantingTicket,
+            TicketGrantingTicket.class.getName());
+    }
+
+    /**
+     * Deserialize a ticket-granting ticket through the generic serializer path
+     * that also accepts relaxed, human-authored JSON. Serves as a baseline for
+     * {@link #deserializeTicketGrantingTicket()}.
+     *
+     * @return the ticket
+     */
+    @Benchmark
+    public Ticket deserializeTicketGrantingTicketGeneric() {
+        return ticketGrantingTicketSerializer.from(serializedTicketGrantingTicket);
+    }
+}
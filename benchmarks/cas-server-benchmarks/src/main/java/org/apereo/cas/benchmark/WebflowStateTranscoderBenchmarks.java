@@ -0,0 +1,121 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.credential.RememberMeUsernamePasswordCredential;
+import org.apereo.cas.util.cipher.WebflowConversationStateCipherExecutor;
+import org.apereo.cas.web.flow.executor.CompactEncryptedTranscoder;
+import org.apereo.cas.web.flow.executor.EncryptedTranscoder;
+import org.apereo.cas.web.flow.executor.Transcoder;
+import org.apereo.cas.web.flow.executor.WebflowCipherBean;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link WebflowStateTranscoderBenchmarks} that compares encoding and decoding the webflow state
+ * that is stored on the client, using Java serialization with gzip compression via {@link EncryptedTranscoder}
+ * and the compact encoding via {@link CompactEncryptedTranscoder}. Both are encrypted and signed
+ * with the default webflow cipher. The size of the encoded state for each transcoder is logged during setup.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebflowStateTranscoderBenchmarks {
+    /**
+     * Transcoder used to encode the webflow state.
+     */
+    @Param({"SERIALIZATION", "COMPACT"})
+    public String transcoderType;
+
+    private Transcoder transcoder;
+
+    private LocalAttributeMap<Object> state;
+
+    private byte[] encodedState;
+
+    private static LocalAttributeMap<Object> buildState() {
+        val credential = new RememberMeUsernamePasswordCredential(true);
+        credential.setUsername("casuser");
+        credential.assignPassword("Mellon");
+
+        val flowScope = new LocalAttributeMap<>();
+        flowScope.put("credential", credential);
+        flowScope.put("service", CasBenchmarkUtils.service("https://app.example.org/login?param=value"));
+        flowScope.put("authentication", CoreAuthenticationTestUtils.getAuthentication("casuser"));
+        flowScope.put("warnCookieValue", Boolean.FALSE);
+        flowScope.put("httpRequestSecure", Boolean.TRUE);
+        flowScope.put("customLoginFormFields", new LinkedHashMap<>());
+
+        val conversationScope = new LocalAttributeMap<>();
+        conversationScope.put("ticketGrantingTicketId", "TGT-1-" + "x".repeat(64));
+        conversationScope.put("authenticationAttempts", 1);
+
+        val messages = new LinkedHashMap<String, List<String>>();
+        messages.put("credential.username", new ArrayList<>(List.of("username.required")));
+
+        val state = new LocalAttributeMap<>();
+        state.put("flowScope", flowScope);
+        state.put("conversationScope", conversationScope);
+        state.put("messagesMemento", messages);
+        return state;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        val cipherExecutor = new WebflowConversationStateCipherExecutor(null, null, "AES", 512, 16);
+        val cipherBean = new WebflowCipherBean(cipherExecutor);
+        transcoder = "COMPACT".equals(transcoderType)
+            ? new CompactEncryptedTranscoder(cipherBean)
+            : new EncryptedTranscoder(cipherBean);
+        state = buildState();
+        encodedState = transcoder.encode(state);
+        LOGGER.info("Encoded webflow state using [{}] is [{}] bytes", transcoderType, encodedState.length);
+    }
+
+    /**
+     * Encode the webflow state, as done when rendering a view.
+     *
+     * @return the encoded state
+     * @throws Exception the exception
+     */
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return transcoder.encode(state);
+    }
+
+    /**
+     * Decode the webflow state, as done when resuming the flow upon a form submission.
+     *
+     * @return the decoded state
+     * @throws Exception the exception
+     */
+    @Benchmark
+    public Object decode() throws Exception {
+        return transcoder.decode(encodedState);
+    }
+}
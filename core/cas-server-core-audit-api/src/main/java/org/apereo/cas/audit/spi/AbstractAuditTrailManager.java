@@ -1,7 +1,9 @@
 package org.apereo.cas.audit.spi;
 
+import org.apereo.cas.configuration.model.core.audit.AuditAsynchronousQueueProperties;
+import org.apereo.cas.util.function.FunctionUtils;
+
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,11 +11,14 @@ import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
 import org.springframework.beans.factory.DisposableBean;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.List;
 
 /**
  * This is {@link AbstractAuditTrailManager}.
+ * <p>
+ * Audit records that are saved asynchronously are held in a bounded queue
+ * and are handed over in batches to {@link #saveAuditRecords(List)}, which
+ * implementations may override to save a batch of records in a single operation.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -21,29 +26,56 @@ import java.util.concurrent.Executors;
 @Setter
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractAuditTrailManager implements AuditTrailManager, DisposableBean {
     /**
      * Save records asynchronously.
      */
     protected boolean asynchronous;
 
-    private final ExecutorService executorService = Executors.newSingleThreadExecutor(
-        r -> new Thread(r, "AuditTrailManagerThread"));
+    /**
+     * Settings that control the queue of records that are saved asynchronously.
+     */
+    protected AuditAsynchronousQueueProperties queueProperties = new AuditAsynchronousQueueProperties();
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile AuditTrailRecordQueue recordQueue;
+
+    protected AbstractAuditTrailManager(final boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
 
     @Override
     public void record(final AuditActionContext audit) {
         if (this.asynchronous) {
-            this.executorService.execute(() -> saveAuditRecord(audit));
+            getRecordQueue().offer(audit);
         } else {
             saveAuditRecord(audit);
         }
     }
 
     @Override
-    public void destroy() {
-        this.executorService.shutdown();
+    public void destroy() throws Exception {
+        if (this.recordQueue != null) {
+            this.recordQueue.destroy();
+        }
+    }
+
+    /**
+     * Gets the queue of records that are saved asynchronously.
+     *
+     * @return the record queue
+     */
+    public AuditTrailRecordQueue getRecordQueue() {
+        if (this.recordQueue == null) {
+            synchronized (this) {
+                if (this.recordQueue == null) {
+                    this.recordQueue = new AuditTrailRecordQueue("AuditTrailManagerThread-" + getClass().getSimpleName(),
+                        this.queueProperties, this::saveAuditRecords);
+                }
+            }
+        }
+        return this.recordQueue;
     }
 
     /**
@@ -52,4 +84,14 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
      * @param audit Audit record to be saved.
      */
     protected abstract void saveAuditRecord(AuditActionContext audit);
+
+    /**
+     * Save a batch of audit records that were queued.
+     * By default, records are saved one at a time.
+     *
+     * @param audits Audit records to be saved.
+     */
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        audits.forEach(audit -> FunctionUtils.doAndHandle(__ -> saveAuditRecord(audit)));
+    }
 }
@@ -0,0 +1,170 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditAsynchronousQueueProperties;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link AuditTrailRecordQueue} that holds audit records in a bounded queue
+ * and hands them over in batches to a writer on a dedicated thread.
+ * What happens to audit records that do not fit into the queue is decided by the overflow policy.
+ * The number of queued, written and dropped audit records is tracked so that the queue can be monitored.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class AuditTrailRecordQueue implements DisposableBean {
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+
+    private final BlockingQueue<AuditActionContext> queue;
+
+    private final AuditAsynchronousQueueProperties properties;
+
+    private final Consumer<List<AuditActionContext>> writer;
+
+    private final Thread drainThread;
+
+    private final AtomicLong sampleCounter = new AtomicLong();
+
+    private final AtomicLong writtenCount = new AtomicLong();
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    public AuditTrailRecordQueue(final String name,
+                                 final AuditAsynchronousQueueProperties properties,
+                                 final Consumer<List<AuditActionContext>> writer) {
+        this.properties = properties;
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getCapacity()));
+        this.drainThread = new Thread(this::drain, name);
+        this.drainThread.setDaemon(true);
+        this.drainThread.start();
+    }
+
+    /**
+     * Queue the audit record, applying the overflow policy if the queue is full.
+     *
+     * @param audit the audit
+     * @return true if the record was queued, false if it was dropped
+     */
+    public boolean offer(final AuditActionContext audit) {
+        val queued = switch (properties.getOverflowPolicy()) {
+            case DROP -> queue.offer(audit);
+            case SAMPLE -> isSampled() && queue.offer(audit);
+            case BLOCK -> put(audit);
+        };
+        if (!queued) {
+            val dropped = droppedCount.incrementAndGet();
+            LOGGER.debug("Audit record [{}] is dropped; [{}] audit record(s) are dropped so far", audit.getActionPerformed(), dropped);
+        }
+        return queued;
+    }
+
+    /**
+     * Gets the number of audit records waiting in the queue.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the number of audit records that have been handed over to the writer.
+     *
+     * @return the written count
+     */
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * Gets the number of audit records that were dropped because of the overflow policy.
+     *
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Gets the maximum number of audit records that can be waiting in the queue.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        drainThread.join(TimeUnit.SECONDS.toMillis(5));
+        if (!queue.isEmpty()) {
+            LOGGER.warn("[{}] audit record(s) could not be written before shutdown", queue.size());
+        }
+    }
+
+    private boolean put(final AuditActionContext audit) {
+        try {
+            queue.put(audit);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean isSampled() {
+        if (queue.size() * 2 < getCapacity()) {
+            return true;
+        }
+        return sampleCounter.incrementAndGet() % Math.max(1, properties.getSampleRate()) == 0;
+    }
+
+    private void drain() {
+        val batchSize = Math.max(1, properties.getBatchSize());
+        val batch = new ArrayList<AuditActionContext>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                val audit = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (audit != null) {
+                    batch.add(audit);
+                    queue.drainTo(batch, batchSize - 1);
+                    write(batch);
+                    batch.clear();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                return;
+            }
+        }
+    }
+
+    private void write(final List<AuditActionContext> batch) {
+        try {
+            LOGGER.trace("Writing [{}] audit record(s) with [{}] audit record(s) remaining in the queue", batch.size(), queue.size());
+            writer.accept(List.copyOf(batch));
+            writtenCount.addAndGet(batch.size());
+        } catch (final Throwable e) {
+            LOGGER.error("Unable to write [{}] audit record(s)", batch.size());
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+}
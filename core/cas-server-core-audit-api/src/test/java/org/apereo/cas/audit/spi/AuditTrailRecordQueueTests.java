@@ -0,0 +1,87 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditAsynchronousQueueProperties;
+
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuditTrailRecordQueueTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Audits")
+@SuppressWarnings("JavaUtilDate")
+class AuditTrailRecordQueueTests {
+
+    private static AuditActionContext getAuditActionContext() {
+        return new AuditActionContext("casuser", "TEST", "TEST",
+            "CAS", new Date(), "1.2.3.4",
+            "1.2.3.4", UUID.randomUUID().toString(), Map.of());
+    }
+
+    @Test
+    void verifyRecordsAreWrittenInBatches() throws Exception {
+        val batches = new CopyOnWriteArrayList<List<AuditActionContext>>();
+        val properties = new AuditAsynchronousQueueProperties().setBatchSize(4);
+        val queue = new AuditTrailRecordQueue("AuditTrailRecordQueueTests", properties, batches::add);
+        IntStream.range(0, 10).forEach(i -> assertTrue(queue.offer(getAuditActionContext())));
+        queue.destroy();
+        assertEquals(10, queue.getWrittenCount());
+        assertEquals(0, queue.getQueueDepth());
+        assertEquals(10, batches.stream().mapToInt(List::size).sum());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 4));
+    }
+
+    @Test
+    void verifyRecordsAreDroppedWhenQueueIsFull() throws Exception {
+        val writing = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val properties = new AuditAsynchronousQueueProperties()
+            .setCapacity(1)
+            .setBatchSize(1)
+            .setOverflowPolicy(AuditAsynchronousQueueProperties.OverflowPolicyTypes.DROP);
+        val queue = new AuditTrailRecordQueue("AuditTrailRecordQueueTests", properties, batch -> {
+            writing.countDown();
+            assertDoesNotThrow(() -> release.await(10, TimeUnit.SECONDS));
+        });
+        assertTrue(queue.offer(getAuditActionContext()));
+        assertTrue(writing.await(10, TimeUnit.SECONDS));
+        assertTrue(queue.offer(getAuditActionContext()));
+        assertFalse(queue.offer(getAuditActionContext()));
+        assertEquals(1, queue.getQueueDepth());
+        assertEquals(1, queue.getDroppedCount());
+        release.countDown();
+        queue.destroy();
+        assertEquals(2, queue.getWrittenCount());
+    }
+
+    @Test
+    void verifyRecordsAreSampledWhenQueueIsFilling() throws Exception {
+        val release = new CountDownLatch(1);
+        val properties = new AuditAsynchronousQueueProperties()
+            .setCapacity(10)
+            .setSampleRate(2)
+            .setOverflowPolicy(AuditAsynchronousQueueProperties.OverflowPolicyTypes.SAMPLE);
+        val queue = new AuditTrailRecordQueue("AuditTrailRecordQueueTests", properties,
+            batch -> assertDoesNotThrow(() -> release.await(10, TimeUnit.SECONDS)));
+        IntStream.range(0, 20).forEach(i -> queue.offer(getAuditActionContext()));
+        assertTrue(queue.getDroppedCount() > 0);
+        release.countDown();
+        queue.destroy();
+    }
+}
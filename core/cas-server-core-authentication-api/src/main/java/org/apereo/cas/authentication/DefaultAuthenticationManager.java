@@ -8,7 +8,9 @@ import org.apereo.cas.authentication.principal.NullPrincipal;
 import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.monitor.ExecutableObserver;
 import org.apereo.cas.monitor.Monitorable;
+import org.apereo.cas.monitor.MonitorableTask;
 import org.apereo.cas.support.events.authentication.CasAuthenticationPolicyFailureEvent;
 import org.apereo.cas.support.events.authentication.CasAuthenticationPrincipalResolvedEvent;
 import org.apereo.cas.support.events.authentication.CasAuthenticationTransactionFailureEvent;
@@ -17,17 +19,23 @@ import org.apereo.cas.support.events.authentication.CasAuthenticationTransaction
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.audit.annotation.Audit;
+import org.apereo.inspektr.common.web.ClientInfo;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.io.Serial;
 import java.security.GeneralSecurityException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -35,20 +43,29 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link DefaultAuthenticationManager}, which provides common operations
  * around an authentication manager implementation.
+ * Authentication handlers that support a credential are invoked one after another,
+ * unless the manager is configured to invoke them concurrently, in which case
+ * the first result that satisfies the authentication policy is used. Each authentication
+ * attempt runs at most the configured number of handlers at the same time on a shared, growable pool,
+ * so concurrent logins never wait for each other's handlers.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
  */
 @Slf4j
-@RequiredArgsConstructor
 @Getter
 @Monitorable
-public class DefaultAuthenticationManager implements AuthenticationManager {
+public class DefaultAuthenticationManager implements AuthenticationManager, DisposableBean {
 
     private final AuthenticationEventExecutionPlan authenticationEventExecutionPlan;
 
@@ -56,6 +73,41 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
 
     private final ConfigurableApplicationContext applicationContext;
 
+    private final int maxConcurrentHandlers;
+
+    @Getter(AccessLevel.NONE)
+    private final ExecutorService authenticationHandlerExecutor;
+
+    public DefaultAuthenticationManager(final AuthenticationEventExecutionPlan authenticationEventExecutionPlan,
+                                        final boolean principalResolutionFailureFatal,
+                                        final ConfigurableApplicationContext applicationContext) {
+        this(authenticationEventExecutionPlan, principalResolutionFailureFatal, applicationContext, 0);
+    }
+
+    public DefaultAuthenticationManager(final AuthenticationEventExecutionPlan authenticationEventExecutionPlan,
+                                        final boolean principalResolutionFailureFatal,
+                                        final ConfigurableApplicationContext applicationContext,
+                                        final int maxConcurrentHandlers) {
+        this.authenticationEventExecutionPlan = authenticationEventExecutionPlan;
+        this.principalResolutionFailureFatal = principalResolutionFailureFatal;
+        this.applicationContext = applicationContext;
+        this.maxConcurrentHandlers = maxConcurrentHandlers;
+        if (maxConcurrentHandlers > 1) {
+            val threadFactory = new CustomizableThreadFactory("cas-authn-handler-");
+            threadFactory.setDaemon(true);
+            this.authenticationHandlerExecutor = Executors.newCachedThreadPool(threadFactory);
+        } else {
+            this.authenticationHandlerExecutor = null;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (authenticationHandlerExecutor != null) {
+            authenticationHandlerExecutor.shutdownNow();
+        }
+    }
+
     @Override
     @Audit(
         action = AuditableActions.AUTHENTICATION,
@@ -185,6 +237,27 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
         publishEvent(new CasAuthenticationTransactionStartedEvent(this, credential, clientInfo));
 
         val result = handler.authenticate(credential, service);
+        resolvePrincipal(builder, credential, resolver, handler, service, result, clientInfo);
+    }
+
+    /**
+     * Record the successful result of an authentication handler and resolve the principal.
+     *
+     * @param builder    the builder
+     * @param credential the credential
+     * @param resolver   the resolver
+     * @param handler    the handler
+     * @param service    the service
+     * @param result     the result produced by the authentication handler
+     * @param clientInfo the client info
+     */
+    protected void resolvePrincipal(final AuthenticationBuilder builder,
+                                    final Credential credential,
+                                    final PrincipalResolver resolver,
+                                    final AuthenticationHandler handler,
+                                    final Service service,
+                                    final AuthenticationHandlerExecutionResult result,
+                                    final ClientInfo clientInfo) {
         val authenticationHandlerName = handler.getName();
         builder.addSuccess(authenticationHandlerName, result);
         LOGGER.debug("Authentication handler [{}] successfully authenticated [{}]", authenticationHandlerName, credential);
@@ -213,6 +286,42 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
         publishEvent(new CasAuthenticationPrincipalResolvedEvent(this, principal, clientInfo));
     }
 
+    /**
+     * Execute the authentication handler on behalf of a concurrent authentication attempt,
+     * and observe its latency when monitoring is available.
+     *
+     * @param handler    the handler
+     * @param credential the credential
+     * @param service    the service
+     * @return the authentication handler execution result
+     * @throws Exception the exception
+     */
+    protected AuthenticationHandlerExecutionResult executeAuthenticationHandler(final AuthenticationHandler handler,
+                                                                                final Credential credential,
+                                                                                final Service service) throws Exception {
+        if (applicationContext == null || !applicationContext.containsBean(ExecutableObserver.BEAN_NAME)) {
+            return handler.authenticate(credential, service);
+        }
+        val observer = applicationContext.getBean(ExecutableObserver.BEAN_NAME, ExecutableObserver.class);
+        val task = new MonitorableTask(AuthenticationHandler.class.getSimpleName());
+        task.getBoundedValues().put("handler", handler.getName());
+        try {
+            return observer.supply(task, () -> {
+                try {
+                    return handler.authenticate(credential, service);
+                } catch (final Exception e) {
+                    throw new AuthenticationHandlerFailure(e);
+                }
+            });
+        } catch (final AuthenticationHandlerFailure e) {
+            throw e.getFailure();
+        } catch (final Exception e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
 
     /**
      * Gets principal resolver linked to the handler if any.
@@ -276,6 +385,13 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
             while (it.hasNext()) {
                 val credential = it.next();
                 LOGGER.debug("Attempting to authenticate credential [{}]", credential);
+                if (authenticationHandlerExecutor != null) {
+                    val supportingHandlers = handlerSet.stream().filter(handler -> handler.supports(credential)).toList();
+                    if (supportingHandlers.size() > 1) {
+                        authenticateConcurrently(builder, credential, supportingHandlers, transaction, handlerSet);
+                        continue;
+                    }
+                }
 
                 val itHandlers = handlerSet.iterator();
                 var proceedWithNextHandler = true;
@@ -316,6 +432,90 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
         }
     }
 
+    private void authenticateConcurrently(final AuthenticationBuilder builder, final Credential credential,
+                                          final List<AuthenticationHandler> supportingHandlers,
+                                          final AuthenticationTransaction transaction,
+                                          final Set<AuthenticationHandler> handlerSet) {
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val requestAttributes = RequestContextHolder.getRequestAttributes();
+        val service = transaction.getService();
+        val completionService = new ExecutorCompletionService<AuthenticationHandlerOutcome>(authenticationHandlerExecutor);
+        val pendingHandlers = new ArrayDeque<>(supportingHandlers);
+        val tasks = new ArrayList<Future<AuthenticationHandlerOutcome>>(supportingHandlers.size());
+        val submitNextHandler = (Runnable) () -> {
+            val handler = pendingHandlers.poll();
+            LOGGER.debug("Attempting concurrent authentication of [{}] using [{}]", credential.getId(), handler.getName());
+            publishEvent(new CasAuthenticationTransactionStartedEvent(this, credential, clientInfo));
+            tasks.add(completionService.submit(() -> {
+                try {
+                    RequestContextHolder.setRequestAttributes(requestAttributes);
+                    if (clientInfo != null) {
+                        ClientInfoHolder.setClientInfo(clientInfo);
+                    }
+                    AuthenticationCredentialsThreadLocalBinder.bindCurrent(credential);
+                    return new AuthenticationHandlerOutcome(handler, executeAuthenticationHandler(handler, credential, service), null);
+                } catch (final Throwable e) {
+                    return new AuthenticationHandlerOutcome(handler, null, e);
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                    ClientInfoHolder.clear();
+                    AuthenticationCredentialsThreadLocalBinder.clear();
+                }
+            }));
+        };
+
+        try {
+            var runningHandlers = 0;
+            while (runningHandlers < maxConcurrentHandlers && !pendingHandlers.isEmpty()) {
+                submitNextHandler.run();
+                runningHandlers++;
+            }
+            var proceedWithNextHandler = true;
+            while (proceedWithNextHandler && runningHandlers > 0) {
+                val outcome = completionService.take().get();
+                runningHandlers--;
+                val handler = outcome.handler();
+                if (outcome.failure() == null) {
+                    try {
+                        val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
+                        resolvePrincipal(builder, credential, resolver, handler, service, outcome.result(), clientInfo);
+                        val authnResult = builder.build();
+                        AuthenticationCredentialsThreadLocalBinder.bindInProgress(authnResult);
+                        val executionResult = evaluateAuthenticationPolicies(authnResult, transaction, handlerSet);
+                        proceedWithNextHandler = !executionResult.isSuccess();
+                    } catch (final Exception e) {
+                        handleAuthenticationException(e, handler.getName(), builder);
+                        proceedWithNextHandler = shouldAuthenticationChainProceedOnFailure(transaction, e);
+                    }
+                } else {
+                    if (!(outcome.failure() instanceof GeneralSecurityException)) {
+                        logAuthenticationFailure(credential);
+                    }
+                    handleAuthenticationException(outcome.failure(), handler.getName(), builder);
+                    proceedWithNextHandler = shouldAuthenticationChainProceedOnFailure(transaction, outcome.failure());
+                }
+                if (proceedWithNextHandler && !pendingHandlers.isEmpty()) {
+                    submitNextHandler.run();
+                    runningHandlers++;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for authentication handlers to authenticate [{}]", credential.getId());
+        } catch (final ExecutionException e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            tasks.forEach(task -> task.cancel(true));
+        }
+    }
+
+    private void logAuthenticationFailure(final Credential credential) {
+        LOGGER.error("Authentication has failed. Credentials may be incorrect or CAS cannot "
+                     + "find authentication handler that supports [{}] of type [{}]. Examine the configuration to "
+                     + "ensure a method of authentication is defined and analyze CAS logs at DEBUG level to trace "
+                     + "the authentication event.", credential, credential.getClass().getSimpleName());
+    }
+
     /**
      * Evaluate produced authentication context.
      * We apply an implicit security policy of at least one successful authentication.
@@ -420,6 +620,24 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
         return policies.stream().anyMatch(policy -> policy.shouldResumeOnFailure(failure));
     }
 
+    private record AuthenticationHandlerOutcome(AuthenticationHandler handler,
+                                                AuthenticationHandlerExecutionResult result,
+                                                Throwable failure) {
+    }
+
+    private static final class AuthenticationHandlerFailure extends RuntimeException {
+        @Serial
+        private static final long serialVersionUID = -4393146239482764816L;
+
+        @Getter
+        private final Exception failure;
+
+        AuthenticationHandlerFailure(final Exception failure) {
+            super(failure);
+            this.failure = failure;
+        }
+    }
+
     @Getter
     private static class ChainingAuthenticationPolicyExecutionResult {
         private final List<AuthenticationPolicyExecutionResult> results = new ArrayList<>();
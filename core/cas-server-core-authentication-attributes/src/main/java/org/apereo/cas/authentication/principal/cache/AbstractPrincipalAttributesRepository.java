@@ -33,6 +33,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -43,7 +46,7 @@ import java.util.stream.Collectors;
  * @since 4.2
  */
 @Slf4j
-@ToString(exclude = "lock")
+@ToString(exclude = "inflightRequests")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode(of = {"mergingStrategy", "attributeRepositoryIds"})
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
@@ -54,7 +57,7 @@ public abstract class AbstractPrincipalAttributesRepository implements Registere
     @JsonIgnore
     @Transient
     @org.springframework.data.annotation.Transient
-    private final transient Object lock = new Object();
+    private final transient Map<String, CompletableFuture<Map<String, List<Object>>>> inflightRequests = new ConcurrentHashMap<>();
 
     /**
      * The merging strategy that deals with existing principal attributes
@@ -119,6 +122,17 @@ public abstract class AbstractPrincipalAttributesRepository implements Registere
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
+    private static Map<String, List<Object>> waitForInflightRequest(final CompletableFuture<Map<String, List<Object>>> request) {
+        try {
+            return new LinkedHashMap<>(request.join());
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof final RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     @Override
     public void close() {
     }
@@ -162,25 +176,40 @@ public abstract class AbstractPrincipalAttributesRepository implements Registere
     /**
      * Obtains attributes first from the repository by calling
      * {@link IPersonAttributeDao#getPerson(String, org.apereo.services.persondir.IPersonAttributeDaoFilter)}.
+     * Concurrent requests for the same principal are coalesced into a single call
+     * to the attribute repository, while requests for different principals proceed in parallel.
      *
      * @param principal the person to locate in the attribute repository
      * @return the map of attributes
      */
     protected Map<String, List<Object>> retrievePersonAttributesFromAttributeRepository(final Principal principal) {
-        synchronized (lock) {
-            val repository = getAttributeRepository();
-            if (repository == null) {
-                LOGGER.warn("No attribute repositories could be fetched from application context");
-                return new HashMap<>(0);
-            }
+        val repository = getAttributeRepository();
+        if (repository == null) {
+            LOGGER.warn("No attribute repositories could be fetched from application context");
+            return new HashMap<>(0);
+        }
 
-            return PrincipalAttributeRepositoryFetcher.builder()
+        val request = new CompletableFuture<Map<String, List<Object>>>();
+        val inflightRequest = inflightRequests.putIfAbsent(principal.getId(), request);
+        if (inflightRequest != null) {
+            LOGGER.trace("Attributes for [{}] are already being fetched; waiting for the result", principal.getId());
+            return waitForInflightRequest(inflightRequest);
+        }
+        try {
+            val attributes = PrincipalAttributeRepositoryFetcher.builder()
                 .attributeRepository(repository)
                 .principalId(principal.getId())
                 .activeAttributeRepositoryIdentifiers(this.attributeRepositoryIds)
                 .currentPrincipal(principal)
                 .build()
                 .retrieve();
+            request.complete(new LinkedHashMap<>(attributes));
+            return attributes;
+        } catch (final Throwable e) {
+            request.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflightRequests.remove(principal.getId(), request);
         }
     }
 
@@ -4,7 +4,6 @@ import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
 import org.apereo.cas.authentication.principal.RegisteredServicePrincipalAttributesRepository;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.util.DigestUtils;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -13,10 +12,10 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.Closeable;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -31,18 +30,7 @@ public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttri
 
     private static final String DEFAULT_CACHE_EXPIRATION_UNIT = TimeUnit.HOURS.name();
 
-    private final Map<String, Cache<String, Map<String, List<Object>>>> registeredServicesCache = new HashMap<>(0);
-
-    /**
-     * Build registered service cache key string.
-     *
-     * @param registeredService the registered service
-     * @return the string
-     */
-    private static String buildRegisteredServiceCacheKey(final RegisteredService registeredService) {
-        val key = registeredService.getId() + '@' + registeredService.getName();
-        return DigestUtils.sha512(key);
-    }
+    private final Map<RegisteredServiceCacheKey, Cache<String, Map<String, List<Object>>>> registeredServicesCache = new ConcurrentHashMap<>();
 
     private static Cache<String, Map<String, List<Object>>> initializeCache(
         final RegisteredServicePrincipalAttributesRepository repository) {
@@ -97,12 +85,10 @@ public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttri
     private Cache<String, Map<String, List<Object>>> getRegisteredServiceCacheInstance(
         final RegisteredService registeredService, final RegisteredServicePrincipalAttributesRepository repository) {
 
-        val key = buildRegisteredServiceCacheKey(registeredService);
-        if (registeredServicesCache.containsKey(key)) {
-            return registeredServicesCache.get(key);
-        }
-        val cache = initializeCache(repository);
-        registeredServicesCache.put(key, cache);
-        return cache;
+        val key = new RegisteredServiceCacheKey(registeredService.getId(), registeredService.getName());
+        return registeredServicesCache.computeIfAbsent(key, k -> initializeCache(repository));
+    }
+
+    private record RegisteredServiceCacheKey(long id, String name) {
     }
 }
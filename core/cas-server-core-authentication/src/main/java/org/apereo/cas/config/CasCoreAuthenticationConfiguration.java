@@ -106,7 +106,8 @@ public class CasCoreAuthenticationConfiguration {
             @Qualifier(AuthenticationEventExecutionPlan.DEFAULT_BEAN_NAME)
             final AuthenticationEventExecutionPlan authenticationEventExecutionPlan) {
             val isFatal = casProperties.getPersonDirectory().getPrincipalResolutionFailureFatal() == TriStateBoolean.TRUE;
-            return new DefaultAuthenticationManager(authenticationEventExecutionPlan, isFatal, applicationContext);
+            return new DefaultAuthenticationManager(authenticationEventExecutionPlan, isFatal, applicationContext,
+                casProperties.getAuthn().getCore().getEngine().getMaxConcurrentHandlers());
         }
     }
 
@@ -32,6 +32,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -416,4 +417,71 @@ class DefaultAuthenticationManagerTests {
         assertEquals(1, auth.getFailures().size());
         assertEquals(2, auth.getCredentials().size());
     }
+
+    @Test
+    void verifyConcurrentHandlersUseFirstSuccess() throws Exception {
+        val slowHandler = newMockHandler("SlowHandler", true);
+        val slowResult = slowHandler.authenticate(mock(Credential.class), mock(Service.class));
+        when(slowHandler.authenticate(any(Credential.class), any(Service.class))).thenAnswer(args -> {
+            Thread.sleep(3000);
+            return slowResult;
+        });
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(slowHandler, null);
+        map.put(newMockHandler(HANDLER_A, true), null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext, 4);
+        val start = System.currentTimeMillis();
+        val auth = manager.authenticate(transaction);
+        assertTrue(System.currentTimeMillis() - start < 2000);
+        assertEquals(Set.of(HANDLER_A), auth.getSuccesses().keySet());
+        manager.destroy();
+    }
+
+    @Test
+    void verifyConcurrentHandlersRecordFailures() throws Exception {
+        val successHandler = newMockHandler(HANDLER_A, true);
+        val successResult = successHandler.authenticate(mock(Credential.class), mock(Service.class));
+        when(successHandler.authenticate(any(Credential.class), any(Service.class))).thenAnswer(args -> {
+            Thread.sleep(300);
+            return successResult;
+        });
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(successHandler, null);
+        map.put(newMockHandler(HANDLER_B, false), null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext, 4);
+        val auth = manager.authenticate(transaction);
+        assertEquals(Set.of(HANDLER_A), auth.getSuccesses().keySet());
+        assertEquals(Set.of(HANDLER_B), auth.getFailures().keySet());
+        manager.destroy();
+    }
+
+    @Test
+    void verifyConcurrentHandlersBoundedPerAttempt() throws Exception {
+        val running = new AtomicInteger();
+        val maxRunning = new AtomicInteger();
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        for (var i = 0; i < 4; i++) {
+            val handler = newMockHandler("Handler" + i, false);
+            when(handler.authenticate(any(Credential.class), any(Service.class))).thenAnswer(args -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(200);
+                running.decrementAndGet();
+                throw new FailedLoginException();
+            });
+            map.put(handler, null);
+        }
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext, 2);
+        val exception = assertThrows(AuthenticationException.class, () -> manager.authenticate(transaction));
+        assertEquals(4, exception.getHandlerErrors().size());
+        assertEquals(2, maxRunning.get());
+        manager.destroy();
+    }
 }
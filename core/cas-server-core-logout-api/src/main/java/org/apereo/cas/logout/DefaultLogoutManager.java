@@ -6,10 +6,10 @@ import org.apereo.cas.audit.AuditableActions;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.logout.slo.SingleLogoutRequestContext;
+import org.apereo.cas.logout.slo.SingleLogoutRequestDispatcher;
 import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
 import org.apereo.cas.ticket.AuthenticatedServicesAwareTicketGrantingTicket;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.tuple.Pair;
@@ -33,13 +33,27 @@ import java.util.stream.Collectors;
  * @since 4.0.0
  */
 @Slf4j
-@RequiredArgsConstructor
 @Getter
 public class DefaultLogoutManager implements LogoutManager {
     private final boolean singleLogoutCallbacksDisabled;
 
     private final LogoutExecutionPlan logoutExecutionPlan;
 
+    private final SingleLogoutRequestDispatcher singleLogoutRequestDispatcher;
+
+    public DefaultLogoutManager(final boolean singleLogoutCallbacksDisabled,
+                                final LogoutExecutionPlan logoutExecutionPlan) {
+        this(singleLogoutCallbacksDisabled, logoutExecutionPlan, SingleLogoutRequestDispatcher.sequential());
+    }
+
+    public DefaultLogoutManager(final boolean singleLogoutCallbacksDisabled,
+                                final LogoutExecutionPlan logoutExecutionPlan,
+                                final SingleLogoutRequestDispatcher singleLogoutRequestDispatcher) {
+        this.singleLogoutCallbacksDisabled = singleLogoutCallbacksDisabled;
+        this.logoutExecutionPlan = logoutExecutionPlan;
+        this.singleLogoutRequestDispatcher = singleLogoutRequestDispatcher;
+    }
+
     private static <T> Predicate<T> distinctByKey(final Function<? super T, Object> keyExtractor) {
         val seen = new ConcurrentHashMap<>();
         return t -> seen.putIfAbsent(keyExtractor.apply(t), Boolean.TRUE) == null;
@@ -80,22 +94,22 @@ public class DefaultLogoutManager implements LogoutManager {
             .filter(entry -> entry.getValue() instanceof WebApplicationService)
             .map(entry -> Pair.of(entry.getKey(), (WebApplicationService) entry.getValue())).toList();
 
-        val sloHandlers = logoutExecutionPlan.getSingleLogoutServiceMessageHandlers();
-        return logoutServices
+        val sloHandlers = logoutExecutionPlan.getSingleLogoutServiceMessageHandlers()
             .stream()
-            .map(entry -> sloHandlers
+            .sorted(Comparator.comparing(SingleLogoutServiceMessageHandler::getOrder))
+            .toList();
+        return singleLogoutRequestDispatcher
+            .dispatch(logoutServices, (ticketId, service) -> sloHandlers
                 .stream()
-                .sorted(Comparator.comparing(SingleLogoutServiceMessageHandler::getOrder))
-                .filter(handler -> handler.supports(context, entry.getValue()))
+                .filter(handler -> handler.supports(context, service))
                 .map(handler -> {
-                    val service = entry.getValue();
                     LOGGER.trace("Handling single logout callback for [{}]", service.getId());
-                    return handler.handle(service, entry.getKey(), context);
+                    return handler.handle(service, ticketId, context);
                 })
                 .flatMap(Collection::stream)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList()))
-            .flatMap(Collection::stream)
+            .stream()
             .filter(distinctByKey(SingleLogoutRequestContext::getService))
             .collect(Collectors.toList());
     }
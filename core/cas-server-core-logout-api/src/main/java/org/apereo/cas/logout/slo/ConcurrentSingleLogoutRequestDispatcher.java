@@ -0,0 +1,431 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.logout.DefaultSingleLogoutRequestContext;
+import org.apereo.cas.logout.LogoutRequestStatus;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link ConcurrentSingleLogoutRequestDispatcher} that dispatches single logout requests
+ * for all services concurrently on a bounded pool, so that logging out of many applications
+ * is bound by the slowest application rather than the sum of all. The number of concurrent requests
+ * per application host is limited, all requests share an overall deadline, and failed requests
+ * are retried with an exponential backoff until the deadline passes. Requests that are still
+ * running once the deadline passes are abandoned and interrupted, so that they do not keep running
+ * with the context of a request that has completed. Requests that are abandoned, fail or are interrupted
+ * are reported with a failed status. Latency and failures are recorded per application host,
+ * and may be published by registering a listener for the statistics of each host.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class ConcurrentSingleLogoutRequestDispatcher implements SingleLogoutRequestDispatcher, DisposableBean {
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
+    private static final Duration PERMIT_POLL_INTERVAL = Duration.ofMillis(50);
+
+    private final ThreadPoolExecutor executor;
+
+    private final int maxConcurrentRequestsPerHost;
+
+    private final Duration timeout;
+
+    private final int maxRetries;
+
+    private final Duration retryBackoff;
+
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    @Getter
+    private final Map<String, EndpointStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final List<StatisticsListener> statisticsListeners = new CopyOnWriteArrayList<>();
+
+    public ConcurrentSingleLogoutRequestDispatcher(final int maxConcurrentRequests,
+                                                   final int maxConcurrentRequestsPerHost,
+                                                   final int queueCapacity,
+                                                   final Duration timeout,
+                                                   final int maxRetries,
+                                                   final Duration retryBackoff) {
+        val threadFactory = new CustomizableThreadFactory("cas-slo-dispatcher-");
+        threadFactory.setDaemon(true);
+        val poolSize = Math.max(1, maxConcurrentRequests);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 1, TimeUnit.MINUTES,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.maxConcurrentRequestsPerHost = Math.max(1, maxConcurrentRequestsPerHost);
+        this.timeout = timeout;
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoff = retryBackoff;
+    }
+
+    private static String getHost(final WebApplicationService service) {
+        try {
+            return StringUtils.defaultIfBlank(URI.create(service.getId()).getHost(), service.getId());
+        } catch (final Exception e) {
+            return service.getId();
+        }
+    }
+
+    private static boolean isFailed(final List<SingleLogoutRequestContext> results) {
+        return results != null && results.stream().anyMatch(result -> result.getStatus() == LogoutRequestStatus.FAILURE);
+    }
+
+    private static void bindContext(final RequestAttributes requestAttributes, final ClientInfo clientInfo) {
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        if (clientInfo == null) {
+            ClientInfoHolder.clear();
+        } else {
+            ClientInfoHolder.setClientInfo(clientInfo);
+        }
+    }
+
+    private static SingleLogoutRequestContext buildFailedRequest(final Pair<String, WebApplicationService> entry) {
+        return DefaultSingleLogoutRequestContext.builder()
+            .ticketId(entry.getKey())
+            .service(entry.getValue())
+            .status(LogoutRequestStatus.FAILURE)
+            .build();
+    }
+
+    private static List<SingleLogoutRequestContext> getCompletedResults(final Future<List<SingleLogoutRequestContext>> task,
+                                                                        final DispatchedRequest request) {
+        try {
+            return task.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception e) {
+            LOGGER.warn("Single logout request for [{}] has failed", request.entry().getValue().getId());
+            LoggingUtils.error(LOGGER, e instanceof ExecutionException ? e.getCause() : e);
+        }
+        return List.of(buildFailedRequest(request.entry()));
+    }
+
+    @Override
+    public List<SingleLogoutRequestContext> dispatch(final List<Pair<String, WebApplicationService>> services,
+                                                     final BiFunction<String, WebApplicationService, List<SingleLogoutRequestContext>> handler) {
+        val deadline = System.nanoTime() + timeout.toNanos();
+        if (services.size() <= 1) {
+            val results = new ArrayList<SingleLogoutRequestContext>();
+            for (val entry : services) {
+                results.addAll(dispatchInline(entry, handler, deadline));
+            }
+            return results;
+        }
+        return dispatchConcurrently(services, handler, deadline);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Register a listener that is handed the statistics of each application host,
+     * for hosts already known and then for every new host, when requests are first sent to it.
+     *
+     * @param listener the listener
+     */
+    public void registerStatisticsListener(final StatisticsListener listener) {
+        statisticsListeners.add(listener);
+        statistics.forEach(listener::onStatistics);
+    }
+
+    private List<SingleLogoutRequestContext> dispatchInline(final Pair<String, WebApplicationService> entry,
+                                                            final BiFunction<String, WebApplicationService, List<SingleLogoutRequestContext>> handler,
+                                                            final long deadline) {
+        val service = entry.getValue();
+        val host = getHost(service);
+        val permits = getHostPermits(host);
+        try {
+            val remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !permits.tryAcquire(remaining, TimeUnit.NANOSECONDS)) {
+                LOGGER.warn("Single logout request for [{}] could not be dispatched to [{}] before the deadline", service.getId(), host);
+                getStatistics(host).recordAbandoned();
+                return List.of(buildFailedRequest(entry));
+            }
+            try {
+                return handle(entry, handler, deadline);
+            } finally {
+                permits.release();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while dispatching single logout request for [{}]", service.getId());
+            return List.of(buildFailedRequest(entry));
+        }
+    }
+
+    /**
+     * Requests are only handed to the pool once a permit for their application host is taken,
+     * so that requests waiting for a busy host never hold a thread of the pool and never delay requests
+     * sent to other hosts. Requests for busy hosts are submitted as soon as earlier requests complete.
+     */
+    private List<SingleLogoutRequestContext> dispatchConcurrently(final List<Pair<String, WebApplicationService>> services,
+                                                                  final BiFunction<String, WebApplicationService, List<SingleLogoutRequestContext>> handler,
+                                                                  final long deadline) {
+        val requestAttributes = RequestContextHolder.getRequestAttributes();
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val completionService = new ExecutorCompletionService<List<SingleLogoutRequestContext>>(executor);
+        val pending = new ArrayDeque<DispatchedRequest>(services.size());
+        for (var i = 0; i < services.size(); i++) {
+            val entry = services.get(i);
+            val host = getHost(entry.getValue());
+            pending.add(new DispatchedRequest(i, entry, host, getHostPermits(host), new AtomicBoolean()));
+        }
+        val running = new HashMap<Future<List<SingleLogoutRequestContext>>, DispatchedRequest>();
+        val results = new ArrayList<List<SingleLogoutRequestContext>>(Collections.nCopies(services.size(), List.of()));
+        try {
+            while (!pending.isEmpty() || !running.isEmpty()) {
+                submitPermittedRequests(pending, running, completionService, handler, deadline, requestAttributes, clientInfo);
+                val remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                val wait = pending.isEmpty() ? remaining : Math.min(remaining, PERMIT_POLL_INTERVAL.toNanos());
+                val completed = completionService.poll(wait, TimeUnit.NANOSECONDS);
+                if (completed != null) {
+                    val request = running.remove(completed);
+                    results.set(request.index(), getCompletedResults(completed, request));
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for single logout requests");
+        }
+        running.forEach((task, request) -> {
+            if (task.isDone()) {
+                results.set(request.index(), getCompletedResults(task, request));
+                return;
+            }
+            LOGGER.warn("Single logout request for [{}] did not complete within [{}] and is abandoned", request.entry().getValue().getId(), timeout);
+            task.cancel(true);
+            if (request.claimed().compareAndSet(false, true)) {
+                request.permits().release();
+            }
+            getStatistics(request.host()).recordAbandoned();
+            results.set(request.index(), List.of(buildFailedRequest(request.entry())));
+        });
+        pending.forEach(request -> {
+            LOGGER.warn("Single logout request for [{}] could not be dispatched to [{}] before the deadline",
+                request.entry().getValue().getId(), request.host());
+            getStatistics(request.host()).recordAbandoned();
+            results.set(request.index(), List.of(buildFailedRequest(request.entry())));
+        });
+        return results.stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    private void submitPermittedRequests(final Deque<DispatchedRequest> pending,
+                                         final Map<Future<List<SingleLogoutRequestContext>>, DispatchedRequest> running,
+                                         final CompletionService<List<SingleLogoutRequestContext>> completionService,
+                                         final BiFunction<String, WebApplicationService, List<SingleLogoutRequestContext>> handler,
+                                         final long deadline, final RequestAttributes requestAttributes, final ClientInfo clientInfo) {
+        val iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            val request = iterator.next();
+            if (request.permits().tryAcquire()) {
+                iterator.remove();
+                val task = completionService.submit(() -> {
+                    if (!request.claimed().compareAndSet(false, true)) {
+                        return List.of();
+                    }
+                    val previousRequestAttributes = RequestContextHolder.getRequestAttributes();
+                    val previousClientInfo = ClientInfoHolder.getClientInfo();
+                    try {
+                        bindContext(requestAttributes, clientInfo);
+                        return handle(request.entry(), handler, deadline);
+                    } finally {
+                        bindContext(previousRequestAttributes, previousClientInfo);
+                        request.permits().release();
+                    }
+                });
+                running.put(task, request);
+            }
+        }
+    }
+
+    private List<SingleLogoutRequestContext> handle(final Pair<String, WebApplicationService> entry,
+                                                    final BiFunction<String, WebApplicationService, List<SingleLogoutRequestContext>> handler,
+                                                    final long deadline) throws InterruptedException {
+        val service = entry.getValue();
+        val host = getHost(service);
+        var attempt = 0;
+        while (true) {
+            val start = System.nanoTime();
+            try {
+                val results = handler.apply(entry.getKey(), service);
+                val failed = isFailed(results);
+                getStatistics(host).record(System.nanoTime() - start, failed);
+                val delay = retryBackoff.toNanos() << Math.min(attempt, MAX_BACKOFF_SHIFT);
+                if (!failed || attempt >= maxRetries || System.nanoTime() + delay >= deadline) {
+                    return results;
+                }
+                attempt++;
+                LOGGER.debug("Retrying single logout request for [{}], attempt [{}] of [{}]", service.getId(), attempt, maxRetries);
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (final InterruptedException e) {
+                throw e;
+            } catch (final Exception e) {
+                getStatistics(host).record(System.nanoTime() - start, true);
+                throw e;
+            }
+        }
+    }
+
+    private Semaphore getHostPermits(final String host) {
+        return hostPermits.computeIfAbsent(host, k -> new Semaphore(maxConcurrentRequestsPerHost, true));
+    }
+
+    private EndpointStatistics getStatistics(final String host) {
+        val existing = statistics.get(host);
+        if (existing != null) {
+            return existing;
+        }
+        val created = new EndpointStatistics();
+        val previous = statistics.putIfAbsent(host, created);
+        if (previous != null) {
+            return previous;
+        }
+        statisticsListeners.forEach(listener -> listener.onStatistics(host, created));
+        return created;
+    }
+
+    /**
+     * Listener that is handed the statistics of each application host.
+     */
+    @FunctionalInterface
+    public interface StatisticsListener {
+        /**
+         * Handle the statistics of an application host, once requests are first sent to it.
+         *
+         * @param host       the host
+         * @param statistics the statistics
+         */
+        void onStatistics(String host, EndpointStatistics statistics);
+    }
+
+    private record DispatchedRequest(int index, Pair<String, WebApplicationService> entry, String host,
+                                     Semaphore permits, AtomicBoolean claimed) {
+    }
+
+    /**
+     * Latency and failures of single logout requests sent to an application host.
+     */
+    public static final class EndpointStatistics {
+        private final LongAdder requests = new LongAdder();
+
+        private final LongAdder failures = new LongAdder();
+
+        private final LongAdder abandoned = new LongAdder();
+
+        private final LongAdder totalLatency = new LongAdder();
+
+        private final AtomicLong maxLatency = new AtomicLong();
+
+        private void record(final long latency, final boolean failed) {
+            requests.increment();
+            totalLatency.add(latency);
+            maxLatency.accumulateAndGet(latency, Math::max);
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        private void recordAbandoned() {
+            abandoned.increment();
+        }
+
+        /**
+         * Number of requests sent, including retries.
+         *
+         * @return the count
+         */
+        public long getRequests() {
+            return requests.sum();
+        }
+
+        /**
+         * Number of requests that have failed.
+         *
+         * @return the count
+         */
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        /**
+         * Number of requests abandoned because the deadline passed.
+         *
+         * @return the count
+         */
+        public long getAbandoned() {
+            return abandoned.sum();
+        }
+
+        /**
+         * Total latency of requests sent.
+         *
+         * @return the duration
+         */
+        public Duration getTotalLatency() {
+            return Duration.ofNanos(totalLatency.sum());
+        }
+
+        /**
+         * Average latency of requests sent.
+         *
+         * @return the duration
+         */
+        public Duration getAverageLatency() {
+            val count = requests.sum();
+            return count == 0 ? Duration.ZERO : Duration.ofNanos(totalLatency.sum() / count);
+        }
+
+        /**
+         * Maximum latency of requests sent.
+         *
+         * @return the duration
+         */
+        public Duration getMaxLatency() {
+            return Duration.ofNanos(maxLatency.get());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.authentication.principal.WebApplicationService;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link SingleLogoutRequestDispatcher} that decides how single logout
+ * requests are dispatched to applications once a ticket-granting ticket is destroyed.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@FunctionalInterface
+public interface SingleLogoutRequestDispatcher {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "singleLogoutRequestDispatcher";
+
+    /**
+     * Dispatcher that handles each service one after another on the calling thread.
+     *
+     * @return the dispatcher
+     */
+    static SingleLogoutRequestDispatcher sequential() {
+        return (services, handler) -> services
+            .stream()
+            .map(entry -> handler.apply(entry.getKey(), entry.getValue()))
+            .filter(Objects::nonNull)
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Dispatch single logout requests for the given services.
+     * Results are returned in the same order as the services.
+     *
+     * @param services the services, each linked to the ticket id by which it was authenticated
+     * @param handler  the handler that produces and sends the single logout requests of a service
+     * @return the single logout requests
+     */
+    List<SingleLogoutRequestContext> dispatch(List<Pair<String, WebApplicationService>> services,
+                                              BiFunction<String, WebApplicationService, List<SingleLogoutRequestContext>> handler);
+}
@@ -6,6 +6,7 @@ import org.apereo.cas.authentication.principal.ServiceFactoryConfigurer;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.DefaultLogoutExecutionPlan;
 import org.apereo.cas.logout.DefaultLogoutManager;
 import org.apereo.cas.logout.DefaultLogoutRedirectionStrategy;
@@ -16,10 +17,12 @@ import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.logout.LogoutRedirectionStrategy;
 import org.apereo.cas.logout.LogoutWebApplicationServiceFactory;
 import org.apereo.cas.logout.slo.ChainingSingleLogoutServiceLogoutUrlBuilder;
+import org.apereo.cas.logout.slo.ConcurrentSingleLogoutRequestDispatcher;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceMessageHandler;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
+import org.apereo.cas.logout.slo.SingleLogoutRequestDispatcher;
 import org.apereo.cas.logout.slo.SingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilderConfigurer;
@@ -36,6 +39,7 @@ import org.apereo.cas.web.support.ArgumentExtractor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
@@ -156,14 +160,34 @@ public class CasCoreLogoutConfiguration {
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class CasCoreLogoutManagementConfiguration {
 
+        @ConditionalOnMissingBean(name = SingleLogoutRequestDispatcher.BEAN_NAME)
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Bean
+        public SingleLogoutRequestDispatcher singleLogoutRequestDispatcher(
+            final ObjectProvider<List<ConcurrentSingleLogoutRequestDispatcher.StatisticsListener>> statisticsListeners,
+            final CasConfigurationProperties casProperties) {
+            val slo = casProperties.getSlo();
+            if (slo.getMaxConcurrentRequests() <= 1) {
+                return SingleLogoutRequestDispatcher.sequential();
+            }
+            val dispatcher = new ConcurrentSingleLogoutRequestDispatcher(slo.getMaxConcurrentRequests(),
+                slo.getMaxConcurrentRequestsPerHost(), slo.getQueueCapacity(),
+                Beans.newDuration(slo.getTimeout()), slo.getMaxRetries(),
+                Beans.newDuration(slo.getRetryBackoff()));
+            statisticsListeners.ifAvailable(listeners -> listeners.forEach(dispatcher::registerStatisticsListener));
+            return dispatcher;
+        }
+
         @ConditionalOnMissingBean(name = LogoutManager.DEFAULT_BEAN_NAME)
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @Bean
         public LogoutManager logoutManager(
             @Qualifier(LogoutExecutionPlan.BEAN_NAME)
             final LogoutExecutionPlan logoutExecutionPlan,
+            @Qualifier(SingleLogoutRequestDispatcher.BEAN_NAME)
+            final SingleLogoutRequestDispatcher singleLogoutRequestDispatcher,
             final CasConfigurationProperties casProperties) {
-            return new DefaultLogoutManager(casProperties.getSlo().isDisabled(), logoutExecutionPlan);
+            return new DefaultLogoutManager(casProperties.getSlo().isDisabled(), logoutExecutionPlan, singleLogoutRequestDispatcher);
         }
 
     }
@@ -0,0 +1,205 @@
+package org.apereo.cas.logout;
+
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.logout.slo.ConcurrentSingleLogoutRequestDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutRequestContext;
+
+import lombok.val;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link ConcurrentSingleLogoutRequestDispatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Logout")
+class ConcurrentSingleLogoutRequestDispatcherTests {
+    private static List<Pair<String, WebApplicationService>> getServices(final String... urls) {
+        return IntStream.range(0, urls.length)
+            .mapToObj(i -> Pair.of("ST-" + i, (WebApplicationService) DefaultLogoutManagerTests.getService(urls[i])))
+            .toList();
+    }
+
+    private static List<SingleLogoutRequestContext> getResult(final String ticketId, final WebApplicationService service,
+                                                              final LogoutRequestStatus status) {
+        return List.of(DefaultSingleLogoutRequestContext.builder()
+            .ticketId(ticketId)
+            .service(service)
+            .status(status)
+            .build());
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void verifyRequestsDispatchedConcurrently() throws Exception {
+        val dispatcher = new ConcurrentSingleLogoutRequestDispatcher(10, 2, 100,
+            Duration.ofSeconds(10), 0, Duration.ZERO);
+        val services = getServices("https://app1.example.org", "https://app2.example.org",
+            "https://app3.example.org", "https://app4.example.org");
+        val start = System.nanoTime();
+        val results = dispatcher.dispatch(services, (ticketId, service) -> {
+            sleep(500);
+            return getResult(ticketId, service, LogoutRequestStatus.SUCCESS);
+        });
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1500);
+        assertEquals(List.of("ST-0", "ST-1", "ST-2", "ST-3"),
+            results.stream().map(SingleLogoutRequestContext::getTicketId).toList());
+        assertEquals(1, dispatcher.getStatistics().get("app1.example.org").getRequests());
+        dispatcher.destroy();
+    }
+
+    @Test
+    void verifyFailedRequestsRetried() throws Exception {
+        val dispatcher = new ConcurrentSingleLogoutRequestDispatcher(10, 2, 100,
+            Duration.ofSeconds(10), 2, Duration.ofMillis(10));
+        val attempts = new AtomicInteger();
+        val results = dispatcher.dispatch(getServices("https://app1.example.org"), (ticketId, service) ->
+            getResult(ticketId, service, attempts.incrementAndGet() < 2 ? LogoutRequestStatus.FAILURE : LogoutRequestStatus.SUCCESS));
+        assertEquals(2, attempts.get());
+        assertEquals(LogoutRequestStatus.SUCCESS, results.get(0).getStatus());
+        val statistics = dispatcher.getStatistics().get("app1.example.org");
+        assertEquals(2, statistics.getRequests());
+        assertEquals(1, statistics.getFailures());
+        dispatcher.destroy();
+    }
+
+    @Test
+    void verifyDeadline() throws Exception {
+        val dispatcher = new ConcurrentSingleLogoutRequestDispatcher(10, 2, 100,
+            Duration.ofMillis(500), 0, Duration.ZERO);
+        val services = getServices("https://fast.example.org", "https://slow.example.org");
+        val results = dispatcher.dispatch(services, (ticketId, service) -> {
+            if (service.getId().contains("slow")) {
+                sleep(3000);
+            }
+            return getResult(ticketId, service, LogoutRequestStatus.SUCCESS);
+        });
+        assertEquals(2, results.size());
+        assertEquals("ST-0", results.get(0).getTicketId());
+        assertEquals(LogoutRequestStatus.SUCCESS, results.get(0).getStatus());
+        assertEquals("ST-1", results.get(1).getTicketId());
+        assertEquals(LogoutRequestStatus.FAILURE, results.get(1).getStatus());
+        assertEquals(1, dispatcher.getStatistics().get("slow.example.org").getAbandoned());
+        dispatcher.destroy();
+    }
+
+    @Test
+    void verifyAbandonedRequestsInterrupted() throws Exception {
+        val dispatcher = new ConcurrentSingleLogoutRequestDispatcher(10, 2, 100,
+            Duration.ofMillis(500), 0, Duration.ZERO);
+        val interrupted = new CountDownLatch(1);
+        val services = getServices("https://fast.example.org", "https://slow.example.org");
+        val results = dispatcher.dispatch(services, (ticketId, service) -> {
+            if (service.getId().contains("slow")) {
+                try {
+                    TimeUnit.SECONDS.sleep(10);
+                } catch (final InterruptedException e) {
+                    interrupted.countDown();
+                    return List.of();
+                }
+            }
+            return getResult(ticketId, service, LogoutRequestStatus.SUCCESS);
+        });
+        assertEquals(2, results.size());
+        assertEquals(LogoutRequestStatus.FAILURE, results.get(1).getStatus());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        dispatcher.destroy();
+    }
+
+    @Test
+    void verifyStatisticsListener() throws Exception {
+        val dispatcher = new ConcurrentSingleLogoutRequestDispatcher(10, 2, 100,
+            Duration.ofSeconds(10), 0, Duration.ZERO);
+        dispatcher.dispatch(getServices("https://app1.example.org"), (ticketId, service) ->
+            getResult(ticketId, service, LogoutRequestStatus.SUCCESS));
+        val hosts = new CopyOnWriteArrayList<String>();
+        dispatcher.registerStatisticsListener((host, statistics) -> hosts.add(host));
+        assertEquals(List.of("app1.example.org"), hosts);
+        dispatcher.dispatch(getServices("https://app1.example.org", "https://app2.example.org"), (ticketId, service) ->
+            getResult(ticketId, service, LogoutRequestStatus.FAILURE));
+        assertEquals(List.of("app1.example.org", "app2.example.org"), hosts);
+        assertEquals(1, dispatcher.getStatistics().get("app2.example.org").getFailures());
+        dispatcher.destroy();
+    }
+
+    @Test
+    void verifyRequestsLimitedPerHost() throws Exception {
+        val dispatcher = new ConcurrentSingleLogoutRequestDispatcher(10, 1, 100,
+            Duration.ofSeconds(10), 0, Duration.ZERO);
+        val services = getServices("https://app.example.org/one", "https://app.example.org/two",
+            "https://app.example.org/three");
+        val active = new AtomicInteger();
+        val maxActive = new AtomicInteger();
+        val results = dispatcher.dispatch(services, (ticketId, service) -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            sleep(100);
+            active.decrementAndGet();
+            return getResult(ticketId, service, LogoutRequestStatus.SUCCESS);
+        });
+        assertEquals(3, results.size());
+        assertEquals(1, maxActive.get());
+        assertEquals(3, dispatcher.getStatistics().get("app.example.org").getRequests());
+        dispatcher.destroy();
+    }
+
+    @Test
+    void verifyFailedRequestsReported() throws Exception {
+        val dispatcher = new ConcurrentSingleLogoutRequestDispatcher(10, 2, 100,
+            Duration.ofSeconds(10), 0, Duration.ZERO);
+        val services = getServices("https://app1.example.org", "https://app2.example.org");
+        val results = dispatcher.dispatch(services, (ticketId, service) -> {
+            if (service.getId().contains("app2")) {
+                throw new IllegalStateException("Failed");
+            }
+            return getResult(ticketId, service, LogoutRequestStatus.SUCCESS);
+        });
+        assertEquals(List.of(LogoutRequestStatus.SUCCESS, LogoutRequestStatus.FAILURE),
+            results.stream().map(SingleLogoutRequestContext::getStatus).toList());
+        assertEquals("ST-1", results.get(1).getTicketId());
+        assertEquals(1, dispatcher.getStatistics().get("app2.example.org").getFailures());
+        dispatcher.destroy();
+    }
+
+    @Test
+    void verifyBusyHostsDoNotHoldThreads() throws Exception {
+        val dispatcher = new ConcurrentSingleLogoutRequestDispatcher(2, 1, 100,
+            Duration.ofSeconds(10), 0, Duration.ZERO);
+        val services = getServices("https://app.example.org/one", "https://app.example.org/two",
+            "https://app.example.org/three", "https://other.example.org");
+        val start = System.nanoTime();
+        val otherDispatched = new AtomicLong();
+        val results = dispatcher.dispatch(services, (ticketId, service) -> {
+            if (service.getId().contains("other")) {
+                otherDispatched.set(System.nanoTime() - start);
+            } else {
+                sleep(300);
+            }
+            return getResult(ticketId, service, LogoutRequestStatus.SUCCESS);
+        });
+        assertEquals(List.of("ST-0", "ST-1", "ST-2", "ST-3"),
+            results.stream().map(SingleLogoutRequestContext::getTicketId).toList());
+        assertTrue(Duration.ofNanos(otherDispatched.get()).toMillis() < 250);
+        dispatcher.destroy();
+    }
+}
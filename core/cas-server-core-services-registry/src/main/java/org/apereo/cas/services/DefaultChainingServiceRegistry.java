@@ -64,6 +64,25 @@ public class DefaultChainingServiceRegistry extends AbstractServiceRegistry impl
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<ServiceRegistryChangeSet> loadChanges() {
+        if (serviceRegistries.isEmpty()) {
+            return Optional.empty();
+        }
+        val modifiedServices = new ArrayList<RegisteredService>();
+        val removedServices = new ArrayList<RegisteredService>();
+        for (val serviceRegistry : serviceRegistries) {
+            val changes = serviceRegistry.loadChanges();
+            if (changes.isEmpty()) {
+                LOGGER.trace("Changes cannot be determined for [{}]", serviceRegistry.getName());
+                return Optional.empty();
+            }
+            modifiedServices.addAll(changes.get().getModifiedServices());
+            removedServices.addAll(changes.get().getRemovedServices());
+        }
+        return Optional.of(new ServiceRegistryChangeSet(modifiedServices, removedServices));
+    }
+
     @Override
     public RegisteredService findServiceById(final long id) {
         return serviceRegistries.stream()
@@ -3,6 +3,7 @@ package org.apereo.cas.services.mgmt;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
+import org.apereo.cas.services.ServiceRegistryChangeSet;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
 import org.apereo.cas.services.query.RegisteredServiceQuery;
@@ -20,6 +21,7 @@ import com.googlecode.cqengine.ConcurrentIndexedCollection;
 import com.googlecode.cqengine.IndexedCollection;
 import com.googlecode.cqengine.index.AttributeIndex;
 import com.googlecode.cqengine.query.QueryFactory;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -34,6 +36,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -54,6 +57,13 @@ public abstract class AbstractServicesManager implements ServicesManager {
 
     private final IndexedCollection<RegisteredService> indexedRegisteredServices;
 
+    /**
+     * Services that are loaded from the service registry, kept to apply changes
+     * reported by the service registry without loading all services again.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<Long, RegisteredService> loadedServices = new ConcurrentHashMap<>();
+
     protected AbstractServicesManager(final ServicesManagerConfigurationContext configurationContext) {
         this.configurationContext = configurationContext;
 
@@ -99,6 +109,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         val clientInfo = ClientInfoHolder.getClientInfo();
         publishEvent(new CasRegisteredServicePreSaveEvent(this, registeredService, clientInfo));
         val savedService = configurationContext.getServiceRegistry().save(registeredService);
+        loadedServices.computeIfPresent(savedService.getId(), (id, service) -> savedService);
         cacheRegisteredService(savedService);
         saveInternal(registeredService);
 
@@ -130,6 +141,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
     public synchronized void deleteAll() {
         configurationContext.getServicesCache().asMap().forEach((k, v) -> delete(v));
         configurationContext.getServicesCache().invalidateAll();
+        loadedServices.clear();
         val clientInfo = ClientInfoHolder.getClientInfo();
         publishEvent(new CasRegisteredServicesDeletedEvent(this, clientInfo));
     }
@@ -147,6 +159,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             publishEvent(new CasRegisteredServicePreDeleteEvent(this, service, clientInfo));
             configurationContext.getServiceRegistry().delete(service);
             configurationContext.getServicesCache().invalidate(service.getId());
+            loadedServices.remove(service.getId());
             deleteInternal(service);
             publishEvent(new CasRegisteredServiceDeletedEvent(this, service, clientInfo));
         }
@@ -202,6 +215,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             .peek(RegisteredService::initialize)
             .collect(Collectors.toMap(RegisteredService::getId, Function.identity(), (r, s) -> s));
         configurationContext.getServicesCache().putAll(results);
+        results.values().forEach(this::cacheInternal);
         return results.values();
     }
 
@@ -220,7 +234,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
     @Override
     public RegisteredService findServiceBy(final long id) {
         val result = configurationContext.getServicesCache().get(id,
-            k -> configurationContext.getServiceRegistry().findServiceById(id));
+            k -> cacheLoadedService(configurationContext.getServiceRegistry().findServiceById(id)));
         return validateRegisteredService(result);
     }
 
@@ -233,7 +247,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         LOGGER.trace("The service with id [{}] and type [{}] is not found in the cache; trying to find it from [{}]",
             id, clazz, configurationContext.getServiceRegistry().getName());
         service = configurationContext.getServicesCache().get(id,
-            k -> configurationContext.getServiceRegistry().findServiceById(id, clazz));
+            k -> cacheLoadedService(configurationContext.getServiceRegistry().findServiceById(id, clazz)));
         return (T) validateRegisteredService(service);
     }
 
@@ -318,9 +332,16 @@ public abstract class AbstractServicesManager implements ServicesManager {
      * Otherwise, lookup operations during that loading time window might produce
      * unauthorized failure errors. Invalidation attempts must happen after the load
      * to minimize chances of failures.
+     * <p>
+     * If the service registry is able to report changes since services were last loaded,
+     * only those changes are applied to the cache and indexes.
      */
     @Override
     public synchronized Collection<RegisteredService> load() {
+        val changes = configurationContext.getServiceRegistry().loadChanges();
+        if (changes.isPresent()) {
+            return loadChanges(changes.get());
+        }
         LOGGER.trace("Loading services from [{}]", configurationContext.getServiceRegistry().getName());
         val servicesMap = configurationContext.getServiceRegistry()
             .load()
@@ -348,11 +369,56 @@ public abstract class AbstractServicesManager implements ServicesManager {
         return results.values();
     }
 
+    private Collection<RegisteredService> loadChanges(final ServiceRegistryChangeSet changes) {
+        val servicesCache = configurationContext.getServicesCache();
+        changes.getRemovedServices().forEach(service -> removeLoadedService(service.getId()));
+        changes.getModifiedServices()
+            .stream()
+            .filter(this::supports)
+            .forEach(service -> {
+                val result = Optional.of(service)
+                    .filter(this::validateAndFilterServiceByEnvironment)
+                    .map(this::applyTemplate);
+                removeLoadedService(service.getId());
+                result.ifPresent(registeredService -> {
+                    LOGGER.trace("Updating registered service [{}] with name [{}] and internal identifier [{}]",
+                        registeredService.getServiceId(), registeredService.getName(), registeredService.getId());
+                    loadedServices.put(registeredService.getId(), registeredService);
+                    indexedRegisteredServices.add(registeredService);
+                    saveInternal(registeredService);
+                });
+            });
+        servicesCache.putAll(loadedServices);
+
+        if (!changes.isEmpty()) {
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices(), clientInfo));
+        }
+        evaluateExpiredServiceDefinitions();
+
+        val results = servicesCache.asMap();
+        LOGGER.debug("Applied [{}] modified and [{}] removed service(s) from [{}]; [{}] service(s) are loaded",
+            changes.getModifiedServices().size(), changes.getRemovedServices().size(),
+            configurationContext.getServiceRegistry().getName(), results.size());
+        return results.values();
+    }
+
+    private void removeLoadedService(final long id) {
+        val existingService = loadedServices.remove(id);
+        configurationContext.getServicesCache().invalidate(id);
+        if (existingService != null) {
+            indexedRegisteredServices.remove(existingService);
+            deleteInternal(existingService);
+        }
+    }
+
     private Map<Long, RegisteredService> cacheRegisteredServices(final Map<Long, RegisteredService> servicesMap) {
         val servicesCache = configurationContext.getServicesCache();
         servicesCache.invalidateAll();
         servicesCache.putAll(servicesMap);
         indexedRegisteredServices.addAll(servicesMap.values());
+        loadedServices.clear();
+        loadedServices.putAll(servicesMap);
         return servicesCache.asMap();
     }
 
@@ -414,6 +480,15 @@ public abstract class AbstractServicesManager implements ServicesManager {
     protected void loadInternal() {
     }
 
+    /**
+     * Cache internal, invoked when a service is individually
+     * added to the services cache outside of a full load.
+     *
+     * @param service the service
+     */
+    protected void cacheInternal(final RegisteredService service) {
+    }
+
     /**
      * Load internal.
      *
@@ -444,9 +519,17 @@ public abstract class AbstractServicesManager implements ServicesManager {
         if (configurationContext.getServicesCache().getIfPresent(service.getId()) == null) {
             configurationContext.getServicesCache().put(service.getId(), service);
             indexedRegisteredServices.add(service);
+            cacheInternal(service);
         }
     }
 
+    private RegisteredService cacheLoadedService(final RegisteredService service) {
+        if (service != null) {
+            cacheInternal(service);
+        }
+        return service;
+    }
+
     private void evaluateExpiredServiceDefinitions() {
         getCacheableServicesStream()
             .get()
@@ -5,12 +5,18 @@ import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
 
+import lombok.val;
+
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
  * Default implementation of the {@link ServicesManager} interface.
+ * Candidate services to match are narrowed down using a {@link RegisteredServiceCandidateIndex}
+ * that is kept in sync with the services cache, to avoid sorting and evaluating
+ * every service definition on each request.
  *
  * @author Scott Battaglia
  * @since 3.1
@@ -18,6 +24,8 @@ import java.util.stream.Collectors;
 @Monitorable
 public class DefaultServicesManager extends AbstractServicesManager {
 
+    private final RegisteredServiceCandidateIndex candidateIndex = new RegisteredServiceCandidateIndex();
+
     public DefaultServicesManager(final ServicesManagerConfigurationContext context) {
         super(context);
     }
@@ -31,8 +39,37 @@ public class DefaultServicesManager extends AbstractServicesManager {
 
     @Override
     protected Collection<RegisteredService> getCandidateServicesToMatch(final String serviceId) {
-        return getCacheableServicesStream().get()
-            .sorted(Comparator.naturalOrder())
+        val servicesCache = configurationContext.getServicesCache();
+        if (servicesCache.estimatedSize() <= 0 || candidateIndex.isEmpty()) {
+            return getCacheableServicesStream().get()
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.toList());
+        }
+        val policy = servicesCache.policy();
+        return candidateIndex.getCandidates(serviceId)
+            .stream()
+            .map(registeredService -> policy.getIfPresentQuietly(registeredService.getId()))
+            .filter(Objects::nonNull)
             .collect(Collectors.toList());
     }
+
+    @Override
+    protected void saveInternal(final RegisteredService service) {
+        candidateIndex.index(service);
+    }
+
+    @Override
+    protected void deleteInternal(final RegisteredService service) {
+        candidateIndex.remove(service);
+    }
+
+    @Override
+    protected void cacheInternal(final RegisteredService service) {
+        candidateIndex.index(service);
+    }
+
+    @Override
+    protected void loadInternal() {
+        candidateIndex.rebuild(configurationContext.getServicesCache().asMap().values());
+    }
 }
@@ -0,0 +1,327 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.FullRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegexRegisteredService;
+import org.apereo.cas.services.RegisteredService;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This is {@link RegisteredServiceCandidateIndex} that narrows down the registered services
+ * that could possibly match a given service identifier, without evaluating any patterns.
+ * <p>
+ * CAS registered services whose service id is a literal value or a pattern anchored to
+ * a fixed scheme and host (i.e. {@code ^https://app\.example\.org/.*}) are grouped by
+ * their scheme and host. All other definitions, including those handled by other locators,
+ * are kept as residual candidates that are always evaluated. Candidates are kept sorted
+ * in the natural order of registered services and are maintained incrementally,
+ * so that lookups require neither sorting nor scanning all definitions.
+ * <p>
+ * Changes are serialized, and lookups are never blocked. When the index is rebuilt,
+ * the new index is built on the side and then swapped in, so that concurrent lookups
+ * never see an empty or partially filled index.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class RegisteredServiceCandidateIndex {
+    private static final String SCHEME_SEPARATOR = "://";
+
+    private static final String AUTHORITY_TERMINATORS = "/?#";
+
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    private static final Comparator<String> NULL_SAFE_COMPARATOR = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final AtomicReference<IndexState> state = new AtomicReference<>(new IndexState());
+
+    /**
+     * Extract the lower-cased scheme and authority from a service identifier,
+     * such as {@code https://app.example.org:8443}.
+     *
+     * @param serviceId the service id
+     * @return the scheme and authority, or null if none can be determined
+     */
+    public static String extractAuthority(final String serviceId) {
+        return extractAuthority(serviceId, true);
+    }
+
+    private static String extractAuthority(final String value, final boolean complete) {
+        if (StringUtils.isBlank(value)) {
+            return null;
+        }
+        val schemeIndex = value.indexOf(SCHEME_SEPARATOR);
+        if (schemeIndex <= 0) {
+            return null;
+        }
+        val authorityStart = schemeIndex + SCHEME_SEPARATOR.length();
+        var authorityEnd = StringUtils.indexOfAny(value.substring(authorityStart), AUTHORITY_TERMINATORS);
+        if (authorityEnd < 0) {
+            if (!complete) {
+                return null;
+            }
+            authorityEnd = value.length() - authorityStart;
+        }
+        if (authorityEnd == 0) {
+            return null;
+        }
+        return value.substring(0, authorityStart + authorityEnd).toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Determine the scheme and authority that every service identifier matched by the
+     * registered service must carry. Only CAS registered services are considered, since
+     * other service types are matched by their own locators using request attributes.
+     *
+     * @param registeredService the registered service
+     * @return the scheme and authority, or null if the service must always be evaluated
+     */
+    static String determineAuthority(final RegisteredService registeredService) {
+        val type = registeredService.getClass();
+        if (type != CasRegisteredService.class && type != RegexRegisteredService.class) {
+            return null;
+        }
+        val serviceId = registeredService.getServiceId();
+        if (StringUtils.isBlank(serviceId)) {
+            return null;
+        }
+        val strategy = registeredService.getMatchingStrategy();
+        if (strategy == null || strategy.getClass() == FullRegexRegisteredServiceMatchingStrategy.class) {
+            return determineAuthorityFromPattern(serviceId, true);
+        }
+        if (strategy.getClass() == PartialRegexRegisteredServiceMatchingStrategy.class) {
+            return serviceId.startsWith("^") ? determineAuthorityFromPattern(serviceId, false) : null;
+        }
+        if (strategy.getClass() == LiteralRegisteredServiceMatchingStrategy.class) {
+            return extractAuthority(serviceId.trim(), true);
+        }
+        return null;
+    }
+
+    private static String determineAuthorityFromPattern(final String pattern, final boolean fullMatch) {
+        if (hasTopLevelAlternation(pattern)) {
+            return null;
+        }
+        val prefix = new StringBuilder();
+        var position = pattern.startsWith("^") ? 1 : 0;
+        while (position < pattern.length()) {
+            val current = pattern.charAt(position);
+            if (current == '\\') {
+                if (position + 1 >= pattern.length() || Character.isLetterOrDigit(pattern.charAt(position + 1))) {
+                    break;
+                }
+                prefix.append(pattern.charAt(position + 1));
+                position += 2;
+            } else if (REGEX_METACHARACTERS.indexOf(current) >= 0) {
+                break;
+            } else {
+                prefix.append(current);
+                position++;
+            }
+        }
+        val remainder = pattern.substring(position);
+        if (!remainder.isEmpty() && (remainder.charAt(0) == '?' || remainder.charAt(0) == '*' || remainder.charAt(0) == '{')) {
+            if (prefix.length() > 0) {
+                prefix.setLength(prefix.length() - 1);
+            }
+        }
+        val complete = remainder.isEmpty() ? fullMatch : "$".equals(remainder);
+        return extractAuthority(prefix.toString(), complete);
+    }
+
+    private static boolean hasTopLevelAlternation(final String pattern) {
+        var depth = 0;
+        var inCharacterClass = false;
+        for (var i = 0; i < pattern.length(); i++) {
+            val current = pattern.charAt(i);
+            if (current == '\\') {
+                i++;
+            } else if (inCharacterClass) {
+                inCharacterClass = current != ']';
+            } else if (current == '[') {
+                inCharacterClass = true;
+            } else if (current == '(') {
+                depth++;
+            } else if (current == ')') {
+                depth--;
+            } else if (current == '|' && depth <= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Add or replace the registered service in the index.
+     *
+     * @param registeredService the registered service
+     */
+    public synchronized void index(final RegisteredService registeredService) {
+        state.get().index(registeredService);
+    }
+
+    /**
+     * Remove the registered service from the index.
+     *
+     * @param registeredService the registered service
+     */
+    public synchronized void remove(final RegisteredService registeredService) {
+        state.get().remove(registeredService);
+    }
+
+    /**
+     * Replace the index contents with the given registered services.
+     *
+     * @param registeredServices the registered services
+     */
+    public synchronized void rebuild(final Collection<RegisteredService> registeredServices) {
+        val rebuilt = new IndexState();
+        registeredServices.stream().filter(Objects::nonNull).forEach(rebuilt::index);
+        state.set(rebuilt);
+    }
+
+    /**
+     * Remove all registered services from the index.
+     */
+    public synchronized void clear() {
+        state.set(new IndexState());
+    }
+
+    /**
+     * Is the index empty?
+     *
+     * @return true/false
+     */
+    public boolean isEmpty() {
+        return state.get().entries().isEmpty();
+    }
+
+    /**
+     * Gets the candidate services that could match the service identifier,
+     * sorted in the same order in which services are evaluated.
+     *
+     * @param serviceId the service id
+     * @return the candidate services
+     */
+    public Collection<RegisteredService> getCandidates(final String serviceId) {
+        val current = state.get();
+        val authority = extractAuthority(serviceId);
+        val servicesForAuthority = authority != null ? current.servicesByAuthority().get(authority) : null;
+        if (servicesForAuthority == null || servicesForAuthority.isEmpty()) {
+            return new ArrayList<>(current.residualServices().values());
+        }
+        return merge(servicesForAuthority, current.residualServices());
+    }
+
+    private static List<RegisteredService> merge(final NavigableMap<EvaluationKey, RegisteredService> first,
+                                                 final NavigableMap<EvaluationKey, RegisteredService> second) {
+        val results = new ArrayList<RegisteredService>(first.size() + second.size());
+        val firstEntries = first.entrySet().iterator();
+        val secondEntries = second.entrySet().iterator();
+        var firstEntry = firstEntries.hasNext() ? firstEntries.next() : null;
+        var secondEntry = secondEntries.hasNext() ? secondEntries.next() : null;
+        while (firstEntry != null || secondEntry != null) {
+            if (secondEntry == null || (firstEntry != null && firstEntry.getKey().compareTo(secondEntry.getKey()) <= 0)) {
+                results.add(firstEntry.getValue());
+                firstEntry = firstEntries.hasNext() ? firstEntries.next() : null;
+            } else {
+                results.add(secondEntry.getValue());
+                secondEntry = secondEntries.hasNext() ? secondEntries.next() : null;
+            }
+        }
+        return results;
+    }
+
+    private record IndexState(Map<Long, IndexedEntry> entries,
+                              NavigableMap<EvaluationKey, RegisteredService> residualServices,
+                              Map<String, NavigableMap<EvaluationKey, RegisteredService>> servicesByAuthority) {
+        IndexState() {
+            this(new ConcurrentHashMap<>(), new ConcurrentSkipListMap<>(), new ConcurrentHashMap<>());
+        }
+
+        void index(final RegisteredService registeredService) {
+            val entry = new IndexedEntry(EvaluationKey.of(registeredService), determineAuthority(registeredService), registeredService);
+            val existing = entries.get(registeredService.getId());
+            if (entry.equals(existing)) {
+                return;
+            }
+            if (entry.authority() == null) {
+                residualServices.put(entry.key(), registeredService);
+            } else {
+                servicesByAuthority.computeIfAbsent(entry.authority(), authority -> new ConcurrentSkipListMap<>())
+                    .put(entry.key(), registeredService);
+            }
+            if (existing != null && (!existing.key().equals(entry.key()) || !Objects.equals(existing.authority(), entry.authority()))) {
+                removeEntry(existing);
+            }
+            entries.put(registeredService.getId(), entry);
+            LOGGER.trace("Indexed registered service [{}] under [{}]", registeredService.getName(),
+                Objects.toString(entry.authority(), "residual candidates"));
+        }
+
+        void remove(final RegisteredService registeredService) {
+            val existing = entries.remove(registeredService.getId());
+            if (existing != null) {
+                removeEntry(existing);
+            }
+        }
+
+        private void removeEntry(final IndexedEntry entry) {
+            if (entry.authority() == null) {
+                residualServices.remove(entry.key());
+            } else {
+                servicesByAuthority.computeIfPresent(entry.authority(), (authority, services) -> {
+                    services.remove(entry.key());
+                    return services.isEmpty() ? null : services;
+                });
+            }
+        }
+    }
+
+    private record IndexedEntry(EvaluationKey key, String authority, RegisteredService registeredService) {
+    }
+
+    /**
+     * Captures the sort keys of a registered service at the time it was indexed, in the same
+     * order used by the natural ordering of registered services, so that later modifications
+     * of the definition do not corrupt the sorted index.
+     */
+    private record EvaluationKey(int evaluationPriority, int evaluationOrder, String name,
+                                 String serviceId, long id) implements Comparable<EvaluationKey> {
+        private static final Comparator<EvaluationKey> COMPARATOR = Comparator
+            .comparingInt(EvaluationKey::evaluationPriority)
+            .thenComparingInt(EvaluationKey::evaluationOrder)
+            .thenComparing(EvaluationKey::name)
+            .thenComparing(EvaluationKey::serviceId, NULL_SAFE_COMPARATOR)
+            .thenComparingLong(EvaluationKey::id);
+
+        static EvaluationKey of(final RegisteredService registeredService) {
+            return new EvaluationKey(registeredService.getEvaluationPriority(), registeredService.getEvaluationOrder(),
+                StringUtils.defaultIfBlank(registeredService.getName(), StringUtils.EMPTY).toLowerCase(Locale.ENGLISH),
+                registeredService.getServiceId(), registeredService.getId());
+        }
+
+        @Override
+        public int compareTo(final EvaluationKey other) {
+            return COMPARATOR.compare(this, other);
+        }
+    }
+}
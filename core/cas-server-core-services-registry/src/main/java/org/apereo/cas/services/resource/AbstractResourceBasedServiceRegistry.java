@@ -4,6 +4,7 @@ import org.apereo.cas.configuration.api.CasConfigurationPropertiesSourceLocator;
 import org.apereo.cas.services.AbstractServiceRegistry;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ResourceBasedServiceRegistry;
+import org.apereo.cas.services.ServiceRegistryChangeSet;
 import org.apereo.cas.services.ServiceRegistryListener;
 import org.apereo.cas.services.replication.NoOpRegisteredServiceReplicationStrategy;
 import org.apereo.cas.services.replication.RegisteredServiceReplicationStrategy;
@@ -32,6 +33,7 @@ import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import java.io.File;
 import java.io.IOException;
@@ -41,19 +43,28 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.CRC32C;
 
 /**
  * This is {@link AbstractResourceBasedServiceRegistry}.
+ * When change detection is enabled, the modification time, size and checksum of every
+ * service definition file are tracked so that loading services again only parses files that are
+ * added or modified, in parallel, and reports changes to service definitions since the last load.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -94,6 +105,17 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
 
     private Pattern serviceFileNamePattern;
 
+    @ToString.Exclude
+    private final Map<File, ResourceState> resourceStates = new ConcurrentHashMap<>();
+
+    @ToString.Exclude
+    private final Map<Long, File> serviceResources = new ConcurrentHashMap<>();
+
+    @ToString.Exclude
+    private ExecutorService resourceLoadingExecutor;
+
+    private boolean resourceStatesLoaded;
+
     protected AbstractResourceBasedServiceRegistry(final Resource configDirectory,
                                                    final Collection<StringSerializer<RegisteredService>> serializers,
                                                    final ConfigurableApplicationContext applicationContext,
@@ -193,6 +215,24 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         serviceRegistryWatcherService.start(getClass().getSimpleName());
     }
 
+    /**
+     * Enable change detection, so that only service definition files that are
+     * added or modified since the last load are parsed when services are loaded again.
+     * Change detection is not available when service definitions are replicated.
+     */
+    public synchronized void enableChangeDetection() {
+        if (!(registeredServiceReplicationStrategy instanceof NoOpRegisteredServiceReplicationStrategy)) {
+            LOGGER.warn("Change detection for [{}] is not available when service definitions are replicated", serviceRegistryDirectory);
+            return;
+        }
+        if (resourceLoadingExecutor == null) {
+            LOGGER.info("Tracking changes to service definition files in [{}]", serviceRegistryDirectory);
+            val threadFactory = new CustomizableThreadFactory("cas-service-registry-loader-");
+            threadFactory.setDaemon(true);
+            resourceLoadingExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), threadFactory);
+        }
+    }
+
     @Override
     public RegisteredService save(final RegisteredService service) {
         if (service.getId() == RegisteredService.INITIAL_IDENTIFIER_VALUE) {
@@ -251,6 +291,10 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
 
     @Override
     public synchronized Collection<RegisteredService> load() {
+        if (resourceLoadingExecutor != null) {
+            loadResourceChanges();
+            return services.values().stream().sorted().collect(Collectors.toList());
+        }
         LOGGER.trace("Loading files from [{}]", this.serviceRegistryDirectory);
         val files = FileUtils.listFiles(this.serviceRegistryDirectory.toFile(), getExtensions(), true);
         LOGGER.trace("Located [{}] files from [{}] are [{}]", getExtensions(), this.serviceRegistryDirectory, files);
@@ -273,6 +317,14 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         return results;
     }
 
+    @Override
+    public synchronized Optional<ServiceRegistryChangeSet> loadChanges() {
+        if (resourceLoadingExecutor == null || !resourceStatesLoaded) {
+            return Optional.empty();
+        }
+        return Optional.of(loadResourceChanges());
+    }
+
     @Override
     public Collection<RegisteredService> load(final File file) {
         val fileName = file.getName();
@@ -347,6 +399,9 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
     @Override
     public void destroy() {
         this.serviceRegistryWatcherService.close();
+        if (resourceLoadingExecutor != null) {
+            resourceLoadingExecutor.shutdownNow();
+        }
     }
 
     /**
@@ -414,6 +469,121 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
             .orElse(defaultServicesDirectory);
     }
 
+    private ServiceRegistryChangeSet loadResourceChanges() {
+        val files = FileUtils.listFiles(serviceRegistryDirectory.toFile(), getExtensions(), true);
+        val currentFiles = new HashSet<>(files);
+        val updatedServices = new LinkedHashMap<>(services);
+        val modifiedServices = new ArrayList<RegisteredService>();
+        val removedServices = new ArrayList<RegisteredService>();
+
+        List.copyOf(resourceStates.keySet())
+            .stream()
+            .filter(file -> !currentFiles.contains(file))
+            .forEach(file -> {
+                LOGGER.debug("Service definition file [{}] is removed", file);
+                resourceStates.remove(file).services()
+                    .forEach(service -> releaseService(service, file, updatedServices, modifiedServices, removedServices));
+            });
+
+        val tasks = files
+            .stream()
+            .filter(file -> {
+                val state = resourceStates.get(file);
+                return state == null || state.lastModified() != file.lastModified() || state.length() != file.length();
+            })
+            .map(file -> CompletableFuture.supplyAsync(() -> loadResourceState(file, resourceStates.get(file)), resourceLoadingExecutor))
+            .toList();
+        LOGGER.trace("Located [{}] added or modified files in [{}]", tasks.size(), serviceRegistryDirectory);
+
+        tasks.stream()
+            .map(CompletableFuture::join)
+            .forEach(result -> {
+                val file = result.file();
+                val previous = resourceStates.put(file, result.state());
+                if (result.modified()) {
+                    val currentIds = result.state().services().stream().map(RegisteredService::getId).collect(Collectors.toSet());
+                    Optional.ofNullable(previous).map(ResourceState::services).orElseGet(List::of)
+                        .stream()
+                        .filter(service -> !currentIds.contains(service.getId()))
+                        .forEach(service -> releaseService(service, file, updatedServices, modifiedServices, removedServices));
+                    result.state().services().forEach(service -> {
+                        val owner = serviceResources.putIfAbsent(service.getId(), file);
+                        if (owner == null || owner.equals(file)) {
+                            updatedServices.put(service.getId(), service);
+                            modifiedServices.add(service);
+                        } else {
+                            BaseResourceBasedRegisteredServiceWatcher.LOG_SERVICE_DUPLICATE.accept(service);
+                        }
+                    });
+                }
+            });
+
+        if (!modifiedServices.isEmpty() || !removedServices.isEmpty()) {
+            this.services = updatedServices;
+        }
+        resourceStatesLoaded = true;
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        modifiedServices.forEach(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)));
+        LOGGER.debug("Found [{}] added or modified and [{}] removed service definition(s) in [{}]",
+            modifiedServices.size(), removedServices.size(), serviceRegistryDirectory);
+        return new ServiceRegistryChangeSet(modifiedServices, removedServices);
+    }
+
+    /**
+     * Release the ownership of a service definition that is no longer found in the given file.
+     * Other files that define the same service, and were ignored as duplicates, are unchanged
+     * and would not be parsed again; the service is handed over to the first of those files,
+     * as a full load would have, and is only reported as removed if no other file defines it.
+     */
+    private void releaseService(final RegisteredService service, final File file,
+                                final Map<Long, RegisteredService> updatedServices,
+                                final List<RegisteredService> modifiedServices,
+                                final List<RegisteredService> removedServices) {
+        if (!serviceResources.remove(service.getId(), file)) {
+            return;
+        }
+        resourceStates.entrySet()
+            .stream()
+            .filter(entry -> !entry.getKey().equals(file))
+            .sorted(Map.Entry.comparingByKey())
+            .flatMap(entry -> entry.getValue().services()
+                .stream()
+                .filter(candidate -> candidate.getId() == service.getId())
+                .map(candidate -> Map.entry(entry.getKey(), candidate)))
+            .findFirst()
+            .ifPresentOrElse(replacement -> {
+                LOGGER.debug("Service definition [{}] is now loaded from [{}]", service.getId(), replacement.getKey());
+                serviceResources.put(service.getId(), replacement.getKey());
+                updatedServices.put(service.getId(), replacement.getValue());
+                modifiedServices.add(replacement.getValue());
+            }, () -> {
+                updatedServices.remove(service.getId());
+                removedServices.add(service);
+            });
+    }
+
+    private ResourceLoadResult loadResourceState(final File file, final ResourceState previous) {
+        val lastModified = file.lastModified();
+        val length = file.length();
+        val checksum = FunctionUtils.doAndHandle(() -> {
+            val crc = new CRC32C();
+            crc.update(Files.readAllBytes(file.toPath()));
+            return crc.getValue();
+        }, e -> -1L).get();
+        if (previous != null && checksum >= 0 && previous.checksum() == checksum) {
+            LOGGER.trace("Service definition file [{}] is touched but its content is unchanged", file);
+            return new ResourceLoadResult(file, new ResourceState(lastModified, length, checksum, previous.services()), false);
+        }
+        val loadedServices = load(file);
+        return new ResourceLoadResult(file, new ResourceState(lastModified, length, checksum, List.copyOf(loadedServices)), true);
+    }
+
+    private record ResourceState(long lastModified, long length, long checksum, List<RegisteredService> services) {
+    }
+
+    private record ResourceLoadResult(File file, ResourceState state, boolean modified) {
+    }
+
     /**
      * Gets extension associated with files in the given resource directory.
      *
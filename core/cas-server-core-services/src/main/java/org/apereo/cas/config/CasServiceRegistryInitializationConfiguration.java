@@ -159,6 +159,9 @@ public class CasServiceRegistryInitializationConfiguration {
                     if (!(location instanceof ClassPathResource) && casProperties.getServiceRegistry().getJson().isWatcherEnabled()) {
                         registry.enableDefaultWatcherService();
                     }
+                    if (casProperties.getServiceRegistry().getJson().isChangeDetectionEnabled()) {
+                        registry.enableChangeDetection();
+                    }
                     return registry;
                 }))
                 .otherwiseProxy()
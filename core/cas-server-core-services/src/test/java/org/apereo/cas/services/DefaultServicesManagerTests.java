@@ -7,9 +7,12 @@ import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 /**
  * @author battags
@@ -103,4 +106,32 @@ class DefaultServicesManagerTests extends AbstractServicesManagerTests<DefaultSe
         servicesManager.load();
         assertTrue(isServiceInCache(null, service.getId()));
     }
+
+    @Test
+    void verifyLoadChanges() {
+        val service1 = RegisteredServiceTestUtils.getRegisteredService("https://app1.example.org");
+        val service2 = RegisteredServiceTestUtils.getRegisteredService("https://app2.example.org");
+        serviceRegistry = mock(ServiceRegistry.class);
+        when(serviceRegistry.load()).thenReturn(List.of(service1));
+        when(serviceRegistry.loadChanges())
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(new ServiceRegistryChangeSet(List.of(service2), List.of(service1))))
+            .thenReturn(Optional.of(ServiceRegistryChangeSet.empty()));
+        val context = getConfigurationContext();
+        when(context.getRegisteredServicesTemplatesManager().apply(any())).thenAnswer(args -> args.getArgument(0));
+        val manager = new DefaultServicesManager(context);
+        assertEquals(1, manager.load().size());
+        assertNotNull(manager.findServiceBy(serviceFactory.createService(service1.getServiceId())));
+
+        val results = manager.load();
+        assertEquals(1, results.size());
+        assertEquals(service2.getId(), results.iterator().next().getId());
+        assertNull(manager.findServiceBy(serviceFactory.createService(service1.getServiceId())));
+        assertNotNull(manager.findServiceBy(serviceFactory.createService(service2.getServiceId())));
+        assertEquals(1, manager.findServicesBy(RegisteredServiceQuery.of(CasRegisteredService.class, "id", service2.getId())).count());
+        assertEquals(0, manager.findServicesBy(RegisteredServiceQuery.of(CasRegisteredService.class, "id", service1.getId())).count());
+
+        assertEquals(1, manager.load().size());
+        verify(serviceRegistry, times(1)).load();
+    }
 }
@@ -0,0 +1,132 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RegisteredServiceCandidateIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("RegisteredService")
+class RegisteredServiceCandidateIndexTests {
+
+    private static CasRegisteredService getRegisteredService(final long id, final String serviceId, final int evaluationOrder) {
+        val service = new CasRegisteredService();
+        service.setId(id);
+        service.setName("Service" + id);
+        service.setServiceId(serviceId);
+        service.setEvaluationOrder(evaluationOrder);
+        return service;
+    }
+
+    @Test
+    void verifyAuthority() {
+        assertEquals("https://app.example.org", RegisteredServiceCandidateIndex.extractAuthority("HTTPS://App.Example.org/cas?x=1"));
+        assertEquals("https://app.example.org:8443", RegisteredServiceCandidateIndex.extractAuthority("https://app.example.org:8443"));
+        assertNull(RegisteredServiceCandidateIndex.extractAuthority("app.example.org/cas"));
+        assertNull(RegisteredServiceCandidateIndex.extractAuthority(null));
+
+        assertEquals("https://app.example.org", RegisteredServiceCandidateIndex.determineAuthority(
+            getRegisteredService(1, "^https://app\\.example\\.org/.*", 0)));
+        assertEquals("https://app.example.org", RegisteredServiceCandidateIndex.determineAuthority(
+            getRegisteredService(1, "https://app\\.example\\.org", 0)));
+        assertEquals("https://app.example.org", RegisteredServiceCandidateIndex.determineAuthority(
+            getRegisteredService(1, "^https://app\\.example\\.org$", 0)));
+        assertNull(RegisteredServiceCandidateIndex.determineAuthority(getRegisteredService(1, "^https?://app\\.example\\.org/.*", 0)));
+        assertNull(RegisteredServiceCandidateIndex.determineAuthority(getRegisteredService(1, "^https://.*", 0)));
+        assertNull(RegisteredServiceCandidateIndex.determineAuthority(getRegisteredService(1, "^https://app\\.example\\.org(/.*)?", 0)));
+
+        val partial = getRegisteredService(1, "https://app\\.example\\.org", 0);
+        partial.setMatchingStrategy(new PartialRegexRegisteredServiceMatchingStrategy());
+        assertNull(RegisteredServiceCandidateIndex.determineAuthority(partial));
+        partial.setServiceId("^https://app\\.example\\.org/");
+        assertEquals("https://app.example.org", RegisteredServiceCandidateIndex.determineAuthority(partial));
+        assertNull(RegisteredServiceCandidateIndex.determineAuthority(
+            getRegisteredService(1, "^https://app\\.example\\.org/.*|^https://other\\.example\\.org/.*", 0)));
+        assertEquals("https://app.example.org", RegisteredServiceCandidateIndex.determineAuthority(
+            getRegisteredService(1, "^https://app\\.example\\.org/(a|b)/.*", 0)));
+
+        val literal = getRegisteredService(1, "https://App.example.org", 0);
+        literal.setMatchingStrategy(new LiteralRegisteredServiceMatchingStrategy().setCaseInsensitive(true));
+        assertEquals("https://app.example.org", RegisteredServiceCandidateIndex.determineAuthority(literal));
+    }
+
+    @Test
+    void verifyCandidatesAreSorted() {
+        val index = new RegisteredServiceCandidateIndex();
+        val app1 = getRegisteredService(1, "^https://app1\\.example\\.org/.*", 10);
+        val app2 = getRegisteredService(2, "^https://app2\\.example\\.org/.*", 5);
+        val fallback = getRegisteredService(3, "^https://.*", 100);
+        val first = getRegisteredService(4, "^(https|imaps)://.*", 1);
+        index.rebuild(List.of(app1, app2, fallback, first));
+        assertFalse(index.isEmpty());
+
+        assertEquals(List.of(first, app1, fallback), List.copyOf(index.getCandidates("https://app1.example.org/cas")));
+        assertEquals(List.of(first, app2, fallback), List.copyOf(index.getCandidates("https://APP2.example.org")));
+        assertEquals(List.of(first, fallback), List.copyOf(index.getCandidates("https://unknown.example.org/cas")));
+        assertEquals(List.of(first, fallback), List.copyOf(index.getCandidates("not-a-url")));
+    }
+
+    @Test
+    void verifyUpdateAndRemove() {
+        val index = new RegisteredServiceCandidateIndex();
+        val service = getRegisteredService(1, "^https://app1\\.example\\.org/.*", 10);
+        index.index(service);
+        assertEquals(List.of(service), List.copyOf(index.getCandidates("https://app1.example.org/cas")));
+
+        service.setServiceId("^https://app2\\.example\\.org/.*");
+        index.index(service);
+        assertTrue(index.getCandidates("https://app1.example.org/cas").isEmpty());
+        assertEquals(List.of(service), List.copyOf(index.getCandidates("https://app2.example.org/cas")));
+
+        val other = getRegisteredService(2, "^https://app2\\.example\\.org/cas.*", 20);
+        index.index(other);
+        assertEquals(List.of(service, other), List.copyOf(index.getCandidates("https://app2.example.org/cas")));
+        other.setEvaluationOrder(1);
+        index.index(other);
+        assertEquals(List.of(other, service), List.copyOf(index.getCandidates("https://app2.example.org/cas")));
+
+        index.remove(service);
+        assertEquals(List.of(other), List.copyOf(index.getCandidates("https://app2.example.org/cas")));
+        index.clear();
+        assertTrue(index.isEmpty());
+    }
+
+    @Test
+    void verifyLookupsDuringRebuild() throws Exception {
+        val index = new RegisteredServiceCandidateIndex();
+        val services = IntStream.range(0, 500)
+            .mapToObj(i -> (RegisteredService) getRegisteredService(i, "^https://app" + i + "\\.example\\.org/.*", i))
+            .toList();
+        index.rebuild(services);
+        val running = new AtomicBoolean(true);
+        val rebuilder = new Thread(() -> {
+            while (running.get()) {
+                index.rebuild(services);
+            }
+        });
+        rebuilder.start();
+        try {
+            for (var i = 0; i < 10_000; i++) {
+                assertEquals(1, index.getCandidates("https://app" + (i % 500) + ".example.org/cas").size());
+            }
+        } finally {
+            running.set(false);
+            rebuilder.join();
+        }
+    }
+}
@@ -8,12 +8,19 @@ import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is {@link DefaultTicketCatalog}.
+ * <p>
+ * Registered ticket definitions are kept in an immutable index that maps
+ * ticket prefixes to definitions and caches lookups by ticket class. The index
+ * is rebuilt when ticket definitions are registered or updated, so locating
+ * the definition for a ticket does not need to scan or sort the catalog.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -23,10 +30,13 @@ import java.util.stream.Collectors;
 public class DefaultTicketCatalog implements TicketCatalog {
     private final Map<String, TicketDefinition> ticketMetadataMap = new HashMap<>(0);
 
+    private volatile TicketDefinitionIndex index = TicketDefinitionIndex.from(Map.of());
+
     @Override
-    public void register(final TicketDefinition ticketDefinition) {
+    public synchronized void register(final TicketDefinition ticketDefinition) {
         LOGGER.trace("Registering/Updating ticket definition [{}]", ticketDefinition);
         ticketMetadataMap.put(ticketDefinition.getPrefix(), ticketDefinition);
+        index = TicketDefinitionIndex.from(ticketMetadataMap);
     }
 
     @Override
@@ -37,22 +47,21 @@ public class DefaultTicketCatalog implements TicketCatalog {
     @Override
     public boolean contains(final String ticketId) {
         LOGGER.trace("Locating ticket definition for [{}]", ticketId);
-        return ticketMetadataMap.containsKey(ticketId);
+        return index.definitionsByPrefix().containsKey(ticketId);
     }
 
     @Override
     public TicketDefinition find(final String ticketId) {
-        val index = ticketId.indexOf(UniqueTicketIdGenerator.SEPARATOR);
-        val prefix = index == -1 ? ticketId : ticketId.substring(0, index);
-
-        val definition = ticketMetadataMap.values()
-            .stream()
-            .filter(md -> prefix.equalsIgnoreCase(md.getPrefix()))
-            .findFirst()
-            .orElse(null);
+        val separator = ticketId.indexOf(UniqueTicketIdGenerator.SEPARATOR);
+        val prefix = separator == -1 ? ticketId : ticketId.substring(0, separator);
+        val currentIndex = this.index;
+        var definition = currentIndex.definitionsByPrefix().get(prefix);
+        if (definition == null) {
+            definition = currentIndex.definitionsByCaseInsensitivePrefix().get(prefix);
+        }
         if (definition == null) {
             LOGGER.error("Ticket definition for [{}] cannot be found in the ticket catalog "
-                         + "which only contains the following ticket types: [{}]", ticketId, ticketMetadataMap.keySet());
+                         + "which only contains the following ticket types: [{}]", ticketId, currentIndex.definitionsByPrefix().keySet());
         }
         return definition;
     }
@@ -65,30 +74,53 @@ public class DefaultTicketCatalog implements TicketCatalog {
 
     @Override
     public Collection<TicketDefinition> findTicketImplementations(final Class<? extends Ticket> ticketClass) {
-        val list = ticketMetadataMap.values()
-            .stream()
-            .sorted()
-            .filter(t -> ticketClass.isAssignableFrom(t.getImplementationClass()))
-            .collect(Collectors.toList());
-        AnnotationAwareOrderComparator.sort(list);
+        val currentIndex = this.index;
+        val list = currentIndex.implementations().computeIfAbsent(ticketClass, type -> {
+            val definitions = new ArrayList<TicketDefinition>();
+            for (val definition : currentIndex.sortedDefinitions()) {
+                if (type.isAssignableFrom(definition.getImplementationClass())) {
+                    definitions.add(definition);
+                }
+            }
+            AnnotationAwareOrderComparator.sort(definitions);
+            return List.copyOf(definitions);
+        });
         LOGGER.trace("Located all registered and known sorted ticket definitions [{}] that match [{}]", list, ticketClass);
         return list;
     }
 
     @Override
     public Optional<TicketDefinition> findTicketDefinition(final Class<? extends Ticket> ticketClass) {
-        return ticketMetadataMap.values()
+        val currentIndex = this.index;
+        return currentIndex.definitions().computeIfAbsent(ticketClass, type -> currentIndex.sortedDefinitions()
             .stream()
-            .sorted()
-            .filter(t -> ticketClass.equals(t.getApiClass()))
-            .findFirst();
+            .filter(t -> type.equals(t.getApiClass()))
+            .findFirst());
     }
 
     @Override
     public Collection<TicketDefinition> findAll() {
-        val list = new ArrayList<>(ticketMetadataMap.values());
-        AnnotationAwareOrderComparator.sort(list);
+        val list = index.orderedDefinitions();
         LOGGER.trace("Located all registered and known sorted ticket definitions [{}]", list);
         return list;
     }
+
+    private record TicketDefinitionIndex(
+        Map<String, TicketDefinition> definitionsByPrefix,
+        Map<String, TicketDefinition> definitionsByCaseInsensitivePrefix,
+        List<TicketDefinition> sortedDefinitions,
+        List<TicketDefinition> orderedDefinitions,
+        Map<Class<?>, List<TicketDefinition>> implementations,
+        Map<Class<?>, Optional<TicketDefinition>> definitions) {
+
+        static TicketDefinitionIndex from(final Map<String, TicketDefinition> ticketDefinitions) {
+            val caseInsensitive = new TreeMap<String, TicketDefinition>(String.CASE_INSENSITIVE_ORDER);
+            caseInsensitive.putAll(ticketDefinitions);
+            val sorted = ticketDefinitions.values().stream().sorted().toList();
+            val ordered = new ArrayList<>(ticketDefinitions.values());
+            AnnotationAwareOrderComparator.sort(ordered);
+            return new TicketDefinitionIndex(Map.copyOf(ticketDefinitions), caseInsensitive, sorted,
+                List.copyOf(ordered), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
 }
@@ -2,6 +2,7 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
 import org.apereo.cas.ticket.registry.pubsub.commands.AddTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketMessageQueueCommand;
@@ -9,6 +10,7 @@ import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketsMessageQueueC
 import org.apereo.cas.ticket.registry.pubsub.commands.UpdateTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.PublisherIdentifier;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
@@ -17,11 +19,22 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link AbstractMapBasedTicketRegistry}.
+ * <p>
+ * Ticket-granting tickets are tracked by a {@link TicketRegistrySessionIndex}
+ * keyed by principal and attribute values, so that session lookups
+ * only visit the tickets that belong to the session in question.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -33,6 +46,8 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
 
     protected final PublisherIdentifier publisherIdentifier;
 
+    protected final TicketRegistrySessionIndex sessionIndex = new TicketRegistrySessionIndex();
+
     public AbstractMapBasedTicketRegistry(final CipherExecutor cipherExecutor,
                                           final TicketSerializationManager ticketSerializationManager,
                                           final TicketCatalog ticketCatalog,
@@ -115,6 +130,7 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
         val encTicket = encodeTicket(ticket);
         LOGGER.debug("Putting ticket [{}] in registry.", ticket.getId());
         getMapInstance().put(encTicket.getId(), encTicket);
+        indexSession(encTicket.getId(), ticket);
     }
 
     @Override
@@ -127,16 +143,97 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     @Override
     public long deleteTicketFromQueue(final String ticketId) {
         val encTicketId = digestIdentifier(ticketId);
-        return !StringUtils.isBlank(encTicketId) && getMapInstance().remove(encTicketId) != null ? 1 : 0;
+        if (StringUtils.isBlank(encTicketId)) {
+            return 0;
+        }
+        val removed = getMapInstance().remove(encTicketId) != null;
+        sessionIndex.remove(encTicketId);
+        return removed ? 1 : 0;
     }
 
     @Override
     public long deleteAllFromQueue() {
         val size = getMapInstance().size();
         getMapInstance().clear();
+        sessionIndex.clear();
         return size;
     }
 
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return sessionIndex.getTicketsForPrincipal(getPrincipalIndexKey(principalId))
+            .stream()
+            .filter(getMapInstance()::containsKey)
+            .count();
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        return sessionIndex.getTicketsForPrincipal(getPrincipalIndexKey(principalId))
+            .stream()
+            .map(this::getIndexedSession)
+            .filter(Objects::nonNull)
+            .filter(ticket -> !ticket.isExpired() && getPrincipalIdFrom(ticket).equals(principalId));
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
+        val ticketKeys = new LinkedHashSet<String>();
+        queryAttributes.forEach((name, values) -> {
+            val attributeName = digestIdentifier(name);
+            values.forEach(value -> {
+                val attributeValue = getAttributeValueIndexKey(digestIdentifier(value.toString()));
+                ticketKeys.addAll(sessionIndex.getTicketsForAttribute(attributeName, attributeValue));
+            });
+        });
+        return ticketKeys
+            .stream()
+            .map(this::getIndexedSession)
+            .filter(Objects::nonNull)
+            .filter(ticket -> !ticket.isExpired());
+    }
+
+    /**
+     * Record the session of the ticket, if it is a ticket-granting ticket, in the session index.
+     *
+     * @param ticketKey the key under which the ticket is stored
+     * @param ticket    the ticket
+     */
+    protected void indexSession(final String ticketKey, final Ticket ticket) {
+        if (ticket instanceof TicketGrantingTicket ticketGrantingTicket && ticketGrantingTicket.getAuthentication() != null) {
+            val attributes = new HashMap<String, List<String>>();
+            val ticketAttributes = (Map<?, ?>) collectAndDigestTicketAttributes(ticketGrantingTicket);
+            ticketAttributes.forEach((name, values) ->
+                attributes.put(name.toString(), CollectionUtils.toCollection(values)
+                    .stream()
+                    .filter(Objects::nonNull)
+                    .map(this::getAttributeValueIndexKey)
+                    .collect(Collectors.toList())));
+            sessionIndex.index(ticketKey, getPrincipalIndexKey(getPrincipalIdFrom(ticket)), attributes);
+            if (!getMapInstance().containsKey(ticketKey)) {
+                sessionIndex.remove(ticketKey);
+            }
+        }
+    }
+
+    private Ticket getIndexedSession(final String ticketKey) {
+        val found = getMapInstance().get(ticketKey);
+        if (found == null) {
+            LOGGER.trace("Indexed ticket [{}] is no longer found in the registry", ticketKey);
+            return null;
+        }
+        val ticket = decodeTicket(found);
+        return ticket instanceof TicketGrantingTicket ? ticket : null;
+    }
+
+    private String getPrincipalIndexKey(final String principalId) {
+        return digestIdentifier(Objects.toString(principalId, StringUtils.EMPTY).toLowerCase(Locale.ENGLISH));
+    }
+
+    private String getAttributeValueIndexKey(final Object value) {
+        return Objects.toString(value, StringUtils.EMPTY).toLowerCase(Locale.ENGLISH);
+    }
+
     /**
      * Create map instance, which must ben created during initialization phases
      * and always be the same instance.
@@ -1,22 +1,50 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCleanerProperties;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.logout.SingleLogoutExecutionRequest;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.lock.LockRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
-import java.util.Objects;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * This is {@link DefaultTicketRegistryCleaner}.
+ * <p>
+ * Expiration candidates are fetched from the ticket registry, optionally one claimed partition at a time,
+ * and expired tickets are handed over in batches to a bounded number of threads. Each thread locks
+ * and cleans up individual tickets inside its own transaction. Tickets that cannot be locked
+ * by those threads are retried at the end of the run.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -25,12 +53,29 @@ import java.util.Objects;
 @RequiredArgsConstructor
 @Transactional(transactionManager = "ticketTransactionManager")
 public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
+    private static final String PARTITION_LOCK_PREFIX = "ticket-registry-cleaner-";
+
+    private final AtomicReference<TicketRegistryCleanerStatistics> statistics = new AtomicReference<>();
+
     private final LockRepository lockRepository;
 
     private final LogoutManager logoutManager;
 
     private final TicketRegistry ticketRegistry;
 
+    private final TicketCatalog ticketCatalog;
+
+    private final TransactionOperations transactionTemplate;
+
+    private final TicketRegistryCleanerProperties properties;
+
+    public DefaultTicketRegistryCleaner(final LockRepository lockRepository,
+                                        final LogoutManager logoutManager,
+                                        final TicketRegistry ticketRegistry) {
+        this(lockRepository, logoutManager, ticketRegistry, new DefaultTicketCatalog(),
+            TransactionOperations.withoutTransaction(), new TicketRegistryCleanerProperties());
+    }
+
     @Override
     public int clean() {
         try {
@@ -47,24 +92,48 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
 
     @Override
     public int cleanTicket(final Ticket ticket) {
-        return lockRepository.execute(ticket.getId(), Unchecked.supplier(() -> {
-            if (ticket instanceof TicketGrantingTicket) {
-                LOGGER.debug("Cleaning up expired ticket-granting ticket [{}]", ticket.getId());
-                logoutManager.performLogout(SingleLogoutExecutionRequest.builder()
-                    .ticketGrantingTicket((TicketGrantingTicket) ticket)
-                    .build());
-            }
-            LOGGER.debug("Cleaning up expired ticket [{}]", ticket.getId());
-            return ticketRegistry.deleteTicket(ticket);
-        })).orElseThrow();
+        return lockRepository.execute(ticket.getId(), Unchecked.supplier(() -> cleanExpiredTicket(ticket))).orElseThrow();
+    }
+
+    @Override
+    @Transactional(transactionManager = "ticketTransactionManager", propagation = Propagation.SUPPORTS)
+    public Optional<TicketRegistryCleanerStatistics> getStatistics() {
+        return Optional.ofNullable(statistics.get());
     }
 
     protected int cleanInternal() {
-        try (val expiredTickets = ticketRegistry.stream().filter(Objects::nonNull).filter(Ticket::isExpired)) {
-            val ticketsDeleted = expiredTickets.mapToInt(this::cleanTicket).sum();
-            LOGGER.info("[{}] expired tickets removed.", ticketsDeleted);
-            return ticketsDeleted;
+        val startTime = System.nanoTime();
+        val cleanerRun = new CleanerRun(new AtomicLong(), new AtomicLong(), new AtomicLong(), new AtomicLong());
+        if (properties.getPartitioning() == TicketRegistryCleanerProperties.CleanerPartitioningTypes.TICKET_TYPE) {
+            cleanTicketPartitions(cleanerRun);
+        } else {
+            cleanExpiredTickets(ticketRegistry::getExpiredTicketCandidates, cleanerRun);
+        }
+        val runStatistics = new TicketRegistryCleanerStatistics(cleanerRun.scanned().get(), cleanerRun.expired().get(),
+            cleanerRun.deleted().get(), cleanerRun.partitions().get(), Duration.ofNanos(System.nanoTime() - startTime));
+        statistics.set(runStatistics);
+        LOGGER.info("[{}] expired tickets removed.", runStatistics.deleted());
+        LOGGER.debug("Ticket registry cleaner scanned [{}] ticket(s) and found [{}] expired ticket(s) in [{}]",
+            runStatistics.scanned(), runStatistics.expired(), runStatistics.duration());
+        return Math.toIntExact(runStatistics.deleted());
+    }
+
+    /**
+     * Cleans up after an expired ticket, assuming the ticket is already locked by the caller.
+     *
+     * @param ticket the ticket
+     * @return the number of tickets that were removed
+     * @throws Exception the exception
+     */
+    protected int cleanExpiredTicket(final Ticket ticket) throws Exception {
+        if (ticket instanceof TicketGrantingTicket) {
+            LOGGER.debug("Cleaning up expired ticket-granting ticket [{}]", ticket.getId());
+            logoutManager.performLogout(SingleLogoutExecutionRequest.builder()
+                .ticketGrantingTicket((TicketGrantingTicket) ticket)
+                .build());
         }
+        LOGGER.debug("Cleaning up expired ticket [{}]", ticket.getId());
+        return ticketRegistry.deleteTicket(ticket);
     }
 
     /**
@@ -77,4 +146,75 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
     protected boolean isCleanerSupported() {
         return true;
     }
+
+    private void cleanTicketPartitions(final CleanerRun cleanerRun) {
+        val definitionsByPrefix = new LinkedHashMap<String, TicketDefinition>();
+        ticketCatalog.findAll().forEach(definition -> definitionsByPrefix.putIfAbsent(definition.getPrefix(), definition));
+        val definitions = new ArrayList<>(definitionsByPrefix.values());
+        if (!definitions.isEmpty()) {
+            Collections.rotate(definitions, ThreadLocalRandom.current().nextInt(definitions.size()));
+        }
+        definitions.forEach(definition -> {
+            val partitionLock = PARTITION_LOCK_PREFIX + definition.getPrefix();
+            val claimed = lockRepository.execute(partitionLock, () -> {
+                cleanExpiredTickets(() -> ticketRegistry.getExpiredTicketCandidates(definition), cleanerRun);
+                return Boolean.TRUE;
+            });
+            if (claimed.isPresent()) {
+                cleanerRun.partitions().incrementAndGet();
+            } else {
+                LOGGER.debug("Skipping partition [{}] that is claimed by another cleaner run", definition.getPrefix());
+            }
+        });
+    }
+
+    private void cleanExpiredTickets(final Supplier<Stream<? extends Ticket>> candidates, final CleanerRun cleanerRun) {
+        val concurrency = Math.max(1, properties.getMaxConcurrency());
+        val batchSize = Math.max(1, properties.getBatchSize());
+        val executor = Executors.newFixedThreadPool(concurrency);
+        val permits = new Semaphore(concurrency);
+        val deferredTickets = new ConcurrentLinkedQueue<Ticket>();
+        val tasks = new ArrayList<CompletableFuture<Void>>();
+        try (val tickets = candidates.get()) {
+            var batch = new ArrayList<Ticket>(batchSize);
+            val iterator = tickets.iterator();
+            while (iterator.hasNext()) {
+                val ticket = iterator.next();
+                if (ticket != null) {
+                    cleanerRun.scanned().incrementAndGet();
+                    if (ticket.isExpired()) {
+                        cleanerRun.expired().incrementAndGet();
+                        batch.add(ticket);
+                        if (batch.size() >= batchSize) {
+                            tasks.add(submitBatch(batch, cleanerRun, executor, permits, deferredTickets));
+                            batch = new ArrayList<>(batchSize);
+                        }
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                tasks.add(submitBatch(batch, cleanerRun, executor, permits, deferredTickets));
+            }
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+        deferredTickets.forEach(ticket -> FunctionUtils.doAndHandle(__ -> cleanerRun.deleted().addAndGet(cleanTicket(ticket))));
+    }
+
+    private CompletableFuture<Void> submitBatch(final List<Ticket> batch, final CleanerRun cleanerRun,
+                                                final ExecutorService executor,
+                                                final Semaphore permits, final Queue<Ticket> deferredTickets) {
+        FunctionUtils.doUnchecked(__ -> permits.acquire());
+        return CompletableFuture
+            .runAsync(() -> batch.forEach(ticket -> FunctionUtils.doAndHandle(__ -> {
+                val result = lockRepository.execute(ticket.getId(),
+                    () -> transactionTemplate.execute(status -> FunctionUtils.doUnchecked(() -> cleanExpiredTicket(ticket))));
+                result.ifPresentOrElse(count -> cleanerRun.deleted().addAndGet(count), () -> deferredTickets.add(ticket));
+            })), executor)
+            .whenComplete((result, error) -> permits.release());
+    }
+
+    private record CleanerRun(AtomicLong scanned, AtomicLong expired, AtomicLong deleted, AtomicLong partitions) {
+    }
 }
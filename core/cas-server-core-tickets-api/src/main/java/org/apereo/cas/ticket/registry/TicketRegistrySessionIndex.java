@@ -0,0 +1,129 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link TicketRegistrySessionIndex} that keeps track of the ticket-granting tickets
+ * owned by a principal or carrying an attribute value, so that session lookups do not need
+ * to scan all tickets in the registry. Index keys are expected to be normalized and digested
+ * by the ticket registry, and tickets are identified by the key under which they are stored.
+ * The index is maintained incrementally as tickets are added, updated and removed; entries
+ * are never trusted on their own and must be verified against the registry on lookups.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class TicketRegistrySessionIndex {
+    private final Map<String, Set<String>> ticketsByPrincipal = new ConcurrentHashMap<>();
+
+    private final Map<AttributeIndexKey, Set<String>> ticketsByAttribute = new ConcurrentHashMap<>();
+
+    private final Map<String, IndexedSession> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Add or replace the session recorded under the given ticket key.
+     *
+     * @param ticketKey  the key under which the ticket is stored
+     * @param principal  the principal index key
+     * @param attributes the attribute values index keys, grouped by attribute name index key
+     */
+    public void index(final String ticketKey, final String principal,
+                      final Map<String, ? extends Collection<String>> attributes) {
+        entries.compute(ticketKey, (key, existing) -> {
+            if (existing != null) {
+                removeEntry(key, existing);
+            }
+            val attributeKeys = ConcurrentHashMap.<AttributeIndexKey>newKeySet();
+            attributes.forEach((name, values) -> values.forEach(value -> attributeKeys.add(new AttributeIndexKey(name, value))));
+            val entry = new IndexedSession(principal, attributeKeys);
+            addToIndex(ticketsByPrincipal, entry.principal(), key);
+            entry.attributes().forEach(attributeKey -> addToIndex(ticketsByAttribute, attributeKey, key));
+            LOGGER.trace("Indexed session [{}] with [{}] attribute value(s)", key, attributeKeys.size());
+            return entry;
+        });
+    }
+
+    /**
+     * Remove the session recorded under the given ticket key, if any.
+     *
+     * @param ticketKey the ticket key
+     */
+    public void remove(final String ticketKey) {
+        entries.computeIfPresent(ticketKey, (key, existing) -> {
+            removeEntry(key, existing);
+            return null;
+        });
+    }
+
+    /**
+     * Remove all sessions from the index.
+     */
+    public void clear() {
+        entries.clear();
+        ticketsByPrincipal.clear();
+        ticketsByAttribute.clear();
+    }
+
+    /**
+     * Gets the keys of the tickets recorded for the principal.
+     *
+     * @param principal the principal index key
+     * @return the ticket keys
+     */
+    public Set<String> getTicketsForPrincipal(final String principal) {
+        return Set.copyOf(ticketsByPrincipal.getOrDefault(principal, Set.of()));
+    }
+
+    /**
+     * Gets the keys of the tickets recorded with the attribute value.
+     *
+     * @param name  the attribute name index key
+     * @param value the attribute value index key
+     * @return the ticket keys
+     */
+    public Set<String> getTicketsForAttribute(final String name, final String value) {
+        return Set.copyOf(ticketsByAttribute.getOrDefault(new AttributeIndexKey(name, value), Set.of()));
+    }
+
+    /**
+     * Gets the number of sessions in the index.
+     *
+     * @return the size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static <K> void addToIndex(final Map<K, Set<String>> index, final K indexKey, final String ticketKey) {
+        index.compute(indexKey, (k, tickets) -> {
+            val results = tickets == null ? ConcurrentHashMap.<String>newKeySet() : tickets;
+            results.add(ticketKey);
+            return results;
+        });
+    }
+
+    private static <K> void removeFromIndex(final Map<K, Set<String>> index, final K indexKey, final String ticketKey) {
+        index.computeIfPresent(indexKey, (k, tickets) -> {
+            tickets.remove(ticketKey);
+            return tickets.isEmpty() ? null : tickets;
+        });
+    }
+
+    private void removeEntry(final String ticketKey, final IndexedSession entry) {
+        removeFromIndex(ticketsByPrincipal, entry.principal(), ticketKey);
+        entry.attributes().forEach(attributeKey -> removeFromIndex(ticketsByAttribute, attributeKey, ticketKey));
+    }
+
+    private record AttributeIndexKey(String name, String value) {
+    }
+
+    private record IndexedSession(String principal, Set<AttributeIndexKey> attributes) {
+    }
+}
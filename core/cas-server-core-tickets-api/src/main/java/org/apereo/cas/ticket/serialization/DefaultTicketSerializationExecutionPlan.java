@@ -13,13 +13,17 @@ import org.apereo.cas.ticket.serialization.serializers.TicketGrantingTicketStrin
 import org.apereo.cas.ticket.serialization.serializers.TransientSessionTicketStringSerializer;
 import org.apereo.cas.util.serialization.StringSerializer;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.val;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is {@link DefaultTicketSerializationExecutionPlan}.
+ * Ticket types are remembered by name once resolved, so that
+ * deserializing tickets by their type name does not look up classes each time.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
@@ -28,6 +32,9 @@ import java.util.concurrent.ConcurrentHashMap;
 public class DefaultTicketSerializationExecutionPlan implements TicketSerializationExecutionPlan {
     private final Map<String, StringSerializer<? extends Ticket>> ticketSerializers = new ConcurrentHashMap<>();
 
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Class<? extends Ticket>> ticketTypes = new ConcurrentHashMap<>();
+
     public DefaultTicketSerializationExecutionPlan() {
         registerTicketSerializer(new EncodedTicketStringSerializer());
         registerTicketSerializer(new ProxyGrantingTicketStringSerializer());
@@ -50,6 +57,20 @@ public class DefaultTicketSerializationExecutionPlan implements TicketSerializat
     @Override
     public void registerTicketSerializer(final String typeToSerialize, final StringSerializer<? extends Ticket> serializer) {
         ticketSerializers.put(typeToSerialize, serializer);
+        val type = serializer.getTypeToSerialize();
+        if (type != null && type.getName().equals(typeToSerialize) && Ticket.class.isAssignableFrom(type)) {
+            ticketTypes.put(typeToSerialize, type.asSubclass(Ticket.class));
+        }
+    }
+
+    @Override
+    public Class<? extends Ticket> getTicketType(final String type) throws ClassNotFoundException {
+        var ticketType = ticketTypes.get(type);
+        if (ticketType == null) {
+            ticketType = TicketSerializationExecutionPlan.super.getTicketType(type);
+            ticketTypes.put(type, ticketType);
+        }
+        return ticketType;
     }
 
     @Override
@@ -2,7 +2,10 @@ package org.apereo.cas.ticket.serialization;
 
 import org.apereo.cas.ticket.InvalidTicketException;
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.serialization.AbstractJacksonBackedStringSerializer;
+import org.apereo.cas.util.serialization.StringSerializer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +17,9 @@ import java.util.Objects;
 
 /**
  * This is {@link DefaultTicketStringSerializationManager}.
+ * Tickets handled by JSON serializers are read and written with the pre-bound
+ * Jackson readers and writers of each serializer, since ticket content is produced
+ * by CAS and does not need the relaxed parsing applied to human-authored JSON.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
@@ -23,12 +29,48 @@ import java.util.Objects;
 public class DefaultTicketStringSerializationManager implements TicketSerializationManager {
     private final TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
 
+    private static Ticket readTicket(final StringSerializer<Ticket> serializer, final String ticketContent) {
+        if (serializer instanceof final AbstractJacksonBackedStringSerializer<Ticket> jacksonSerializer && jacksonSerializer.isJsonFormat()) {
+            try {
+                return jacksonSerializer.getObjectReader().readValue(ticketContent);
+            } catch (final Exception e) {
+                LOGGER.error("Cannot read/parse [{}] to deserialize into type [{}]: [{}]",
+                    DigestUtils.abbreviate(ticketContent), serializer.getTypeToSerialize(), e.getMessage());
+                LOGGER.debug(e.getMessage(), e);
+                return null;
+            }
+        }
+        return serializer.from(ticketContent);
+    }
+
+    private static String writeTicket(final StringSerializer<Ticket> serializer, final Ticket ticket) {
+        if (serializer instanceof final AbstractJacksonBackedStringSerializer<Ticket> jacksonSerializer && jacksonSerializer.isJsonFormat()) {
+            return Unchecked.supplier(() -> jacksonSerializer.getObjectWriter().writeValueAsString(ticket)).get();
+        }
+        return serializer.toString(ticket);
+    }
+
+    private static <T extends Ticket> T deserializeTicket(final StringSerializer<Ticket> serializer,
+                                                          final String ticketContent, final Class<T> clazz) {
+        LOGGER.trace("Unmarshalling ticket content from [{}]", ticketContent);
+        val ticket = readTicket(serializer, ticketContent);
+        if (ticket == null) {
+            throw new InvalidTicketException(clazz.getName());
+        }
+        if (!clazz.isAssignableFrom(ticket.getClass())) {
+            throw new ClassCastException("Ticket [" + ticket.getId()
+                                         + " is of type " + ticket.getClass()
+                                         + " when we were expecting " + clazz);
+        }
+        return (T) ticket;
+    }
+
     @Override
     public String serializeTicket(final Ticket ticket) {
         try {
             val serializer = Objects.requireNonNull(ticketSerializationExecutionPlan.getTicketSerializer(ticket),
                 () -> "Unable to find ticket serializer for " + ticket.getId());
-            return serializer.toString(ticket);
+            return writeTicket(serializer, ticket);
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
             throw e;
@@ -44,26 +86,14 @@ public class DefaultTicketStringSerializationManager implements TicketSerializat
         if (serializer == null) {
             throw new IllegalArgumentException("Unable to find ticket deserializer for " + type);
         }
-        return Unchecked.supplier(() -> {
-            val clazz = Class.forName(type);
-            return deserializeTicket(ticketContent, (Class) clazz);
-        }).get();
+        val clazz = Unchecked.supplier(() -> ticketSerializationExecutionPlan.getTicketType(type)).get();
+        return deserializeTicket(serializer, ticketContent, clazz);
     }
 
     @Override
     public <T extends Ticket> T deserializeTicket(final String ticketContent, final Class<T> clazz) {
         val serializer = Objects.requireNonNull(ticketSerializationExecutionPlan.getTicketSerializer(clazz),
             () -> "Unable to find ticket deserializer for " + clazz.getSimpleName());
-        LOGGER.trace("Unmarshalling ticket content from [{}]", ticketContent);
-        val ticket = serializer.from(ticketContent);
-        if (ticket == null) {
-            throw new InvalidTicketException(clazz.getName());
-        }
-        if (!clazz.isAssignableFrom(ticket.getClass())) {
-            throw new ClassCastException("Ticket [" + ticket.getId()
-                                         + " is of type " + ticket.getClass()
-                                         + " when we were expecting " + clazz);
-        }
-        return (T) ticket;
+        return deserializeTicket(serializer, ticketContent, clazz);
     }
 }
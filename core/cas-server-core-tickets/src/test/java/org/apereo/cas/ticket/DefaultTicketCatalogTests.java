@@ -32,6 +32,9 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 
+import java.util.List;
+import java.util.Locale;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -108,4 +111,30 @@ class DefaultTicketCatalogTests {
         assertNotNull(ticketCatalog.find(st.getId()));
         assertNotNull(st.getClass());
     }
+
+    @Test
+    void verifyFindByPrefixIgnoringCase() {
+        val tgt = new MockTicketGrantingTicket("casuser");
+        val defn = ticketCatalog.find(tgt);
+        assertEquals(defn, ticketCatalog.find(tgt.getId().toLowerCase(Locale.ENGLISH)));
+        assertEquals(defn, ticketCatalog.find(tgt.getPrefix()));
+        assertNull(ticketCatalog.find("UNKNOWN-123456"));
+    }
+
+    @Test
+    void verifyLookupsRefreshOnRegister() {
+        val catalog = new DefaultTicketCatalog();
+        assertTrue(catalog.findTicketImplementations(TicketGrantingTicket.class).isEmpty());
+        assertTrue(catalog.findTicketDefinition(TicketGrantingTicket.class).isEmpty());
+        assertTrue(catalog.findAll().isEmpty());
+
+        val defn = new DefaultTicketDefinition(MockTicketGrantingTicket.class,
+            TicketGrantingTicket.class, TicketGrantingTicket.PREFIX, 0);
+        catalog.register(defn);
+        assertEquals(List.of(defn), List.copyOf(catalog.findTicketImplementations(TicketGrantingTicket.class)));
+        assertEquals(defn, catalog.findTicketDefinition(TicketGrantingTicket.class).orElseThrow());
+        assertEquals(defn, catalog.find(new MockTicketGrantingTicket("casuser")));
+        assertTrue(catalog.contains(TicketGrantingTicket.PREFIX));
+        assertEquals(1, catalog.findAll().size());
+    }
 }
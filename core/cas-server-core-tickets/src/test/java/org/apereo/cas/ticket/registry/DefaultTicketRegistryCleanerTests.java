@@ -1,8 +1,13 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCleanerProperties;
 import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.mock.MockServiceTicket;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
 import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.DefaultTicketDefinition;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.lock.LockRepository;
@@ -11,6 +16,13 @@ import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -39,12 +51,113 @@ class DefaultTicketRegistryCleanerTests {
         assertEquals(0, ticketRegistry.sessionCount());
     }
 
+    @Test
+    void verifyBatches() throws Exception {
+        val logoutManager = mock(LogoutManager.class);
+        val ticketRegistry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog());
+        for (var i = 0; i < 10; i++) {
+            val tgt = new MockTicketGrantingTicket("casuser" + i);
+            ticketRegistry.addTicket(tgt);
+            if (i % 2 == 0) {
+                tgt.markTicketExpired();
+            }
+        }
+        val properties = new TicketRegistryCleanerProperties().setBatchSize(2).setMaxConcurrency(3);
+        val cleaner = new DefaultTicketRegistryCleaner(LockRepository.asDefault(), logoutManager, ticketRegistry, properties);
+        assertEquals(5, cleaner.clean());
+        assertEquals(5, ticketRegistry.sessionCount());
+        verify(logoutManager, times(5)).performLogout(any());
+        val statistics = cleaner.getStatistics().orElseThrow();
+        assertEquals(10, statistics.scanned());
+        assertEquals(5, statistics.expired());
+        assertEquals(5, statistics.deleted());
+        assertEquals(0, statistics.partitions());
+    }
+
+    @Test
+    void verifyTicketTypePartitions() throws Exception {
+        val logoutManager = mock(LogoutManager.class);
+        val ticketCatalog = new DefaultTicketCatalog();
+        ticketCatalog.register(new DefaultTicketDefinition(MockTicketGrantingTicket.class,
+            TicketGrantingTicket.class, TicketGrantingTicket.PREFIX, 0));
+        ticketCatalog.register(new DefaultTicketDefinition(MockServiceTicket.class,
+            ServiceTicket.class, ServiceTicket.PREFIX, 0));
+        val ticketRegistry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), ticketCatalog);
+        for (var i = 0; i < 4; i++) {
+            val tgt = new MockTicketGrantingTicket("casuser" + i);
+            ticketRegistry.addTicket(tgt);
+            tgt.markTicketExpired();
+        }
+        val properties = new TicketRegistryCleanerProperties()
+            .setPartitioning(TicketRegistryCleanerProperties.CleanerPartitioningTypes.TICKET_TYPE);
+        val cleaner = new DefaultTicketRegistryCleaner(LockRepository.asDefault(), logoutManager, ticketRegistry,
+            ticketCatalog, TransactionOperations.withoutTransaction(), properties);
+        assertEquals(4, cleaner.clean());
+        assertEquals(0, ticketRegistry.sessionCount());
+        val statistics = cleaner.getStatistics().orElseThrow();
+        assertEquals(2, statistics.partitions());
+        assertEquals(4, statistics.scanned());
+    }
+
+    @Test
+    void verifyClaimedPartitionsSkipped() throws Exception {
+        val logoutManager = mock(LogoutManager.class);
+        val ticketCatalog = new DefaultTicketCatalog();
+        ticketCatalog.register(new DefaultTicketDefinition(MockTicketGrantingTicket.class,
+            TicketGrantingTicket.class, TicketGrantingTicket.PREFIX, 0));
+        val ticketRegistry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), ticketCatalog);
+        val tgt = new MockTicketGrantingTicket("casuser");
+        ticketRegistry.addTicket(tgt);
+        tgt.markTicketExpired();
+
+        val lockRepository = LockRepository.asDefault();
+        val claimedPartitions = new LockRepository() {
+            @Override
+            public <T> Optional<T> execute(final Object lockKey, final Supplier<T> consumer) {
+                return lockKey.toString().startsWith("ticket-registry-cleaner-")
+                    ? Optional.empty()
+                    : lockRepository.execute(lockKey, consumer);
+            }
+        };
+        val properties = new TicketRegistryCleanerProperties()
+            .setPartitioning(TicketRegistryCleanerProperties.CleanerPartitioningTypes.TICKET_TYPE);
+        val cleaner = new DefaultTicketRegistryCleaner(claimedPartitions, logoutManager, ticketRegistry,
+            ticketCatalog, TransactionOperations.withoutTransaction(), properties);
+        assertEquals(0, cleaner.clean());
+        assertEquals(1, ticketRegistry.sessionCount());
+        assertEquals(0, cleaner.getStatistics().orElseThrow().partitions());
+    }
+
+    @Test
+    void verifyDeletionsRunInTransaction() throws Exception {
+        val logoutManager = mock(LogoutManager.class);
+        val ticketRegistry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog());
+        for (var i = 0; i < 3; i++) {
+            val tgt = new MockTicketGrantingTicket("casuser" + i);
+            ticketRegistry.addTicket(tgt);
+            tgt.markTicketExpired();
+        }
+        val transactions = new AtomicInteger();
+        val transactionTemplate = new TransactionOperations() {
+            @Override
+            public <T> T execute(final TransactionCallback<T> action) {
+                transactions.incrementAndGet();
+                return action.doInTransaction(new SimpleTransactionStatus());
+            }
+        };
+        val properties = new TicketRegistryCleanerProperties().setMaxConcurrency(2).setBatchSize(1);
+        val cleaner = new DefaultTicketRegistryCleaner(LockRepository.asDefault(), logoutManager, ticketRegistry,
+            new DefaultTicketCatalog(), transactionTemplate, properties);
+        assertEquals(3, cleaner.clean());
+        assertEquals(3, transactions.get());
+    }
+
 
     @Test
     void verifyCleanFail() {
         val logoutManager = mock(LogoutManager.class);
         val ticketRegistry = mock(TicketRegistry.class);
-        when(ticketRegistry.stream()).thenThrow(IllegalArgumentException.class);
+        when(ticketRegistry.getExpiredTicketCandidates()).thenThrow(IllegalArgumentException.class);
         val c = new DefaultTicketRegistryCleaner(LockRepository.noOp(), logoutManager, ticketRegistry);
         assertEquals(0, c.clean());
     }
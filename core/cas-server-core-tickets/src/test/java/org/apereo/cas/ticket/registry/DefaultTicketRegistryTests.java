@@ -12,6 +12,9 @@ import lombok.val;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Tag;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -55,6 +58,25 @@ class DefaultTicketRegistryTests extends BaseTicketRegistryTests {
         assertEquals(1, count);
     }
 
+    @RepeatedTest(1)
+    public void verifySessionIndexFollowsTickets() throws Exception {
+        val user = UUID.randomUUID().toString();
+        val tgt = new MockTicketGrantingTicket(user, Map.of("memberOf", List.of("Staff")), Map.of());
+        val registry = getNewTicketRegistry();
+        registry.addTicket(tgt);
+        registry.addTicket(new MockTicketGrantingTicket(UUID.randomUUID().toString()));
+        assertEquals(1, registry.countSessionsFor(user.toUpperCase(Locale.ENGLISH)));
+        assertEquals(1, registry.getSessionsFor(user).count());
+        assertEquals(1, registry.getSessionsWithAttributes(Map.of("memberOf", List.of("staff"))).count());
+
+        registry.updateTicket(tgt);
+        assertEquals(1, registry.countSessionsFor(user));
+
+        registry.deleteTicket(tgt.getId());
+        assertEquals(0, registry.countSessionsFor(user));
+        assertEquals(0, registry.getSessionsFor(user).count());
+        assertEquals(0, registry.getSessionsWithAttributes(Map.of("memberOf", List.of("staff"))).count());
+    }
 
     @RepeatedTest(1)
     public void verifyEncodeFails() throws Exception {
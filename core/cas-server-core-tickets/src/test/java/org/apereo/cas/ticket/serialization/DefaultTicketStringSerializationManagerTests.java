@@ -16,6 +16,7 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketFactory;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.proxy.ProxyTicket;
 
 import lombok.val;
@@ -79,4 +80,19 @@ class DefaultTicketStringSerializationManagerTests {
         assertThrows(IllegalArgumentException.class, () -> ticketSerializationManager.deserializeTicket(StringUtils.EMPTY, "something"));
         assertThrows(NullPointerException.class, () -> ticketSerializationManager.deserializeTicket(StringUtils.EMPTY, mock(Ticket.class).getClass()));
     }
+
+    @Test
+    void verifyDeserializeByTypeName() throws Exception {
+        val factory = (TicketGrantingTicketFactory) this.defaultTicketFactory.get(TicketGrantingTicket.class);
+        val ticket = factory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+        val result = ticketSerializationManager.serializeTicket(ticket);
+        assertEquals(ticket.getId(), ticketSerializationManager.deserializeTicket(result, ticket.getClass().getName()).getId());
+        assertEquals(ticket.getId(), ticketSerializationManager.deserializeTicket(result, TicketGrantingTicket.class.getName()).getId());
+
+        val plan = new DefaultTicketSerializationExecutionPlan();
+        assertEquals(TicketGrantingTicketImpl.class, plan.getTicketType(TicketGrantingTicketImpl.class.getName()));
+        assertEquals(TicketGrantingTicket.class, plan.getTicketType(TicketGrantingTicket.class.getName()));
+        assertThrows(ClassNotFoundException.class, () -> plan.getTicketType("org.example.UnknownTicket"));
+    }
 }
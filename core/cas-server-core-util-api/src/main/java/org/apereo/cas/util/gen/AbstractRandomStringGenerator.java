@@ -1,7 +1,5 @@
 package org.apereo.cas.util.gen;
 
-import org.apereo.cas.util.RandomUtils;
-
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -24,8 +22,10 @@ import java.security.SecureRandom;
 public abstract class AbstractRandomStringGenerator implements RandomStringGenerator {
     /**
      * An instance of secure random to ensure randomness is secure.
+     * Generators share a pool of secure random instances that is striped
+     * by thread, so that concurrent callers do not contend on a single lock.
      */
-    protected final SecureRandom randomizer = RandomUtils.getNativeInstance();
+    protected final SecureRandom randomizer = StripedSecureRandom.getSharedInstance();
 
     /**
      * Default string length before encoding.
@@ -67,7 +67,11 @@ public class DefaultLongNumericGenerator implements LongNumericGenerator {
      * then {@link Long#MAX_VALUE} is returned. Otherwise, the next increment.
      */
     protected long getNextValue() {
-        if (this.count.compareAndSet(Long.MAX_VALUE, 0)) {
+        /*
+         * Read the counter before attempting to wrap it, so that callers
+         * do not pay for a failed compare-and-set on every increment.
+         */
+        if (this.count.get() == Long.MAX_VALUE && this.count.compareAndSet(Long.MAX_VALUE, 0)) {
             return Long.MAX_VALUE;
         }
         return this.count.getAndIncrement();
@@ -0,0 +1,183 @@
+package org.apereo.cas.util.gen;
+
+import org.apereo.cas.util.RandomUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Serial;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link StripedSecureRandom} that spreads requests for random bytes across
+ * a fixed number of independently seeded {@link SecureRandom} instances, each picked by the calling thread,
+ * so that concurrent callers do not contend on the lock of a single shared generator.
+ * Each instance is reseeded from the native entropy source once it has produced a given number of bytes.
+ * <p>
+ * Instances use the algorithm defined by {@link RandomUtils#SYSTEM_PROPERTY_SECURE_RANDOM_ALG}, if any,
+ * or {@value #DEFAULT_ALGORITHM} otherwise.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class StripedSecureRandom extends SecureRandom {
+    /**
+     * Default algorithm for each instance in the pool.
+     */
+    public static final String DEFAULT_ALGORITHM = "DRBG";
+
+    /**
+     * Default number of bytes an instance may produce before it is reseeded.
+     */
+    public static final long DEFAULT_RESEED_INTERVAL_BYTES = 1024 * 1024;
+
+    @Serial
+    private static final long serialVersionUID = -3176584123697414927L;
+
+    private static final int SEED_LENGTH = 32;
+
+    private static final int MAX_STRIPE_COUNT = 64;
+
+    private final transient Stripe[] stripes;
+
+    private final transient SecureRandom seedGenerator;
+
+    @Getter
+    private final long reseedIntervalBytes;
+
+    private final String algorithm;
+
+    private final AtomicLong reseedCount = new AtomicLong();
+
+    public StripedSecureRandom() {
+        this(getDefaultStripeCount(), DEFAULT_RESEED_INTERVAL_BYTES);
+    }
+
+    public StripedSecureRandom(final int stripeCount, final long reseedIntervalBytes) {
+        this.reseedIntervalBytes = reseedIntervalBytes;
+        this.seedGenerator = RandomUtils.getNativeInstance();
+        val requestedAlgorithm = StringUtils.defaultIfBlank(System.getProperty(RandomUtils.SYSTEM_PROPERTY_SECURE_RANDOM_ALG), DEFAULT_ALGORITHM);
+        val count = roundUpToPowerOfTwo(Math.max(1, stripeCount));
+        this.stripes = new Stripe[count];
+        for (var i = 0; i < count; i++) {
+            stripes[i] = new Stripe(createSecureRandom(requestedAlgorithm), new AtomicLong());
+        }
+        this.algorithm = stripes[0].random().getAlgorithm();
+        LOGGER.debug("Created [{}] secure random instance(s) using [{}]", count, algorithm);
+    }
+
+    /**
+     * Gets the instance shared by all random string generators.
+     *
+     * @return the shared instance
+     */
+    public static StripedSecureRandom getSharedInstance() {
+        return SharedInstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Gets number of instances in the pool.
+     *
+     * @return the stripe count
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * Gets number of times an instance in the pool was reseeded.
+     *
+     * @return the reseed count
+     */
+    public long getReseedCount() {
+        return reseedCount.get();
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public void nextBytes(final byte[] bytes) {
+        val stripe = getStripe();
+        stripe.random().nextBytes(bytes);
+        val generated = stripe.generatedBytes().addAndGet(bytes.length);
+        if (generated >= reseedIntervalBytes && stripe.generatedBytes().compareAndSet(generated, 0)) {
+            reseed(stripe);
+        }
+    }
+
+    @Override
+    public byte[] generateSeed(final int numBytes) {
+        return getStripe().random().generateSeed(numBytes);
+    }
+
+    @Override
+    public void setSeed(final byte[] seed) {
+        if (stripes != null) {
+            for (val stripe : stripes) {
+                stripe.random().setSeed(seed);
+            }
+        }
+    }
+
+    @Override
+    public void setSeed(final long seed) {
+        if (stripes != null) {
+            for (val stripe : stripes) {
+                stripe.random().setSeed(seed);
+            }
+        }
+    }
+
+    @Override
+    public void reseed() {
+        for (val stripe : stripes) {
+            reseed(stripe);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + '[' + algorithm + ", " + stripes.length + " stripe(s)]";
+    }
+
+    private Stripe getStripe() {
+        return stripes[(int) (Thread.currentThread().getId() & (stripes.length - 1))];
+    }
+
+    private void reseed(final Stripe stripe) {
+        stripe.random().setSeed(seedGenerator.generateSeed(SEED_LENGTH));
+        reseedCount.incrementAndGet();
+    }
+
+    private static SecureRandom createSecureRandom(final String algorithm) {
+        try {
+            return SecureRandom.getInstance(algorithm);
+        } catch (final NoSuchAlgorithmException e) {
+            LOGGER.trace(e.getMessage(), e);
+            return RandomUtils.getNativeInstance();
+        }
+    }
+
+    private static int getDefaultStripeCount() {
+        return Math.min(MAX_STRIPE_COUNT, Runtime.getRuntime().availableProcessors());
+    }
+
+    private static int roundUpToPowerOfTwo(final int value) {
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    private record Stripe(SecureRandom random, AtomicLong generatedBytes) {
+    }
+
+    private static final class SharedInstanceHolder {
+        private static final StripedSecureRandom INSTANCE = new StripedSecureRandom();
+    }
+}
@@ -0,0 +1,164 @@
+package org.apereo.cas.util.io;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.function.BiConsumer;
+
+/**
+ * This is {@link AppendOnlyJsonFileJournal} that records changes made to a file-backed JSON store
+ * as one JSON document per line. Recording a change costs time proportional to the size of the changed
+ * entry rather than the size of the store. Changes are replayed on top of the last snapshot of the store
+ * when it is loaded, and the journal is truncated once the store compacts its changes into a new snapshot.
+ * An entry without a value records the removal of its key.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ * @param <T> the type of values recorded in the journal
+ */
+@Slf4j
+public class AppendOnlyJsonFileJournal<T> {
+    /**
+     * Minimum number of journal entries before a compaction is due.
+     */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1_000;
+
+    private static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    @Getter
+    private final File file;
+
+    private final ObjectMapper objectMapper;
+
+    private final JavaType entryType;
+
+    private final ObjectWriter writer;
+
+    @Getter
+    private long size;
+
+    private boolean unreadableEntries;
+
+    public AppendOnlyJsonFileJournal(final File file, final ObjectMapper objectMapper, final JavaType valueType) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+        this.entryType = objectMapper.getTypeFactory().constructParametricType(Entry.class, valueType);
+        this.writer = objectMapper.writerFor(entryType).without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    /**
+     * Create a journal that sits next to the given snapshot file.
+     *
+     * @param <T>          the type parameter
+     * @param snapshot     the snapshot file of the store
+     * @param objectMapper the object mapper
+     * @param valueType    the value type
+     * @return the journal
+     */
+    public static <T> AppendOnlyJsonFileJournal<T> forSnapshot(final File snapshot, final ObjectMapper objectMapper,
+                                                               final JavaType valueType) {
+        val journal = new File(snapshot.getParentFile(), snapshot.getName() + JOURNAL_FILE_EXTENSION);
+        return new AppendOnlyJsonFileJournal<>(journal, objectMapper, valueType);
+    }
+
+    /**
+     * Append an entry to the journal.
+     *
+     * @param key   the key
+     * @param value the value, or null if the key is removed
+     * @throws IOException the io exception
+     */
+    public synchronized void append(final String key, final T value) throws IOException {
+        val line = writer.writeValueAsString(new Entry<>(key, value)) + System.lineSeparator();
+        Files.writeString(file.toPath(), line, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        size++;
+    }
+
+    /**
+     * Replay journal entries in the order they were appended.
+     * Entries that cannot be read, such as a partially written last line, are skipped.
+     *
+     * @param consumer the consumer that receives the key and value of each entry
+     * @throws IOException the io exception
+     */
+    public synchronized void replay(final BiConsumer<String, T> consumer) throws IOException {
+        size = 0;
+        unreadableEntries = false;
+        if (!file.exists()) {
+            return;
+        }
+        try (val reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            var line = reader.readLine();
+            while (line != null) {
+                if (StringUtils.isNotBlank(line)) {
+                    try {
+                        final Entry<T> entry = objectMapper.readValue(line, entryType);
+                        consumer.accept(entry.getKey(), entry.getValue());
+                        size++;
+                    } catch (final JsonProcessingException e) {
+                        LOGGER.warn("Skipping unreadable entry in journal [{}]: [{}]", file, e.getMessage());
+                        unreadableEntries = true;
+                    }
+                }
+                line = reader.readLine();
+            }
+        }
+        LOGGER.debug("Replayed [{}] entries from journal [{}]", size, file);
+    }
+
+    /**
+     * Truncate the journal, typically once its entries are compacted into a snapshot.
+     *
+     * @throws IOException the io exception
+     */
+    public synchronized void truncate() throws IOException {
+        Files.deleteIfExists(file.toPath());
+        size = 0;
+        unreadableEntries = false;
+    }
+
+    /**
+     * Whether the journal has grown enough to be compacted into a new snapshot
+     * for a store that holds the given number of entries. Compaction is also due once
+     * unreadable entries are found, so that new entries are not appended after them.
+     *
+     * @param storeSize the store size
+     * @return true/false
+     */
+    public synchronized boolean isCompactionDue(final long storeSize) {
+        return unreadableEntries || size >= Math.max(DEFAULT_COMPACTION_THRESHOLD, storeSize);
+    }
+
+    /**
+     * A single journal entry.
+     *
+     * @param <T> the value type
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static final class Entry<T> {
+        private String key;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private T value;
+    }
+}
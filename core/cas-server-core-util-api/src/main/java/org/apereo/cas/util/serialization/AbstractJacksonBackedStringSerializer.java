@@ -8,6 +8,8 @@ import com.fasterxml.jackson.core.PrettyPrinter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import lombok.AccessLevel;
@@ -56,6 +58,10 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
 
     private ObjectMapper objectMapper;
 
+    private transient ObjectReader objectReader;
+
+    private transient ObjectWriter objectWriter;
+
     protected AbstractJacksonBackedStringSerializer() {
         this(new DefaultPrettyPrinter());
     }
@@ -103,7 +109,7 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
     public void to(final OutputStream out, final T object) {
         FunctionUtils.doUnchecked(__ -> {
             try (val writer = new StringWriter()) {
-                getObjectMapper().writer(this.prettyPrinter).writeValue(writer, object);
+                getObjectWriter().writeValue(writer, object);
                 val hjsonString = isJsonFormat()
                     ? JsonValue.readHjson(writer.toString()).toString(getJsonFormattingOptions())
                     : writer.toString();
@@ -116,7 +122,7 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
     public void to(final Writer out, final T object) {
         FunctionUtils.doUnchecked(__ -> {
             try (val writer = new StringWriter()) {
-                getObjectMapper().writer(this.prettyPrinter).writeValue(writer, object);
+                getObjectWriter().writeValue(writer, object);
                 if (isJsonFormat()) {
                     JsonValue.readHjson(writer.toString()).writeTo(out, getJsonFormattingOptions());
                 } else {
@@ -130,7 +136,7 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
     public void to(final File out, final T object) {
         FunctionUtils.doUnchecked(__ -> {
             try (val writer = new StringWriter()) {
-                getObjectMapper().writer(this.prettyPrinter).writeValue(writer, object);
+                getObjectWriter().writeValue(writer, object);
 
                 if (isJsonFormat()) {
                     try (val fileWriter = Files.newBufferedWriter(out.toPath(), StandardCharsets.UTF_8)) {
@@ -188,6 +194,47 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
         return this.objectMapper;
     }
 
+    /**
+     * Gets the object reader bound to the type to serialize.
+     * The reader is built once and reused, since building it repeatedly
+     * costs more than reading small documents.
+     *
+     * @return the object reader
+     */
+    public ObjectReader getObjectReader() {
+        var reader = this.objectReader;
+        if (reader == null) {
+            reader = getObjectMapper().readerFor(getTypeToSerialize());
+            this.objectReader = reader;
+        }
+        return reader;
+    }
+
+    /**
+     * Gets the object writer bound to the pretty printer.
+     * The writer is built once and reused.
+     *
+     * @return the object writer
+     */
+    public ObjectWriter getObjectWriter() {
+        var writer = this.objectWriter;
+        if (writer == null) {
+            writer = getObjectMapper().writer(this.prettyPrinter);
+            this.objectWriter = writer;
+        }
+        return writer;
+    }
+
+    /**
+     * Whether this serializer reads and writes JSON, which is
+     * otherwise passed through Hjson to allow comments and relaxed syntax.
+     *
+     * @return true/false
+     */
+    public boolean isJsonFormat() {
+        return !(getObjectMapper().getFactory() instanceof YAMLFactory);
+    }
+
     /**
      * Read json from stream.
      *
@@ -231,7 +278,7 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
     protected T readObjectFromString(final String jsonString) {
         try {
             LOGGER.trace("Attempting to consume [{}]", jsonString);
-            return getObjectMapper().readValue(jsonString, getTypeToSerialize());
+            return getObjectReader().readValue(jsonString);
         } catch (final Exception e) {
             LOGGER.error("Cannot read/parse [{}] to deserialize into type [{}]. This may be caused "
                          + "in the absence of a configuration/support module that knows how to interpret the fragment, "
@@ -257,10 +304,6 @@ public abstract class AbstractJacksonBackedStringSerializer<T> implements String
         return null;
     }
 
-    private boolean isJsonFormat() {
-        return !(getObjectMapper().getFactory() instanceof YAMLFactory);
-    }
-
     private Stringify getJsonFormattingOptions() {
         return prettyPrinter instanceof MinimalPrettyPrinter ? Stringify.PLAIN : Stringify.FORMATTED;
     }
@@ -0,0 +1,96 @@
+package org.apereo.cas.util.io;
+
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AppendOnlyJsonFileJournalTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("FileSystem")
+class AppendOnlyJsonFileJournalTests {
+    private static AppendOnlyJsonFileJournal<List<String>> getJournal(final File snapshot) {
+        val mapper = JacksonObjectMapperFactory.builder()
+            .defaultTypingEnabled(false).build().toObjectMapper();
+        return AppendOnlyJsonFileJournal.forSnapshot(snapshot, mapper,
+            mapper.getTypeFactory().constructCollectionType(List.class, String.class));
+    }
+
+    @Test
+    void verifyAppendAndReplay() throws Exception {
+        val snapshot = File.createTempFile("store", ".json");
+        val journal = getJournal(snapshot);
+        assertEquals(new File(snapshot.getParentFile(), snapshot.getName() + ".journal"), journal.getFile());
+
+        journal.append("casuser", List.of("one", "two"));
+        journal.append("other", List.of("three"));
+        journal.append("casuser", List.of("two"));
+        journal.append("other", null);
+        assertEquals(4, journal.getSize());
+
+        val store = new LinkedHashMap<String, List<String>>();
+        val reloaded = getJournal(snapshot);
+        reloaded.replay((key, value) -> {
+            if (value == null) {
+                store.remove(key);
+            } else {
+                store.put(key, value);
+            }
+        });
+        assertEquals(Map.of("casuser", List.of("two")), store);
+        assertEquals(4, reloaded.getSize());
+
+        reloaded.truncate();
+        assertFalse(reloaded.getFile().exists());
+        assertEquals(0, reloaded.getSize());
+        FileUtils.deleteQuietly(snapshot);
+    }
+
+    @Test
+    void verifyUnreadableEntriesSkipped() throws Exception {
+        val snapshot = File.createTempFile("store", ".json");
+        val journal = getJournal(snapshot);
+        journal.append("casuser", List.of("one"));
+        FileUtils.writeStringToFile(journal.getFile(), "{\"key\":\"other\",\"val", StandardCharsets.UTF_8, true);
+
+        val store = new LinkedHashMap<String, List<String>>();
+        journal.replay(store::put);
+        assertEquals(Map.of("casuser", List.of("one")), store);
+        assertEquals(1, journal.getSize());
+        assertTrue(journal.isCompactionDue(0));
+        journal.truncate();
+        assertFalse(journal.isCompactionDue(0));
+        FileUtils.deleteQuietly(snapshot);
+    }
+
+    @Test
+    void verifyCompactionDue() throws Exception {
+        val snapshot = File.createTempFile("store", ".json");
+        val journal = getJournal(snapshot);
+        assertFalse(journal.isCompactionDue(0));
+        for (var i = 0; i < AppendOnlyJsonFileJournal.DEFAULT_COMPACTION_THRESHOLD; i++) {
+            journal.append(String.valueOf(i), List.of());
+        }
+        assertTrue(journal.isCompactionDue(10));
+        val store = new LinkedHashMap<String, List<String>>();
+        journal.replay(store::put);
+        assertTrue(store.values().stream().allMatch(List::isEmpty));
+        assertFalse(journal.isCompactionDue(AppendOnlyJsonFileJournal.DEFAULT_COMPACTION_THRESHOLD * 2L));
+        journal.truncate();
+        FileUtils.deleteQuietly(snapshot);
+    }
+}
@@ -0,0 +1,71 @@
+package org.apereo.cas.util.gen;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link StripedSecureRandomTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Utility")
+class StripedSecureRandomTests {
+
+    @Test
+    void verifyStripesArePowerOfTwo() {
+        assertEquals(1, new StripedSecureRandom(1, StripedSecureRandom.DEFAULT_RESEED_INTERVAL_BYTES).getStripeCount());
+        assertEquals(8, new StripedSecureRandom(5, StripedSecureRandom.DEFAULT_RESEED_INTERVAL_BYTES).getStripeCount());
+        assertEquals(16, new StripedSecureRandom(16, StripedSecureRandom.DEFAULT_RESEED_INTERVAL_BYTES).getStripeCount());
+        assertNotNull(StripedSecureRandom.getSharedInstance().getAlgorithm());
+    }
+
+    @Test
+    void verifyReseedAfterInterval() {
+        val random = new StripedSecureRandom(2, 64);
+        val bytes = new byte[32];
+        random.nextBytes(bytes);
+        assertEquals(0, random.getReseedCount());
+        random.nextBytes(bytes);
+        assertEquals(1, random.getReseedCount());
+        random.reseed();
+        assertEquals(3, random.getReseedCount());
+    }
+
+    @Test
+    void verifyConcurrentGeneration() throws Exception {
+        val random = new StripedSecureRandom(4, 1024);
+        val values = Collections.synchronizedSet(new HashSet<String>());
+        val executor = Executors.newFixedThreadPool(8);
+        try {
+            for (var i = 0; i < 1000; i++) {
+                executor.execute(() -> {
+                    val bytes = new byte[16];
+                    random.nextBytes(bytes);
+                    values.add(HexFormat.of().formatHex(bytes));
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(1000, values.size());
+        assertTrue(random.getReseedCount() > 0);
+    }
+
+    @Test
+    void verifyGeneratorsShareInstance() {
+        val generator = new DefaultRandomStringGenerator();
+        assertSame(StripedSecureRandom.getSharedInstance(), generator.getRandomizer());
+        assertEquals(DefaultRandomStringGenerator.DEFAULT_LENGTH, generator.getNewString().length());
+    }
+}
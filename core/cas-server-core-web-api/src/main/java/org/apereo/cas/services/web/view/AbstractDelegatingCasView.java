@@ -54,18 +54,38 @@ public abstract class AbstractDelegatingCasView extends AbstractCasView {
                                            @Nonnull final HttpServletRequest request,
                                            @Nonnull final HttpServletResponse response) {
 
-        val requestWrapper = new ContentCachingRequestWrapper(request);
-        val responseWrapper = new ContentCachingResponseWrapper(response);
         LOGGER.debug("Preparing the output model [{}] to render view [{}]", model.keySet(), getClass().getSimpleName());
         prepareMergedOutputModel(model, request, response);
         LOGGER.trace("Prepared output model with objects [{}]. Now rendering view...", model.keySet().toArray());
+        if (LOGGER.isDebugEnabled()) {
+            renderAndLogFinalResponse(model, request, response);
+        } else {
+            getView().render(model, request, response);
+        }
+    }
+
+    /**
+     * Render the view into a buffer so the final response can be logged,
+     * and then copy the buffered response body into the response.
+     * This is only done when debug logging is enabled, and otherwise
+     * the view is allowed to write directly to the response.
+     *
+     * @param model    the model
+     * @param request  the request
+     * @param response the response
+     * @throws Exception the exception
+     */
+    protected void renderAndLogFinalResponse(final Map<String, Object> model,
+                                             final HttpServletRequest request,
+                                             final HttpServletResponse response) throws Exception {
+        val requestWrapper = new ContentCachingRequestWrapper(request);
+        val responseWrapper = new ContentCachingResponseWrapper(response);
         try {
             getView().render(model, requestWrapper, responseWrapper);
         } finally {
             val responseArray = responseWrapper.getContentAsByteArray();
             val output = new String(responseArray, responseWrapper.getCharacterEncoding());
-            val message = String.format("Final CAS response for [%s] is:%n%s%n", getView().toString(), output);
-            LOGGER.debug(message);
+            LOGGER.debug("Final CAS response for [{}] is:\n{}\n", getView(), output);
             responseWrapper.copyBodyToResponse();
         }
     }
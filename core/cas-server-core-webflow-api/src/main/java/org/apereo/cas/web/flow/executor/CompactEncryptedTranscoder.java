@@ -0,0 +1,235 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.authentication.DefaultAuthentication;
+import org.apereo.cas.authentication.credential.AbstractCredential;
+import org.apereo.cas.authentication.credential.BasicIdentifiableCredential;
+import org.apereo.cas.authentication.credential.RememberMeUsernamePasswordCredential;
+import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
+import org.apereo.cas.authentication.metadata.BasicCredentialMetadata;
+import org.apereo.cas.authentication.principal.AbstractWebApplicationService;
+import org.apereo.cas.authentication.principal.SimplePrincipal;
+import org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cryptacular.bean.CipherBean;
+import org.springframework.binding.message.Message;
+import org.springframework.binding.message.Severity;
+import org.springframework.util.ClassUtils;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+import org.springframework.webflow.core.collection.LocalParameterMap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * This is {@link CompactEncryptedTranscoder} that encodes the webflow state into a compact binary form
+ * before encryption. Objects are still written using Java serialization, so that custom serialization
+ * logic of the flow execution and its attributes is honored, but class descriptors are never written to the stream.
+ * Classes found in a dictionary of registered class names are written as a small numeric identifier, and all other
+ * classes are written by name; the descriptor of each class is then resolved from the local class on decoding.
+ * The encoded state is optionally compressed using raw deflate at its fastest level, which avoids the header
+ * and checksum of gzip and spends less time compressing data that is typically only a few kilobytes in size.
+ * <p>
+ * All nodes must share the same dictionary of registered classes, and the classes of the encoded
+ * objects must be compatible between nodes, to decode the state produced by another node.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class CompactEncryptedTranscoder extends EncryptedTranscoder {
+    /**
+     * Names of classes commonly found in the webflow state, registered by default.
+     * New entries must only be appended to keep identifiers of existing entries stable.
+     */
+    public static final List<String> DEFAULT_REGISTERED_CLASSES = List.of(
+        ClientFlowExecutionRepository.SerializedFlowExecutionState.class.getName(),
+        "org.springframework.webflow.engine.impl.FlowExecutionImpl",
+        "org.springframework.webflow.engine.impl.FlowExecutionStatus",
+        "org.springframework.webflow.engine.impl.FlowSessionImpl",
+        LocalAttributeMap.class.getName(),
+        LocalParameterMap.class.getName(),
+        Message.class.getName(),
+        Severity.class.getName(),
+        Enum.class.getName(),
+        Number.class.getName(),
+        Boolean.class.getName(),
+        Integer.class.getName(),
+        Long.class.getName(),
+        Double.class.getName(),
+        ArrayList.class.getName(),
+        LinkedList.class.getName(),
+        HashMap.class.getName(),
+        LinkedHashMap.class.getName(),
+        TreeMap.class.getName(),
+        HashSet.class.getName(),
+        LinkedHashSet.class.getName(),
+        TreeSet.class.getName(),
+        AbstractCredential.class.getName(),
+        UsernamePasswordCredential.class.getName(),
+        RememberMeUsernamePasswordCredential.class.getName(),
+        BasicIdentifiableCredential.class.getName(),
+        BasicCredentialMetadata.class.getName(),
+        AbstractWebApplicationService.class.getName(),
+        SimpleWebApplicationServiceImpl.class.getName(),
+        SimplePrincipal.class.getName(),
+        DefaultAuthentication.class.getName());
+
+    private static final int STREAM_VERSION = 1;
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final List<String> registeredClasses;
+
+    private final Map<String, Integer> registeredClassIdentifiers;
+
+    public CompactEncryptedTranscoder(final CipherBean cipherBean) {
+        this(cipherBean, true, DEFAULT_REGISTERED_CLASSES);
+    }
+
+    public CompactEncryptedTranscoder(final CipherBean cipherBean, final boolean compression,
+                                      final List<String> registeredClasses) {
+        super(cipherBean, compression);
+        this.registeredClasses = List.copyOf(registeredClasses);
+        this.registeredClassIdentifiers = new HashMap<>(registeredClasses.size());
+        for (var i = 0; i < this.registeredClasses.size(); i++) {
+            registeredClassIdentifiers.putIfAbsent(this.registeredClasses.get(i), i);
+        }
+    }
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        if (o == null) {
+            return ArrayUtils.EMPTY_BYTE_ARRAY;
+        }
+        val outBuffer = new ByteArrayOutputStream(BUFFER_SIZE);
+        val deflater = compression ? new Deflater(Deflater.BEST_SPEED, true) : null;
+        try (val out = new CompactObjectOutputStream(compression
+            ? new DeflaterOutputStream(outBuffer, deflater, BUFFER_SIZE)
+            : outBuffer)) {
+            writeObjectToOutputStream(o, out);
+        } catch (final NotSerializableException e) {
+            LoggingUtils.warn(LOGGER, e);
+        } finally {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+        return encrypt(outBuffer);
+    }
+
+    @Override
+    @SuppressWarnings("BanSerializableRead")
+    public Object decode(final byte[] encoded) throws IOException {
+        val data = decrypt(encoded);
+        val inflater = compression ? new Inflater(true) : null;
+        try (val inBuffer = new ByteArrayInputStream(data);
+             val in = new CompactObjectInputStream(compression
+                 ? new InflaterInputStream(inBuffer, inflater, BUFFER_SIZE)
+                 : inBuffer)) {
+            return in.readObject();
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new IOException("Deserialization error", e);
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+    }
+
+    private static void writeVarInt(final OutputStream out, final int value) throws IOException {
+        var remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    private static int readVarInt(final InputStream in) throws IOException {
+        var value = 0;
+        for (var shift = 0; shift < Integer.SIZE; shift += 7) {
+            val b = in.read();
+            if (b < 0) {
+                throw new StreamCorruptedException("Unexpected end of class descriptor");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed class descriptor");
+    }
+
+    private final class CompactObjectOutputStream extends ObjectOutputStream {
+        CompactObjectOutputStream(final OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeStreamHeader() throws IOException {
+            writeByte(STREAM_VERSION);
+        }
+
+        @Override
+        protected void writeClassDescriptor(final ObjectStreamClass desc) throws IOException {
+            val identifier = registeredClassIdentifiers.get(desc.getName());
+            if (identifier != null) {
+                writeVarInt(this, identifier + 1);
+            } else {
+                writeVarInt(this, 0);
+                writeUTF(desc.getName());
+            }
+        }
+    }
+
+    private final class CompactObjectInputStream extends ObjectInputStream {
+        CompactObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected void readStreamHeader() throws IOException {
+            val version = readUnsignedByte();
+            if (version != STREAM_VERSION) {
+                throw new StreamCorruptedException("Unsupported stream version " + version);
+            }
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            val identifier = readVarInt(this);
+            if (identifier > registeredClasses.size()) {
+                throw new StreamCorruptedException("Unknown class identifier " + identifier);
+            }
+            val className = identifier == 0 ? readUTF() : registeredClasses.get(identifier - 1);
+            return ObjectStreamClass.lookupAny(ClassUtils.forName(className, ClassUtils.getDefaultClassLoader()));
+        }
+    }
+}
@@ -36,12 +36,12 @@ public class EncryptedTranscoder implements Transcoder {
     /**
      * Handles encryption/decryption details.
      */
-    private final CipherBean cipherBean;
+    protected final CipherBean cipherBean;
 
     /**
      * Flag to indicate whether to Gzip compression before encryption.
      */
-    private final boolean compression;
+    protected final boolean compression;
 
     public EncryptedTranscoder(final CipherBean cipherBean) {
         this(cipherBean, true);
@@ -123,7 +123,14 @@ public class EncryptedTranscoder implements Transcoder {
         }
     }
 
-    private byte[] decrypt(final byte[] encoded) throws IOException {
+    /**
+     * Decrypt.
+     *
+     * @param encoded the encoded
+     * @return the byte [ ]
+     * @throws IOException the io exception
+     */
+    protected byte[] decrypt(final byte[] encoded) throws IOException {
         try {
             return cipherBean.decrypt(encoded);
         } catch (final Exception e) {
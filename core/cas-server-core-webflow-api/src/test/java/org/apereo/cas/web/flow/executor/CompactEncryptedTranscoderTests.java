@@ -0,0 +1,121 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
+
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cryptacular.bean.AEADBlockCipherBean;
+import org.cryptacular.bean.CipherBean;
+import org.cryptacular.bean.KeyStoreFactoryBean;
+import org.cryptacular.generator.sp80038d.RBGNonce;
+import org.cryptacular.io.FileResource;
+import org.cryptacular.spec.AEADBlockCipherSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test cases for {@link CompactEncryptedTranscoder}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Webflow")
+class CompactEncryptedTranscoderTests {
+    private CipherBean cipherBean;
+
+    private static LocalAttributeMap<Object> getFlowScope() {
+        val flowScope = new LocalAttributeMap<>();
+        flowScope.put("credential", new UsernamePasswordCredential("casuser", "Mellon"));
+        flowScope.put("service", "https://app.example.org/login?param=value");
+        val messages = new LinkedHashMap<String, List<String>>();
+        messages.put("warnings", new ArrayList<>(List.of("password.expiring", "account.locked")));
+        flowScope.put("messages", messages);
+        flowScope.put("attempts", 3);
+        flowScope.put("warnCookie", Boolean.TRUE);
+        return flowScope;
+    }
+
+    @BeforeEach
+    public void setup() throws Exception {
+        val ksFactory = new KeyStoreFactoryBean();
+        ksFactory.setResource(new FileResource(new File("src/test/resources/test-keystore.jceks")));
+        ksFactory.setType("JCEKS");
+        ksFactory.setPassword("changeit");
+
+        val cipher = new AEADBlockCipherBean();
+        cipher.setBlockCipherSpec(new AEADBlockCipherSpec("AES", "GCM"));
+        cipher.setKeyStore(ksFactory.newInstance());
+        cipher.setKeyAlias("aes128");
+        cipher.setKeyPassword("changeit");
+        cipher.setNonce(new RBGNonce());
+        this.cipherBean = cipher;
+    }
+
+    @Test
+    void verifyEncodeDecode() throws Exception {
+        val transcoder = new CompactEncryptedTranscoder(cipherBean);
+        val flowScope = getFlowScope();
+        val decoded = (LocalAttributeMap<Object>) transcoder.decode(transcoder.encode(flowScope));
+        assertEquals(flowScope, decoded);
+        assertEquals("casuser", decoded.get("credential", UsernamePasswordCredential.class).getUsername());
+
+        val url = new URL("https://maps.google.com/maps?f=q&source=s_q&hl=en&geocode=&q=1600+Pennsylvania+Avenue");
+        assertEquals(url, transcoder.decode(transcoder.encode(url)));
+    }
+
+    @Test
+    void verifyEncodeDecodeWithoutCompression() throws Exception {
+        val transcoder = new CompactEncryptedTranscoder(cipherBean, false, CompactEncryptedTranscoder.DEFAULT_REGISTERED_CLASSES);
+        val flowScope = getFlowScope();
+        assertEquals(flowScope, transcoder.decode(transcoder.encode(flowScope)));
+        val array = new String[]{"one", "two"};
+        assertArrayEquals(array, (String[]) transcoder.decode(transcoder.encode(array)));
+    }
+
+    @Test
+    void verifyEncodingIsSmaller() throws Exception {
+        val flowScope = getFlowScope();
+        val compact = new CompactEncryptedTranscoder(cipherBean).encode(flowScope);
+        val serialized = new EncryptedTranscoder(cipherBean).encode(flowScope);
+        assertTrue(compact.length < serialized.length);
+
+        val compactUncompressed = new CompactEncryptedTranscoder(cipherBean, false, List.of()).encode(flowScope);
+        val serializedUncompressed = new EncryptedTranscoder(cipherBean, false).encode(flowScope);
+        assertTrue(compactUncompressed.length < serializedUncompressed.length);
+    }
+
+    @Test
+    void verifyDictionaryMismatch() throws Exception {
+        val flowScope = getFlowScope();
+        val encoded = new CompactEncryptedTranscoder(cipherBean).encode(flowScope);
+        val transcoder = new CompactEncryptedTranscoder(cipherBean, true, List.of());
+        assertThrows(IOException.class, () -> transcoder.decode(encoded));
+        assertThrows(IOException.class, () -> transcoder.decode(new EncryptedTranscoder(cipherBean).encode(flowScope)));
+    }
+
+    @Test
+    void verifyBadEncoding() throws Exception {
+        val encoder = new CompactEncryptedTranscoder(mock(CipherBean.class));
+        assertNotNull(encoder.encode(null));
+        assertNull(encoder.encode(new Object()));
+    }
+
+    @Test
+    void verifyBadDecoding() {
+        val encoder = new CompactEncryptedTranscoder(mock(CipherBean.class));
+        assertThrows(IOException.class, () -> encoder.decode(null));
+        assertThrows(IOException.class, () -> encoder.decode(ArrayUtils.EMPTY_BYTE_ARRAY));
+    }
+}
@@ -21,7 +21,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -44,6 +47,8 @@ public abstract class AbstractCachingPrincipalAttributesRepositoryTests {
 
     private Principal principal;
 
+    private IPersonAttributes person;
+
     @BeforeEach
     public void initialize() {
         attributes = new HashMap<>();
@@ -58,7 +63,7 @@ public abstract class AbstractCachingPrincipalAttributesRepositoryTests {
         attributes.put("username", List.of("uid"));
 
         this.dao = mock(IPersonAttributeDao.class);
-        val person = mock(IPersonAttributes.class);
+        person = mock(IPersonAttributes.class);
         when(person.getName()).thenReturn("uid");
         when(person.getAttributes()).thenReturn(attributes);
         when(dao.getPerson(any(String.class), any(), any(IPersonAttributeDaoFilter.class))).thenReturn(person);
@@ -136,5 +141,32 @@ public abstract class AbstractCachingPrincipalAttributesRepositoryTests {
         }
     }
 
+    @Test
+    void verifyConcurrentFetchesAreCoalesced() throws Exception {
+        when(dao.getPeople(any(Map.class), any(IPersonAttributeDaoFilter.class))).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return Set.of(person);
+        });
+        val svc = CoreAuthenticationTestUtils.getRegisteredService();
+        val executor = Executors.newFixedThreadPool(4);
+        try (val repository = getPrincipalAttributesRepository(TimeUnit.SECONDS.name(), 5)) {
+            repository.setAttributeRepositoryIds(Set.of("Stub"));
+            val latch = new CountDownLatch(1);
+            val results = IntStream.range(0, 4)
+                .mapToObj(i -> executor.submit(() -> {
+                    latch.await();
+                    return repository.getAttributes(principal, svc);
+                }))
+                .toList();
+            latch.countDown();
+            for (val result : results) {
+                assertTrue(result.get().containsKey(MAIL));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(dao, times(1)).getPeople(any(Map.class), any(IPersonAttributeDaoFilter.class));
+    }
+
     protected abstract AbstractPrincipalAttributesRepository getPrincipalAttributesRepository(String unit, long duration);
 }
@@ -17,15 +17,19 @@ import org.apereo.inspektr.audit.AuditTrailManager;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.time.LocalDate;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -40,6 +44,10 @@ import java.util.stream.Collectors;
 @Slf4j
 @SuppressWarnings("JavaUtilDate")
 public record DynamoDbAuditTrailManagerFacilitator(AuditDynamoDbProperties dynamoDbProperties, DynamoDbClient amazonDynamoDBClient) {
+    private static final int MAX_BATCH_WRITE_REQUESTS = 25;
+
+    private static final int MAX_BATCH_WRITE_ATTEMPTS = 3;
+
     /**
      * Build table attribute values map.
      *
@@ -95,6 +103,40 @@ public record DynamoDbAuditTrailManagerFacilitator(AuditDynamoDbProperties dynam
         LOGGER.debug("Record added with result [{}]", putItemResult);
     }
 
+    /**
+     * Save the records in batches of write requests.
+     * Records that share the same principal overwrite one another, as they would
+     * if they were saved one at a time, so only the last record is kept.
+     * Unprocessed records are resubmitted a few times before they are saved individually.
+     *
+     * @param records the records
+     */
+    public void save(final List<? extends AuditActionContext> records) {
+        val requests = records
+            .stream()
+            .collect(Collectors.toMap(AuditActionContext::getPrincipal,
+                record -> WriteRequest.builder().putRequest(PutRequest.builder().item(buildTableAttributeValuesMap(record)).build()).build(),
+                (first, second) -> second, LinkedHashMap::new))
+            .values()
+            .stream()
+            .toList();
+        for (var index = 0; index < requests.size(); index += MAX_BATCH_WRITE_REQUESTS) {
+            val batch = requests.subList(index, Math.min(index + MAX_BATCH_WRITE_REQUESTS, requests.size()));
+            var unprocessed = Map.of(dynamoDbProperties.getTableName(), batch);
+            for (var attempt = 0; attempt < MAX_BATCH_WRITE_ATTEMPTS && !unprocessed.isEmpty(); attempt++) {
+                LOGGER.debug("Submitting batch write request for [{}] record(s)", unprocessed.values().stream().mapToInt(List::size).sum());
+                val result = amazonDynamoDBClient.batchWriteItem(BatchWriteItemRequest.builder().requestItems(unprocessed).build());
+                unprocessed = result.hasUnprocessedItems() ? result.unprocessedItems() : Map.of();
+            }
+            unprocessed.values().stream()
+                .flatMap(List::stream)
+                .forEach(request -> amazonDynamoDBClient.putItem(PutItemRequest.builder()
+                    .tableName(dynamoDbProperties.getTableName())
+                    .item(request.putRequest().item())
+                    .build()));
+        }
+    }
+
     /**
      * Remove all.
      */
@@ -0,0 +1,95 @@
+package org.apereo.cas.audit;
+
+import org.apereo.cas.audit.spi.AbstractAuditTrailManager;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.audit.support.JdbcAuditTrailManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This is {@link BatchingJdbcAuditTrailManager} that saves queued audit records
+ * in batches using a single multi-row insert per batch. Saving individual records,
+ * querying and cleaning up the audit table is delegated to {@link JdbcAuditTrailManager}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class BatchingJdbcAuditTrailManager extends AbstractAuditTrailManager {
+    private static final String INSERT_SQL_TEMPLATE = "INSERT INTO %s "
+        + "(AUD_USER, AUD_CLIENT_IP, AUD_SERVER_IP, AUD_RESOURCE, AUD_ACTION, APPLIC_CD, AUD_USERAGENT, AUD_DATE) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcAuditTrailManager auditTrailManager;
+
+    private final TransactionOperations transactionTemplate;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String insertSql;
+
+    private final int columnLength;
+
+    public BatchingJdbcAuditTrailManager(final JdbcAuditTrailManager auditTrailManager,
+                                         final TransactionOperations transactionTemplate,
+                                         final DataSource dataSource,
+                                         final String tableName,
+                                         final int columnLength,
+                                         final boolean asynchronous) {
+        super(asynchronous);
+        this.auditTrailManager = auditTrailManager;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.insertSql = String.format(INSERT_SQL_TEMPLATE, tableName);
+        this.columnLength = columnLength;
+    }
+
+    @Override
+    protected void saveAuditRecord(final AuditActionContext audit) {
+        auditTrailManager.record(audit);
+    }
+
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        LOGGER.trace("Inserting [{}] audit records", audits.size());
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.batchUpdate(insertSql, audits, audits.size(), (statement, audit) -> {
+                statement.setString(1, truncate(audit.getPrincipal()));
+                statement.setString(2, audit.getClientIpAddress());
+                statement.setString(3, audit.getServerIpAddress());
+                statement.setString(4, truncate(audit.getResourceOperatedUpon()));
+                statement.setString(5, truncate(audit.getActionPerformed()));
+                statement.setString(6, audit.getApplicationCode());
+                statement.setString(7, audit.getUserAgent());
+                statement.setTimestamp(8, new Timestamp(audit.getWhenActionWasPerformed().getTime()));
+            }));
+    }
+
+    @Override
+    public Set<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
+        return auditTrailManager.getAuditRecords(whereClause);
+    }
+
+    @Override
+    public void removeAll() {
+        auditTrailManager.removeAll();
+    }
+
+    @Override
+    public void clean() {
+        auditTrailManager.clean();
+    }
+
+    private String truncate(final String value) {
+        return columnLength > 0 ? StringUtils.truncate(value, columnLength) : value;
+    }
+}
@@ -11,9 +11,12 @@ import lombok.val;
 import org.apereo.inspektr.audit.AuditActionContext;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -53,6 +56,10 @@ public class RedisAuditTrailManager extends AbstractAuditTrailManager {
         return CAS_AUDIT_CONTEXT_PREFIX + '*';
     }
 
+    private static String getAuditRedisKey(final AuditActionContext audit) {
+        return getPatternAuditRedisKey(String.valueOf(audit.getWhenActionWasPerformed().getTime()), audit.getPrincipal());
+    }
+
     @Override
     public Set<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
         val localDate = (LocalDate) whereClause.get(WhereClauseFields.DATE);
@@ -80,8 +87,17 @@ public class RedisAuditTrailManager extends AbstractAuditTrailManager {
 
     @Override
     protected void saveAuditRecord(final AuditActionContext audit) {
-        val redisKey = getPatternAuditRedisKey(String.valueOf(audit.getWhenActionWasPerformed().getTime()), audit.getPrincipal());
-        this.redisTemplate.boundValueOps(redisKey).set(audit);
+        this.redisTemplate.boundValueOps(getAuditRedisKey(audit)).set(audit);
+    }
+
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        val records = audits
+            .stream()
+            .collect(Collectors.toMap(RedisAuditTrailManager::getAuditRedisKey, Function.identity(),
+                (first, second) -> second, LinkedHashMap::new));
+        LOGGER.trace("Saving [{}] audit records", records.size());
+        this.redisTemplate.opsForValue().multiSet(records);
     }
 
     private Stream<String> getAuditRedisKeys() {
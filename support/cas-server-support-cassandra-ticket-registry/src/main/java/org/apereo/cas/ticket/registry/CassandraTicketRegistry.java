@@ -8,14 +8,20 @@ import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
-import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
-import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -23,19 +29,29 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.cassandra.core.cql.BeanPropertyRowMapper;
+import org.springframework.data.cassandra.core.cql.RowMapper;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * This is {@link CassandraTicketRegistry}.
+ * All queries are executed as prepared statements that are prepared once and reused.
+ * Ticket-granting tickets are also written, along with the ticket, into lookup tables that are
+ * keyed by principal id and by the name and value of configured attributes, so that sessions can be found
+ * for a principal or by those attributes by reading a single partition instead of scanning the cluster.
+ * Principal ids are recorded in lower case, since sessions are counted regardless of case.
+ * The lookup keys are also recorded with the ticket, so updates only rewrite lookup rows when the keys change.
  *
  * @author Misagh Moayyed
  * @author doomviking
@@ -43,13 +59,23 @@ import java.util.stream.Stream;
  */
 @Slf4j
 public class CassandraTicketRegistry extends AbstractTicketRegistry implements DisposableBean, InitializingBean {
-    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
-        .defaultTypingEnabled(false).build().toObjectMapper();
+    private static final int MAX_PENDING_WRITES = 100;
+
+    private static final String PRINCIPALS_TABLE_SUFFIX = "_principals";
+
+    private static final String ATTRIBUTES_TABLE_SUFFIX = "_attributes";
+
+    private static final RowMapper<CassandraTicketHolder> TICKET_ROW_MAPPER = new BeanPropertyRowMapper<>(CassandraTicketHolder.class, true);
+
+    private static final RowMapper<TicketLookupEntry> LOOKUP_ROW_MAPPER =
+        (row, rowNum) -> new TicketLookupEntry(row.getString("id"), row.getString("prefix"));
 
     private final CassandraSessionFactory cassandraSessionFactory;
 
     private final CassandraTicketRegistryProperties properties;
 
+    private final Map<String, PreparedStatement> preparedStatements = new ConcurrentHashMap<>();
+
     public CassandraTicketRegistry(final CipherExecutor cipherExecutor,
                                    final TicketSerializationManager ticketSerializationManager,
                                    final TicketCatalog ticketCatalog,
@@ -70,6 +96,11 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
         return ttl.intValue();
     }
 
+    private static void waitForWrites(final List<CompletableFuture<AsyncResultSet>> pendingWrites) {
+        CompletableFuture.allOf(pendingWrites.toArray(CompletableFuture[]::new)).join();
+        pendingWrites.clear();
+    }
+
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
         LOGGER.trace("Locating ticket [{}]", ticketId);
@@ -102,12 +133,55 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
 
     @Override
     public void addTicketInternal(final Ticket ticket) throws Exception {
-        addTicketToCassandra(ticket, true);
+        val statement = buildInsertStatement(ticket);
+        cassandraSessionFactory.getCqlTemplate().execute(statement);
+        LOGGER.debug("Added ticket [{}]", ticket.getId());
+    }
+
+    @Override
+    public void addTicket(final Stream<? extends Ticket> toSave) throws Exception {
+        val pendingWrites = new ArrayList<CompletableFuture<AsyncResultSet>>();
+        val iterator = toSave.iterator();
+        while (iterator.hasNext()) {
+            val ticket = iterator.next();
+            if (ticket != null && !ticket.isExpired()) {
+                val statement = buildInsertStatement(ticket);
+                pendingWrites.add(cassandraSessionFactory.getSession().executeAsync(statement).toCompletableFuture());
+                if (pendingWrites.size() >= MAX_PENDING_WRITES) {
+                    waitForWrites(pendingWrites);
+                }
+            }
+        }
+        waitForWrites(pendingWrites);
     }
 
     @Override
     public Ticket updateTicket(final Ticket ticket) throws Exception {
-        addTicketToCassandra(ticket, false);
+        LOGGER.debug("Updating ticket [{}]", ticket.getId());
+        val metadata = ticketCatalog.find(ticket);
+        val encTicket = encodeTicket(ticket);
+        val data = ticketSerializationManager.serializeTicket(encTicket);
+        val ttl = getTimeToLive(ticket);
+        val update = bind("UPDATE %s USING TTL ? SET data = ?, attributes = ? WHERE id = ? AND type = ?;"
+                .formatted(getTableName(metadata)),
+            ttl, data, getEncodedAttributes(ticket), encTicket.getId(), encTicket.getClass().getName());
+        if (ticket instanceof TicketGrantingTicket) {
+            val lookupKeys = getLookupKeys(ticket);
+            val storedLookupKeys = findStoredLookupKeys(metadata, encTicket.getId(), encTicket.getClass().getName());
+            if (lookupKeys.equals(storedLookupKeys)) {
+                cassandraSessionFactory.getCqlTemplate().execute(update);
+            } else {
+                LOGGER.debug("Lookup keys of ticket [{}] have changed; rewriting lookup rows", encTicket.getId());
+                val statements = new ArrayList<BatchableStatement<?>>();
+                statements.add(update);
+                statements.add(buildLookupKeysUpdateStatement(metadata, lookupKeys, encTicket, ttl));
+                statements.addAll(buildLookupUpdateStatements(storedLookupKeys, lookupKeys, ticket, encTicket.getId(), ttl));
+                cassandraSessionFactory.getCqlTemplate().execute(configure(BatchStatement.newInstance(BatchType.LOGGED, statements)));
+            }
+        } else {
+            cassandraSessionFactory.getCqlTemplate().execute(update);
+        }
+        LOGGER.debug("Updated ticket [{}]", encTicket.getId());
         return ticket;
     }
 
@@ -136,31 +210,31 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
         val ticketId = digestIdentifier(ticketToDelete.getId());
         LOGGER.debug("Deleting ticket [{}]", ticketId);
         val definition = ticketCatalog.find(ticketToDelete);
-        val delete = QueryBuilder
-            .deleteFrom(properties.getKeyspace(), definition.getProperties().getStorageName())
-            .whereColumn("id").isEqualTo(QueryBuilder.literal(ticketId))
-            .build()
-            .setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
-            .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
-            .setTimeout(Beans.newDuration(properties.getTimeout()));
-        cassandraSessionFactory.getCqlTemplate().execute(delete);
+        val delete = bind("DELETE FROM %s WHERE id = ?;".formatted(getTableName(definition)), ticketId);
+        if (ticketToDelete instanceof TicketGrantingTicket) {
+            val statements = new ArrayList<BatchableStatement<?>>();
+            statements.add(delete);
+            statements.addAll(buildLookupDeleteStatements(ticketToDelete, ticketId));
+            cassandraSessionFactory.getCqlTemplate().execute(configure(BatchStatement.newInstance(BatchType.LOGGED, statements)));
+        } else {
+            cassandraSessionFactory.getCqlTemplate().execute(delete);
+        }
         return 1;
     }
 
     @Override
     public long deleteAll() {
-        ticketCatalog.findAll()
+        val tables = ticketCatalog.findAll()
             .stream()
-            .map(definition -> QueryBuilder
-                .truncate(properties.getKeyspace(), definition.getProperties().getStorageName())
-                .build()
-                .setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
-                .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
-                .setTimeout(Beans.newDuration(properties.getTimeout())))
-            .forEach(delete -> {
-                LOGGER.trace("Attempting to delete all via query [{}]", delete);
-                cassandraSessionFactory.getCqlTemplate().execute(delete);
-            });
+            .map(this::getTableName)
+            .collect(Collectors.toCollection(ArrayList::new));
+        tables.add(getLookupTableName(PRINCIPALS_TABLE_SUFFIX));
+        tables.add(getLookupTableName(ATTRIBUTES_TABLE_SUFFIX));
+        tables.forEach(table -> {
+            val truncate = configure(SimpleStatement.newInstance("TRUNCATE %s;".formatted(table)));
+            LOGGER.trace("Attempting to delete all via query [{}]", truncate.getQuery());
+            cassandraSessionFactory.getCqlTemplate().execute(truncate);
+        });
         return -1;
     }
 
@@ -175,25 +249,40 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
             });
     }
 
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return findSessionsBy(principalId)
+            .filter(ticket -> getPrincipalIdFrom(ticket).equalsIgnoreCase(principalId))
+            .count();
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        return findSessionsBy(principalId)
+            .filter(ticket -> getPrincipalIdFrom(ticket).equals(principalId));
+    }
+
     @Override
     public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
+        val indexedAttributes = properties.getIndexedAttributes();
+        if (!indexedAttributes.containsAll(queryAttributes.keySet())) {
+            LOGGER.debug("Attributes [{}] are not all indexed by [{}]; ticket-granting tickets will be scanned",
+                queryAttributes.keySet(), indexedAttributes);
+            return super.getSessionsWithAttributes(queryAttributes);
+        }
         val metadata = ticketCatalog.findTicketDefinition(TicketGrantingTicket.class).orElseThrow();
-        val queryList = new ArrayList<String>();
-        queryAttributes.forEach((key, values) ->
-            values.forEach(queryValue -> {
-                var cql = "SELECT * FROM %s.%s WHERE prefix='%s' AND ".formatted(properties.getKeyspace(), metadata.getProperties().getStorageName(), metadata.getPrefix());
-                cql += "attributes CONTAINS KEY '%s' AND attributes CONTAINS '%s' ALLOW FILTERING;".formatted(digestIdentifier(key), digestIdentifier(queryValue.toString()));
-                queryList.add(cql);
-            }));
-        val rowMapper = new BeanPropertyRowMapper<>(CassandraTicketHolder.class, true);
-        return queryList
+        val query = "SELECT id, prefix FROM %s WHERE attribute_name = ? AND attribute_value = ?;"
+            .formatted(getLookupTableName(ATTRIBUTES_TABLE_SUFFIX));
+        val statements = new ArrayList<BoundStatement>();
+        queryAttributes.forEach((key, values) -> values.forEach(queryValue ->
+            statements.add(bind(query, digestIdentifier(key), digestIdentifier(queryValue.toString())))));
+        return statements
             .stream()
-            .flatMap(query -> cassandraSessionFactory.getCqlTemplate().queryForStream(query, rowMapper))
+            .flatMap(select -> cassandraSessionFactory.getCqlTemplate().queryForStream(select, LOOKUP_ROW_MAPPER))
+            .filter(entry -> metadata.getPrefix().equals(entry.prefix()))
             .distinct()
-            .map(holder -> {
-                val result = deserialize(holder);
-                return decodeTicket(result);
-            })
+            .map(this::findTicketBy)
+            .filter(Objects::nonNull)
             .filter(ticket -> !ticket.isExpired());
     }
 
@@ -211,33 +300,51 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
         return ticketSerializationManager.deserializeTicket(holder.getData(), holder.getType());
     }
 
+    private Stream<Ticket> findSessionsBy(final String principalId) {
+        if (StringUtils.isBlank(principalId)) {
+            return Stream.empty();
+        }
+        val select = bind("SELECT id, prefix FROM %s WHERE principal = ?;".formatted(getLookupTableName(PRINCIPALS_TABLE_SUFFIX)),
+            getLookupPrincipal(principalId));
+        return cassandraSessionFactory.getCqlTemplate()
+            .queryForStream(select, LOOKUP_ROW_MAPPER)
+            .map(this::findTicketBy)
+            .filter(Objects::nonNull)
+            .filter(ticket -> !ticket.isExpired());
+    }
+
+    private String getLookupPrincipal(final String principalId) {
+        return digestIdentifier(StringUtils.lowerCase(principalId, Locale.ENGLISH));
+    }
+
+    private Ticket findTicketBy(final TicketLookupEntry entry) {
+        val definition = ticketCatalog.find(entry.prefix());
+        if (definition == null) {
+            return null;
+        }
+        return findCassandraTicketBy(definition, entry.id())
+            .stream()
+            .findFirst()
+            .map(holder -> decodeTicket(deserialize(holder)))
+            .orElse(null);
+    }
+
     private Collection<CassandraTicketHolder> findCassandraTicketBy(final TicketDefinition definition) {
         return findCassandraTicketBy(definition, null);
     }
 
     private Collection<CassandraTicketHolder> findCassandraTicketBy(final TicketDefinition definition, final String ticketId) {
-        val builder = QueryBuilder.selectFrom(properties.getKeyspace(), definition.getProperties().getStorageName()).all();
-        if (StringUtils.isNotBlank(ticketId)) {
-            builder.whereColumn("id").isEqualTo(QueryBuilder.literal(ticketId)).limit(1);
-        }
-        val select = builder.build()
-            .setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
-            .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
-            .setTimeout(Beans.newDuration(properties.getTimeout()));
-        LOGGER.trace("Attempting to locate ticket via query [{}]", select);
-        val rowMapper = new BeanPropertyRowMapper<>(CassandraTicketHolder.class, true);
-        return cassandraSessionFactory.getCqlTemplate().query(select, rowMapper);
+        val select = StringUtils.isNotBlank(ticketId)
+            ? bind("SELECT * FROM %s WHERE id = ? LIMIT 1;".formatted(getTableName(definition)), ticketId)
+            : bind("SELECT * FROM %s;".formatted(getTableName(definition)));
+        LOGGER.trace("Attempting to locate ticket via query [{}]", select.getPreparedStatement().getQuery());
+        return cassandraSessionFactory.getCqlTemplate().query(select, TICKET_ROW_MAPPER);
     }
 
     private Stream<CassandraTicketHolder> streamCassandraTicketBy(final TicketDefinition definition) {
-        val builder = QueryBuilder.selectFrom(properties.getKeyspace(), definition.getProperties().getStorageName()).all();
-        val select = builder.build()
-            .setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
-            .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
-            .setTimeout(Beans.newDuration(properties.getTimeout()));
-        LOGGER.trace("Attempting to locate ticket via query [{}]", select);
-        val rowMapper = new BeanPropertyRowMapper<>(CassandraTicketHolder.class, true);
-        return cassandraSessionFactory.getCqlTemplate().queryForStream(select, rowMapper);
+        val select = bind("SELECT * FROM %s;".formatted(getTableName(definition)));
+        LOGGER.trace("Attempting to locate ticket via query [{}]", select.getPreparedStatement().getQuery());
+        return cassandraSessionFactory.getCqlTemplate().queryForStream(select, TICKET_ROW_MAPPER);
     }
 
     private void createTablesIfNecessary() {
@@ -250,48 +357,217 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
             .stream()
             .filter(metadata -> StringUtils.isNotBlank(metadata.getProperties().getStorageName()))
             .forEach(metadata -> {
-                if (properties.isDropTablesOnStartup()) {
-                    val drop = "DROP TABLE IF EXISTS %s.%s;".formatted(properties.getKeyspace(), metadata.getProperties().getStorageName());
-                    LOGGER.trace("Dropping Cassandra table with query [{}]", drop);
-                    cassandraSessionFactory.getCqlTemplate().execute(drop);
-                }
-                val createTable = "CREATE TABLE IF NOT EXISTS %s.%s(id text,type text,prefix text,attributes map<text, text>,data text, PRIMARY KEY(id,type));"
-                    .formatted(properties.getKeyspace(), metadata.getProperties().getStorageName());
+                dropTableIfNecessary(getTableName(metadata));
+                val createTable = ("CREATE TABLE IF NOT EXISTS %s(id text,type text,prefix text,attributes map<text, text>,data text,"
+                                   + "lookup_principal text,lookup_attributes map<text, frozen<set<text>>>, PRIMARY KEY(id,type));")
+                    .formatted(getTableName(metadata));
                 LOGGER.trace("Creating Cassandra table with query [{}]", createTable);
                 cassandraSessionFactory.getCqlTemplate().execute(createTable);
-
-                cassandraSessionFactory.getCqlTemplate().execute("DROP INDEX IF EXISTS " + metadata.getProperties().getStorageName() + "_entries_index");
-                val createIndexAttributeNames = "CREATE INDEX " + metadata.getProperties().getStorageName() + "_entries_index ON "
-                                                + properties.getKeyspace() + '.' + metadata.getProperties().getStorageName() + " (ENTRIES(attributes));";
-                LOGGER.trace("Creating Cassandra index with query [{}]", createIndexAttributeNames);
-                cassandraSessionFactory.getCqlTemplate().execute(createIndexAttributeNames);
-
-                cassandraSessionFactory.getCqlTemplate().execute("DROP INDEX IF EXISTS " + metadata.getProperties().getStorageName() + "_values_index");
-                val createIndexAttributeValues = "CREATE INDEX " + metadata.getProperties().getStorageName() + "_values_index ON "
-                                                 + properties.getKeyspace() + '.' + metadata.getProperties().getStorageName() + " (VALUES(attributes));";
-                LOGGER.trace("Creating Cassandra index with query [{}]", createIndexAttributeValues);
-                cassandraSessionFactory.getCqlTemplate().execute(createIndexAttributeValues);
-
-                cassandraSessionFactory.getCqlTemplate().execute("DROP INDEX IF EXISTS " + metadata.getProperties().getStorageName() + "_keys_index");
-                val createIndexAttributeNames3 = "CREATE INDEX " + metadata.getProperties().getStorageName() + "_keys_index ON "
-                                                 + properties.getKeyspace() + '.' + metadata.getProperties().getStorageName() + " (KEYS(attributes));";
-                LOGGER.trace("Creating Cassandra index with query [{}]", createIndexAttributeNames3);
-                cassandraSessionFactory.getCqlTemplate().execute(createIndexAttributeNames3);
+                addColumnIfNecessary(metadata, "lookup_principal", "text");
+                addColumnIfNecessary(metadata, "lookup_attributes", "map<text, frozen<set<text>>>");
+
+                Stream.of("_entries_index", "_values_index", "_keys_index").forEach(suffix -> {
+                    val dropIndex = "DROP INDEX IF EXISTS %s.%s%s;".formatted(properties.getKeyspace(), metadata.getProperties().getStorageName(), suffix);
+                    LOGGER.trace("Dropping Cassandra index no longer used for queries with query [{}]", dropIndex);
+                    cassandraSessionFactory.getCqlTemplate().execute(dropIndex);
+                });
             });
+
+        dropTableIfNecessary(getLookupTableName(PRINCIPALS_TABLE_SUFFIX));
+        val createPrincipals = "CREATE TABLE IF NOT EXISTS %s(principal text,id text,prefix text, PRIMARY KEY(principal,id));"
+            .formatted(getLookupTableName(PRINCIPALS_TABLE_SUFFIX));
+        LOGGER.trace("Creating Cassandra table with query [{}]", createPrincipals);
+        cassandraSessionFactory.getCqlTemplate().execute(createPrincipals);
+
+        dropTableIfNecessary(getLookupTableName(ATTRIBUTES_TABLE_SUFFIX));
+        val createAttributes = "CREATE TABLE IF NOT EXISTS %s(attribute_name text,attribute_value text,id text,prefix text, "
+                               + "PRIMARY KEY((attribute_name,attribute_value),id));";
+        LOGGER.trace("Creating Cassandra table with query [{}]", createAttributes);
+        cassandraSessionFactory.getCqlTemplate().execute(createAttributes.formatted(getLookupTableName(ATTRIBUTES_TABLE_SUFFIX)));
+    }
+
+    private void addColumnIfNecessary(final TicketDefinition metadata, final String column, final String type) {
+        val table = cassandraSessionFactory.getSession().getMetadata()
+            .getKeyspace(properties.getKeyspace())
+            .flatMap(keyspace -> keyspace.getTable(metadata.getProperties().getStorageName()));
+        if (table.isPresent() && table.get().getColumn(column).isEmpty()) {
+            val alterTable = "ALTER TABLE %s ADD %s %s;".formatted(getTableName(metadata), column, type);
+            LOGGER.trace("Adding column to Cassandra table with query [{}]", alterTable);
+            cassandraSessionFactory.getCqlTemplate().execute(alterTable);
+        }
+    }
+
+    private void dropTableIfNecessary(final String table) {
+        if (properties.isDropTablesOnStartup()) {
+            val drop = "DROP TABLE IF EXISTS %s;".formatted(table);
+            LOGGER.trace("Dropping Cassandra table with query [{}]", drop);
+            cassandraSessionFactory.getCqlTemplate().execute(drop);
+        }
+    }
+
+    private String getTableName(final TicketDefinition definition) {
+        return properties.getKeyspace() + '.' + definition.getProperties().getStorageName();
+    }
+
+    private String getLookupTableName(final String suffix) {
+        val definition = ticketCatalog.findTicketDefinition(TicketGrantingTicket.class).orElseThrow();
+        return getTableName(definition) + suffix;
     }
 
+    private BoundStatement bind(final String query, final Object... values) {
+        val prepared = preparedStatements.computeIfAbsent(query, cql -> cassandraSessionFactory.getSession().prepare(cql));
+        return configure(prepared.bind(values));
+    }
 
-    private void addTicketToCassandra(final Ticket ticket, final boolean inserting) throws Exception {
+    private <T extends Statement<T>> T configure(final T statement) {
+        return statement
+            .setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
+            .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
+            .setTimeout(Beans.newDuration(properties.getTimeout()));
+    }
+
+    private Statement<?> buildInsertStatement(final Ticket ticket) throws Exception {
         LOGGER.debug("Adding ticket [{}]", ticket.getId());
         val metadata = ticketCatalog.find(ticket);
         LOGGER.trace("Located ticket definition [{}] in the ticket catalog", metadata);
         val encTicket = encodeTicket(ticket);
         val data = ticketSerializationManager.serializeTicket(encTicket);
         val ttl = getTimeToLive(ticket);
-        var statement = (SimpleStatement) null;
+        if (ticket instanceof TicketGrantingTicket) {
+            val lookupKeys = getLookupKeys(ticket);
+            val insert = bind(("INSERT INTO %s (id, type, prefix, attributes, data, lookup_principal, lookup_attributes) "
+                               + "VALUES (?, ?, ?, ?, ?, ?, ?) USING TTL ?;").formatted(getTableName(metadata)),
+                encTicket.getId(), encTicket.getClass().getName(), ticket.getPrefix(), getEncodedAttributes(ticket), data,
+                lookupKeys.principal(), lookupKeys.attributes(), ttl);
+            val statements = new ArrayList<BatchableStatement<?>>();
+            statements.add(insert);
+            statements.addAll(buildLookupInsertStatements(lookupKeys, ticket, encTicket.getId(), ttl));
+            return configure(BatchStatement.newInstance(BatchType.LOGGED, statements));
+        }
+        return bind("INSERT INTO %s (id, type, prefix, attributes, data) VALUES (?, ?, ?, ?, ?) USING TTL ?;"
+                .formatted(getTableName(metadata)),
+            encTicket.getId(), encTicket.getClass().getName(), ticket.getPrefix(), getEncodedAttributes(ticket), data, ttl);
+    }
+
+    private List<BoundStatement> buildLookupInsertStatements(final LookupKeys lookupKeys, final Ticket ticket,
+                                                             final String ticketId, final int ttl) {
+        val statements = new ArrayList<BoundStatement>();
+        if (StringUtils.isNotBlank(lookupKeys.principal())) {
+            statements.add(buildPrincipalInsertStatement(lookupKeys.principal(), ticket, ticketId, ttl));
+        }
+        lookupKeys.toAttributePairs().forEach(attribute -> statements.add(buildAttributeInsertStatement(attribute, ticket, ticketId, ttl)));
+        return statements;
+    }
+
+    private List<BoundStatement> buildLookupDeleteStatements(final Ticket ticket, final String ticketId) {
+        val statements = new ArrayList<BoundStatement>();
+        val principal = getLookupPrincipal(getPrincipalIdFrom(ticket));
+        if (StringUtils.isNotBlank(principal)) {
+            statements.add(buildPrincipalDeleteStatement(principal, ticketId));
+        }
+        getLookupAttributes(ticket).forEach(attribute -> statements.add(buildAttributeDeleteStatement(attribute, ticketId)));
+        return statements;
+    }
+
+    /**
+     * Rewrite the lookup rows of a ticket whose lookup keys have changed since it was stored,
+     * i.e. after a multifactor step-up. Rows of the stored keys that no longer apply are deleted,
+     * and the rest are written again with the new expiration. Rows that are written again are not deleted
+     * first, since statements in a batch share a timestamp and the deletion would win.
+     */
+    private List<BoundStatement> buildLookupUpdateStatements(final LookupKeys storedLookupKeys, final LookupKeys lookupKeys,
+                                                             final Ticket ticket, final String ticketId, final int ttl) {
+        val statements = new ArrayList<BoundStatement>();
+        val storedPrincipal = storedLookupKeys.principal();
+        if (StringUtils.isNotBlank(storedPrincipal) && !storedPrincipal.equals(lookupKeys.principal())) {
+            statements.add(buildPrincipalDeleteStatement(storedPrincipal, ticketId));
+        }
+        val attributes = lookupKeys.toAttributePairs();
+        storedLookupKeys.toAttributePairs()
+            .stream()
+            .filter(attribute -> !attributes.contains(attribute))
+            .forEach(attribute -> statements.add(buildAttributeDeleteStatement(attribute, ticketId)));
+        statements.addAll(buildLookupInsertStatements(lookupKeys, ticket, ticketId, ttl));
+        return statements;
+    }
+
+    /**
+     * Record the lookup keys of the ticket along with the ticket, so that later updates can tell
+     * whether lookup rows need to be rewritten without reading and decoding the stored ticket.
+     * The keys share the expiration of the lookup rows written with them; once they expire,
+     * the lookup rows are gone as well and are written again by the next update.
+     */
+    private BoundStatement buildLookupKeysUpdateStatement(final TicketDefinition metadata, final LookupKeys lookupKeys,
+                                                          final Ticket encTicket, final int ttl) {
+        return bind("UPDATE %s USING TTL ? SET lookup_principal = ?, lookup_attributes = ? WHERE id = ? AND type = ?;"
+                .formatted(getTableName(metadata)),
+            ttl, lookupKeys.principal(), lookupKeys.attributes(), encTicket.getId(), encTicket.getClass().getName());
+    }
 
+    private LookupKeys findStoredLookupKeys(final TicketDefinition metadata, final String ticketId, final String type) {
+        val select = bind("SELECT lookup_principal, lookup_attributes FROM %s WHERE id = ? AND type = ?;"
+            .formatted(getTableName(metadata)), ticketId, type);
+        return cassandraSessionFactory.getCqlTemplate()
+            .query(select, (row, rowNum) -> LookupKeys.of(row.getString("lookup_principal"),
+                row.get("lookup_attributes", GenericType.mapOf(GenericType.STRING, GenericType.setOf(GenericType.STRING)))))
+            .stream()
+            .findFirst()
+            .orElseGet(() -> LookupKeys.of(null, null));
+    }
+
+    private LookupKeys getLookupKeys(final Ticket ticket) {
+        val attributes = getLookupAttributes(ticket)
+            .stream()
+            .collect(Collectors.groupingBy(Pair::getKey, Collectors.mapping(Pair::getValue, Collectors.toSet())));
+        return LookupKeys.of(getLookupPrincipal(getPrincipalIdFrom(ticket)), attributes);
+    }
+
+    private BoundStatement buildPrincipalInsertStatement(final String principal, final Ticket ticket, final String ticketId, final int ttl) {
+        return bind("INSERT INTO %s (principal, id, prefix) VALUES (?, ?, ?) USING TTL ?;"
+            .formatted(getLookupTableName(PRINCIPALS_TABLE_SUFFIX)), principal, ticketId, ticket.getPrefix(), ttl);
+    }
+
+    private BoundStatement buildPrincipalDeleteStatement(final String principal, final String ticketId) {
+        return bind("DELETE FROM %s WHERE principal = ? AND id = ?;"
+            .formatted(getLookupTableName(PRINCIPALS_TABLE_SUFFIX)), principal, ticketId);
+    }
+
+    private BoundStatement buildAttributeInsertStatement(final Pair<String, String> attribute, final Ticket ticket,
+                                                         final String ticketId, final int ttl) {
+        return bind("INSERT INTO %s (attribute_name, attribute_value, id, prefix) VALUES (?, ?, ?, ?) USING TTL ?;"
+                .formatted(getLookupTableName(ATTRIBUTES_TABLE_SUFFIX)),
+            attribute.getKey(), attribute.getValue(), ticketId, ticket.getPrefix(), ttl);
+    }
+
+    private BoundStatement buildAttributeDeleteStatement(final Pair<String, String> attribute, final String ticketId) {
+        return bind("DELETE FROM %s WHERE attribute_name = ? AND attribute_value = ? AND id = ?;"
+            .formatted(getLookupTableName(ATTRIBUTES_TABLE_SUFFIX)), attribute.getKey(), attribute.getValue(), ticketId);
+    }
+
+    private List<Pair<String, String>> getLookupAttributes(final Ticket ticket) {
+        val indexedAttributes = properties.getIndexedAttributes()
+            .stream()
+            .map(this::digestIdentifier)
+            .collect(Collectors.toSet());
+        if (indexedAttributes.isEmpty()) {
+            return List.of();
+        }
+        val attributes = (Map<String, Object>) collectAndDigestTicketAttributes(ticket);
+        return attributes
+            .entrySet()
+            .stream()
+            .filter(entry -> indexedAttributes.contains(entry.getKey()))
+            .flatMap(entry -> CollectionUtils.toCollection(entry.getValue())
+                .stream()
+                .filter(Objects::nonNull)
+                .map(value -> Pair.of(entry.getKey(), value.toString())))
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    private Map<String, String> getEncodedAttributes(final Ticket ticket) {
         val attributeMap = (Map<String, List>) collectAndDigestTicketAttributes(ticket);
-        val attributesEncoded = attributeMap
+        return attributeMap
             .entrySet()
             .stream()
             .map(entry -> {
@@ -300,35 +576,21 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
                 return Pair.of(entry.getKey(), valueList);
             })
             .collect(Collectors.toMap(Pair::getKey, v -> v.getValue().toString()));
+    }
 
-        if (inserting) {
-            val document = CassandraTicketHolder.builder()
-                .id(encTicket.getId())
-                .data(data)
-                .prefix(ticket.getPrefix())
-                .type(encTicket.getClass().getName())
-                .attributes(attributesEncoded)
-                .build();
-            val json = MAPPER.writeValueAsString(document);
-            statement = QueryBuilder.insertInto(properties.getKeyspace(), metadata.getProperties().getStorageName())
-                .json(json)
-                .usingTtl(ttl)
-                .build();
-        } else {
-            statement = QueryBuilder.update(properties.getKeyspace(), metadata.getProperties().getStorageName())
-                .usingTtl(ttl)
-                .setColumn("data", QueryBuilder.literal(data))
-                .setColumn("attributes", QueryBuilder.literal(attributesEncoded))
-                .whereColumn("id").isEqualTo(QueryBuilder.literal(encTicket.getId()))
-                .whereColumn("type").isEqualTo(QueryBuilder.literal(encTicket.getClass().getName()))
-                .build();
+    private record TicketLookupEntry(String id, String prefix) {
+    }
+
+    private record LookupKeys(String principal, Map<String, Set<String>> attributes) {
+        static LookupKeys of(final String principal, final Map<String, Set<String>> attributes) {
+            return new LookupKeys(StringUtils.defaultIfBlank(principal, null), Objects.requireNonNullElseGet(attributes, Map::of));
         }
-        statement = statement.setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
-            .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
-            .setTimeout(Beans.newDuration(properties.getTimeout()));
 
-        LOGGER.trace("Attempting to locate ticket via query [{}]", statement.getQuery());
-        cassandraSessionFactory.getCqlTemplate().execute(statement);
-        LOGGER.debug("Added ticket [{}]", encTicket.getId());
+        List<Pair<String, String>> toAttributePairs() {
+            return attributes.entrySet()
+                .stream()
+                .flatMap(entry -> entry.getValue().stream().map(value -> Pair.of(entry.getKey(), value)))
+                .collect(Collectors.toList());
+        }
     }
 }
@@ -1,12 +1,16 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.config.CassandraTicketRegistryConfiguration;
 import org.apereo.cas.config.CassandraTicketRegistryTicketCatalogConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 
 import lombok.Getter;
+import lombok.val;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +19,11 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestPropertySource;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -33,6 +42,7 @@ import static org.junit.jupiter.api.Assertions.*;
         "cas.ticket.registry.cassandra.keyspace=cas",
         "cas.ticket.registry.cassandra.local-dc=datacenter1",
         "cas.ticket.registry.cassandra.drop-tables-on-startup=true",
+        "cas.ticket.registry.cassandra.indexed-attributes=cn,authn-context",
         "cas.ticket.registry.cassandra.ssl-protocols=TLSv1.2",
         "cas.http-client.host-name-verifier=none"
     })
@@ -49,4 +59,79 @@ class CassandraTicketRegistryTests extends BaseTicketRegistryTests {
         assertDoesNotThrow(() -> newTicketRegistry.addTicket((Ticket) null));
     }
 
+    @RepeatedTest(1)
+    public void verifySessionsWithUpdatedAttributes() throws Exception {
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString(),
+            Map.of("cn", List.of("cn1", "cn2")));
+        val ticketGrantingTicket = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            authentication, NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(ticketGrantingTicket);
+        assertEquals(1, newTicketRegistry.getSessionsWithAttributes(Map.of("cn", List.of("cn2", "cn3"))).count());
+        assertEquals(0, newTicketRegistry.getSessionsWithAttributes(Map.of("authn-context", List.of("mfa-example"))).count());
+
+        ticketGrantingTicket.getAuthentication().updateAll(CoreAuthenticationTestUtils.getAuthentication(
+            authentication.getPrincipal(), Map.of("cn", List.of("cn3"), "authn-context", List.of("mfa-example"))));
+        newTicketRegistry.updateTicket(ticketGrantingTicket);
+        assertEquals(1, newTicketRegistry.getSessionsWithAttributes(Map.of("authn-context", List.of("mfa-example"))).count());
+        assertEquals(0, newTicketRegistry.getSessionsWithAttributes(Map.of("cn", List.of("cn1", "cn2"))).count());
+        assertEquals(1, newTicketRegistry.getSessionsWithAttributes(Map.of("cn", List.of("cn3"))).count());
+
+        newTicketRegistry.deleteTicket(ticketGrantingTicket);
+        assertEquals(0, newTicketRegistry.getSessionsWithAttributes(Map.of("cn", List.of("cn3"))).count());
+    }
+
+    @RepeatedTest(1)
+    public void verifySessionsAfterUpdates() throws Exception {
+        val principalId = UUID.randomUUID().toString();
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(principalId, Map.of("cn", List.of("cn1")));
+        val ticketGrantingTicket = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            authentication, NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(ticketGrantingTicket);
+        for (var i = 0; i < 3; i++) {
+            ticketGrantingTicket.update();
+            newTicketRegistry.updateTicket(ticketGrantingTicket);
+        }
+        assertEquals(1, newTicketRegistry.countSessionsFor(principalId));
+        assertEquals(1, newTicketRegistry.getSessionsWithAttributes(Map.of("cn", List.of("cn1"))).count());
+
+        val newPrincipalId = UUID.randomUUID().toString();
+        ticketGrantingTicket.getAuthentication().updateAll(CoreAuthenticationTestUtils.getAuthentication(newPrincipalId, Map.of("cn", List.of("cn1"))));
+        newTicketRegistry.updateTicket(ticketGrantingTicket);
+        assertEquals(0, newTicketRegistry.countSessionsFor(principalId));
+        assertEquals(1, newTicketRegistry.countSessionsFor(newPrincipalId));
+        assertEquals(1, newTicketRegistry.getSessionsWithAttributes(Map.of("cn", List.of("cn1"))).count());
+    }
+
+    @RepeatedTest(1)
+    public void verifySessionsWithAttributesNotIndexed() throws Exception {
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(
+            Map.of("givenName", List.of("g1", "g2")));
+        newTicketRegistry.addTicket(new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            authentication, NeverExpiresExpirationPolicy.INSTANCE));
+        assertEquals(1, newTicketRegistry.getSessionsWithAttributes(Map.of("givenName", List.of("g2"))).count());
+    }
+
+    @RepeatedTest(1)
+    public void verifySessionsForPrincipal() throws Exception {
+        val principalId = "CasUser-" + UUID.randomUUID();
+        val ticketGrantingTicket = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(principalId), NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(ticketGrantingTicket);
+        val expiredTicket = new TicketGrantingTicketImpl(ticketGrantingTicketId + "-expired",
+            CoreAuthenticationTestUtils.getAuthentication(principalId), NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(expiredTicket);
+        expiredTicket.markTicketExpired();
+        newTicketRegistry.updateTicket(expiredTicket);
+
+        assertEquals(1, newTicketRegistry.countSessionsFor(principalId));
+        assertEquals(1, newTicketRegistry.countSessionsFor(principalId.toLowerCase(Locale.ENGLISH)));
+        try (val results = newTicketRegistry.getSessionsFor(principalId)) {
+            assertEquals(List.of(ticketGrantingTicket.getId()), results.map(Ticket::getId).toList());
+        }
+        try (val results = newTicketRegistry.getSessionsFor(principalId.toLowerCase(Locale.ENGLISH))) {
+            assertEquals(0, results.count());
+        }
+        newTicketRegistry.deleteTicket(ticketGrantingTicket);
+        assertEquals(0, newTicketRegistry.countSessionsFor(principalId));
+    }
 }
@@ -8,15 +8,20 @@ import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BillingMode;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
+import software.amazon.awssdk.services.dynamodb.model.CreateGlobalSecondaryIndexAction;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexDescription;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexUpdate;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
@@ -25,15 +30,28 @@ import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
 import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 import software.amazon.awssdk.services.dynamodb.model.TableStatus;
 import software.amazon.awssdk.services.dynamodb.model.TimeToLiveSpecification;
+import software.amazon.awssdk.services.dynamodb.model.UpdateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.UpdateTimeToLiveRequest;
 
 import java.io.Serial;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This is {@link DynamoDbTableUtils}.
@@ -129,19 +147,52 @@ public class DynamoDbTableUtils {
                                                final boolean deleteTable,
                                                final List<AttributeDefinition> attributeDefinitions,
                                                final List<KeySchemaElement> keySchemaElements) throws Exception {
+        return createTable(dynamoDbClient, dynamoDbProperties, tableName, deleteTable,
+            attributeDefinitions, keySchemaElements, List.of());
+    }
+
+    /**
+     * Create table along with its global secondary indexes.
+     * Global secondary indexes that are missing from a table that already exists are created
+     * and backfilled by DynamoDb, and are only available for queries once backfilling is complete.
+     *
+     * @param dynamoDbClient         the dynamo db client
+     * @param dynamoDbProperties     the dynamo db properties
+     * @param tableName              the table name
+     * @param deleteTable            the delete tables
+     * @param attributeDefinitions   the attribute definitions
+     * @param keySchemaElements      the key schema elements
+     * @param globalSecondaryIndexes the global secondary indexes
+     * @return the table description
+     * @throws Exception the exception
+     */
+    public static TableDescription createTable(final DynamoDbClient dynamoDbClient,
+                                               final AbstractDynamoDbProperties dynamoDbProperties,
+                                               final String tableName,
+                                               final boolean deleteTable,
+                                               final List<AttributeDefinition> attributeDefinitions,
+                                               final List<KeySchemaElement> keySchemaElements,
+                                               final List<GlobalSecondaryIndex> globalSecondaryIndexes) throws Exception {
 
         val billingMode = BillingMode.fromValue(dynamoDbProperties.getBillingMode().name());
         val throughput = billingMode == BillingMode.PROVISIONED ? ProvisionedThroughput.builder()
             .readCapacityUnits(dynamoDbProperties.getReadCapacity())
             .writeCapacityUnits(dynamoDbProperties.getWriteCapacity())
             .build() : null;
-        val request = CreateTableRequest.builder()
+        val indexes = globalSecondaryIndexes
+            .stream()
+            .map(index -> index.toBuilder().provisionedThroughput(throughput).build())
+            .toList();
+        val builder = CreateTableRequest.builder()
             .attributeDefinitions(attributeDefinitions)
             .keySchema(keySchemaElements)
             .provisionedThroughput(throughput)
             .tableName(tableName)
-            .billingMode(billingMode)
-            .build();
+            .billingMode(billingMode);
+        if (!indexes.isEmpty()) {
+            builder.globalSecondaryIndexes(indexes);
+        }
+        val request = builder.build();
 
         if (deleteTable) {
             val delete = DeleteTableRequest.builder().tableName(tableName).build();
@@ -156,6 +207,7 @@ public class DynamoDbTableUtils {
         LOGGER.debug("Sending request [{}] to obtain table description...", describeTableRequest);
         val tableDescription = dynamoDbClient.describeTable(describeTableRequest).table();
         LOGGER.debug("Located newly created table with description: [{}]", tableDescription);
+        createGlobalSecondaryIndexesIfNecessary(dynamoDbClient, tableDescription, attributeDefinitions, indexes);
         return tableDescription;
     }
 
@@ -321,6 +373,184 @@ public class DynamoDbTableUtils {
             .filter(Objects::nonNull);
     }
 
+    /**
+     * Scan the table in parallel segments using pagination.
+     * Each segment is scanned on its own thread, once the stream is consumed, and hands over pages
+     * of items through a queue that holds a bounded number of pages; segments stop fetching pages while
+     * the queue is full, so that pages are only read from the table as fast as the stream is consumed.
+     * Every segment always ends with either the end of its pages or an error, which is thrown to the consumer.
+     * Closing the stream stops scanning segments that are still running.
+     *
+     * @param <T>                  the type parameter
+     * @param amazonDynamoDBClient the amazon dynamo db client
+     * @param scanRequest          the scan request
+     * @param totalSegments        the total segments
+     * @param itemMapper           the item mapper
+     * @return the stream
+     */
+    public static <T> Stream<T> parallelScan(final DynamoDbClient amazonDynamoDBClient,
+                                             final ScanRequest scanRequest,
+                                             final int totalSegments,
+                                             final Function<Map<String, AttributeValue>, T> itemMapper) {
+        if (totalSegments <= 1) {
+            LOGGER.debug("Scanning table with scan request [{}]", scanRequest);
+            return amazonDynamoDBClient.scanPaginator(scanRequest)
+                .stream()
+                .flatMap(results -> results.items().stream())
+                .map(itemMapper)
+                .filter(Objects::nonNull);
+        }
+        val spliterator = new ParallelScanSpliterator(amazonDynamoDBClient, scanRequest, totalSegments);
+        return StreamSupport.stream(spliterator, false)
+            .onClose(spliterator::close)
+            .map(itemMapper)
+            .filter(Objects::nonNull);
+    }
+
+    private static void createGlobalSecondaryIndexesIfNecessary(final DynamoDbClient dynamoDbClient,
+                                                                final TableDescription tableDescription,
+                                                                final List<AttributeDefinition> attributeDefinitions,
+                                                                final List<GlobalSecondaryIndex> globalSecondaryIndexes) {
+        val existingIndexes = tableDescription.hasGlobalSecondaryIndexes()
+            ? tableDescription.globalSecondaryIndexes().stream().map(GlobalSecondaryIndexDescription::indexName).collect(Collectors.toSet())
+            : Collections.<String>emptySet();
+        globalSecondaryIndexes
+            .stream()
+            .filter(index -> !existingIndexes.contains(index.indexName()))
+            .forEach(index -> {
+                val action = CreateGlobalSecondaryIndexAction.builder()
+                    .indexName(index.indexName())
+                    .keySchema(index.keySchema())
+                    .projection(index.projection())
+                    .provisionedThroughput(index.provisionedThroughput())
+                    .build();
+                val request = UpdateTableRequest.builder()
+                    .tableName(tableDescription.tableName())
+                    .attributeDefinitions(attributeDefinitions)
+                    .globalSecondaryIndexUpdates(GlobalSecondaryIndexUpdate.builder().create(action).build())
+                    .build();
+                LOGGER.info("Creating global secondary index [{}] for table [{}]", index.indexName(), tableDescription.tableName());
+                dynamoDbClient.updateTable(request);
+            });
+    }
+
+    private record ScanPage(List<Map<String, AttributeValue>> items, RuntimeException error) {
+    }
+
+    private static final class ParallelScanSpliterator extends Spliterators.AbstractSpliterator<Map<String, AttributeValue>> {
+        private static final ScanPage END_OF_SEGMENT = new ScanPage(List.of(), null);
+
+        private static final int PUBLISH_TIMEOUT_SECONDS = 30;
+
+        private final DynamoDbClient dynamoDbClient;
+
+        private final ScanRequest scanRequest;
+
+        private final int totalSegments;
+
+        private final BlockingQueue<ScanPage> pages = new LinkedBlockingQueue<>();
+
+        private final Semaphore pendingPages;
+
+        private ExecutorService executor;
+
+        private Iterator<Map<String, AttributeValue>> currentPage = Collections.emptyIterator();
+
+        private int completedSegments;
+
+        ParallelScanSpliterator(final DynamoDbClient dynamoDbClient, final ScanRequest scanRequest, final int totalSegments) {
+            super(Long.MAX_VALUE, Spliterator.NONNULL);
+            this.dynamoDbClient = dynamoDbClient;
+            this.scanRequest = scanRequest;
+            this.totalSegments = totalSegments;
+            this.pendingPages = new Semaphore(totalSegments * 2);
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Map<String, AttributeValue>> action) {
+            if (executor == null) {
+                startScanning();
+            }
+            while (!currentPage.hasNext()) {
+                if (completedSegments == totalSegments) {
+                    return false;
+                }
+                try {
+                    val page = pages.take();
+                    if (page.error() != null) {
+                        close();
+                        throw page.error();
+                    }
+                    if (page == END_OF_SEGMENT) {
+                        completedSegments++;
+                    } else {
+                        pendingPages.release();
+                        currentPage = page.items().iterator();
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    close();
+                    return false;
+                }
+            }
+            action.accept(currentPage.next());
+            return true;
+        }
+
+        void close() {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+
+        private void startScanning() {
+            val threadFactory = new CustomizableThreadFactory("cas-dynamodb-scan-");
+            threadFactory.setDaemon(true);
+            executor = Executors.newFixedThreadPool(totalSegments, threadFactory);
+            for (var segment = 0; segment < totalSegments; segment++) {
+                val request = scanRequest.toBuilder().segment(segment).totalSegments(totalSegments).build();
+                executor.execute(() -> scanSegment(request));
+            }
+            executor.shutdown();
+        }
+
+        private void scanSegment(final ScanRequest request) {
+            try {
+                LOGGER.debug("Scanning table segment with scan request [{}]", request);
+                for (val response : dynamoDbClient.scanPaginator(request)) {
+                    if (!publish(new ScanPage(response.items(), null))) {
+                        return;
+                    }
+                }
+                pages.add(END_OF_SEGMENT);
+            } catch (final Exception e) {
+                if (!Thread.currentThread().isInterrupted()) {
+                    LoggingUtils.error(LOGGER, e);
+                    pages.add(new ScanPage(List.of(), e instanceof final RuntimeException re ? re : new IllegalStateException(e)));
+                }
+            }
+        }
+
+        /**
+         * Pages of items wait for room in the queue, while the end of a segment or an error
+         * is always added so that the consumer is never left waiting for a segment that stopped.
+         */
+        private boolean publish(final ScanPage page) {
+            try {
+                if (pendingPages.tryAcquire(PUBLISH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    pages.add(page);
+                    return true;
+                }
+                LOGGER.warn("Scanned page of items for table [{}] was not consumed in time", scanRequest.tableName());
+                pages.add(new ScanPage(List.of(), new IllegalStateException("Scanning table " + scanRequest.tableName()
+                    + " stopped since pages of items were not consumed in time")));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+
     static class TableNeverTransitionedToStateException extends SdkClientException {
 
         @Serial
@@ -9,6 +9,7 @@ import org.mockito.ArgumentMatcher;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BillingMode;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableResponse;
@@ -19,10 +20,16 @@ import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.ResourceInUseException;
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
 import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 import software.amazon.awssdk.services.dynamodb.model.TableStatus;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanIterable;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -63,6 +70,22 @@ class DynamoDbTableUtilsTests {
 
     }
 
+    @Test
+    void verifyParallelScan() {
+        val client = mock(DynamoDbClient.class);
+        when(client.scanPaginator(any(ScanRequest.class)))
+            .thenAnswer(args -> new ScanIterable(client, args.getArgument(0)));
+        when(client.scan(any(ScanRequest.class))).thenAnswer(args -> {
+            val request = args.<ScanRequest>getArgument(0);
+            val item = Map.of("id", AttributeValue.builder().s("item-" + request.segment()).build());
+            return ScanResponse.builder().items(List.of(item)).build();
+        });
+        val request = ScanRequest.builder().tableName("test-table").build();
+        try (val results = DynamoDbTableUtils.parallelScan(client, request, 4, item -> item.get("id").s())) {
+            assertEquals(Set.of("item-0", "item-1", "item-2", "item-3"), results.collect(Collectors.toSet()));
+        }
+    }
+
     @Test
     void verifyCreateTableWithBillingModeProvisioned() {
         val client = mock(DynamoDbClient.class);
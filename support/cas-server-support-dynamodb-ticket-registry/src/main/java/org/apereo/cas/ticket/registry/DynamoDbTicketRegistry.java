@@ -49,6 +49,11 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
         return dbTableService.getSessionsFor(digestIdentifier(principalId));
     }
 
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return dbTableService.countSessionsFor(digestIdentifier(principalId));
+    }
+
     @Override
     public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
         val filterExpressions = new ArrayList<String>();
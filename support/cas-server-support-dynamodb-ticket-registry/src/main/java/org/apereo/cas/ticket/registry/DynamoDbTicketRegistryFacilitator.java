@@ -5,11 +5,15 @@ import org.apereo.cas.dynamodb.DynamoDbQueryBuilder;
 import org.apereo.cas.dynamodb.DynamoDbTableUtils;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -17,24 +21,38 @@ import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.SerializationUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.jooq.lambda.Unchecked;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
+import software.amazon.awssdk.services.dynamodb.model.IndexStatus;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.chrono.ChronoZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -43,13 +61,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
  * This is {@link DynamoDbTicketRegistryFacilitator}.
+ * Sessions of a principal are found by querying a global secondary index on the principal and prefix
+ * of tickets, falling back to scanning the table while the index is not yet active, and tickets are counted
+ * using counters, spread over a number of shards, that are maintained as tickets are added and removed.
+ * Tables are otherwise scanned in parallel segments when all tickets are requested.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -60,12 +83,25 @@ import java.util.stream.Stream;
 public class DynamoDbTicketRegistryFacilitator {
     private static final int BATCH_PUT_REQUEST_LIMIT = 25;
 
+    private static final int BATCH_GET_REQUEST_LIMIT = 100;
+
+    private static final String PRINCIPAL_INDEX_NAME = "principalIndex";
+
+    private static final String COUNTER_BUCKET = "bucket";
+
+    private static final String COUNTER_COUNT = "count";
+
+    private static final long COUNTER_BUCKET_SECONDS = 600;
+
     private final TicketCatalog ticketCatalog;
 
     private final DynamoDbTicketRegistryProperties dynamoDbProperties;
 
     private final DynamoDbClient amazonDynamoDBClient;
 
+    @Getter(AccessLevel.NONE)
+    private volatile boolean principalIndexActive;
+
     private static Ticket deserializeTicket(final Map<String, AttributeValue> returnItem) {
         val encoded = returnItem.get(ColumnNames.ENCODED.getColumnName()).b();
         LOGGER.debug("Located binary encoding of ticket item [{}]. Transforming item into ticket object", returnItem);
@@ -88,10 +124,15 @@ public class DynamoDbTicketRegistryFacilitator {
         val metadata = this.ticketCatalog.find(ticketId);
         if (metadata != null) {
             val del = DeleteItemRequest.builder().tableName(metadata.getProperties().getStorageName())
-                .key(CollectionUtils.wrap(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(encodedTicketId).build())).build();
+                .key(CollectionUtils.wrap(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(encodedTicketId).build()))
+                .returnValues(ReturnValue.ALL_OLD)
+                .build();
             LOGGER.debug("Submitting delete request [{}] for ticket [{}]", del, ticketId);
             val res = amazonDynamoDBClient.deleteItem(del);
             LOGGER.debug("Delete request came back with result [{}]", res);
+            if (res != null && res.hasAttributes() && !res.attributes().isEmpty()) {
+                updateTicketCounter(res.attributes(), -1);
+            }
             return res != null;
         }
         return false;
@@ -103,15 +144,12 @@ public class DynamoDbTicketRegistryFacilitator {
      * @return the int
      */
     public int deleteAll() {
-        val count = new AtomicInteger();
-        val metadata = this.ticketCatalog.findAll();
-        metadata.forEach(r -> {
-            val scan = ScanRequest.builder().tableName(r.getProperties().getStorageName()).build();
-            LOGGER.debug("Submitting scan request [{}] to table [{}]", scan, r.getProperties().getStorageName());
-            count.addAndGet(this.amazonDynamoDBClient.scan(scan).count());
-        });
+        val count = ticketCatalog.findAll()
+            .stream()
+            .mapToLong(definition -> countTickets(definition.getPrefix()))
+            .sum();
         createTicketTables(true);
-        return count.get();
+        return (int) count;
     }
 
     /**
@@ -130,8 +168,12 @@ public class DynamoDbTicketRegistryFacilitator {
                         .attributeValue(List.of(AttributeValue.builder().s(defn.getPrefix()).build()))
                         .operator(ComparisonOperator.EQ)
                         .build());
-                return DynamoDbTableUtils.scanPaginator(amazonDynamoDBClient, defn.getProperties().getStorageName(),
-                    keys, DynamoDbTicketRegistryFacilitator::deserializeTicket);
+                val scan = ScanRequest.builder()
+                    .tableName(defn.getProperties().getStorageName())
+                    .scanFilter(DynamoDbTableUtils.buildRequestQueryFilter(keys))
+                    .build();
+                return DynamoDbTableUtils.parallelScan(amazonDynamoDBClient, scan,
+                    dynamoDbProperties.getScanSegments(), DynamoDbTicketRegistryFacilitator::deserializeTicket);
             })
             .toList();
         return Streams.concat(resultStreams.toArray(new Stream[]{}));
@@ -143,21 +185,17 @@ public class DynamoDbTicketRegistryFacilitator {
      * @return the all
      */
     public Collection<Ticket> getAll() {
-        val metadata = this.ticketCatalog.findAll();
-        val tickets = new ArrayList<Ticket>(metadata.size());
-        metadata.forEach(r -> {
-            val scan = ScanRequest.builder().tableName(r.getProperties().getStorageName()).build();
-            LOGGER.debug("Scanning table with request [{}]", scan);
-            val result = this.amazonDynamoDBClient.scan(scan);
-            LOGGER.debug("Scanned table with result [{}]", scan);
-            tickets.addAll(result.items()
-                .stream()
-                .map(DynamoDbTicketRegistryFacilitator::deserializeTicket)
-                .filter(Objects::nonNull)
-                .filter(ticket -> !ticket.isExpired())
-                .toList());
-        });
-        return tickets;
+        return ticketCatalog.findAll()
+            .stream()
+            .flatMap(r -> {
+                val scan = ScanRequest.builder().tableName(r.getProperties().getStorageName()).build();
+                LOGGER.debug("Scanning table with request [{}]", scan);
+                return DynamoDbTableUtils.parallelScan(amazonDynamoDBClient, scan,
+                    dynamoDbProperties.getScanSegments(), DynamoDbTicketRegistryFacilitator::deserializeTicket);
+            })
+            .filter(Objects::nonNull)
+            .filter(ticket -> !ticket.isExpired())
+            .collect(Collectors.toList());
     }
 
     /**
@@ -197,24 +235,24 @@ public class DynamoDbTicketRegistryFacilitator {
      */
     public void put(final Stream<TicketPayload> toSave) {
         val queue = new HashMap<String, Collection<WriteRequest>>();
+        val counters = new HashMap<Pair<String, Long>, Long>();
         val count = new AtomicLong(0);
         toSave.forEach(entry -> {
             val metadata = ticketCatalog.find(entry.getOriginalTicket());
             val entries = queue.getOrDefault(metadata.getProperties().getStorageName(), new ArrayList<>());
-            entries.add(WriteRequest.builder().putRequest(buildPutRequest(entry)).build());
+            val putRequest = buildPutRequest(entry);
+            entries.add(WriteRequest.builder().putRequest(putRequest).build());
+            counters.merge(Pair.of(entry.getOriginalTicket().getPrefix(), getCounterBucket(putRequest.item())), 1L, Long::sum);
             count.getAndIncrement();
 
             queue.put(metadata.getProperties().getStorageName(), entries);
             if (count.get() >= BATCH_PUT_REQUEST_LIMIT) {
-                val batchRequest = BatchWriteItemRequest.builder().requestItems(queue).build();
-                amazonDynamoDBClient.batchWriteItem(batchRequest);
-                queue.clear();
+                writeBatch(queue, counters);
                 count.set(0);
             }
         });
         if (!queue.isEmpty()) {
-            val batchRequest = BatchWriteItemRequest.builder().requestItems(queue).build();
-            amazonDynamoDBClient.batchWriteItem(batchRequest);
+            writeBatch(queue, counters);
         }
     }
 
@@ -228,6 +266,15 @@ public class DynamoDbTicketRegistryFacilitator {
         LOGGER.debug("Submitting put request [{}] for ticket id [{}]", putItemRequest, payload.getEncodedTicket().getId());
         val putItemResult = amazonDynamoDBClient.putItem(putItemRequest);
         LOGGER.debug("Ticket added with result [{}]", putItemResult);
+        if (putItemResult.hasAttributes() && !putItemResult.attributes().isEmpty()) {
+            val previousItem = putItemResult.attributes();
+            if (getCounterBucket(previousItem) != getCounterBucket(putItemRequest.item())) {
+                updateTicketCounter(previousItem, -1);
+                updateTicketCounter(putItemRequest.item(), 1);
+            }
+        } else {
+            updateTicketCounter(putItemRequest.item(), 1);
+        }
     }
 
     /**
@@ -242,14 +289,15 @@ public class DynamoDbTicketRegistryFacilitator {
                                                               final Map<String, String> attributeNames,
                                                               final Map<String, AttributeValue> attributeValues) {
 
-        val scanResponse = DynamoDbTableUtils.scan(amazonDynamoDBClient,
-            dynamoDbProperties.getTicketGrantingTicketsTableName(),
-            filterExpression, attributeNames, attributeValues);
-        return scanResponse
-            .items()
-            .stream()
-            .map(DynamoDbTicketRegistryFacilitator::deserializeTicket)
-            .filter(Objects::nonNull);
+        val scan = ScanRequest.builder()
+            .tableName(dynamoDbProperties.getTicketGrantingTicketsTableName())
+            .filterExpression(filterExpression)
+            .expressionAttributeNames(attributeNames)
+            .expressionAttributeValues(attributeValues)
+            .build();
+        LOGGER.debug("Submitting request [{}] to get record with expression filters [{}]", scan, filterExpression);
+        return DynamoDbTableUtils.parallelScan(amazonDynamoDBClient, scan,
+            dynamoDbProperties.getScanSegments(), DynamoDbTicketRegistryFacilitator::deserializeTicket);
     }
 
     private PutRequest buildPutRequest(final TicketPayload payload) {
@@ -262,7 +310,102 @@ public class DynamoDbTicketRegistryFacilitator {
         val metadata = this.ticketCatalog.find(payload.getOriginalTicket());
         val values = buildTableAttributeValuesMapFromTicket(payload);
         LOGGER.debug("Adding ticket id [{}] with attribute values [{}]", payload.getEncodedTicket().getId(), values);
-        return PutItemRequest.builder().tableName(metadata.getProperties().getStorageName()).item(values).build();
+        return PutItemRequest.builder()
+            .tableName(metadata.getProperties().getStorageName())
+            .item(values)
+            .returnValues(ReturnValue.ALL_OLD)
+            .build();
+    }
+
+    private void writeBatch(final Map<String, Collection<WriteRequest>> queue, final Map<Pair<String, Long>, Long> counters) {
+        val batchRequest = BatchWriteItemRequest.builder().requestItems(queue).build();
+        amazonDynamoDBClient.batchWriteItem(batchRequest);
+        counters.forEach((counter, delta) -> updateTicketCounter(counter.getKey(), counter.getValue(), delta));
+        queue.clear();
+        counters.clear();
+    }
+
+    private static long getCounterBucket(final Map<String, AttributeValue> item) {
+        val expiration = Long.parseLong(item.get(ColumnNames.EXPIRATION.getColumnName()).n());
+        return expiration < 0 ? Long.MAX_VALUE : (expiration / COUNTER_BUCKET_SECONDS + 1) * COUNTER_BUCKET_SECONDS;
+    }
+
+    private void updateTicketCounter(final Map<String, AttributeValue> item, final long delta) {
+        updateTicketCounter(item.get(ColumnNames.PREFIX.getColumnName()).s(), getCounterBucket(item), delta);
+    }
+
+    /**
+     * Counters are grouped by the time at which tickets expire, in buckets of a few minutes,
+     * so that tickets removed by the table time-to-live, which does not update counters,
+     * are no longer counted once their bucket has passed. Each update goes to a random shard
+     * of the counter to spread writes, and failures are only logged since counters are not
+     * allowed to fail the ticket operation that has already succeeded.
+     */
+    private void updateTicketCounter(final String prefix, final long bucket, final long delta) {
+        FunctionUtils.doAndHandle(__ -> {
+            val shard = ThreadLocalRandom.current().nextInt(getTicketCounterShards());
+            updateTicketCounterShard(getTicketCounterKey(prefix, shard), bucket, delta);
+        });
+    }
+
+    private void updateTicketCounterShard(final String counterKey, final long bucket, final long delta) {
+        val names = new HashMap<String, String>();
+        names.put("#count", COUNTER_COUNT);
+        val values = new HashMap<String, AttributeValue>();
+        values.put(":delta", AttributeValue.builder().n(Long.toString(delta)).build());
+        var expression = "ADD #count :delta";
+        if (bucket != Long.MAX_VALUE) {
+            expression += " SET #expiration = :expiration";
+            names.put("#expiration", ColumnNames.EXPIRATION.getColumnName());
+            values.put(":expiration", AttributeValue.builder().n(Long.toString(bucket + COUNTER_BUCKET_SECONDS)).build());
+        }
+        val request = UpdateItemRequest.builder()
+            .tableName(dynamoDbProperties.getTicketCountersTableName())
+            .key(Map.of(
+                ColumnNames.PREFIX.getColumnName(), AttributeValue.builder().s(counterKey).build(),
+                COUNTER_BUCKET, AttributeValue.builder().n(Long.toString(bucket)).build()))
+            .updateExpression(expression)
+            .expressionAttributeNames(names)
+            .expressionAttributeValues(values)
+            .build();
+        LOGGER.trace("Updating ticket counter with request [{}]", request);
+        amazonDynamoDBClient.updateItem(request);
+    }
+
+    private long countTickets(final String prefix) {
+        val now = Instant.now(Clock.systemUTC()).getEpochSecond();
+        return IntStream.range(0, getTicketCounterShards())
+            .mapToObj(shard -> QueryRequest.builder()
+                .tableName(dynamoDbProperties.getTicketCountersTableName())
+                .keyConditionExpression("#prefix = :prefix AND #bucket > :now")
+                .expressionAttributeNames(Map.of("#prefix", ColumnNames.PREFIX.getColumnName(), "#bucket", COUNTER_BUCKET))
+                .expressionAttributeValues(Map.of(
+                    ":prefix", AttributeValue.builder().s(getTicketCounterKey(prefix, shard)).build(),
+                    ":now", AttributeValue.builder().n(Long.toString(now)).build()))
+                .build())
+            .flatMap(query -> amazonDynamoDBClient.queryPaginator(query).items().stream())
+            .mapToLong(item -> Long.parseLong(item.get(COUNTER_COUNT).n()))
+            .sum();
+    }
+
+    private int getTicketCounterShards() {
+        return Math.max(1, dynamoDbProperties.getTicketCounterShards());
+    }
+
+    private static String getTicketCounterKey(final String prefix, final int shard) {
+        return prefix + '#' + shard;
+    }
+
+    private Stream<Map<String, AttributeValue>> getItems(final String tableName, final List<AttributeValue> ids) {
+        val items = new ArrayList<Map<String, AttributeValue>>(ids.size());
+        val keys = ids.stream().map(id -> Map.of(ColumnNames.ID.getColumnName(), id)).toList();
+        var requestItems = Map.of(tableName, KeysAndAttributes.builder().keys(keys).build());
+        while (!requestItems.isEmpty()) {
+            val response = amazonDynamoDBClient.batchGetItem(BatchGetItemRequest.builder().requestItems(requestItems).build());
+            items.addAll(response.responses().getOrDefault(tableName, List.of()));
+            requestItems = response.unprocessedKeys();
+        }
+        return items.stream();
     }
 
     /**
@@ -271,25 +414,79 @@ public class DynamoDbTicketRegistryFacilitator {
      * @param deleteTables the delete tables
      */
     public void createTicketTables(final boolean deleteTables) {
+        principalIndexActive = false;
         val metadata = this.ticketCatalog.findAll();
         metadata.forEach(Unchecked.consumer(r -> {
-            val attributeDefns = List.of(
-                AttributeDefinition.builder()
-                    .attributeName(ColumnNames.ID.getColumnName())
-                    .attributeType(ScalarAttributeType.S)
-                    .build());
+            val attributeDefns = new ArrayList<AttributeDefinition>();
+            attributeDefns.add(AttributeDefinition.builder()
+                .attributeName(ColumnNames.ID.getColumnName())
+                .attributeType(ScalarAttributeType.S)
+                .build());
             val keySchemaElements = List.of(KeySchemaElement.builder()
                 .attributeName(ColumnNames.ID.getColumnName())
                 .keyType(KeyType.HASH)
                 .build());
+            val indexes = new ArrayList<GlobalSecondaryIndex>();
+            if (r.getProperties().getStorageName().equals(dynamoDbProperties.getTicketGrantingTicketsTableName())) {
+                attributeDefns.add(AttributeDefinition.builder()
+                    .attributeName(ColumnNames.PRINCIPAL.getColumnName())
+                    .attributeType(ScalarAttributeType.S)
+                    .build());
+                attributeDefns.add(AttributeDefinition.builder()
+                    .attributeName(ColumnNames.PREFIX.getColumnName())
+                    .attributeType(ScalarAttributeType.S)
+                    .build());
+                indexes.add(GlobalSecondaryIndex.builder()
+                    .indexName(PRINCIPAL_INDEX_NAME)
+                    .keySchema(
+                        KeySchemaElement.builder().attributeName(ColumnNames.PRINCIPAL.getColumnName()).keyType(KeyType.HASH).build(),
+                        KeySchemaElement.builder().attributeName(ColumnNames.PREFIX.getColumnName()).keyType(KeyType.RANGE).build())
+                    .projection(Projection.builder()
+                        .projectionType(ProjectionType.INCLUDE)
+                        .nonKeyAttributes(ColumnNames.EXPIRATION.getColumnName())
+                        .build())
+                    .build());
+            }
             val tableDesc = DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
                 r.getProperties().getStorageName(),
                 deleteTables,
                 attributeDefns,
-                keySchemaElements);
+                keySchemaElements,
+                indexes);
             DynamoDbTableUtils.enableTimeToLiveOnTable(amazonDynamoDBClient,
                 tableDesc.tableName(), ColumnNames.EXPIRATION.getColumnName());
         }));
+        createTicketCountersTable(deleteTables);
+    }
+
+    private void createTicketCountersTable(final boolean deleteTables) {
+        FunctionUtils.doUnchecked(__ -> {
+            val attributeDefns = List.of(
+                AttributeDefinition.builder()
+                    .attributeName(ColumnNames.PREFIX.getColumnName())
+                    .attributeType(ScalarAttributeType.S)
+                    .build(),
+                AttributeDefinition.builder()
+                    .attributeName(COUNTER_BUCKET)
+                    .attributeType(ScalarAttributeType.N)
+                    .build());
+            val keySchemaElements = List.of(
+                KeySchemaElement.builder()
+                    .attributeName(ColumnNames.PREFIX.getColumnName())
+                    .keyType(KeyType.HASH)
+                    .build(),
+                KeySchemaElement.builder()
+                    .attributeName(COUNTER_BUCKET)
+                    .keyType(KeyType.RANGE)
+                    .build());
+            val tableDesc = DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
+                dynamoDbProperties.getTicketCountersTableName(),
+                deleteTables,
+                attributeDefns,
+                keySchemaElements);
+            DynamoDbTableUtils.enableTimeToLiveOnTable(amazonDynamoDBClient,
+                tableDesc.tableName(), ColumnNames.EXPIRATION.getColumnName());
+        });
     }
 
     /**
@@ -312,8 +509,10 @@ public class DynamoDbTicketRegistryFacilitator {
             AttributeValue.builder().n(String.valueOf(ttl)).build());
         values.put(ColumnNames.ID.getColumnName(),
             AttributeValue.builder().s(payload.getEncodedTicket().getId()).build());
-        values.put(ColumnNames.PRINCIPAL.getColumnName(),
-            AttributeValue.builder().s(payload.getPrincipal()).build());
+        if (StringUtils.isNotBlank(payload.getPrincipal())) {
+            values.put(ColumnNames.PRINCIPAL.getColumnName(),
+                AttributeValue.builder().s(payload.getPrincipal()).build());
+        }
         values.put(ColumnNames.PREFIX.getColumnName(),
             AttributeValue.builder().s(payload.getOriginalTicket().getPrefix()).build());
         values.put(ColumnNames.CREATION_TIME.getColumnName(), AttributeValue.builder().
@@ -348,18 +547,92 @@ public class DynamoDbTicketRegistryFacilitator {
      * @return the sessions for
      */
     public Stream<? extends Ticket> getSessionsFor(final String principal) {
-        val keys = List.<DynamoDbQueryBuilder>of(
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.PRINCIPAL.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
-                .operator(ComparisonOperator.EQ)
-                .build());
-        return DynamoDbTableUtils.getRecordsByKeys(amazonDynamoDBClient,
-                dynamoDbProperties.getTicketGrantingTicketsTableName(),
-                keys, DynamoDbTicketRegistryFacilitator::deserializeTicket)
+        if (StringUtils.isBlank(principal)) {
+            return Stream.empty();
+        }
+        if (!isPrincipalIndexActive()) {
+            return scanSessionsFor(principal);
+        }
+        val tableName = dynamoDbProperties.getTicketGrantingTicketsTableName();
+        val query = buildSessionsQuery(principal).build();
+        LOGGER.debug("Submitting query [{}] to locate sessions for [{}]", query, principal);
+        val ids = amazonDynamoDBClient.queryPaginator(query)
+            .items()
+            .stream()
+            .map(item -> item.get(ColumnNames.ID.getColumnName()))
+            .toList();
+        return Lists.partition(ids, BATCH_GET_REQUEST_LIMIT)
+            .stream()
+            .flatMap(batch -> getItems(tableName, batch))
+            .map(DynamoDbTicketRegistryFacilitator::deserializeTicket)
+            .filter(Objects::nonNull)
+            .filter(ticket -> !ticket.isExpired());
+    }
+
+    /**
+     * Count sessions for the principal.
+     * Sessions are located by the principal index and read, so that sessions
+     * that have passed their maximum or idle expiration are not counted.
+     *
+     * @param principal the principal
+     * @return the count
+     */
+    public long countSessionsFor(final String principal) {
+        return getSessionsFor(principal).count();
+    }
+
+    private QueryRequest.Builder buildSessionsQuery(final String principal) {
+        return QueryRequest.builder()
+            .tableName(dynamoDbProperties.getTicketGrantingTicketsTableName())
+            .indexName(PRINCIPAL_INDEX_NAME)
+            .keyConditionExpression("#principal = :principal AND #prefix = :prefix")
+            .expressionAttributeNames(Map.of(
+                "#principal", ColumnNames.PRINCIPAL.getColumnName(),
+                "#prefix", ColumnNames.PREFIX.getColumnName()))
+            .expressionAttributeValues(Map.of(
+                ":principal", AttributeValue.builder().s(principal).build(),
+                ":prefix", AttributeValue.builder().s(getTicketGrantingTicketPrefix()).build()));
+    }
+
+    private Stream<? extends Ticket> scanSessionsFor(final String principal) {
+        val scan = ScanRequest.builder()
+            .tableName(dynamoDbProperties.getTicketGrantingTicketsTableName())
+            .filterExpression("#principal = :principal AND #prefix = :prefix")
+            .expressionAttributeNames(Map.of(
+                "#principal", ColumnNames.PRINCIPAL.getColumnName(),
+                "#prefix", ColumnNames.PREFIX.getColumnName()))
+            .expressionAttributeValues(Map.of(
+                ":principal", AttributeValue.builder().s(principal).build(),
+                ":prefix", AttributeValue.builder().s(getTicketGrantingTicketPrefix()).build()))
+            .build();
+        LOGGER.debug("Principal index is not active yet; scanning table with request [{}] to locate sessions for [{}]", scan, principal);
+        return DynamoDbTableUtils.parallelScan(amazonDynamoDBClient, scan,
+                dynamoDbProperties.getScanSegments(), DynamoDbTicketRegistryFacilitator::deserializeTicket)
+            .filter(Objects::nonNull)
             .filter(ticket -> !ticket.isExpired());
     }
 
+    private String getTicketGrantingTicketPrefix() {
+        return ticketCatalog.findTicketDefinition(TicketGrantingTicket.class)
+            .map(definition -> definition.getPrefix())
+            .orElse(TicketGrantingTicket.PREFIX);
+    }
+
+    /**
+     * The principal index may be added to an existing table, in which case it is built in the background
+     * and cannot be queried until it becomes active. Once active, it is no longer checked.
+     */
+    private boolean isPrincipalIndexActive() {
+        if (!principalIndexActive) {
+            val request = DescribeTableRequest.builder().tableName(dynamoDbProperties.getTicketGrantingTicketsTableName()).build();
+            val table = amazonDynamoDBClient.describeTable(request).table();
+            principalIndexActive = table.hasGlobalSecondaryIndexes() && table.globalSecondaryIndexes()
+                .stream()
+                .anyMatch(index -> PRINCIPAL_INDEX_NAME.equals(index.indexName()) && index.indexStatus() == IndexStatus.ACTIVE);
+        }
+        return principalIndexActive;
+    }
+
     /**
      * Count tickets and return value.
      *
@@ -368,15 +641,9 @@ public class DynamoDbTicketRegistryFacilitator {
      * @return the long
      */
     public long countTickets(final Class<? extends Ticket> ticketType, final String prefix) {
-        val keys = List.<DynamoDbQueryBuilder>of(
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.PREFIX.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(prefix).build()))
-                .operator(ComparisonOperator.EQ)
-                .build());
         return ticketCatalog.findTicketDefinition(ticketType)
-            .map(def -> DynamoDbTableUtils.scan(amazonDynamoDBClient, def.getProperties().getStorageName(), keys).count())
-            .orElse(-1);
+            .map(def -> countTickets(prefix))
+            .orElse(-1L);
     }
 
 
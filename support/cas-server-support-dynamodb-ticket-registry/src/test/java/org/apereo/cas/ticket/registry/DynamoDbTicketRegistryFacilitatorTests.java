@@ -2,6 +2,7 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 
@@ -66,6 +67,49 @@ class DynamoDbTicketRegistryFacilitatorTests {
             assertFalse(dynamoDbTicketRegistryFacilitator.delete("badticket", "badticket"));
             assertTrue(dynamoDbTicketRegistryFacilitator.deleteAll() > 0);
         }
+
+        @Test
+        void verifySessionsAndCounters() {
+            dynamoDbTicketRegistryFacilitator.createTicketTables(true);
+            val ticket = new MockTicketGrantingTicket("casuser",
+                CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword(),
+                CollectionUtils.wrap("name", "CAS"));
+            val payload = DynamoDbTicketRegistryFacilitator.TicketPayload.builder()
+                .originalTicket(ticket)
+                .encodedTicket(ticket)
+                .principal("casuser")
+                .build();
+            dynamoDbTicketRegistryFacilitator.put(payload);
+            dynamoDbTicketRegistryFacilitator.put(payload);
+            assertEquals(1, dynamoDbTicketRegistryFacilitator.countTickets(TicketGrantingTicket.class, TicketGrantingTicket.PREFIX));
+            assertEquals(1, dynamoDbTicketRegistryFacilitator.getSessionsFor("casuser").count());
+            assertEquals(0, dynamoDbTicketRegistryFacilitator.getSessionsFor("unknown").count());
+            assertEquals(1, dynamoDbTicketRegistryFacilitator.countSessionsFor("casuser"));
+            assertEquals(0, dynamoDbTicketRegistryFacilitator.countSessionsFor("unknown"));
+            try (val results = dynamoDbTicketRegistryFacilitator.stream()) {
+                assertEquals(1, results.count());
+            }
+            assertTrue(dynamoDbTicketRegistryFacilitator.delete(ticket.getId(), ticket.getId()));
+            assertEquals(0, dynamoDbTicketRegistryFacilitator.countTickets(TicketGrantingTicket.class, TicketGrantingTicket.PREFIX));
+            assertEquals(0, dynamoDbTicketRegistryFacilitator.countSessionsFor("casuser"));
+        }
+
+        @Test
+        void verifyExpiredSessionsNotCounted() {
+            dynamoDbTicketRegistryFacilitator.createTicketTables(true);
+            val ticket = new MockTicketGrantingTicket("casuser",
+                CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword(),
+                CollectionUtils.wrap("name", "CAS"));
+            ticket.markTicketExpired();
+            val payload = DynamoDbTicketRegistryFacilitator.TicketPayload.builder()
+                .originalTicket(ticket)
+                .encodedTicket(ticket)
+                .principal("casuser")
+                .build();
+            dynamoDbTicketRegistryFacilitator.put(payload);
+            assertEquals(0, dynamoDbTicketRegistryFacilitator.getSessionsFor("casuser").count());
+            assertEquals(0, dynamoDbTicketRegistryFacilitator.countSessionsFor("casuser"));
+        }
     }
 
     @Nested
@@ -35,4 +35,21 @@ public interface AuthenticationRequestRiskCalculator {
     AuthenticationRiskScore calculate(Authentication authentication,
                                       RegisteredService service,
                                       HttpServletRequest request);
+
+    /**
+     * Calculate authentication risk score using the authentication history
+     * of the principal that is shared by all calculators for the request.
+     *
+     * @param authentication the authentication
+     * @param service        the service
+     * @param request        the request
+     * @param history        the authentication history of the principal
+     * @return the authentication risk score
+     */
+    default AuthenticationRiskScore calculate(final Authentication authentication,
+                                              final RegisteredService service,
+                                              final HttpServletRequest request,
+                                              final AuthenticationRiskHistory history) {
+        return calculate(authentication, service, request);
+    }
 }
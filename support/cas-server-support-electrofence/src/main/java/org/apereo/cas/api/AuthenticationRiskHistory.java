@@ -0,0 +1,166 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.apereo.cas.util.DateTimeUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+
+/**
+ * This is {@link AuthenticationRiskHistory}, an immutable snapshot of the recent
+ * authentication events recorded for a principal. The snapshot is loaded once per
+ * risk evaluation and shared by all risk calculators, and keeps the number of events
+ * per client ip address, user agent, geolocation and hour of day so that
+ * calculators do not need to scan the event history to score a request.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class AuthenticationRiskHistory {
+    private static final int HOURS_IN_DAY = 24;
+
+    @Getter
+    private final String principal;
+
+    @Getter
+    private final List<? extends CasEvent> events;
+
+    private final Map<String, Long> clientIpAddressCounts = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    private final Map<String, Long> userAgentCounts = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    private final Map<GeoLocationRequest, Long> geoLocationCounts = new HashMap<>();
+
+    private final long[] hourOfDayCounts = new long[HOURS_IN_DAY];
+
+    protected AuthenticationRiskHistory(final String principal, final List<? extends CasEvent> events) {
+        this.principal = principal;
+        this.events = List.copyOf(events);
+        for (val event : this.events) {
+            val clientIpAddress = event.getClientIpAddress();
+            if (clientIpAddress != null) {
+                clientIpAddressCounts.merge(clientIpAddress, 1L, Long::sum);
+            }
+            val agent = event.getAgent();
+            if (StringUtils.isNotBlank(agent)) {
+                userAgentCounts.merge(agent, 1L, Long::sum);
+            }
+            geoLocationCounts.merge(event.getGeoLocation(), 1L, Long::sum);
+            val creationTime = DateTimeUtils.convertToZonedDateTime(event.getCreationTime());
+            if (creationTime != null) {
+                hourOfDayCounts[creationTime.withZoneSameInstant(ZoneOffset.UTC).getHour()]++;
+            }
+        }
+    }
+
+    /**
+     * Build the history snapshot from the given events.
+     *
+     * @param principal the principal
+     * @param events    the events
+     * @return the authentication risk history
+     */
+    public static AuthenticationRiskHistory of(final String principal, final List<? extends CasEvent> events) {
+        return new AuthenticationRiskHistory(principal, events);
+    }
+
+    /**
+     * Load the history snapshot for the principal from the ticket-granting ticket
+     * events recorded within the configured number of days in recent history.
+     *
+     * @param casEventRepository the cas event repository
+     * @param casProperties      the cas properties
+     * @param principal          the principal
+     * @return the authentication risk history
+     */
+    public static AuthenticationRiskHistory load(final CasEventRepository casEventRepository,
+                                                 final CasConfigurationProperties casProperties,
+                                                 final String principal) {
+        val type = CasTicketGrantingTicketCreatedEvent.class.getName();
+        LOGGER.debug("Retrieving events of type [{}] for [{}]", type, principal);
+        val date = ZonedDateTime.now(ZoneOffset.UTC)
+            .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getCore().getDaysInRecentHistory());
+        try (val events = casEventRepository.getEventsOfTypeForPrincipal(type, principal, date)) {
+            return of(principal, events.toList());
+        }
+    }
+
+    /**
+     * Is the history empty?
+     *
+     * @return true/false
+     */
+    public boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    /**
+     * Number of events in the history.
+     *
+     * @return the count
+     */
+    public long size() {
+        return events.size();
+    }
+
+    /**
+     * Count events recorded from the given client ip address, ignoring case.
+     *
+     * @param clientIpAddress the client ip address
+     * @return the count
+     */
+    public long countByClientIpAddress(final String clientIpAddress) {
+        return clientIpAddress == null ? 0 : clientIpAddressCounts.getOrDefault(clientIpAddress, 0L);
+    }
+
+    /**
+     * Count events recorded with the given user agent, ignoring case.
+     *
+     * @param userAgent the user agent
+     * @return the count
+     */
+    public long countByUserAgent(final String userAgent) {
+        return userAgent == null ? 0 : userAgentCounts.getOrDefault(userAgent, 0L);
+    }
+
+    /**
+     * Count events recorded at the given geolocation.
+     *
+     * @param location the location
+     * @return the count
+     */
+    public long countByGeoLocation(final GeoLocationRequest location) {
+        return geoLocationCounts.getOrDefault(location, 0L);
+    }
+
+    /**
+     * Count events recorded at the hours of day, in UTC, that match the given predicate.
+     *
+     * @param hourOfDay the hour of day predicate
+     * @return the count
+     */
+    public long countByHourOfDay(final IntPredicate hourOfDay) {
+        var count = 0L;
+        for (var hour = 0; hour < HOURS_IN_DAY; hour++) {
+            if (hourOfDay.test(hour)) {
+                count += hourOfDayCounts[hour];
+            }
+        }
+        return count;
+    }
+}
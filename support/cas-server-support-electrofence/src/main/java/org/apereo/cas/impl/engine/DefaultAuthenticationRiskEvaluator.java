@@ -2,12 +2,15 @@ package org.apereo.cas.impl.engine;
 
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
 import org.apereo.cas.api.AuthenticationRiskEvaluator;
+import org.apereo.cas.api.AuthenticationRiskHistory;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditableActions;
 import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 
 import lombok.Getter;
@@ -23,6 +26,8 @@ import java.util.Objects;
 
 /**
  * This is {@link DefaultAuthenticationRiskEvaluator}.
+ * The authentication history of the principal is loaded once per evaluation
+ * and shared by all calculators.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -32,6 +37,10 @@ import java.util.Objects;
 public class DefaultAuthenticationRiskEvaluator implements AuthenticationRiskEvaluator {
     private final List<AuthenticationRequestRiskCalculator> calculators;
 
+    private final CasEventRepository casEventRepository;
+
+    private final CasConfigurationProperties casProperties;
+
     @Audit(action = AuditableActions.EVALUATE_RISKY_AUTHENTICATION,
         actionResolverName = AuditActionResolvers.ADAPTIVE_RISKY_AUTHENTICATION_ACTION_RESOLVER,
         resourceResolverName = AuditResourceResolvers.ADAPTIVE_RISKY_AUTHENTICATION_RESOURCE_RESOLVER)
@@ -48,9 +57,10 @@ public class DefaultAuthenticationRiskEvaluator implements AuthenticationRiskEva
             return new AuthenticationRiskScore(AuthenticationRequestRiskCalculator.HIGHEST_RISK_SCORE);
         }
 
+        val history = AuthenticationRiskHistory.load(casEventRepository, casProperties, authentication.getPrincipal().getId());
         val scores = activeCalculators
             .stream()
-            .map(r -> r.calculate(authentication, service, request))
+            .map(r -> r.calculate(authentication, service, request, history))
             .filter(Objects::nonNull).toList();
 
         val sum = scores.stream()
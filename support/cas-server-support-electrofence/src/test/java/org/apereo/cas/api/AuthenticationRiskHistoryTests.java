@@ -0,0 +1,132 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.impl.calcs.IpAddressAuthenticationRequestRiskCalculator;
+import org.apereo.cas.impl.calcs.UserAgentAuthenticationRequestRiskCalculator;
+import org.apereo.cas.impl.engine.DefaultAuthenticationRiskEvaluator;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link AuthenticationRiskHistoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Authentication")
+class AuthenticationRiskHistoryTests {
+    private static CasEvent createEvent(final String clientIpAddress, final String agent,
+                                        final String latitude, final int hour) {
+        val event = new CasEvent();
+        event.setType(CasTicketGrantingTicketCreatedEvent.class.getName());
+        event.setPrincipalId("casuser");
+        event.setCreationTime(ZonedDateTime.of(2023, 1, 1, hour, 30, 0, 0, ZoneOffset.UTC).toString());
+        event.putClientIpAddress(clientIpAddress);
+        event.putAgent(agent);
+        val location = new GeoLocationRequest();
+        location.setLatitude(latitude);
+        location.setLongitude("-74.005");
+        location.setAccuracy("50");
+        location.setTimestamp(String.valueOf(hour));
+        event.putGeoLocation(location);
+        return event;
+    }
+
+    private static List<CasEvent> createEvents() {
+        return List.of(
+            createEvent("107.181.69.221", "Firefox", "40.71", 1),
+            createEvent("107.181.69.221", "FIREFOX", "40.71", 2),
+            createEvent("85.90.227.224", "Chrome", "48.85", 23),
+            createEvent("88.190.229.170", "Chrome", "40.71", 12));
+    }
+
+    @Test
+    void verifyAggregates() {
+        val history = AuthenticationRiskHistory.of("casuser", createEvents());
+        assertEquals("casuser", history.getPrincipal());
+        assertEquals(4, history.size());
+        assertFalse(history.isEmpty());
+
+        assertEquals(2, history.countByClientIpAddress("107.181.69.221"));
+        assertEquals(0, history.countByClientIpAddress("127.0.0.1"));
+        assertEquals(0, history.countByClientIpAddress(null));
+
+        assertEquals(2, history.countByUserAgent("firefox"));
+        assertEquals(2, history.countByUserAgent("Chrome"));
+        assertEquals(0, history.countByUserAgent(null));
+
+        assertEquals(3, history.countByGeoLocation(new GeoLocationRequest(40.71, -74.005)));
+        assertEquals(0, history.countByGeoLocation(new GeoLocationRequest(1, 1)));
+
+        assertEquals(2, history.countByHourOfDay(hour -> hour <= 2));
+        assertEquals(3, history.countByHourOfDay(hour -> hour >= 22 || hour <= 2));
+        assertEquals(4, history.countByHourOfDay(hour -> true));
+    }
+
+    @Test
+    void verifyEmptyHistory() {
+        val history = AuthenticationRiskHistory.of("casuser", List.of());
+        assertTrue(history.isEmpty());
+        assertEquals(0, history.countByHourOfDay(hour -> true));
+    }
+
+    @Test
+    void verifyHistoryLoadedOncePerEvaluation() {
+        val casProperties = new CasConfigurationProperties();
+        val repository = mock(CasEventRepository.class);
+        when(repository.getEventsOfTypeForPrincipal(anyString(), anyString(), any()))
+            .thenAnswer(args -> createEvents().stream());
+
+        val evaluator = new DefaultAuthenticationRiskEvaluator(List.of(
+            new IpAddressAuthenticationRequestRiskCalculator(repository, casProperties),
+            new UserAgentAuthenticationRequestRiskCalculator(repository, casProperties)),
+            repository, casProperties);
+
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr("107.181.69.221");
+        request.setLocalAddr("127.0.0.1");
+        request.addHeader(HttpHeaders.USER_AGENT, "Firefox");
+        ClientInfoHolder.setClientInfo(new ClientInfo(request));
+
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+        val score = evaluator.eval(authentication, RegisteredServiceTestUtils.getRegisteredService("test"), request);
+        assertEquals(0.5, score.score().doubleValue());
+        verify(repository, times(1)).getEventsOfTypeForPrincipal(anyString(), anyString(), any());
+    }
+
+    @Test
+    void verifyCalculatorLoadsHistoryForOtherPrincipal() {
+        val casProperties = new CasConfigurationProperties();
+        val repository = mock(CasEventRepository.class);
+        when(repository.getEventsOfTypeForPrincipal(anyString(), anyString(), any()))
+            .thenAnswer(args -> Stream.empty());
+        val calculator = new IpAddressAuthenticationRequestRiskCalculator(repository, casProperties);
+        val history = AuthenticationRiskHistory.of("someone-else", createEvents());
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+        val score = calculator.calculate(authentication, RegisteredServiceTestUtils.getRegisteredService("test"),
+            new MockHttpServletRequest(), history);
+        assertTrue(score.isHighestRisk());
+        verify(repository, times(1)).getEventsOfTypeForPrincipal(anyString(), eq("casuser"), any());
+    }
+}
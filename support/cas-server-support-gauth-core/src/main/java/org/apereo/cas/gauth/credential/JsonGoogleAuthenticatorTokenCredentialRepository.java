@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.OneTimeTokenAccount;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.io.AppendOnlyJsonFileJournal;
 import org.apereo.cas.util.serialization.AbstractJacksonBackedStringSerializer;
 import org.apereo.cas.util.serialization.StringSerializer;
 
@@ -13,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.core.io.Resource;
 
+import java.io.File;
 import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -20,21 +22,37 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link JsonGoogleAuthenticatorTokenCredentialRepository}.
+ * Accounts are kept in memory and indexed by username once the JSON file is read.
+ * Changes are appended to a journal that sits next to the JSON file,
+ * and the journal is periodically compacted back into the JSON file.
+ * The JSON file is read again if it is modified outside of this repository.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
-@Getter
 @Slf4j
 public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogleAuthenticatorTokenCredentialRepository {
+    @Getter
     private final Resource location;
 
+    @Getter
     private final StringSerializer<Map<String, List<OneTimeTokenAccount>>> serializer = new OneTimeAccountSerializer();
 
+    private final Map<String, List<OneTimeTokenAccount>> cachedAccounts = new ConcurrentHashMap<>();
+
+    private AppendOnlyJsonFileJournal<List<OneTimeTokenAccount>> journal;
+
+    private File loadedFile;
+
+    private long loadedFileLastModified = -1;
+
+    private long loadedFileLength = -1;
+
     public JsonGoogleAuthenticatorTokenCredentialRepository(final Resource location, final IGoogleAuthenticator googleAuthenticator,
                                                             final CipherExecutor<String, String> tokenCredentialCipher,
                                                             final CipherExecutor<Number, Number> scratchCodesCipher) {
@@ -42,6 +60,16 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
         this.location = location;
     }
 
+    private static String getAccountKey(final String username) {
+        return username.trim().toLowerCase(Locale.ENGLISH);
+    }
+
+    private static OneTimeTokenAccount copyOf(final OneTimeTokenAccount account) {
+        val copy = account.clone();
+        copy.setScratchCodes(new ArrayList<>(account.getScratchCodes()));
+        return copy;
+    }
+
     @Override
     public OneTimeTokenAccount get(final long id) {
         val accounts = readAccountsFromJsonRepository();
@@ -50,6 +78,7 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
             .flatMap(List::stream)
             .filter(ac -> ac.getId() == id)
             .findFirst()
+            .map(JsonGoogleAuthenticatorTokenCredentialRepository::copyOf)
             .orElse(null);
     }
 
@@ -65,18 +94,7 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
                 LOGGER.warn("JSON account repository file [{}] is not found.", location.getFile());
                 return new ArrayList<>(0);
             }
-
-            if (location.getFile().length() <= 0) {
-                LOGGER.warn("JSON account repository file location [{}] is empty.", location.getFile());
-                return new ArrayList<>(0);
-            }
-            val map = this.serializer.from(location.getFile());
-            if (map == null) {
-                LOGGER.debug("JSON account repository file [{}] is empty.", location.getFile());
-                return new ArrayList<>(0);
-            }
-
-            val account = map.get(username.trim().toLowerCase(Locale.ENGLISH));
+            val account = readAccountsFromJsonRepository().get(getAccountKey(username));
             if (account != null) {
                 return decode(account);
             }
@@ -90,7 +108,10 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
     public Collection<? extends OneTimeTokenAccount> load() {
         try {
             return readAccountsFromJsonRepository().values()
-                .stream().flatMap(List::stream).collect(Collectors.toList());
+                .stream()
+                .flatMap(List::stream)
+                .map(JsonGoogleAuthenticatorTokenCredentialRepository::copyOf)
+                .collect(Collectors.toList());
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         }
@@ -105,10 +126,13 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
             LOGGER.debug("Found [{}] account(s) and added google authenticator account for [{}]",
                 accounts.size(), account.getUsername());
             val encoded = encode(account);
-            val records = accounts.getOrDefault(account.getUsername().trim().toLowerCase(Locale.ENGLISH), new ArrayList<>());
-            records.add(encoded);
-            accounts.put(account.getUsername().trim().toLowerCase(Locale.ENGLISH), records);
-            writeAccountsToJsonRepository(accounts);
+            val key = getAccountKey(account.getUsername());
+            synchronized (this) {
+                val records = new ArrayList<>(accounts.getOrDefault(key, List.of()));
+                records.add(copyOf(encoded));
+                accounts.put(key, records);
+                recordAccountsInJsonRepository(key, records);
+            }
             return encoded;
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
@@ -120,20 +144,24 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
     public OneTimeTokenAccount update(final OneTimeTokenAccount account) {
         try {
             val accounts = readAccountsFromJsonRepository();
-            if (accounts.containsKey(account.getUsername().trim().toLowerCase(Locale.ENGLISH))) {
-                val records = accounts.get(account.getUsername().trim().toLowerCase(Locale.ENGLISH));
-                return records.stream()
-                    .filter(rec -> rec.getId() == account.getId())
-                    .findFirst()
-                    .map(act -> {
-                        val encoded = encode(account);
-                        act.setSecretKey(encoded.getSecretKey());
-                        act.setScratchCodes(encoded.getScratchCodes());
-                        act.setValidationCode(encoded.getValidationCode());
-                        writeAccountsToJsonRepository(accounts);
-                        return encoded;
-                    })
-                    .orElse(null);
+            val key = getAccountKey(account.getUsername());
+            synchronized (this) {
+                if (accounts.containsKey(key)) {
+                    val records = new ArrayList<>(accounts.get(key));
+                    for (var i = 0; i < records.size(); i++) {
+                        if (records.get(i).getId() == account.getId()) {
+                            val encoded = encode(account);
+                            val act = copyOf(records.get(i));
+                            act.setSecretKey(encoded.getSecretKey());
+                            act.setScratchCodes(new ArrayList<>(encoded.getScratchCodes()));
+                            act.setValidationCode(encoded.getValidationCode());
+                            records.set(i, act);
+                            accounts.put(key, records);
+                            recordAccountsInJsonRepository(key, records);
+                            return encoded;
+                        }
+                    }
+                }
             }
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
@@ -143,21 +171,36 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
 
     @Override
     public void deleteAll() {
-        writeAccountsToJsonRepository(new HashMap<>(0));
+        val accounts = readAccountsFromJsonRepository();
+        synchronized (this) {
+            accounts.clear();
+            writeAccountsToJsonRepository();
+        }
     }
 
     @Override
     public void delete(final String username) {
         val accounts = readAccountsFromJsonRepository();
-        accounts.remove(username.trim().toLowerCase(Locale.ENGLISH));
-        writeAccountsToJsonRepository(accounts);
+        val key = getAccountKey(username);
+        synchronized (this) {
+            if (accounts.remove(key) != null) {
+                recordAccountsInJsonRepository(key, null);
+            }
+        }
     }
 
     @Override
     public void delete(final long id) {
         val accounts = readAccountsFromJsonRepository();
-        accounts.forEach((key, value) -> value.removeIf(d -> d.getId() == id));
-        writeAccountsToJsonRepository(accounts);
+        synchronized (this) {
+            accounts.forEach((key, value) -> {
+                if (value.stream().anyMatch(d -> d.getId() == id)) {
+                    val records = value.stream().filter(d -> d.getId() != id).collect(Collectors.toCollection(ArrayList::new));
+                    accounts.put(key, records);
+                    recordAccountsInJsonRepository(key, records);
+                }
+            });
+        }
     }
 
     @Override
@@ -169,7 +212,8 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
     @Override
     public long count(final String username) {
         val accounts = readAccountsFromJsonRepository();
-        return accounts.containsKey(username.trim().toLowerCase(Locale.ENGLISH)) ? accounts.get(username.trim().toLowerCase(Locale.ENGLISH)).size() : 0;
+        val records = accounts.get(getAccountKey(username));
+        return records != null ? records.size() : 0;
     }
 
     private static class OneTimeAccountSerializer extends AbstractJacksonBackedStringSerializer<Map<String, List<OneTimeTokenAccount>>> {
@@ -182,11 +226,27 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
         }
     }
 
-    private void writeAccountsToJsonRepository(final Map<String, List<OneTimeTokenAccount>> accounts) {
+    private void recordAccountsInJsonRepository(final String key, final List<OneTimeTokenAccount> records) {
+        FunctionUtils.doUnchecked(__ -> {
+            if (journal != null) {
+                journal.append(key, records);
+                if (journal.isCompactionDue(cachedAccounts.size())) {
+                    writeAccountsToJsonRepository();
+                }
+            }
+        });
+    }
+
+    private void writeAccountsToJsonRepository() {
         FunctionUtils.doUnchecked(__ -> {
-            if (location.getFile() != null) {
-                LOGGER.debug("Saving [{}] google authenticator accounts to JSON file at [{}]", accounts.size(), location.getFile());
-                serializer.to(location.getFile(), accounts);
+            val file = location.getFile();
+            if (file != null) {
+                LOGGER.debug("Saving [{}] google authenticator accounts to JSON file at [{}]", cachedAccounts.size(), file);
+                serializer.to(file, new HashMap<>(cachedAccounts));
+                if (journal != null) {
+                    journal.truncate();
+                }
+                rememberLoadedFile(file);
             }
         });
     }
@@ -194,18 +254,48 @@ public class JsonGoogleAuthenticatorTokenCredentialRepository extends BaseGoogle
     private Map<String, List<OneTimeTokenAccount>> readAccountsFromJsonRepository() {
         return FunctionUtils.doUnchecked(() -> {
             val file = location.getFile();
-            LOGGER.debug("Ensuring JSON repository file exists at [{}]", file);
-            val result = file != null && file.createNewFile();
-            if (result) {
-                LOGGER.debug("Created JSON repository file at [{}]", file);
+            if (file == null) {
+                return new HashMap<>(0);
             }
-            if (file != null && file.length() > 0) {
-                LOGGER.debug("Reading JSON repository file at [{}]", file);
-                val accounts = this.serializer.from(file);
-                LOGGER.debug("Read [{}] accounts from JSON repository file at [{}]", accounts.size(), file);
-                return accounts;
+            synchronized (this) {
+                if (file.equals(loadedFile) && file.lastModified() == loadedFileLastModified && file.length() == loadedFileLength) {
+                    return cachedAccounts;
+                }
+                LOGGER.debug("Ensuring JSON repository file exists at [{}]", file);
+                if (file.createNewFile()) {
+                    LOGGER.debug("Created JSON repository file at [{}]", file);
+                }
+                cachedAccounts.clear();
+                if (file.length() > 0) {
+                    LOGGER.debug("Reading JSON repository file at [{}]", file);
+                    val records = serializer.from(file);
+                    if (records != null) {
+                        cachedAccounts.putAll(records);
+                    }
+                }
+                val mapper = ((OneTimeAccountSerializer) serializer).getObjectMapper();
+                journal = AppendOnlyJsonFileJournal.forSnapshot(file, mapper,
+                    mapper.getTypeFactory().constructCollectionType(List.class, OneTimeTokenAccount.class));
+                journal.replay((key, records) -> {
+                    if (records == null) {
+                        cachedAccounts.remove(key);
+                    } else {
+                        cachedAccounts.put(key, new ArrayList<>(records));
+                    }
+                });
+                LOGGER.debug("Read [{}] accounts from JSON repository file at [{}]", cachedAccounts.size(), file);
+                rememberLoadedFile(file);
+                if (journal.isCompactionDue(cachedAccounts.size())) {
+                    writeAccountsToJsonRepository();
+                }
+                return cachedAccounts;
             }
-            return new HashMap<>(0);
         });
     }
+
+    private void rememberLoadedFile(final File file) {
+        loadedFile = file;
+        loadedFileLastModified = file.lastModified();
+        loadedFileLength = file.length();
+    }
 }
@@ -7,6 +7,7 @@ import org.apereo.cas.configuration.support.JpaBeans;
 import org.apereo.cas.jpa.JpaBeanFactory;
 import org.apereo.cas.jpa.JpaPersistenceProviderConfigurer;
 import org.apereo.cas.services.JpaRegisteredServiceEntity;
+import org.apereo.cas.services.JpaRegisteredServiceRevisionEntity;
 import org.apereo.cas.services.JpaServiceRegistry;
 import org.apereo.cas.services.ServiceRegistry;
 import org.apereo.cas.services.ServiceRegistryExecutionPlanConfigurer;
@@ -84,7 +85,8 @@ public class JpaServiceRegistryConfiguration {
             return BeanSupplier.of(JpaPersistenceProviderConfigurer.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
                 .supply(() -> context -> {
-                    val entities = CollectionUtils.wrapList(JpaRegisteredServiceEntity.class.getName());
+                    val entities = CollectionUtils.wrapList(JpaRegisteredServiceEntity.class.getName(),
+                        JpaRegisteredServiceRevisionEntity.class.getName());
                     context.getIncludeEntityClasses().addAll(entities);
                 })
                 .otherwiseProxy()
@@ -231,14 +233,19 @@ public class JpaServiceRegistryConfiguration {
         @ConditionalOnMissingBean(name = "jpaServiceRegistry")
         public ServiceRegistry jpaServiceRegistry(
             final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
             final ObjectProvider<List<ServiceRegistryListener>> serviceRegistryListeners,
             @Qualifier("jdbcServiceRegistryTransactionTemplate")
             final TransactionOperations jdbcServiceRegistryTransactionTemplate) {
             return BeanSupplier.of(ServiceRegistry.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
-                .supply(() -> new JpaServiceRegistry(applicationContext,
-                    Optional.ofNullable(serviceRegistryListeners.getIfAvailable()).orElseGet(ArrayList::new),
-                    jdbcServiceRegistryTransactionTemplate))
+                .supply(() -> {
+                    val registry = new JpaServiceRegistry(applicationContext,
+                        Optional.ofNullable(serviceRegistryListeners.getIfAvailable()).orElseGet(ArrayList::new),
+                        jdbcServiceRegistryTransactionTemplate);
+                    registry.setChangeTrackingEnabled(casProperties.getServiceRegistry().getJpa().isChangeTrackingEnabled());
+                    return registry;
+                })
                 .otherwiseProxy()
                 .get();
         }
@@ -0,0 +1,50 @@
+package org.apereo.cas.services;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link JpaRegisteredServiceRevisionEntity} that holds the revision
+ * of the service registry, which is incremented every time a service definition
+ * is saved or removed.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Table(name = "RegisteredServicesRevision")
+@Entity(name = JpaRegisteredServiceRevisionEntity.ENTITY_NAME)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class JpaRegisteredServiceRevisionEntity implements Serializable {
+    /**
+     * The JPA entity name.
+     */
+    public static final String ENTITY_NAME = "JpaRegisteredServiceRevisionEntity";
+
+    /**
+     * Identifier of the single revision record.
+     */
+    public static final long REVISION_ID = 1;
+
+    @Serial
+    private static final long serialVersionUID = 3460239817612386541L;
+
+    @Id
+    private long id;
+
+    @Column(nullable = false)
+    private long revision;
+}
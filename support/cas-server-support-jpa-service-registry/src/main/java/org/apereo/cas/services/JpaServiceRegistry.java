@@ -4,16 +4,24 @@ import org.apereo.cas.services.util.RegisteredServiceJsonSerializer;
 import org.apereo.cas.support.events.service.CasRegisteredServiceLoadedEvent;
 import org.apereo.cas.util.serialization.StringSerializer;
 
+import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.transaction.support.TransactionOperations;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -23,6 +31,10 @@ import java.util.stream.LongStream;
 
 /**
  * Implementation of the ServiceRegistry based on JPA.
+ * When change tracking is enabled, every save or removal increments the revision of the registry
+ * and stamps saved rows with it, so that changes can be loaded by only fetching rows whose revision
+ * is newer than the revision seen during the last load. The revision record is created on startup,
+ * so that saves only ever lock and update the existing record.
  *
  * @author Scott Battaglia
  * @author Dmitriy Kopylenko
@@ -30,7 +42,7 @@ import java.util.stream.LongStream;
  */
 @ToString
 @Slf4j
-public class JpaServiceRegistry extends AbstractServiceRegistry {
+public class JpaServiceRegistry extends AbstractServiceRegistry implements InitializingBean {
     private final TransactionOperations transactionTemplate;
 
     @PersistenceContext(unitName = "jpaServiceRegistryContext")
@@ -38,6 +50,14 @@ public class JpaServiceRegistry extends AbstractServiceRegistry {
 
     private final StringSerializer<RegisteredService> serializer;
 
+    @ToString.Exclude
+    private final Map<Long, RegisteredService> trackedServices = new HashMap<>();
+
+    @Setter
+    private boolean changeTrackingEnabled;
+
+    private long trackedRevision = -1;
+
     public JpaServiceRegistry(final ConfigurableApplicationContext applicationContext,
                               final Collection<ServiceRegistryListener> serviceRegistryListeners,
                               final TransactionOperations transactionTemplate) {
@@ -46,9 +66,19 @@ public class JpaServiceRegistry extends AbstractServiceRegistry {
         this.serializer = new RegisteredServiceJsonSerializer(applicationContext);
     }
 
+    @Override
+    public void afterPropertiesSet() {
+        if (changeTrackingEnabled) {
+            initializeRevision();
+        }
+    }
+
     @Override
     public boolean delete(final RegisteredService registeredService) {
         transactionTemplate.executeWithoutResult(status -> {
+            if (changeTrackingEnabled) {
+                incrementRevision();
+            }
             val entity = fromRegisteredService(registeredService);
             if (entityManager.contains(entity)) {
                 entityManager.remove(entity);
@@ -63,6 +93,9 @@ public class JpaServiceRegistry extends AbstractServiceRegistry {
     @Override
     public void deleteAll() {
         transactionTemplate.executeWithoutResult(status -> {
+            if (changeTrackingEnabled) {
+                incrementRevision();
+            }
             val query = String.format("DELETE FROM %s s", JpaRegisteredServiceEntity.ENTITY_NAME);
             entityManager.createQuery(query).executeUpdate();
         });
@@ -71,17 +104,61 @@ public class JpaServiceRegistry extends AbstractServiceRegistry {
     @Override
     public Collection<RegisteredService> load() {
         return transactionTemplate.execute(status -> {
+            val revision = changeTrackingEnabled ? getCurrentRevision() : -1;
             val query = String.format("SELECT r FROM %s r", JpaRegisteredServiceEntity.ENTITY_NAME);
             val list = entityManager.createQuery(query, JpaRegisteredServiceEntity.class).getResultList();
+            val services = list
+                .stream()
+                .map(this::toRegisteredService)
+                .sorted()
+                .toList();
+            if (changeTrackingEnabled) {
+                trackServices(revision, services);
+            }
             val clientInfo = ClientInfoHolder.getClientInfo();
-            return list
+            return services
+                .stream()
+                .map(this::invokeServiceRegistryListenerPostLoad)
+                .filter(Objects::nonNull)
+                .peek(s -> publishEvent(new CasRegisteredServiceLoadedEvent(this, s, clientInfo)))
+                .collect(Collectors.toList());
+        });
+    }
+
+    @Override
+    public synchronized Optional<ServiceRegistryChangeSet> loadChanges() {
+        if (!changeTrackingEnabled || trackedRevision < 0) {
+            return Optional.empty();
+        }
+        return transactionTemplate.execute(status -> {
+            val revision = getCurrentRevision();
+            if (revision == trackedRevision) {
+                LOGGER.trace("Service registry revision [{}] is unchanged", revision);
+                return Optional.of(ServiceRegistryChangeSet.empty());
+            }
+            val query = String.format("SELECT r FROM %s r WHERE r.revision > :revision", JpaRegisteredServiceEntity.ENTITY_NAME);
+            val modifiedServices = entityManager.createQuery(query, JpaRegisteredServiceEntity.class)
+                .setParameter("revision", trackedRevision)
+                .getResultList()
                 .stream()
                 .map(this::toRegisteredService)
                 .sorted()
+                .toList();
+            val removedServices = findRemovedServices(modifiedServices);
+            LOGGER.debug("Service registry revision changed from [{}] to [{}] with [{}] modified and [{}] removed service(s)",
+                trackedRevision, revision, modifiedServices.size(), removedServices.size());
+            removedServices.forEach(service -> trackedServices.remove(service.getId()));
+            modifiedServices.forEach(service -> trackedServices.put(service.getId(), service));
+            trackedRevision = revision;
+
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            val loadedServices = modifiedServices
+                .stream()
                 .map(this::invokeServiceRegistryListenerPostLoad)
                 .filter(Objects::nonNull)
                 .peek(s -> publishEvent(new CasRegisteredServiceLoadedEvent(this, s, clientInfo)))
                 .collect(Collectors.toList());
+            return Optional.of(new ServiceRegistryChangeSet(loadedServices, removedServices));
         });
     }
 
@@ -180,6 +257,9 @@ public class JpaServiceRegistry extends AbstractServiceRegistry {
         invokeServiceRegistryListenerPreSave(registeredService);
 
         val entity = fromRegisteredService(registeredService);
+        if (changeTrackingEnabled) {
+            entity.setRevision(incrementRevision());
+        }
         if (isNew) {
             entityManager.persist(entity);
             return toRegisteredService(entity);
@@ -189,6 +269,65 @@ public class JpaServiceRegistry extends AbstractServiceRegistry {
     }
 
 
+    private synchronized void trackServices(final long revision, final List<RegisteredService> services) {
+        trackedServices.clear();
+        services.forEach(service -> trackedServices.put(service.getId(), service));
+        trackedRevision = revision;
+    }
+
+    /**
+     * Rows are only ever removed along with an increment of the registry revision, so every row
+     * in the table is either tracked already or modified since; if counting rows does not match
+     * that, some tracked rows are removed and identifiers of all rows are fetched to find them.
+     */
+    private List<RegisteredService> findRemovedServices(final List<RegisteredService> modifiedServices) {
+        val expectedCount = trackedServices.size()
+            + modifiedServices.stream().filter(service -> !trackedServices.containsKey(service.getId())).count();
+        if (size() == expectedCount) {
+            return new ArrayList<>(0);
+        }
+        val query = String.format("SELECT r.id FROM %s r", JpaRegisteredServiceEntity.ENTITY_NAME);
+        val identifiers = new HashSet<>(entityManager.createQuery(query, Long.class).getResultList());
+        return trackedServices.values()
+            .stream()
+            .filter(service -> !identifiers.contains(service.getId()))
+            .collect(Collectors.toList());
+    }
+
+    private long getCurrentRevision() {
+        return Optional.ofNullable(entityManager.find(JpaRegisteredServiceRevisionEntity.class,
+                JpaRegisteredServiceRevisionEntity.REVISION_ID))
+            .map(JpaRegisteredServiceRevisionEntity::getRevision)
+            .orElse(0L);
+    }
+
+    /**
+     * Nodes that start at the same time may both attempt to create the revision record,
+     * in which case all but one fail to insert it, which is harmless since the record then exists.
+     */
+    private void initializeRevision() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (entityManager.find(JpaRegisteredServiceRevisionEntity.class, JpaRegisteredServiceRevisionEntity.REVISION_ID) == null) {
+                    entityManager.persist(new JpaRegisteredServiceRevisionEntity(JpaRegisteredServiceRevisionEntity.REVISION_ID, 0));
+                }
+            });
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to create the service registry revision, which may already be created by another node: [{}]", e.getMessage());
+        }
+    }
+
+    private long incrementRevision() {
+        val entity = entityManager.find(JpaRegisteredServiceRevisionEntity.class,
+            JpaRegisteredServiceRevisionEntity.REVISION_ID, LockModeType.PESSIMISTIC_WRITE);
+        if (entity == null) {
+            throw new IllegalStateException("Service registry revision is not initialized; "
+                + "the revision record is expected to be created on startup");
+        }
+        entity.setRevision(entity.getRevision() + 1);
+        return entity.getRevision();
+    }
+
     /**
      * From registered service.
      *
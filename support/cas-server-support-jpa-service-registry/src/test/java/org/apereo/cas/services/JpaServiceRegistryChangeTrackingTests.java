@@ -0,0 +1,103 @@
+package org.apereo.cas.services;
+
+import org.apereo.cas.config.CasCoreNotificationsConfiguration;
+import org.apereo.cas.config.CasCoreServicesConfiguration;
+import org.apereo.cas.config.CasCoreUtilConfiguration;
+import org.apereo.cas.config.CasCoreWebConfiguration;
+import org.apereo.cas.config.CasHibernateJpaConfiguration;
+import org.apereo.cas.config.CasWebApplicationServiceFactoryConfiguration;
+import org.apereo.cas.config.JpaServiceRegistryConfiguration;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link JpaServiceRegistryChangeTrackingTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@SpringBootTest(classes = {
+    RefreshAutoConfiguration.class,
+    AopAutoConfiguration.class,
+    CasCoreUtilConfiguration.class,
+    CasCoreWebConfiguration.class,
+    CasWebApplicationServiceFactoryConfiguration.class,
+    CasCoreNotificationsConfiguration.class,
+    JpaServiceRegistryConfiguration.class,
+    CasHibernateJpaConfiguration.class,
+    CasCoreServicesConfiguration.class
+}, properties = {
+    "cas.jdbc.show-sql=false",
+    "cas.service-registry.jpa.change-tracking-enabled=true"
+})
+@Tag("JDBC")
+class JpaServiceRegistryChangeTrackingTests {
+    @Autowired
+    @Qualifier("jpaServiceRegistry")
+    private ServiceRegistry serviceRegistry;
+
+    private static RegisteredService getRegisteredService() {
+        val service = RegisteredServiceTestUtils.getRegisteredService(UUID.randomUUID().toString(), true);
+        service.setId(RegisteredService.INITIAL_IDENTIFIER_VALUE);
+        return service;
+    }
+
+    @Test
+    void verifyChangesLoaded() {
+        serviceRegistry.deleteAll();
+        val service1 = serviceRegistry.save(getRegisteredService());
+        val service2 = serviceRegistry.save(getRegisteredService());
+        assertTrue(serviceRegistry.loadChanges().isEmpty());
+        assertEquals(2, serviceRegistry.load().size());
+
+        var changes = serviceRegistry.loadChanges().orElseThrow();
+        assertTrue(changes.isEmpty());
+
+        service1.setDescription("Modified service");
+        serviceRegistry.save(service1);
+        val service3 = serviceRegistry.save(getRegisteredService());
+        serviceRegistry.delete(service2);
+
+        changes = serviceRegistry.loadChanges().orElseThrow();
+        assertEquals(Stream.of(service1.getId(), service3.getId()).sorted().toList(),
+            changes.getModifiedServices().stream().map(RegisteredService::getId).sorted().toList());
+        assertEquals(List.of(service2.getId()),
+            changes.getRemovedServices().stream().map(RegisteredService::getId).toList());
+        assertTrue(changes.getModifiedServices().stream()
+            .anyMatch(service -> "Modified service".equals(service.getDescription())));
+        assertTrue(serviceRegistry.loadChanges().orElseThrow().isEmpty());
+    }
+
+    @Test
+    void verifyConcurrentSaves() throws Exception {
+        serviceRegistry.deleteAll();
+        val executor = Executors.newFixedThreadPool(4);
+        try {
+            val tasks = IntStream.range(0, 8)
+                .mapToObj(i -> executor.submit(() -> serviceRegistry.save(getRegisteredService())))
+                .toList();
+            for (val task : tasks) {
+                assertNotNull(task.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(8, serviceRegistry.load().size());
+    }
+}
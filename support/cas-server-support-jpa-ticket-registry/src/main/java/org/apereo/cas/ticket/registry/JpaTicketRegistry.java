@@ -25,7 +25,10 @@ import jakarta.persistence.LockModeType;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 
+import java.time.Clock;
+import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -89,10 +92,32 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             return getJpaTicketEntityFactory()
                 .fromTicket(encodeTicket)
                 .setPrincipalId(digestIdentifier(getPrincipalIdFrom(ticket)))
-                .setAttributes(collectAndDigestTicketAttributes(ticket));
+                .setAttributes(collectAndDigestTicketAttributes(ticket))
+                .setExpirationTime(getExpirationTimeFrom(ticket));
         });
     }
 
+    /**
+     * Gets the earliest instant at which the ticket may expire. Children of a ticket-granting ticket
+     * are removed along with their parent, so only the ticket's own expiration policy is consulted.
+     *
+     * @param ticket the ticket
+     * @return the expiration time, or {@code null} if it cannot be determined.
+     */
+    protected ZonedDateTime getExpirationTimeFrom(final Ticket ticket) {
+        if (ticket.isExpired()) {
+            return ZonedDateTime.now(Clock.systemUTC());
+        }
+        val expirationPolicy = ticket.getExpirationPolicy();
+        if (expirationPolicy == null) {
+            return null;
+        }
+        return Stream.of(expirationPolicy.getMaximumExpirationTime(ticket), expirationPolicy.getIdleExpirationTime(ticket))
+            .filter(Objects::nonNull)
+            .min(Comparator.naturalOrder())
+            .orElse(null);
+    }
+
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
         return transactionTemplate.execute(callback -> {
@@ -176,6 +201,26 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             .map(this::decodeTicket);
     }
 
+    /**
+     * Only fetches tickets whose recorded expiration time has passed, or is unknown.
+     * Tickets saved before the expiration time was recorded are always included.
+     *
+     * @return streamable results
+     */
+    @Override
+    public Stream<? extends Ticket> getExpiredTicketCandidates() {
+        val factory = getJpaTicketEntityFactory();
+        val sql = String.format("SELECT t FROM %s t WHERE t.expirationTime IS NULL OR t.expirationTime <= :now", factory.getEntityName());
+        val query = entityManager.createQuery(sql, factory.getType())
+            .setParameter("now", ZonedDateTime.now(Clock.systemUTC()));
+        query.setLockMode(LockModeType.NONE);
+        return jpaBeanFactory
+            .streamQuery(query)
+            .map(BaseTicketEntity.class::cast)
+            .map(factory::toTicket)
+            .map(this::decodeTicket);
+    }
+
     @Override
     public long sessionCount() {
         return transactionTemplate.execute(status -> {
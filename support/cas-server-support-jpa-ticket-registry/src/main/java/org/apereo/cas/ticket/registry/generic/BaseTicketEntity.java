@@ -55,6 +55,13 @@ public abstract class BaseTicketEntity implements Serializable {
     @Column(nullable = false, length = 512)
     private ZonedDateTime creationTime;
 
+    /**
+     * The earliest instant at which the ticket may expire, as known when the ticket was last saved,
+     * or {@code null} if the ticket expiration policy does not provide one.
+     */
+    @Column(length = 512)
+    private ZonedDateTime expirationTime;
+
     /**
      * Sets attributes.
      *
@@ -16,10 +16,12 @@ import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.support.oauth.OAuth20GrantTypes;
 import org.apereo.cas.support.oauth.OAuth20ResponseTypes;
 import org.apereo.cas.ticket.DefaultSecurityTokenTicketFactory;
+import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketFactory;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.code.OAuth20CodeFactory;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
 import org.apereo.cas.util.TicketGrantingTicketIdGenerator;
@@ -43,6 +45,7 @@ import org.springframework.test.context.TestPropertySource;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -146,7 +149,27 @@ public abstract class BaseJpaTicketRegistryTests extends BaseTicketRegistryTests
         this.newTicketRegistry.deleteTicket(tgt.getId());
         assertNull(this.newTicketRegistry.getTicket(oAuthCode.getId()));
     }
-    
+
+    @RepeatedTest(2)
+    public void verifyExpiredTicketCandidates() throws Exception {
+        val activeTgt = new TicketGrantingTicketImpl(new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY)
+            .getNewTicketId(TicketGrantingTicket.PREFIX), CoreAuthenticationTestUtils.getAuthentication(),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(activeTgt);
+        val expiredTgt = new TicketGrantingTicketImpl(new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY)
+            .getNewTicketId(TicketGrantingTicket.PREFIX), CoreAuthenticationTestUtils.getAuthentication(),
+            new HardTimeoutExpirationPolicy(1));
+        newTicketRegistry.addTicket(expiredTgt);
+        expiredTgt.markTicketExpired();
+        newTicketRegistry.updateTicket(expiredTgt);
+
+        try (val candidates = newTicketRegistry.getExpiredTicketCandidates()) {
+            val ids = candidates.map(Ticket::getId).collect(Collectors.toSet());
+            assertTrue(ids.contains(expiredTgt.getId()));
+            assertFalse(ids.contains(activeTgt.getId()));
+        }
+    }
+
     @Import({
         JpaTicketRegistryTicketCatalogConfiguration.class,
         JpaTicketRegistryConfiguration.class,
@@ -62,6 +62,9 @@ public class JsonServiceRegistryConfiguration {
         if (registry.getJson().isWatcherEnabled()) {
             json.enableDefaultWatcherService();
         }
+        if (registry.getJson().isChangeDetectionEnabled()) {
+            json.enableChangeDetection();
+        }
         return json;
     }
 
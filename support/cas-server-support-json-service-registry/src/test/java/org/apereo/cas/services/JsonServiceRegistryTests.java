@@ -10,6 +10,7 @@ import org.apereo.cas.util.io.WatcherService;
 import org.apereo.cas.util.nativex.CasRuntimeHintsRegistrar;
 import lombok.SneakyThrows;
 import lombok.val;
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -17,6 +18,7 @@ import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
@@ -53,6 +55,61 @@ class JsonServiceRegistryTests extends BaseResourceBasedServiceRegistryTests {
         assertEquals(AbstractResourceBasedServiceRegistry.FALLBACK_REGISTERED_SERVICES_LOCATION.getCanonicalPath(), location.toFile().getCanonicalPath());
     }
 
+    @Test
+    void verifyChangeDetection() throws Exception {
+        val registry = buildResourceBasedServiceRegistry(RESOURCE);
+        registry.enableChangeDetection();
+        assertTrue(registry.loadChanges().isEmpty());
+        val service1 = registry.save(RegisteredServiceTestUtils.getRegisteredService("https://app1.example.org"));
+        val service2 = registry.save(RegisteredServiceTestUtils.getRegisteredService("https://app2.example.org"));
+        assertEquals(2, registry.load().size());
+
+        val unchanged = registry.loadChanges().orElseThrow();
+        assertTrue(unchanged.isEmpty());
+
+        service1.setDescription("Updated service definition");
+        registry.save(service1);
+        val modified = registry.loadChanges().orElseThrow();
+        assertEquals(1, modified.getModifiedServices().size());
+        assertEquals("Updated service definition", modified.getModifiedServices().iterator().next().getDescription());
+        assertTrue(modified.getRemovedServices().isEmpty());
+
+        assertTrue(registry.delete(service2));
+        val removed = registry.loadChanges().orElseThrow();
+        assertTrue(removed.getModifiedServices().isEmpty());
+        assertEquals(service2.getId(), removed.getRemovedServices().iterator().next().getId());
+        assertEquals(1, registry.load().size());
+        assertNull(registry.findServiceById(service2.getId()));
+        registry.destroy();
+    }
+
+    @Test
+    void verifyChangeDetectionWithDuplicateDefinitions() throws Exception {
+        val registry = buildResourceBasedServiceRegistry(RESOURCE);
+        registry.enableChangeDetection();
+        val service = registry.save(RegisteredServiceTestUtils.getRegisteredService("https://duplicate.example.org"));
+        registry.load();
+
+        val original = FileUtils.listFiles(registry.getServiceRegistryDirectory().toFile(), new String[]{"json"}, true)
+            .stream()
+            .filter(file -> file.getName().endsWith("-" + service.getId() + ".json"))
+            .findFirst()
+            .orElseThrow();
+        val duplicate = new File(original.getParentFile(), "Duplicate-" + service.getId() + ".json");
+        FileUtils.copyFile(original, duplicate);
+        try {
+            assertTrue(registry.loadChanges().orElseThrow().getRemovedServices().isEmpty());
+            assertTrue(original.delete());
+            val changes = registry.loadChanges().orElseThrow();
+            assertTrue(changes.getRemovedServices().isEmpty());
+            assertEquals(service.getId(), changes.getModifiedServices().iterator().next().getId());
+            assertNotNull(registry.findServiceById(service.getId()));
+        } finally {
+            FileUtils.deleteQuietly(duplicate);
+            registry.destroy();
+        }
+    }
+
     @Test
     void verifyRequiredHandlersServiceDefinition() throws Exception {
         val appCtx = new StaticApplicationContext();
@@ -1,15 +1,34 @@
 package org.apereo.cas.config;
 
+import org.apereo.cas.audit.AuditTrailExecutionPlan;
+import org.apereo.cas.audit.spi.AbstractAuditTrailManager;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.logout.slo.ConcurrentSingleLogoutRequestDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutRequestDispatcher;
+import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.TicketRegistryCleanerStatistics;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 
 import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
 /**
  * This is {@link CasMetricsConfiguration} that attempts to create Spring-managed beans
  * backed by external configuration.
@@ -25,4 +44,114 @@ public class CasMetricsConfiguration {
     public TimedAspect timedAspect(final MeterRegistry registry) {
         return new TimedAspect(registry);
     }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "auditTrailQueueMeterBinder")
+    public MeterBinder auditTrailQueueMeterBinder(
+        @Qualifier(AuditTrailExecutionPlan.BEAN_NAME)
+        final ObjectProvider<AuditTrailExecutionPlan> auditTrailExecutionPlan) {
+        return registry -> auditTrailExecutionPlan.ifAvailable(plan -> plan.getAuditTrailManagers()
+            .stream()
+            .filter(AbstractAuditTrailManager.class::isInstance)
+            .map(AbstractAuditTrailManager.class::cast)
+            .filter(AbstractAuditTrailManager::isAsynchronous)
+            .forEach(manager -> {
+                val name = manager.getClass().getSimpleName();
+                Gauge.builder("cas.audit.queue.depth", manager, mgr -> mgr.getRecordQueue().getQueueDepth())
+                    .description("Number of audit records waiting to be saved")
+                    .tag("manager", name)
+                    .register(registry);
+                FunctionCounter.builder("cas.audit.queue.written", manager, mgr -> mgr.getRecordQueue().getWrittenCount())
+                    .description("Number of queued audit records handed over to be saved")
+                    .tag("manager", name)
+                    .register(registry);
+                FunctionCounter.builder("cas.audit.queue.dropped", manager, mgr -> mgr.getRecordQueue().getDroppedCount())
+                    .description("Number of audit records dropped by the queue overflow policy")
+                    .tag("manager", name)
+                    .register(registry);
+            }));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "ticketRegistryCleanerMeterBinder")
+    public MeterBinder ticketRegistryCleanerMeterBinder(
+        @Qualifier("ticketRegistryCleaner")
+        final ObjectProvider<TicketRegistryCleaner> ticketRegistryCleaner) {
+        return registry -> {
+            Gauge.builder("cas.ticket.registry.cleaner.scanned", ticketRegistryCleaner,
+                    provider -> getCleanerStatistic(provider, TicketRegistryCleanerStatistics::scanned))
+                .description("Number of candidate tickets fetched by the last ticket registry cleaner run")
+                .register(registry);
+            Gauge.builder("cas.ticket.registry.cleaner.expired", ticketRegistryCleaner,
+                    provider -> getCleanerStatistic(provider, TicketRegistryCleanerStatistics::expired))
+                .description("Number of expired tickets found by the last ticket registry cleaner run")
+                .register(registry);
+            Gauge.builder("cas.ticket.registry.cleaner.deleted", ticketRegistryCleaner,
+                    provider -> getCleanerStatistic(provider, TicketRegistryCleanerStatistics::deleted))
+                .description("Number of tickets removed by the last ticket registry cleaner run")
+                .register(registry);
+            Gauge.builder("cas.ticket.registry.cleaner.partitions", ticketRegistryCleaner,
+                    provider -> getCleanerStatistic(provider, TicketRegistryCleanerStatistics::partitions))
+                .description("Number of partitions claimed by the last ticket registry cleaner run")
+                .register(registry);
+            TimeGauge.builder("cas.ticket.registry.cleaner.duration", ticketRegistryCleaner, TimeUnit.MILLISECONDS,
+                    provider -> getCleanerStatistic(provider, statistics -> statistics.duration().toMillis()))
+                .description("Duration of the last ticket registry cleaner run")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "singleLogoutRequestDispatcherStatisticsListener")
+    public ConcurrentSingleLogoutRequestDispatcher.StatisticsListener singleLogoutRequestDispatcherStatisticsListener(
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        @Qualifier(SingleLogoutRequestDispatcher.BEAN_NAME)
+        final ObjectProvider<SingleLogoutRequestDispatcher> singleLogoutRequestDispatcher) {
+        return (host, statistics) -> meterRegistry.ifAvailable(registry -> {
+            FunctionTimer.builder("cas.slo.requests", singleLogoutRequestDispatcher,
+                    provider -> getSingleLogoutStatistic(provider, host, ConcurrentSingleLogoutRequestDispatcher.EndpointStatistics::getRequests),
+                    provider -> getSingleLogoutStatistic(provider, host, stats -> stats.getTotalLatency().toNanos()),
+                    TimeUnit.NANOSECONDS)
+                .description("Single logout requests sent to the application host, including retries")
+                .tag("host", host)
+                .register(registry);
+            TimeGauge.builder("cas.slo.requests.max", singleLogoutRequestDispatcher, TimeUnit.NANOSECONDS,
+                    provider -> getSingleLogoutStatistic(provider, host, stats -> stats.getMaxLatency().toNanos()))
+                .description("Maximum latency of single logout requests sent to the application host")
+                .tag("host", host)
+                .register(registry);
+            FunctionCounter.builder("cas.slo.failures", singleLogoutRequestDispatcher,
+                    provider -> getSingleLogoutStatistic(provider, host, ConcurrentSingleLogoutRequestDispatcher.EndpointStatistics::getFailures))
+                .description("Single logout requests to the application host that have failed")
+                .tag("host", host)
+                .register(registry);
+            FunctionCounter.builder("cas.slo.abandoned", singleLogoutRequestDispatcher,
+                    provider -> getSingleLogoutStatistic(provider, host, ConcurrentSingleLogoutRequestDispatcher.EndpointStatistics::getAbandoned))
+                .description("Single logout requests to the application host abandoned once the deadline passed")
+                .tag("host", host)
+                .register(registry);
+        });
+    }
+
+    /**
+     * Statistics are read from the dispatcher that is current when meters are read, since the dispatcher
+     * is refreshable and meters registered for a host are kept once the dispatcher is replaced.
+     */
+    private static long getSingleLogoutStatistic(final ObjectProvider<SingleLogoutRequestDispatcher> singleLogoutRequestDispatcher,
+                                                 final String host,
+                                                 final ToLongFunction<ConcurrentSingleLogoutRequestDispatcher.EndpointStatistics> statistic) {
+        return Optional.ofNullable(singleLogoutRequestDispatcher.getIfAvailable())
+            .filter(ConcurrentSingleLogoutRequestDispatcher.class::isInstance)
+            .map(dispatcher -> ((ConcurrentSingleLogoutRequestDispatcher) dispatcher).getStatistics().get(host))
+            .map(statistic::applyAsLong)
+            .orElse(0L);
+    }
+
+    private static double getCleanerStatistic(final ObjectProvider<TicketRegistryCleaner> ticketRegistryCleaner,
+                                              final ToLongFunction<TicketRegistryCleanerStatistics> statistic) {
+        return Optional.ofNullable(ticketRegistryCleaner.getIfAvailable())
+            .flatMap(TicketRegistryCleaner::getStatistics)
+            .map(statistics -> (double) statistic.applyAsLong(statistics))
+            .orElse(Double.NaN);
+    }
 }
@@ -75,6 +75,7 @@ import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -99,15 +100,27 @@ public abstract class BaseDelegatedClientFactory implements DelegatedClientFacto
 
     private final Cache<String, Collection<IndirectClient>> clientsCache;
 
+    private final AtomicLong version = new AtomicLong();
+
     protected abstract Collection<IndirectClient> loadClients();
 
     @Override
     @Synchronized
     public final Collection<IndirectClient> build() {
         val core = casProperties.getAuthn().getPac4j().getCore();
-        val currentClients = getCachedClients().isEmpty() || !core.isLazyInit() ? loadClients() : getCachedClients();
-        clientsCache.put(casProperties.getServer().getName(), currentClients);
-        return currentClients;
+        if (getCachedClients().isEmpty() || !core.isLazyInit()) {
+            val currentClients = loadClients();
+            clientsCache.put(casProperties.getServer().getName(), currentClients);
+            version.incrementAndGet();
+            return currentClients;
+        }
+        return getCachedClients();
+    }
+
+    @Override
+    public long getVersion() {
+        val cachedClients = clientsCache.getIfPresent(casProperties.getServer().getName());
+        return cachedClients == null ? -1 : version.get();
     }
 
     @Override
@@ -29,4 +29,16 @@ public interface DelegatedClientFactory {
      * @return the collection
      */
     Collection<IndirectClient> rebuild();
+
+    /**
+     * Version of the clients built by this factory.
+     * The version changes whenever the collection of clients
+     * is loaded again, and may be used to decide whether
+     * clients built previously are still current.
+     *
+     * @return the version
+     */
+    default long getVersion() {
+        return 0;
+    }
 }
@@ -4,13 +4,22 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.pac4j.core.client.Client;
 import org.pac4j.core.client.Clients;
+import org.pac4j.core.util.CommonHelper;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * This is {@link RefreshableDelegatedClients}.
+ * Clients are built once by the {@link DelegatedClientFactory} and kept in an immutable registry
+ * indexed by client name. The registry is only built again and swapped when the version
+ * of the factory changes, i.e. when clients are rebuilt or reloaded by the factory.
  *
  * @author Misagh Moayyed
  * @since 6.4.0
@@ -19,29 +28,67 @@ import java.util.Optional;
 public class RefreshableDelegatedClients extends Clients {
     private final DelegatedClientFactory delegatedClientFactory;
 
+    private final AtomicReference<ClientRegistry> registry = new AtomicReference<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
     public RefreshableDelegatedClients(final String callbackUrl,
                                        final DelegatedClientFactory delegatedClientFactory) {
         setCallbackUrl(callbackUrl);
         this.delegatedClientFactory = delegatedClientFactory;
     }
 
+    private static String getClientKey(final String name) {
+        return name.toLowerCase(Locale.ENGLISH).trim();
+    }
+
     @Override
     public Optional<Client> findClient(final String name) {
-        setClients(buildDelegatedClients());
-        init();
-        return super.findClient(name);
+        CommonHelper.assertNotBlank("name", name);
+        val client = Optional.ofNullable(getRegistry().clientsByName().get(getClientKey(name)));
+        if (client.isEmpty()) {
+            LOGGER.debug("No client found for name: [{}]", name);
+        }
+        return client;
     }
 
     @Override
     public List<Client> findAllClients() {
-        setClients(buildDelegatedClients());
-        init();
-        return super.findAllClients();
+        return getRegistry().clients();
     }
-    
+
     protected List<Client> buildDelegatedClients() {
         val clients = delegatedClientFactory.build();
         LOGGER.debug("The following clients are built: [{}]", clients);
         return new ArrayList<>(clients);
     }
+
+    private ClientRegistry getRegistry() {
+        val current = registry.get();
+        if (current != null && current.version() == delegatedClientFactory.getVersion()) {
+            return current;
+        }
+        lock.lock();
+        try {
+            val latest = registry.get();
+            if (latest != null && latest.version() == delegatedClientFactory.getVersion()) {
+                return latest;
+            }
+            val clients = buildDelegatedClients();
+            val version = delegatedClientFactory.getVersion();
+            setClients(clients);
+            init();
+            val clientsByName = new LinkedHashMap<String, Client>();
+            clients.forEach(client -> clientsByName.putIfAbsent(getClientKey(client.getName()), client));
+            val updated = new ClientRegistry(version, List.copyOf(clients), Map.copyOf(clientsByName));
+            LOGGER.debug("Registered [{}] client(s) with version [{}]", clients.size(), version);
+            registry.set(updated);
+            return updated;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record ClientRegistry(long version, List<Client> clients, Map<String, Client> clientsByName) {
+    }
 }
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.pac4j.cas.client.CasClient;
 
 import java.util.List;
+import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,8 +30,12 @@ class RefreshableDelegatedClientsTests {
         assertTrue(refreshableClients.findAllClients().isEmpty());
         val client = new CasClient();
         when(delegatedFactory.build()).thenReturn(List.of(client));
+        assertTrue(refreshableClients.findAllClients().isEmpty());
+        when(delegatedFactory.getVersion()).thenReturn(1L);
         assertFalse(refreshableClients.findAllClients().isEmpty());
         assertTrue(refreshableClients.findClient(client.getName()).isPresent());
-
+        assertTrue(refreshableClients.findClient(client.getName().toUpperCase(Locale.ENGLISH)).isPresent());
+        assertTrue(refreshableClients.findClient("Unknown").isEmpty());
+        verify(delegatedFactory, times(2)).build();
     }
 }
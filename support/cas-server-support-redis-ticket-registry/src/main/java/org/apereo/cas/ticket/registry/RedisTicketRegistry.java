@@ -1,5 +1,6 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.configuration.model.support.redis.RedisTicketRegistryProperties;
 import org.apereo.cas.monitor.Monitorable;
 import org.apereo.cas.redis.core.CasRedisTemplate;
 import org.apereo.cas.ticket.ServiceTicket;
@@ -25,13 +26,17 @@ import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.hjson.JsonValue;
 import org.hjson.Stringify;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisKeyValueAdapter;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
 import org.springframework.data.redis.core.convert.MappingConfiguration;
+import org.springframework.data.redis.core.convert.RedisData;
 import org.springframework.data.redis.core.index.IndexConfiguration;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -41,8 +46,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -56,7 +61,7 @@ import java.util.stream.StreamSupport;
  */
 @Slf4j
 @Monitorable
-public class RedisTicketRegistry extends AbstractTicketRegistry {
+public class RedisTicketRegistry extends AbstractTicketRegistry implements DisposableBean {
 
     private static final String SEARCH_INDEX_NAME = RedisTicketDocument.class.getSimpleName() + "Index";
 
@@ -68,23 +73,35 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     private final Optional<RedisModulesCommands> redisModuleCommands;
 
+    private final RedisTicketRegistryProperties properties;
+
+    private final RedisKeyValueAdapter redisKeyValueAdapter;
+
     public RedisTicketRegistry(final CipherExecutor cipherExecutor,
                                final TicketSerializationManager ticketSerializationManager,
                                final TicketCatalog ticketCatalog,
                                final CasRedisTemplates casRedisTemplates,
                                final Cache<String, Ticket> ticketCache,
                                final RedisTicketRegistryMessagePublisher messagePublisher,
-                               final Optional<RedisModulesCommands> redisModuleCommands) {
+                               final Optional<RedisModulesCommands> redisModuleCommands,
+                               final RedisTicketRegistryProperties properties) {
         super(cipherExecutor, ticketSerializationManager, ticketCatalog);
 
         this.casRedisTemplates = casRedisTemplates;
         this.ticketCache = ticketCache;
         this.messagePublisher = messagePublisher;
         this.redisModuleCommands = redisModuleCommands;
+        this.properties = properties;
+        this.redisKeyValueAdapter = buildRedisKeyValueAdapter();
 
         createIndexesIfNecessary();
     }
 
+    @Override
+    public void destroy() {
+        FunctionUtils.doAndHandle(__ -> redisKeyValueAdapter.destroy());
+    }
+
     @Override
     public long deleteAll() {
         val size = new AtomicLong();
@@ -133,19 +150,31 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public void addTicket(final Stream<? extends Ticket> toSave) {
-        FunctionUtils.doAndHandle(__ ->
-            casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
-                toSave.forEach(this::addTicketInternal);
-                return null;
-            }));
+        FunctionUtils.doAndHandle(__ -> {
+            val batchSize = (int) Math.max(1, properties.getWriteBatchSize());
+            val batch = new ArrayList<RedisTicketWrite>(batchSize);
+            toSave
+                .filter(Objects::nonNull)
+                .map(ticket -> FunctionUtils.doAndHandle(() -> buildTicketWrite(ticket)))
+                .filter(Objects::nonNull)
+                .forEach(write -> {
+                    batch.add(write);
+                    if (batch.size() >= batchSize) {
+                        saveTicketBatch(batch);
+                        batch.clear();
+                    }
+                });
+            if (!batch.isEmpty()) {
+                saveTicketBatch(batch);
+            }
+        });
     }
 
     @Override
     public void addTicketInternal(final Ticket ticket) {
         FunctionUtils.doAndHandle(__ -> {
             LOGGER.debug("Adding ticket [{}]", ticket);
-            addOrUpdateTicket(ticket);
-            messagePublisher.add(ticket);
+            saveTickets(List.of(buildTicketWrite(ticket)), messagePublisher::add);
         });
     }
 
@@ -153,8 +182,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
     public Ticket updateTicket(final Ticket ticket) {
         return FunctionUtils.doAndHandle(() -> {
             LOGGER.debug("Updating ticket [{}]", ticket);
-            addOrUpdateTicket(ticket);
-            messagePublisher.update(ticket);
+            saveTickets(List.of(buildTicketWrite(ticket)), messagePublisher::update);
             return ticket;
         });
     }
@@ -178,18 +206,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public Stream<? extends Ticket> stream() {
-        return fetchKeysForTickets()
-            .map(redisKey -> {
-                val adapter = buildRedisKeyValueAdapter(redisKey);
-                val document = adapter.get(redisKey, redisKey, RedisTicketDocument.class);
-                if (document == null) {
-                    casRedisTemplates.getTicketsRedisTemplate().delete(redisKey);
-                    return null;
-                }
-                return document;
-            })
-            .filter(Objects::nonNull)
-            .map(RedisTicketDocument.class::cast)
+        return scanTicketDocuments(RedisCompositeKey.forTickets().toKeyPattern())
             .map(this::deserializeAsTicket)
             .map(this::decodeTicket)
             .filter(Objects::nonNull)
@@ -267,13 +284,62 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
             .orElseGet(() -> super.getSessionsWithAttributes(queryAttributes));
     }
 
-    private Stream<String> fetchKeysForTickets() {
-        return fetchKeysForTickets(RedisCompositeKey.forTickets().toKeyPattern());
+    /**
+     * Iterate over ticket keys matching the pattern with a non-blocking cursor,
+     * and fetch the ticket documents for each batch of keys in a single pipelined call.
+     * Batches are pulled from the open cursor as the stream is consumed, so only one batch
+     * of keys is held at a time. The cursor is closed once exhausted or when the stream is closed.
+     *
+     * @param keyPattern the key pattern
+     * @return the stream of ticket documents
+     */
+    protected Stream<RedisTicketDocument> scanTicketDocuments(final String keyPattern) {
+        LOGGER.debug("Scanning keys for pattern [{}]", keyPattern);
+        val batchSize = (int) Math.max(1, properties.getScanCount());
+        val options = ScanOptions.scanOptions().match(keyPattern).count(batchSize).build();
+        val cursor = casRedisTemplates.getTicketsRedisTemplate().scan(options);
+        return Stream.generate(() -> nextScannedKeys(cursor, batchSize))
+            .takeWhile(keys -> !keys.isEmpty())
+            .flatMap(this::fetchTicketDocuments)
+            .onClose(cursor::close);
     }
 
-    private Stream<String> fetchKeysForTickets(final String key) {
-        LOGGER.debug("Loading keys for pattern [{}]", key);
-        return Objects.requireNonNull(casRedisTemplates.getTicketsRedisTemplate().keys(key)).stream();
+    private static List<String> nextScannedKeys(final Cursor<String> cursor, final int batchSize) {
+        val keys = new ArrayList<String>(batchSize);
+        while (!cursor.isClosed() && keys.size() < batchSize && cursor.hasNext()) {
+            keys.add(cursor.next());
+        }
+        if (!cursor.isClosed() && !cursor.hasNext()) {
+            cursor.close();
+        }
+        return keys;
+    }
+
+    private Stream<RedisTicketDocument> fetchTicketDocuments(final List<String> keys) {
+        val results = casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.hashCommands().hGetAll(key.getBytes(StandardCharsets.UTF_8)));
+            return null;
+        }, RedisSerializer.byteArray());
+        val converter = redisKeyValueAdapter.getConverter();
+        val documents = new ArrayList<RedisTicketDocument>(keys.size());
+        val orphanedKeys = new ArrayList<String>();
+        for (var i = 0; i < keys.size() && i < results.size(); i++) {
+            val rawData = (Map<byte[], byte[]>) results.get(i);
+            val key = keys.get(i);
+            if (rawData != null && !rawData.isEmpty()) {
+                val redisData = new RedisData(rawData);
+                redisData.setId(key);
+                redisData.setKeyspace(key);
+                documents.add(converter.read(RedisTicketDocument.class, redisData));
+            } else {
+                orphanedKeys.add(key);
+            }
+        }
+        if (!orphanedKeys.isEmpty()) {
+            LOGGER.debug("Removing [{}] key(s) without a ticket document", orphanedKeys.size());
+            casRedisTemplates.getTicketsRedisTemplate().delete(orphanedKeys);
+        }
+        return documents.stream().filter(Objects::nonNull);
     }
 
     protected RedisTicketDocument buildTicketAsDocument(final Ticket ticket) {
@@ -317,10 +383,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
             .orElseGet(() -> {
                 val redisKeyPattern = redisKey.toKeyPattern();
                 return Stream.of(redisKeyPattern)
-                    .map(key -> {
-                        val adapter = buildRedisKeyValueAdapter(key);
-                        return adapter.get(key, key, RedisTicketDocument.class);
-                    })
+                    .map(key -> redisKeyValueAdapter.get(key, key, RedisTicketDocument.class))
                     .filter(Objects::nonNull)
                     .map(this::deserializeAsTicket)
                     .map(this::decodeTicket)
@@ -338,46 +401,87 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
     }
 
 
-    private RedisCompositeKey addOrUpdateTicket(final Ticket ticket) {
-        val userId = digestIdentifier(getPrincipalIdFrom(ticket));
+    /**
+     * Save the tickets in a single pipelined call. For each ticket, the document is written
+     * with its expiration policy and the principal session index is updated for ticket-granting tickets,
+     * without waiting for individual replies. Ticket events are published once the pipeline is flushed,
+     * since messages go out on a separate connection.
+     *
+     * @param ticketWrites the ticket writes
+     * @param publisher    the publisher that broadcasts the ticket event
+     */
+    private void saveTickets(final List<RedisTicketWrite> ticketWrites, final Consumer<Ticket> publisher) {
+        val sessionsTemplate = casRedisTemplates.getSessionsRedisTemplate();
+        val sessionKeySerializer = (RedisSerializer<String>) sessionsTemplate.getKeySerializer();
+        val sessionValueSerializer = (RedisSerializer<String>) sessionsTemplate.getValueSerializer();
+
+        casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+            ticketWrites.forEach(write -> {
+                val key = write.redisKey().toKeyPattern().getBytes(StandardCharsets.UTF_8);
+                connection.keyCommands().del(key);
+                connection.hashCommands().hMSet(key, write.redisData().getBucket().rawMap());
+                connection.keyCommands().expire(key, write.timeout());
+
+                if (write.principalKey() != null) {
+                    val principalKey = sessionKeySerializer.serialize(write.principalKey().toKeyPattern());
+                    connection.setCommands().sAdd(principalKey, sessionValueSerializer.serialize(write.digestedId()));
+                    connection.keyCommands().expire(principalKey, write.timeout());
+                }
+            });
+            return null;
+        });
+        ticketWrites.forEach(write -> {
+            ticketCache.put(write.redisKey().getQuery(), write.ticket());
+            publisher.accept(write.ticket());
+        });
+    }
+
+    /**
+     * Save a batch of tickets. Redis applies the other commands of a pipeline when one of them fails,
+     * so a failure is logged and does not stop later batches from being written. Tickets of the failed batch
+     * are neither cached nor announced.
+     *
+     * @param ticketWrites the ticket writes
+     */
+    private void saveTicketBatch(final List<RedisTicketWrite> ticketWrites) {
+        FunctionUtils.doAndHandle(__ -> saveTickets(ticketWrites, messagePublisher::add));
+    }
 
+    private RedisTicketWrite buildTicketWrite(final Ticket ticket) {
+        val userId = digestIdentifier(getPrincipalIdFrom(ticket));
         val digestedId = digestIdentifier(ticket.getId());
         val redisKey = RedisCompositeKey.forTickets().withTicketId(ticket.getPrefix(), digestedId);
 
-        val timeout = RedisCompositeKey.getTimeout(ticket);
-        val redisKeyPattern = redisKey.toKeyPattern();
-
         val ticketDocument = buildTicketAsDocument(ticket);
+        val redisData = new RedisData();
+        redisKeyValueAdapter.getConverter().write(ticketDocument, redisData);
 
-        casRedisTemplates.getTicketsRedisTemplate().boundValueOps(redisKeyPattern).set(ticketDocument, timeout, TimeUnit.SECONDS);
-        val adapter = buildRedisKeyValueAdapter(redisKeyPattern);
-        adapter.put(ticketDocument.getTicketId(), ticketDocument, redisKeyPattern);
-        casRedisTemplates.getTicketsRedisTemplate().expire(redisKeyPattern, timeout, TimeUnit.SECONDS);
-        ticketCache.put(redisKey.getQuery(), ticket);
-
-        if (StringUtils.isNotBlank(userId) && ticket instanceof TicketGrantingTicket) {
-            val redisPrincipalPattern = RedisCompositeKey.forPrincipal().withQuery(userId).toKeyPattern();
-            val ops = casRedisTemplates.getSessionsRedisTemplate().boundSetOps(redisPrincipalPattern);
-            ops.add(digestedId);
-            ops.expire(timeout, TimeUnit.SECONDS);
-        }
-
-        return redisKey;
+        val principalKey = StringUtils.isNotBlank(userId) && ticket instanceof TicketGrantingTicket
+            ? RedisCompositeKey.forPrincipal().withQuery(userId)
+            : null;
+        return new RedisTicketWrite(ticket, redisKey, redisData, RedisCompositeKey.getTimeout(ticket), principalKey, digestedId);
     }
 
-    private RedisKeyValueAdapter buildRedisKeyValueAdapter(final String redisKeyPattern) {
+    /**
+     * Build a single adapter that is shared by all operations. Ticket documents are stored
+     * under their full redis key, which is passed to the adapter as the keyspace
+     * and is used as-is when the adapter constructs the key.
+     *
+     * @return the redis key value adapter
+     */
+    private RedisKeyValueAdapter buildRedisKeyValueAdapter() {
         val redisMappingContext = new RedisMappingContext(
             new MappingConfiguration(new IndexConfiguration(), new KeyspaceConfiguration() {
                 @Override
                 protected Iterable<KeyspaceSettings> initialConfiguration() {
-                    return Collections.singleton(new KeyspaceSettings(RedisTicketDocument.class, redisKeyPattern));
+                    return Collections.singleton(new KeyspaceSettings(RedisTicketDocument.class, RedisCompositeKey.CAS_TICKET_PREFIX));
                 }
             }));
 
         val adapter = new RedisKeyValueAdapter(casRedisTemplates.getTicketsRedisTemplate(), redisMappingContext) {
             @Override
             public byte[] createKey(final String keyspace, final String id) {
-                return toBytes(redisKeyPattern);
+                return toBytes(keyspace);
             }
         };
         adapter.afterPropertiesSet();
@@ -407,6 +511,10 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         return ticketSerializationManager.deserializeTicket(document.getJson(), document.getType());
     }
 
+    private record RedisTicketWrite(Ticket ticket, RedisCompositeKey redisKey, RedisData redisData, long timeout,
+                                    RedisCompositeKey principalKey, String digestedId) {
+    }
+
     @Data
     public static class CasRedisTemplates {
         private final CasRedisTemplate<String, RedisTicketDocument> ticketsRedisTemplate;
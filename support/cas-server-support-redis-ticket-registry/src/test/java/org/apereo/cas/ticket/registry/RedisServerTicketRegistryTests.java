@@ -1,11 +1,13 @@
 package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.configuration.model.support.redis.RedisTicketRegistryProperties;
 import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.ticket.registry.pub.RedisTicketRegistryMessagePublisher;
 import org.apereo.cas.util.ServiceTicketIdGenerator;
@@ -22,8 +24,10 @@ import org.jooq.lambda.Unchecked;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Tag;
+import org.springframework.data.redis.connection.DataType;
 import org.springframework.test.context.TestPropertySource;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -133,6 +137,128 @@ class RedisServerTicketRegistryTests {
 
     }
 
+    @Nested
+    @SuppressWarnings("ClassCanBeStatic")
+    @TestPropertySource(properties = {
+        "cas.ticket.registry.redis.queue-identifier=cas-node-100",
+        "cas.ticket.registry.redis.host=localhost",
+        "cas.ticket.registry.redis.port=6379",
+        "cas.ticket.registry.redis.cache.cache-size=0",
+        "cas.ticket.registry.redis.enable-redis-search=false",
+        "cas.ticket.registry.redis.scan-count=3",
+        "cas.ticket.registry.redis.write-batch-size=3",
+        "cas.ticket.registry.redis.crypto.encryption.key=AZ5y4I9qzKPYUVNL2Td4RMbpg6Z-ldui8VEFg8hsj1M",
+        "cas.ticket.registry.redis.crypto.signing.key=cAPyoHMrOMWrwydOXzBA-ufZQM-TilnLjbRgMQWlUlwFmy07bOtAgCIdNBma3c5P4ae_JV6n1OpOAYqSh2NkmQ"
+    })
+    class BatchTests extends BaseRedisSentinelTicketRegistryTests {
+        private static final int COUNT = 10;
+
+        private static final long EXPIRATION = 600;
+
+        @RepeatedTest(2)
+        public void verifyStreamingInBatches() throws Exception {
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            getNewTicketRegistry().addTicket(Stream.generate(() -> {
+                val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY)
+                    .getNewTicketId(TicketGrantingTicket.PREFIX);
+                return new TicketGrantingTicketImpl(tgtId, authentication, NeverExpiresExpirationPolicy.INSTANCE);
+            }).limit(COUNT));
+
+            try (val tickets = getNewTicketRegistry().stream()) {
+                assertEquals(COUNT, tickets.map(Ticket::getId).distinct().count());
+            }
+            try (val tickets = getNewTicketRegistry().stream()) {
+                assertEquals(2, tickets.limit(2).count());
+            }
+            assertEquals(COUNT, getNewTicketRegistry().getTickets().size());
+            assertEquals(COUNT, getNewTicketRegistry().countSessionsFor(authentication.getPrincipal().getId()));
+        }
+
+        @RepeatedTest(1)
+        public void verifyExpirationOfEachKey() throws Exception {
+            val principalId = UUID.randomUUID().toString();
+            val tickets = newTicketGrantingTickets(principalId, COUNT);
+            getNewTicketRegistry().addTicket(tickets.stream());
+
+            val sessionsTemplate = getCasRedisTemplates().getSessionsRedisTemplate();
+            val principalKey = getPrincipalKey(principalId);
+            assertEquals(COUNT, sessionsTemplate.opsForSet().size(principalKey));
+            assertExpiration(sessionsTemplate.getExpire(principalKey, TimeUnit.SECONDS));
+            tickets.forEach(ticket -> {
+                assertExpiration(getCasRedisTemplates().getTicketsRedisTemplate().getExpire(getTicketKey(ticket), TimeUnit.SECONDS));
+                assertTrue(sessionsTemplate.opsForSet().isMember(principalKey, getNewTicketRegistry().digestIdentifier(ticket.getId())));
+            });
+        }
+
+        @RepeatedTest(1)
+        public void verifySessionIndexAfterUpdate() throws Exception {
+            val principalId = UUID.randomUUID().toString();
+            val tgt = newTicketGrantingTickets(principalId, 1).get(0);
+            getNewTicketRegistry().addTicket(tgt);
+
+            val service = RegisteredServiceTestUtils.getService(UUID.randomUUID().toString());
+            val stId = new ServiceTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(ServiceTicket.PREFIX);
+            val st = tgt.grantServiceTicket(stId, service, NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+            getNewTicketRegistry().addTicket(st);
+            getNewTicketRegistry().updateTicket(tgt);
+            getNewTicketRegistry().updateTicket(tgt);
+
+            val sessionsTemplate = getCasRedisTemplates().getSessionsRedisTemplate();
+            val principalKey = getPrincipalKey(principalId);
+            assertEquals(1, sessionsTemplate.opsForSet().size(principalKey));
+            assertTrue(sessionsTemplate.opsForSet().isMember(principalKey, getNewTicketRegistry().digestIdentifier(tgt.getId())));
+            assertExpiration(sessionsTemplate.getExpire(principalKey, TimeUnit.SECONDS));
+            assertExpiration(getCasRedisTemplates().getTicketsRedisTemplate().getExpire(getTicketKey(tgt), TimeUnit.SECONDS));
+            assertEquals(1, getNewTicketRegistry().countSessionsFor(principalId));
+            assertEquals(List.of(tgt.getId()), getNewTicketRegistry().getSessionsFor(principalId).map(Ticket::getId).toList());
+        }
+
+        @RepeatedTest(1)
+        public void verifyFailedPipelineCommand() throws Exception {
+            val failingPrincipalId = UUID.randomUUID().toString();
+            val sessionsTemplate = getCasRedisTemplates().getSessionsRedisTemplate();
+            val failingPrincipalKey = getPrincipalKey(failingPrincipalId);
+            sessionsTemplate.opsForValue().set(failingPrincipalKey, "not-a-set");
+            try {
+                val failing = newTicketGrantingTickets(failingPrincipalId, 1).get(0);
+                val principalId = UUID.randomUUID().toString();
+                val tickets = newTicketGrantingTickets(principalId, COUNT);
+                assertDoesNotThrow(() -> getNewTicketRegistry().addTicket(Stream.concat(Stream.of(failing), tickets.stream())));
+
+                assertNotNull(getNewTicketRegistry().getTicket(failing.getId()));
+                assertExpiration(getCasRedisTemplates().getTicketsRedisTemplate().getExpire(getTicketKey(failing), TimeUnit.SECONDS));
+                assertEquals(DataType.STRING, sessionsTemplate.type(failingPrincipalKey));
+                tickets.forEach(ticket -> assertNotNull(getNewTicketRegistry().getTicket(ticket.getId())));
+                assertEquals(COUNT, getNewTicketRegistry().countSessionsFor(principalId));
+            } finally {
+                sessionsTemplate.delete(failingPrincipalKey);
+            }
+        }
+
+        private static List<TicketGrantingTicket> newTicketGrantingTickets(final String principalId, final int count) {
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(principalId);
+            return Stream.generate(() -> {
+                val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY)
+                    .getNewTicketId(TicketGrantingTicket.PREFIX);
+                return (TicketGrantingTicket) new TicketGrantingTicketImpl(tgtId, authentication, new HardTimeoutExpirationPolicy(EXPIRATION));
+            }).limit(count).toList();
+        }
+
+        private static void assertExpiration(final Long expiration) {
+            assertNotNull(expiration);
+            assertTrue(expiration > 0 && expiration <= EXPIRATION, () -> "Unexpected expiration " + expiration);
+        }
+
+        private String getPrincipalKey(final String principalId) {
+            return RedisCompositeKey.forPrincipal().withQuery(getNewTicketRegistry().digestIdentifier(principalId)).toKeyPattern();
+        }
+
+        private String getTicketKey(final Ticket ticket) {
+            return RedisCompositeKey.forTickets().withTicketId(ticket.getPrefix(),
+                getNewTicketRegistry().digestIdentifier(ticket.getId())).toKeyPattern();
+        }
+    }
+
     @Nested
     @SuppressWarnings("ClassCanBeStatic")
     @TestPropertySource(properties = {
@@ -221,7 +347,8 @@ class RedisServerTicketRegistryTests {
 
             val cache = Caffeine.newBuilder().initialCapacity(100).<String, Ticket>build();
             val secondRegistry = new RedisTicketRegistry(CipherExecutor.noOp(), ticketSerializationManager, ticketCatalog,
-                getCasRedisTemplates(), cache, mock(RedisTicketRegistryMessagePublisher.class), Optional.empty());
+                getCasRedisTemplates(), cache, mock(RedisTicketRegistryMessagePublisher.class), Optional.empty(),
+                new RedisTicketRegistryProperties());
             val ticket = secondRegistry.getTicket(ticketGrantingTicketId);
             assertNull(ticket);
             assertTrue(secondRegistry.getTickets().isEmpty());
@@ -16,25 +16,31 @@ import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.collect.Iterables;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Synchronized;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
 import org.jooq.lambda.Unchecked;
+import org.opensaml.core.criterion.EntityIdCriterion;
 import org.opensaml.core.criterion.SatisfyAnyCriterion;
 import org.opensaml.saml.metadata.criteria.entity.impl.EvaluableEntityRoleEntityDescriptorCriterion;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
 import org.opensaml.saml.saml2.metadata.EntityDescriptor;
 import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An adaptation of metadata resolver which handles the resolution of metadata resources
  * inside a cache. It basically is a fancy wrapper around a cache, and constructs the cache
  * semantics before processing the resolution of metadata for a SAML service.
+ * <p>
+ * Entity ids are indexed by the cache key of the metadata resolver that was able to resolve them,
+ * so that repeated lookups go straight to that resolver. Metadata resolvers are loaded per cache key,
+ * allowing lookups for unrelated service providers to proceed concurrently.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -45,6 +51,8 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
 
     private final LoadingCache<SamlRegisteredServiceCacheKey, CachedMetadataResolverResult> cache;
 
+    private final Map<String, SamlRegisteredServiceCacheKey> entityIndex = new ConcurrentHashMap<>();
+
     @Getter
     private final OpenSamlConfigBean openSamlConfigBean;
 
@@ -70,8 +78,12 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         });
     }
 
+    private static Optional<EntityDescriptor> resolveEntityDescriptor(final CachedMetadataResolverResult res,
+                                                                      final CriteriaSet criteriaSet) {
+        return Optional.ofNullable(FunctionUtils.doUnchecked(() -> res.getMetadataResolver().resolveSingle(criteriaSet)));
+    }
+
     @Override
-    @Synchronized
     public CachedMetadataResolverResult resolve(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
         val metadataLocation = SpringExpressionLanguageValueResolver.getInstance().resolve(service.getMetadataLocation());
         LOGGER.debug("Resolving metadata for [{}] at [{}]", service.getName(), metadataLocation);
@@ -102,6 +114,7 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
     public void invalidate() {
         LOGGER.trace("Invalidating cache, removing all metadata resolvers");
         cache.invalidateAll();
+        entityIndex.clear();
     }
 
     @Override
@@ -109,6 +122,7 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         LOGGER.trace("Invalidating cache for [{}].", service.getName());
         val cacheKey = new SamlRegisteredServiceCacheKey(service, criteriaSet);
         cache.invalidate(cacheKey);
+        entityIndex.values().removeIf(cacheKey::equals);
     }
 
     @Override
@@ -142,32 +156,77 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         final CriteriaSet criteriaSet,
         final SamlRegisteredServiceCacheKey cacheKey) {
 
-        val result = cache
-            .asMap()
-            .values()
-            .stream()
-            .map(Unchecked.function(res -> {
-                val entity = res.getMetadataResolver().resolveSingle(criteriaSet);
-                return Optional.ofNullable(entity)
-                    .map(e -> MetadataResolverCacheQueryResult.builder()
-                        .result(res)
-                        .entityDescriptor(Optional.of(e))
-                        .build());
-            }))
-            .filter(Optional::isPresent)
-            .flatMap(Optional::stream)
-            .findFirst();
+        val entityId = criteriaSet.contains(EntityIdCriterion.class)
+            ? Objects.requireNonNull(criteriaSet.get(EntityIdCriterion.class)).getEntityId()
+            : null;
+        if (entityId != null) {
+            val indexedResult = locateIndexedMetadataResolver(entityId, criteriaSet);
+            if (indexedResult.isPresent()) {
+                return indexedResult.get();
+            }
+        }
 
-        if (result.isPresent()) {
-            return result.get();
+        val cachedResult = Optional.ofNullable(cache.getIfPresent(cacheKey))
+            .flatMap(res -> resolveEntityDescriptor(res, criteriaSet)
+                .map(entity -> buildQueryResult(res, entity, cacheKey, entityId)))
+            .or(() -> locateCachedMetadataResolver(criteriaSet, entityId));
+        if (cachedResult.isPresent()) {
+            return cachedResult.get();
         }
+
         LOGGER.debug("Loading metadata resolver from the cache using [{}]", cacheKey.getCacheKey());
         val cacheResult = Objects.requireNonNull(cache.get(cacheKey));
         LOGGER.debug("Loaded and cached SAML metadata [{}] from [{}]",
             cacheResult.getMetadataResolver().getId(), service.getMetadataLocation());
+        return resolveEntityDescriptor(cacheResult, criteriaSet)
+            .map(entity -> buildQueryResult(cacheResult, entity, cacheKey, entityId))
+            .orElseGet(() -> MetadataResolverCacheQueryResult.builder()
+                .entityDescriptor(Optional.empty())
+                .result(cacheResult)
+                .build());
+    }
+
+    private Optional<MetadataResolverCacheQueryResult> locateIndexedMetadataResolver(final String entityId,
+                                                                                     final CriteriaSet criteriaSet) {
+        return Optional.ofNullable(entityIndex.get(entityId))
+            .flatMap(indexedKey -> {
+                val res = cache.getIfPresent(indexedKey);
+                val entity = Optional.ofNullable(res).flatMap(r -> resolveEntityDescriptor(r, criteriaSet));
+                if (entity.isEmpty()) {
+                    LOGGER.trace("Metadata resolver indexed for [{}] is no longer able to resolve the entity", entityId);
+                    entityIndex.remove(entityId, indexedKey);
+                    return Optional.empty();
+                }
+                LOGGER.trace("Located indexed metadata resolver [{}] for [{}]", res.getMetadataResolver().getId(), entityId);
+                return entity.map(e -> MetadataResolverCacheQueryResult.builder()
+                    .result(res)
+                    .entityDescriptor(Optional.of(e))
+                    .build());
+            });
+    }
+
+    private Optional<MetadataResolverCacheQueryResult> locateCachedMetadataResolver(final CriteriaSet criteriaSet,
+                                                                                    final String entityId) {
+        return cache
+            .asMap()
+            .entrySet()
+            .stream()
+            .map(entry -> resolveEntityDescriptor(entry.getValue(), criteriaSet)
+                .map(entity -> buildQueryResult(entry.getValue(), entity, entry.getKey(), entityId)))
+            .flatMap(Optional::stream)
+            .findFirst();
+    }
+
+    private MetadataResolverCacheQueryResult buildQueryResult(final CachedMetadataResolverResult res,
+                                                              final EntityDescriptor entity,
+                                                              final SamlRegisteredServiceCacheKey cacheKey,
+                                                              final String entityId) {
+        if (entityId != null) {
+            entityIndex.put(entityId, cacheKey);
+        }
         return MetadataResolverCacheQueryResult.builder()
-            .entityDescriptor(Optional.empty())
-            .result(cacheResult)
+            .result(res)
+            .entityDescriptor(Optional.of(entity))
             .build();
     }
 
@@ -23,6 +23,10 @@ import org.springframework.test.context.TestPropertySource;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -170,6 +174,26 @@ class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends BaseSamlI
 
     }
 
+    @Test
+    void verifyConcurrentResolutionOfAggregate() throws Exception {
+        val resolver = getResolver("PT5M");
+        val service = getSamlRegisteredService(1, ".*", "classpath:aggregate-md.xml");
+        val entityIds = List.of("https://issues.shibboleth.net/shibboleth",
+            "https://mfa-auth.dev.phenoapp.com/Saml2", "https://gitlab.com");
+        val executor = Executors.newFixedThreadPool(6);
+        try {
+            val tasks = IntStream.range(0, 60)
+                .mapToObj(i -> CompletableFuture.supplyAsync(
+                    () -> resolver.resolve(service, getCriteriaFor(entityIds.get(i % entityIds.size()))), executor))
+                .toList();
+            tasks.forEach(task -> assertNotNull(task.join()));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, resolver.getCacheStatistics().loadSuccessCount());
+        resolver.invalidate();
+    }
+
     @Test
     void verifyMissingMetadataInMDQ() {
         val criteriaSet1 = getCriteriaFor("https://shib-sp-test-preprod.dartmouth.edu/shibboleth");
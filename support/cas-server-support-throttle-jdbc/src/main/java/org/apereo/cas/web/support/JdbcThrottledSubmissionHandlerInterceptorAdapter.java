@@ -2,16 +2,20 @@ package org.apereo.cas.web.support;
 
 import org.apereo.cas.configuration.model.support.throttle.JdbcThrottleProperties;
 import org.apereo.cas.util.DateTimeUtils;
+import org.apereo.cas.util.DigestUtils;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcOperations;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.sql.Types;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -21,7 +25,10 @@ import java.util.stream.Collectors;
  * Defines a new Inspektr Action "THROTTLED_LOGIN_ATTEMPT" which keeps track of failed login attempts that don't result
  * in AUTHENTICATION_FAILED methods
  * <p>
- * This relies on the default Inspektr table layout and username construction.  The username construction can be overridden
+ * Authentication failures are recorded in a dedicated throttle table, keyed by a hash of the application code,
+ * client address and username, so that evaluating the failure rate only reads the two most recent failures
+ * for the key via the table index. Alternatively, failures can be located using the audit query, which relies
+ * on the default Inspektr table layout and username construction. The username construction can be overridden
  * in a subclass.
  *
  * @author Scott Battaglia
@@ -30,6 +37,26 @@ import java.util.stream.Collectors;
 @Slf4j
 @SuppressWarnings("JavaUtilDate")
 public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractInspektrAuditHandlerInterceptorAdapter {
+    private static final String SQL_CREATE_TABLE = "CREATE TABLE %s (THROTTLE_KEY VARCHAR(128) NOT NULL, FAILURE_TIME NUMERIC(19) NOT NULL)";
+
+    private static final String SQL_CREATE_INDEX = "CREATE INDEX %s_IDX ON %s (THROTTLE_KEY, FAILURE_TIME)";
+
+    private static final String SQL_VERIFY_TABLE = "SELECT THROTTLE_KEY FROM %s WHERE 1 = 0";
+
+    private static final String SQL_INSERT_FAILURE = "INSERT INTO %s (THROTTLE_KEY, FAILURE_TIME) VALUES (?, ?)";
+
+    private static final String SQL_SELECT_FAILURES_BY_KEY = "SELECT FAILURE_TIME FROM %s "
+                                                             + "WHERE THROTTLE_KEY = ? AND FAILURE_TIME >= ? ORDER BY FAILURE_TIME DESC";
+
+    private static final String SQL_SELECT_FAILURES = "SELECT FAILURE_TIME FROM %s WHERE FAILURE_TIME >= ? ORDER BY FAILURE_TIME DESC";
+
+    private static final String SQL_DELETE_EXPIRED_FAILURES = "DELETE FROM %s WHERE FAILURE_TIME < ?";
+
+    private static final String REQUEST_ATTRIBUTE_FAILURE_RECORDED =
+        JdbcThrottledSubmissionHandlerInterceptorAdapter.class.getName() + ".failureRecorded";
+
+    private static final int MAX_FAILURES_FOR_RATE = 2;
+
     private final JdbcOperations jdbcTemplate;
 
     public JdbcThrottledSubmissionHandlerInterceptorAdapter(
@@ -39,6 +66,27 @@ public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractIn
         this.jdbcTemplate = jdbcTemplate;
     }
 
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        val jdbc = getJdbcThrottleProperties();
+        if (!jdbc.isAuditQueryEnabled() && !StringUtils.equalsAnyIgnoreCase(jdbc.getDdlAuto(), "none", "validate")) {
+            createThrottleTableIfNecessary(jdbc.getTableName());
+        }
+    }
+
+    @Override
+    public void recordSubmissionFailure(final HttpServletRequest request) {
+        val jdbc = getJdbcThrottleProperties();
+        if (!jdbc.isAuditQueryEnabled() && request.getAttribute(REQUEST_ATTRIBUTE_FAILURE_RECORDED) == null) {
+            request.setAttribute(REQUEST_ATTRIBUTE_FAILURE_RECORDED, Boolean.TRUE);
+            val throttleKey = getThrottleKey(request);
+            LOGGER.debug("Recording submission failure for throttle key [{}]", throttleKey);
+            jdbcTemplate.update(String.format(SQL_INSERT_FAILURE, jdbc.getTableName()),
+                new Object[]{throttleKey, System.currentTimeMillis()}, new int[]{Types.VARCHAR, Types.NUMERIC});
+        }
+    }
+
     @Override
     public boolean exceedsThreshold(final HttpServletRequest request) {
         val throttle = getConfigurationContext().getCasProperties().getAuthn().getThrottle();
@@ -46,28 +94,27 @@ public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractIn
         val remoteAddress = clientInfo.getClientIpAddress();
         val username = getUsernameParameterFromRequest(request);
 
-        LOGGER.debug("Fetching failures in audit log for username [{}] and remote address [{}]", username, remoteAddress);
-        val failuresInAudits = jdbcTemplate.query(
-            throttle.getJdbc().getAuditQuery(),
-            new Object[]{
-                remoteAddress,
-                username,
-                throttle.getFailure().getCode(),
-                throttle.getCore().getAppCode(),
-                getFailureInRangeCutOffDate()},
-            new int[]{Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP},
-            (resultSet, i) -> ThrottledSubmission.builder()
-                .key(UUID.randomUUID().toString())
-                .value(DateTimeUtils.zonedDateTimeOf(resultSet.getTimestamp("AUD_DATE")))
-                .build());
-        LOGGER.debug("Found [{}] failure(s) in audit log", failuresInAudits.size());
-        val result = calculateFailureThresholdRateAndCompare(failuresInAudits);
+        val failures = throttle.getJdbc().isAuditQueryEnabled()
+            ? getFailuresFromAuditLog(remoteAddress, username)
+            : getFailuresFromThrottleTable(request);
+        LOGGER.debug("Found [{}] failure(s) for username [{}] and remote address [{}]", failures.size(), username, remoteAddress);
+        val result = calculateFailureThresholdRateAndCompare(failures);
         if (result) {
             LOGGER.debug("Request from [{}] by user [{}] exceeds threshold", remoteAddress, username);
         }
         return result;
     }
 
+    @Override
+    public void release() {
+        val jdbc = getJdbcThrottleProperties();
+        if (!jdbc.isAuditQueryEnabled()) {
+            val removed = jdbcTemplate.update(String.format(SQL_DELETE_EXPIRED_FAILURES, jdbc.getTableName()),
+                new Object[]{getFailureInRangeCutOffDate().getTime()}, new int[]{Types.NUMERIC});
+            LOGGER.debug("Removed [{}] expired failure(s) from [{}]", removed, jdbc.getTableName());
+        }
+    }
+
     @Override
     public String getName() {
         return "JdbcThrottle";
@@ -76,6 +123,13 @@ public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractIn
     @Override
     public Collection getRecords() {
         val throttle = getConfigurationContext().getCasProperties().getAuthn().getThrottle();
+        if (!throttle.getJdbc().isAuditQueryEnabled()) {
+            return jdbcTemplate.query(
+                String.format(SQL_SELECT_FAILURES, throttle.getJdbc().getTableName()),
+                new Object[]{getFailureInRangeCutOffDate().getTime()},
+                new int[]{Types.NUMERIC},
+                (resultSet, i) -> new Date(resultSet.getLong("FAILURE_TIME")));
+        }
         val failuresInAudits = jdbcTemplate.query(
             JdbcThrottleProperties.SQL_AUDIT_QUERY_ALL,
             new Object[]{
@@ -86,4 +140,67 @@ public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractIn
             (resultSet, i) -> resultSet.getTimestamp("AUD_DATE"));
         return failuresInAudits.stream().map(t -> new Date(t.getTime())).collect(Collectors.toList());
     }
+
+    /**
+     * Build the key under which failures are recorded in the throttle table.
+     *
+     * @param request the request
+     * @return the throttle key
+     */
+    protected String getThrottleKey(final HttpServletRequest request) {
+        val appCode = getConfigurationContext().getCasProperties().getAuthn().getThrottle().getCore().getAppCode();
+        val remoteAddress = ClientInfoHolder.getClientInfo().getClientIpAddress();
+        val username = getUsernameParameterFromRequest(request);
+        return DigestUtils.sha256(String.join("|", StringUtils.defaultString(appCode),
+            StringUtils.defaultString(remoteAddress), StringUtils.defaultString(username)));
+    }
+
+    private List<ThrottledSubmission> getFailuresFromThrottleTable(final HttpServletRequest request) {
+        val throttleKey = getThrottleKey(request);
+        val sql = String.format(SQL_SELECT_FAILURES_BY_KEY, getJdbcThrottleProperties().getTableName());
+        val cutoff = getFailureInRangeCutOffDate().getTime();
+        return jdbcTemplate.query(connection -> {
+            val statement = connection.prepareStatement(sql);
+            statement.setString(1, throttleKey);
+            statement.setLong(2, cutoff);
+            statement.setMaxRows(MAX_FAILURES_FOR_RATE);
+            return statement;
+        }, (resultSet, i) -> ThrottledSubmission.builder()
+            .key(UUID.randomUUID().toString())
+            .value(DateTimeUtils.zonedDateTimeOf(resultSet.getLong("FAILURE_TIME")))
+            .build());
+    }
+
+    private List<ThrottledSubmission> getFailuresFromAuditLog(final String remoteAddress, final String username) {
+        val throttle = getConfigurationContext().getCasProperties().getAuthn().getThrottle();
+        LOGGER.debug("Fetching failures in audit log for username [{}] and remote address [{}]", username, remoteAddress);
+        return jdbcTemplate.query(
+            throttle.getJdbc().getAuditQuery(),
+            new Object[]{
+                remoteAddress,
+                username,
+                throttle.getFailure().getCode(),
+                throttle.getCore().getAppCode(),
+                getFailureInRangeCutOffDate()},
+            new int[]{Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP},
+            (resultSet, i) -> ThrottledSubmission.builder()
+                .key(UUID.randomUUID().toString())
+                .value(DateTimeUtils.zonedDateTimeOf(resultSet.getTimestamp("AUD_DATE")))
+                .build());
+    }
+
+    private void createThrottleTableIfNecessary(final String tableName) {
+        try {
+            jdbcTemplate.execute(String.format(SQL_VERIFY_TABLE, tableName));
+            LOGGER.trace("Throttle table [{}] already exists", tableName);
+        } catch (final DataAccessException e) {
+            LOGGER.info("Creating throttle table [{}]", tableName);
+            jdbcTemplate.execute(String.format(SQL_CREATE_TABLE, tableName));
+            jdbcTemplate.execute(String.format(SQL_CREATE_INDEX, tableName, tableName));
+        }
+    }
+
+    private JdbcThrottleProperties getJdbcThrottleProperties() {
+        return getConfigurationContext().getCasProperties().getAuthn().getThrottle().getJdbc();
+    }
 }
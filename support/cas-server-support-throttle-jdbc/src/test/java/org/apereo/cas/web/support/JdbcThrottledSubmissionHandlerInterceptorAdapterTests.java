@@ -55,4 +55,21 @@ class JdbcThrottledSubmissionHandlerInterceptorAdapterTests extends BaseThrottle
         throttle.recordSubmissionFailure(request);
         assertFalse(throttle.getRecords().isEmpty());
     }
+
+    @Test
+    void verifyFailuresInThrottleTable() {
+        val request1 = new MockHttpServletRequest();
+        request1.setParameter("username", "throttled-user");
+        throttle.recordSubmissionFailure(request1);
+        throttle.recordSubmissionFailure(request1);
+        assertFalse(throttle.exceedsThreshold(request1));
+
+        val request2 = new MockHttpServletRequest();
+        request2.setParameter("username", "throttled-user");
+        throttle.recordSubmissionFailure(request2);
+        assertTrue(throttle.exceedsThreshold(request2));
+
+        throttle.release();
+        assertFalse(throttle.getRecords().isEmpty());
+    }
 }
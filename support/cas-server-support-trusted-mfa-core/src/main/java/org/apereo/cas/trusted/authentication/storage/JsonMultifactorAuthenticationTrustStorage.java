@@ -7,28 +7,39 @@ import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.io.AppendOnlyJsonFileJournal;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.hjson.JsonValue;
 import org.springframework.core.io.Resource;
 
 import java.io.InputStreamReader;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link JsonMultifactorAuthenticationTrustStorage}.
+ * Records are kept in memory and indexed by principal. Changes are appended
+ * to a journal that sits next to the JSON file, and the journal is compacted
+ * back into the JSON file once it grows or when expired records are removed.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -40,7 +51,11 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
 
     private final Resource location;
 
-    private Map<String, MultifactorAuthenticationTrustRecord> storage;
+    private final Map<String, MultifactorAuthenticationTrustRecord> storage = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> principalIndex = new ConcurrentHashMap<>();
+
+    private AppendOnlyJsonFileJournal<MultifactorAuthenticationTrustRecord> journal;
 
     public JsonMultifactorAuthenticationTrustStorage(final TrustedDevicesMultifactorProperties properties,
                                                      final CipherExecutor<Serializable, String> cipherExecutor,
@@ -51,29 +66,37 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
         readTrustedRecordsFromResource();
     }
 
+    private static String getPrincipalKey(final String principal) {
+        return StringUtils.defaultString(principal).toLowerCase(Locale.ENGLISH);
+    }
+
     @Override
-    public void remove(final String key) {
-        storage.keySet().removeIf(k -> k.equalsIgnoreCase(key));
-        writeTrustedRecordsToResource();
+    public synchronized void remove(final String key) {
+        if (storage.containsKey(key)) {
+            removeRecord(key);
+        } else {
+            storage.keySet()
+                .stream()
+                .filter(k -> k.equalsIgnoreCase(key))
+                .toList()
+                .forEach(this::removeRecord);
+        }
     }
 
     @Override
     @SuppressWarnings("JavaUtilDate")
-    public void remove(final ZonedDateTime expirationDate) {
+    public synchronized void remove(final ZonedDateTime expirationDate) {
+        val expDate = DateTimeUtils.dateOf(expirationDate);
         val results = storage
             .values()
             .stream()
-            .filter(entry -> entry.getExpirationDate() != null)
-            .filter(entry -> {
-                val expDate = DateTimeUtils.dateOf(expirationDate);
-                return expDate.compareTo(entry.getExpirationDate()) >= 0;
-            })
+            .filter(entry -> isExpired(entry, expDate))
             .sorted()
             .collect(Collectors.toCollection(LinkedHashSet::new));
 
         LOGGER.info("Found [{}] expired trusted-device records", results.size());
         if (!results.isEmpty()) {
-            results.forEach(entry -> storage.remove(entry.getRecordKey()));
+            results.forEach(entry -> unindexRecord(storage.remove(entry.getRecordKey())));
             LOGGER.info("Invalidated and removed [{}] expired records", results.size());
             writeTrustedRecordsToResource();
         }
@@ -109,37 +132,121 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
     }
 
     @Override
+    @SuppressWarnings("JavaUtilDate")
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal) {
-        remove();
-        return storage
-            .values()
+        val keys = principalIndex.getOrDefault(getPrincipalKey(principal), Set.of());
+        if (keys.isEmpty()) {
+            return new LinkedHashSet<>(0);
+        }
+        val now = DateTimeUtils.dateOf(ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS));
+        val records = keys
             .stream()
+            .map(storage::get)
+            .filter(Objects::nonNull)
             .filter(entry -> entry.getPrincipal().equalsIgnoreCase(principal))
+            .toList();
+        val expired = records.stream().filter(entry -> isExpired(entry, now)).toList();
+        if (!expired.isEmpty()) {
+            synchronized (this) {
+                expired.forEach(entry -> removeRecord(entry.getRecordKey()));
+            }
+        }
+        return records
+            .stream()
+            .filter(entry -> !expired.contains(entry))
             .sorted()
             .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
-
     @Override
-    public MultifactorAuthenticationTrustRecord saveInternal(final MultifactorAuthenticationTrustRecord record) {
-        this.storage.put(record.getRecordKey(), record);
-        writeTrustedRecordsToResource();
+    public synchronized MultifactorAuthenticationTrustRecord saveInternal(final MultifactorAuthenticationTrustRecord record) {
+        unindexRecord(storage.put(record.getRecordKey(), record));
+        indexRecord(record);
+        recordChangeInResource(record.getRecordKey(), record);
         return record;
     }
 
+    private static boolean isExpired(final MultifactorAuthenticationTrustRecord entry, final Date expirationDate) {
+        return entry.getExpirationDate() != null && expirationDate.compareTo(entry.getExpirationDate()) >= 0;
+    }
+
+    private void removeRecord(final String key) {
+        val record = storage.remove(key);
+        if (record != null) {
+            unindexRecord(record);
+            recordChangeInResource(key, null);
+        }
+    }
+
+    private void indexRecord(final MultifactorAuthenticationTrustRecord record) {
+        principalIndex.computeIfAbsent(getPrincipalKey(record.getPrincipal()), k -> ConcurrentHashMap.newKeySet())
+            .add(record.getRecordKey());
+    }
+
+    private void unindexRecord(final MultifactorAuthenticationTrustRecord record) {
+        if (record != null) {
+            principalIndex.computeIfPresent(getPrincipalKey(record.getPrincipal()), (k, keys) -> {
+                keys.remove(record.getRecordKey());
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
     private void readTrustedRecordsFromResource() {
-        this.storage = new LinkedHashMap<>();
+        storage.clear();
+        principalIndex.clear();
         if (ResourceUtils.doesResourceExist(location)) {
             FunctionUtils.doUnchecked(__ -> {
                 try (val reader = new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8)) {
                     val personList = new TypeReference<Map<String, MultifactorAuthenticationTrustRecord>>() {
                     };
-                    this.storage = MAPPER.readValue(JsonValue.readHjson(reader).toString(), personList);
+                    val records = MAPPER.readValue(JsonValue.readHjson(reader).toString(), personList);
+                    if (records != null) {
+                        storage.putAll(records);
+                    }
+                }
+            });
+        }
+        storage.values().forEach(this::indexRecord);
+        if (location.isFile()) {
+            FunctionUtils.doUnchecked(__ -> {
+                val changes = getJournal();
+                changes.replay((key, record) -> {
+                    unindexRecord(record == null ? storage.remove(key) : storage.put(key, record));
+                    if (record != null) {
+                        indexRecord(record);
+                    }
+                });
+                if (changes.isCompactionDue(storage.size())) {
+                    writeTrustedRecordsToResource();
                 }
             });
         }
     }
 
+    private AppendOnlyJsonFileJournal<MultifactorAuthenticationTrustRecord> getJournal() throws Exception {
+        if (journal == null) {
+            journal = AppendOnlyJsonFileJournal.forSnapshot(location.getFile(), MAPPER,
+                MAPPER.constructType(MultifactorAuthenticationTrustRecord.class));
+        }
+        return journal;
+    }
+
+    private void recordChangeInResource(final String key, final MultifactorAuthenticationTrustRecord record) {
+        FunctionUtils.doUnchecked(__ -> {
+            val file = location.getFile();
+            if (file.createNewFile()) {
+                LOGGER.debug("Created JSON resource @ [{}]", location);
+                MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, Map.of());
+            }
+            val changes = getJournal();
+            changes.append(key, record);
+            if (changes.isCompactionDue(storage.size())) {
+                writeTrustedRecordsToResource();
+            }
+        });
+    }
+
     private void writeTrustedRecordsToResource() {
         FunctionUtils.doUnchecked(__ -> {
             val file = this.location.getFile();
@@ -147,8 +254,8 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
             if (res) {
                 LOGGER.debug("Created JSON resource @ [{}]", this.location);
             }
-            MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, this.storage);
-            readTrustedRecordsFromResource();
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, new LinkedHashMap<>(storage));
+            getJournal().truncate();
         });
     }
 }
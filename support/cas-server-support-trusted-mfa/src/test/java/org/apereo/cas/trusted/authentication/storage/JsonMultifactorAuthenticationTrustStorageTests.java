@@ -1,6 +1,9 @@
 package org.apereo.cas.trusted.authentication.storage;
 
+import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevicesMultifactorProperties;
 import org.apereo.cas.trusted.AbstractMultifactorAuthenticationTrustStorageTests;
+import org.apereo.cas.util.DateTimeUtils;
+import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.Getter;
 import lombok.SneakyThrows;
@@ -9,10 +12,17 @@ import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.test.context.TestPropertySource;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * This is {@link JsonMultifactorAuthenticationTrustStorageTests}.
@@ -38,13 +48,41 @@ class JsonMultifactorAuthenticationTrustStorageTests extends AbstractMultifactor
         deleteJsonFile();
     }
 
+    @Test
+    void verifyChangesReplayedFromJournal() throws Exception {
+        val file = File.createTempFile("trusted-devices", ".json");
+        FileUtils.deleteQuietly(file);
+        val storage = new JsonMultifactorAuthenticationTrustStorage(new TrustedDevicesMultifactorProperties(),
+            CipherExecutor.noOpOfSerializableToString(), new FileSystemResource(file), keyGenerationStrategy);
+        val record = storage.save(getMultifactorAuthenticationTrustRecord());
+        val other = storage.save(getMultifactorAuthenticationTrustRecord());
+        storage.remove(other.getRecordKey());
+
+        val journal = new File(file.getParentFile(), file.getName() + ".journal");
+        assertTrue(journal.exists());
+        assertEquals(3, FileUtils.readLines(journal, StandardCharsets.UTF_8).size());
+
+        val reloaded = new JsonMultifactorAuthenticationTrustStorage(new TrustedDevicesMultifactorProperties(),
+            CipherExecutor.noOpOfSerializableToString(), new FileSystemResource(file), keyGenerationStrategy);
+        assertEquals(1, reloaded.getAll().size());
+        assertEquals(1, reloaded.get(record.getPrincipal().toUpperCase(Locale.ENGLISH)).size());
+        assertTrue(reloaded.get(other.getPrincipal()).isEmpty());
+
+        reloaded.remove(DateTimeUtils.zonedDateTimeOf(record.getExpirationDate()).plusDays(1));
+        assertFalse(journal.exists());
+        assertTrue(reloaded.getAll().isEmpty());
+        FileUtils.deleteQuietly(file);
+    }
+
     /**
-     * Cleanup json file before and after test, quietly because of errors on Windows.
+     * Cleanup json file and its journal before and after test, quietly because of errors on Windows.
      */
     private static void deleteJsonFile() {
-        val file = new File(FileUtils.getTempDirectory(), "trusted-device.json");
-        if (file.exists()) {
-            FileUtils.deleteQuietly(file);
-        }
+        Stream.of("trusted-device.json", "trusted-device.json.journal").forEach(name -> {
+            val file = new File(FileUtils.getTempDirectory(), name);
+            if (file.exists()) {
+                FileUtils.deleteQuietly(file);
+            }
+        });
     }
 }
@@ -0,0 +1,166 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.validation.CasProtocolValidationSpecification.CasProtocolVersions;
+
+import lombok.Getter;
+import lombok.val;
+import org.springframework.web.servlet.view.AbstractView;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This is {@link CasServiceValidationStreamingView} that writes the CAS2 or CAS3 service validation
+ * success or failure document directly to the response. The output matches, byte for byte,
+ * what the default CAS2 and CAS3 validation templates produce, including their whitespace and escaping rules,
+ * without compiling and executing a template or buffering the response for each request.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Getter
+public class CasServiceValidationStreamingView extends AbstractView {
+    private static final String SERVICE_RESPONSE_START = "<cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>\n";
+
+    private static final String SERVICE_RESPONSE_END = "</cas:serviceResponse>\n";
+
+    private final boolean successResponse;
+
+    private final CasProtocolVersions protocolVersion;
+
+    public CasServiceValidationStreamingView(final boolean successResponse,
+                                             final CasProtocolVersions protocolVersion,
+                                             final String contentType) {
+        this.successResponse = successResponse;
+        this.protocolVersion = protocolVersion;
+        setContentType(contentType);
+    }
+
+    @Override
+    protected void renderMergedOutputModel(final Map<String, Object> model,
+                                           final HttpServletRequest request,
+                                           final HttpServletResponse response) throws Exception {
+        if (response.getContentType() == null) {
+            response.setContentType(getContentType());
+        }
+        val writer = response.getWriter();
+        writer.write(SERVICE_RESPONSE_START);
+        if (successResponse) {
+            writeAuthenticationSuccess(model, writer);
+        } else {
+            writeAuthenticationFailure(model, writer);
+        }
+        writer.write(SERVICE_RESPONSE_END);
+        if (successResponse && protocolVersion == CasProtocolVersions.CAS30) {
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Write authentication failure.
+     *
+     * @param model  the model
+     * @param writer the writer
+     * @throws IOException the io exception
+     */
+    protected void writeAuthenticationFailure(final Map<String, Object> model, final Writer writer) throws IOException {
+        writer.write("    <cas:authenticationFailure code=\"");
+        writeEscaped(writer, model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE));
+        writer.write("\">");
+        writeEscaped(writer, model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION));
+        writer.write("</cas:authenticationFailure>\n");
+    }
+
+    /**
+     * Write authentication success.
+     *
+     * @param model  the model
+     * @param writer the writer
+     * @throws IOException the io exception
+     */
+    protected void writeAuthenticationSuccess(final Map<String, Object> model, final Writer writer) throws IOException {
+        writer.write("    <cas:authenticationSuccess>\n");
+
+        val principal = (Principal) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL);
+        writer.write("        <cas:user>");
+        writeEscaped(writer, principal.getId());
+        writer.write("</cas:user>\n");
+
+        writer.write("        ");
+        val pgtIou = model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU);
+        if (pgtIou != null) {
+            writer.write("<cas:proxyGrantingTicket>");
+            writeEscaped(writer, pgtIou);
+            writer.write("</cas:proxyGrantingTicket>");
+        }
+        writer.write('\n');
+
+        /*
+         * The CAS2 template guards proxies with a section that never resolves
+         * for the list of chained authentications, and does not render attributes.
+         */
+        if (protocolVersion == CasProtocolVersions.CAS30) {
+            val chainedAuthentications = (Collection<Authentication>) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_CHAINED_AUTHENTICATIONS);
+            if (chainedAuthentications != null && !chainedAuthentications.isEmpty()) {
+                writer.write("        <cas:proxies>\n            ");
+                for (val authentication : chainedAuthentications) {
+                    writer.write("<cas:proxy>");
+                    writeEscaped(writer, authentication.getPrincipal().getId());
+                    writer.write("</cas:proxy>");
+                }
+                writer.write("\n        </cas:proxies>\n");
+            }
+            val formattedAttributes = (Collection<Object>) model.get(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES);
+            if (formattedAttributes != null && !formattedAttributes.isEmpty()) {
+                writer.write("        <cas:attributes>\n");
+                for (val attribute : formattedAttributes) {
+                    writer.write("            ");
+                    writer.write(Objects.toString(attribute, ""));
+                    writer.write('\n');
+                }
+                writer.write("        </cas:attributes>\n");
+            }
+        }
+        writer.write("    </cas:authenticationSuccess>\n");
+    }
+
+    /**
+     * Write the value, escaping the same characters that templates escape.
+     *
+     * @param writer the writer
+     * @param value  the value
+     * @throws IOException the io exception
+     */
+    protected static void writeEscaped(final Writer writer, final Object value) throws IOException {
+        val text = Objects.toString(value, "");
+        var start = 0;
+        for (var i = 0; i < text.length(); i++) {
+            val replacement = switch (text.charAt(i)) {
+                case '&' -> "&amp;";
+                case '\'' -> "&#39;";
+                case '"' -> "&quot;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '`' -> "&#x60;";
+                case '=' -> "&#x3D;";
+                default -> null;
+            };
+            if (replacement != null) {
+                writer.write(text, start, i - start);
+                writer.write(replacement);
+                start = i + 1;
+            }
+        }
+        writer.write(text, start, text.length() - start);
+    }
+}
@@ -10,6 +10,7 @@ import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.web.view.ViewProperties;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.proxy.ProxyHandler;
 import org.apereo.cas.ticket.registry.TicketRegistry;
@@ -40,6 +41,7 @@ import org.apereo.cas.web.v3.V3ServiceValidateController;
 import org.apereo.cas.web.view.Cas10ResponseView;
 import org.apereo.cas.web.view.Cas20ResponseView;
 import org.apereo.cas.web.view.Cas30ResponseView;
+import org.apereo.cas.web.view.CasServiceValidationStreamingView;
 import org.apereo.cas.web.view.attributes.AttributeValuesPerLineProtocolAttributesRenderer;
 import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
 import org.apereo.cas.web.view.attributes.InlinedCas30ProtocolAttributesRenderer;
@@ -285,6 +287,15 @@ public class CasValidationConfiguration {
     @Configuration(value = "CasValidationViewsConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class CasValidationViewsConfiguration {
+        private static View getServiceValidationView(final CasConfigurationProperties casProperties,
+                                                     final View templateView,
+                                                     final boolean successResponse,
+                                                     final CasProtocolVersions protocolVersion) {
+            if (casProperties.getView().getServiceValidationRendererType() == ViewProperties.ServiceValidationRendererTypes.STREAMING) {
+                return new CasServiceValidationStreamingView(successResponse, protocolVersion, templateView.getContentType());
+            }
+            return templateView;
+        }
 
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -333,8 +344,9 @@ public class CasValidationConfiguration {
             @Qualifier(CasProtocolViewFactory.BEAN_NAME_MUSTACHE_VIEW_FACTORY)
             final CasProtocolViewFactory casProtocolMustacheViewFactory,
             final CasConfigurationProperties casProperties) {
-            return casProtocolMustacheViewFactory.create(applicationContext,
+            val view = casProtocolMustacheViewFactory.create(applicationContext,
                 casProperties.getView().getCas2().getSuccess(), APPLICATION_XML_VALUE);
+            return getServiceValidationView(casProperties, view, true, CasProtocolVersions.CAS20);
         }
 
         @Bean
@@ -344,8 +356,9 @@ public class CasValidationConfiguration {
             @Qualifier(CasProtocolViewFactory.BEAN_NAME_MUSTACHE_VIEW_FACTORY)
             final CasProtocolViewFactory casProtocolMustacheViewFactory,
             final CasConfigurationProperties casProperties) throws Exception {
-            return casProtocolMustacheViewFactory.create(applicationContext,
+            val view = casProtocolMustacheViewFactory.create(applicationContext,
                 casProperties.getView().getCas2().getFailure(), APPLICATION_XML_VALUE);
+            return getServiceValidationView(casProperties, view, false, CasProtocolVersions.CAS20);
         }
 
         @Bean
@@ -385,8 +398,9 @@ public class CasValidationConfiguration {
             @Qualifier(CasProtocolViewFactory.BEAN_NAME_MUSTACHE_VIEW_FACTORY)
             final CasProtocolViewFactory casProtocolMustacheViewFactory,
             final CasConfigurationProperties casProperties) {
-            return casProtocolMustacheViewFactory.create(applicationContext,
+            val view = casProtocolMustacheViewFactory.create(applicationContext,
                 casProperties.getView().getCas3().getSuccess(), APPLICATION_XML_VALUE);
+            return getServiceValidationView(casProperties, view, true, CasProtocolVersions.CAS30);
         }
 
         @Bean
@@ -396,8 +410,9 @@ public class CasValidationConfiguration {
             @Qualifier(CasProtocolViewFactory.BEAN_NAME_MUSTACHE_VIEW_FACTORY)
             final CasProtocolViewFactory casProtocolMustacheViewFactory,
             final CasConfigurationProperties casProperties) throws Exception {
-            return casProtocolMustacheViewFactory.create(applicationContext,
+            val view = casProtocolMustacheViewFactory.create(applicationContext,
                 casProperties.getView().getCas3().getFailure(), APPLICATION_XML_VALUE);
+            return getServiceValidationView(casProperties, view, false, CasProtocolVersions.CAS30);
         }
 
         @Bean
@@ -0,0 +1,104 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.DefaultAuthenticationAttributeReleasePolicy;
+import org.apereo.cas.authentication.DefaultAuthenticationServiceSelectionPlan;
+import org.apereo.cas.authentication.support.NoOpProtocolAttributeEncoder;
+import org.apereo.cas.validation.CasProtocolValidationSpecification.CasProtocolVersions;
+import org.apereo.cas.web.view.attributes.NoOpProtocolAttributesRenderer;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.support.RequestContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CasServiceValidationStreamingViewTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("CAS")
+class CasServiceValidationStreamingViewTests extends Cas30ResponseViewTests {
+    @Autowired
+    @Qualifier("cas3SuccessView")
+    private View cas3SuccessView;
+
+    @Autowired
+    @Qualifier("cas3ServiceFailureView")
+    private View cas3ServiceFailureView;
+
+    @Autowired
+    @Qualifier("cas2SuccessView")
+    private View cas2SuccessView;
+
+    @Autowired
+    @Qualifier("cas2ServiceFailureView")
+    private View cas2ServiceFailureView;
+
+    private static String render(final View view, final Map<String, Object> model) throws Exception {
+        val request = new MockHttpServletRequest(new MockServletContext());
+        request.setAttribute(RequestContext.WEB_APPLICATION_CONTEXT_ATTRIBUTE,
+            new GenericWebApplicationContext(request.getServletContext()));
+        val response = new MockHttpServletResponse();
+        view.render(new HashMap<>(model), request, response);
+        return response.getContentAsString();
+    }
+
+    private static Map<String, Object> getFailureModel() {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE, "INVALID_TICKET");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION, "Ticket <ST-1> & 'service'=\"`https://example.org`\" is invalid");
+        return model;
+    }
+
+    @Test
+    void verifyCas3SuccessMatchesTemplate() throws Exception {
+        val model = getModelAndViewUponServiceValidationWithSecurePgtUrl(DEFAULT_SERVICE).getModel();
+        val encoder = new NoOpProtocolAttributeEncoder();
+        val expected = render(getCasViewToRender(encoder, cas3SuccessView), model);
+        val streamingView = new CasServiceValidationStreamingView(true, CasProtocolVersions.CAS30, cas3SuccessView.getContentType());
+        val result = render(getCasViewToRender(encoder, streamingView), model);
+        assertTrue(result.contains("<cas:attributes>"));
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void verifyCas2SuccessMatchesTemplate() throws Exception {
+        val model = getModelAndViewUponServiceValidationWithSecurePgtUrl(DEFAULT_SERVICE).getModel();
+        val streamingView = new CasServiceValidationStreamingView(true, CasProtocolVersions.CAS20, cas2SuccessView.getContentType());
+        val expected = render(getCas20View(cas2SuccessView), model);
+        val result = render(getCas20View(streamingView), model);
+        assertTrue(result.contains("<cas:user>"));
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void verifyFailureMatchesTemplate() throws Exception {
+        val cas3View = new CasServiceValidationStreamingView(false, CasProtocolVersions.CAS30, cas3ServiceFailureView.getContentType());
+        val cas3Result = render(cas3View, getFailureModel());
+        assertTrue(cas3Result.contains("&lt;ST-1&gt; &amp; &#39;service&#39;&#x3D;&quot;&#x60;"));
+        assertEquals(render(cas3ServiceFailureView, getFailureModel()), cas3Result);
+
+        val cas2View = new CasServiceValidationStreamingView(false, CasProtocolVersions.CAS20, cas2ServiceFailureView.getContentType());
+        assertEquals(render(cas2ServiceFailureView, getFailureModel()), render(cas2View, getFailureModel()));
+    }
+
+    private Cas20ResponseView getCas20View(final View view) {
+        return new Cas20ResponseView(true, new NoOpProtocolAttributeEncoder(), servicesManager,
+            view, new DefaultAuthenticationAttributeReleasePolicy("attribute"),
+            new DefaultAuthenticationServiceSelectionPlan(), NoOpProtocolAttributesRenderer.INSTANCE);
+    }
+}
@@ -0,0 +1,216 @@
+package org.apereo.cas.adaptors.x509.authentication;
+
+import lombok.Getter;
+import lombok.val;
+
+import javax.security.auth.x500.X500Principal;
+import java.math.BigInteger;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.security.Principal;
+import java.security.Provider;
+import java.security.PublicKey;
+import java.security.SignatureException;
+import java.security.cert.CRLException;
+import java.security.cert.Certificate;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This is {@link IndexedX509CRL} that wraps a parsed {@link X509CRL} and indexes its revoked
+ * entries by serial number, so that checking whether a certificate is revoked is a hash lookup.
+ * CRLs are indexed once when they are fetched, and may then be cached and shared
+ * across revocation checks without being parsed again.
+ * <p>
+ * Indirect CRLs, whose entries may belong to issuers other than the CRL issuer,
+ * are not indexed and delegate lookups to the wrapped CRL.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public class IndexedX509CRL extends X509CRL {
+    @Getter
+    private final X509CRL crl;
+
+    private final X500Principal issuer;
+
+    private final Map<BigInteger, X509CRLEntry> revokedEntries;
+
+    private final boolean indirect;
+
+    protected IndexedX509CRL(final X509CRL crl) {
+        this.crl = crl;
+        this.issuer = crl.getIssuerX500Principal();
+        val entries = crl.getRevokedCertificates();
+        val index = new HashMap<BigInteger, X509CRLEntry>(entries == null ? 0 : entries.size());
+        var indirectEntries = false;
+        if (entries != null) {
+            for (val entry : entries) {
+                if (entry.getCertificateIssuer() != null) {
+                    indirectEntries = true;
+                    break;
+                }
+                index.putIfAbsent(entry.getSerialNumber(), entry);
+            }
+        }
+        this.indirect = indirectEntries;
+        this.revokedEntries = indirectEntries ? Map.of() : Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Index the given CRL, unless it is already indexed.
+     *
+     * @param crl the crl
+     * @return the indexed crl
+     */
+    public static X509CRL of(final X509CRL crl) {
+        if (crl == null || crl instanceof IndexedX509CRL) {
+            return crl;
+        }
+        return new IndexedX509CRL(crl);
+    }
+
+    @Override
+    public X509CRLEntry getRevokedCertificate(final X509Certificate certificate) {
+        if (indirect) {
+            return crl.getRevokedCertificate(certificate);
+        }
+        if (revokedEntries.isEmpty() || !issuer.equals(certificate.getIssuerX500Principal())) {
+            return null;
+        }
+        return revokedEntries.get(certificate.getSerialNumber());
+    }
+
+    @Override
+    public X509CRLEntry getRevokedCertificate(final BigInteger serialNumber) {
+        return indirect ? crl.getRevokedCertificate(serialNumber) : revokedEntries.get(serialNumber);
+    }
+
+    @Override
+    public boolean isRevoked(final Certificate certificate) {
+        return certificate instanceof X509Certificate x509 && getRevokedCertificate(x509) != null;
+    }
+
+    @Override
+    public X500Principal getIssuerX500Principal() {
+        return issuer;
+    }
+
+    @Override
+    public byte[] getEncoded() throws CRLException {
+        return crl.getEncoded();
+    }
+
+    @Override
+    public void verify(final PublicKey key) throws CRLException, NoSuchAlgorithmException,
+        InvalidKeyException, NoSuchProviderException, SignatureException {
+        crl.verify(key);
+    }
+
+    @Override
+    public void verify(final PublicKey key, final String sigProvider) throws CRLException, NoSuchAlgorithmException,
+        InvalidKeyException, NoSuchProviderException, SignatureException {
+        crl.verify(key, sigProvider);
+    }
+
+    @Override
+    public void verify(final PublicKey key, final Provider sigProvider) throws CRLException, NoSuchAlgorithmException,
+        InvalidKeyException, SignatureException {
+        crl.verify(key, sigProvider);
+    }
+
+    @Override
+    public int getVersion() {
+        return crl.getVersion();
+    }
+
+    @Override
+    public Principal getIssuerDN() {
+        return crl.getIssuerDN();
+    }
+
+    @Override
+    public Date getThisUpdate() {
+        return crl.getThisUpdate();
+    }
+
+    @Override
+    public Date getNextUpdate() {
+        return crl.getNextUpdate();
+    }
+
+    @Override
+    public Set<? extends X509CRLEntry> getRevokedCertificates() {
+        return crl.getRevokedCertificates();
+    }
+
+    @Override
+    public byte[] getTBSCertList() throws CRLException {
+        return crl.getTBSCertList();
+    }
+
+    @Override
+    public byte[] getSignature() {
+        return crl.getSignature();
+    }
+
+    @Override
+    public String getSigAlgName() {
+        return crl.getSigAlgName();
+    }
+
+    @Override
+    public String getSigAlgOID() {
+        return crl.getSigAlgOID();
+    }
+
+    @Override
+    public byte[] getSigAlgParams() {
+        return crl.getSigAlgParams();
+    }
+
+    @Override
+    public boolean hasUnsupportedCriticalExtension() {
+        return crl.hasUnsupportedCriticalExtension();
+    }
+
+    @Override
+    public Set<String> getCriticalExtensionOIDs() {
+        return crl.getCriticalExtensionOIDs();
+    }
+
+    @Override
+    public Set<String> getNonCriticalExtensionOIDs() {
+        return crl.getNonCriticalExtensionOIDs();
+    }
+
+    @Override
+    public byte[] getExtensionValue(final String oid) {
+        return crl.getExtensionValue(oid);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        return crl.equals(other instanceof IndexedX509CRL indexed ? indexed.getCrl() : other);
+    }
+
+    @Override
+    public int hashCode() {
+        return crl.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return crl.toString();
+    }
+}
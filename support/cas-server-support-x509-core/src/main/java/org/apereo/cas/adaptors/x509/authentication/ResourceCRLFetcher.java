@@ -18,7 +18,8 @@ import java.util.stream.Collectors;
 
 /**
  * Handles the fetching of CRL objects based on resources.
- * Supports http/ldap resources.
+ * Supports http/ldap resources. Fetched CRLs are parsed once and
+ * indexed by serial number via {@link IndexedX509CRL}.
  *
  * @author Misagh Moayyed
  * @since 4.1
@@ -32,7 +33,7 @@ public class ResourceCRLFetcher implements CRLFetcher {
                 try {
                     LOGGER.debug("Fetching CRL data from [{}]", crl);
                     try (val ins = crl.getInputStream()) {
-                        return (X509CRL) CertUtils.getCertificateFactory().generateCRL(ins);
+                        return IndexedX509CRL.of((X509CRL) CertUtils.getCertificateFactory().generateCRL(ins));
                     }
                 } catch (final Exception e) {
                     LoggingUtils.warn(LOGGER, e);
@@ -115,7 +115,8 @@ public class LdaptiveResourceCRLFetcher extends ResourceCRLFetcher {
 
     /**
      * Gets x509 cRL from attribute. Retrieves the binary attribute value,
-     * decodes it to base64, and fetches it as a byte-array resource.
+     * decodes it to base64, and fetches it as a byte-array resource,
+     * which parses and indexes the CRL once.
      *
      * @param attribute the attribute, which may be null if it's not found
      * @return the x 509 cRL from attribute
@@ -1,12 +1,13 @@
 package org.apereo.cas.adaptors.x509.authentication.revocation.checker;
 
 import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.IndexedX509CRL;
 import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationPolicy;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CertUtils;
-import org.apereo.cas.util.function.FunctionUtils;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import lombok.extern.slf4j.Slf4j;
@@ -16,7 +17,7 @@ import org.bouncycastle.asn1.DERIA5String;
 import org.bouncycastle.asn1.x509.DistributionPoint;
 import org.bouncycastle.asn1.x509.GeneralName;
 import org.cryptacular.x509.ExtensionReader;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -25,10 +26,21 @@ import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.security.cert.X509CRL;
 import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.IntStream;
 
 /**
@@ -39,26 +51,66 @@ import java.util.stream.IntStream;
  * implementation.  This implementation caches CRL resources fetched from remote
  * URLs to improve performance by avoiding CRL fetching on every revocation
  * check.
+ * <p>
+ * CRLs are cached once parsed and indexed by serial number, so revocation checks against
+ * a cached CRL do not parse it again. A cached CRL is refreshed in the background
+ * when its {@code nextUpdate} is near, or when it approaches the expiration of its cache entry,
+ * and continues to be used for revocation checks until the refreshed CRL is available.
+ * Refreshes of a CRL are attempted no more often than a minimum interval, which is doubled
+ * while refreshes fail or produce a CRL that is still due for refresh, such as when the
+ * issuer publishes its CRL late.
  *
  * @author Marvin S. Addison
  * @since 3.4.6
  */
 @Slf4j
-public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocationChecker {
+public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocationChecker implements DisposableBean {
 
-    private final Cache<URI, byte[]> crlCache;
+    /**
+     * Time ahead of the CRL {@code nextUpdate} at which the CRL is refreshed.
+     */
+    private static final Duration REFRESH_LEAD_TIME = Duration.ofMinutes(5);
+
+    /**
+     * Fraction of the time-to-live of cache entries after which the CRL is refreshed.
+     */
+    private static final double REFRESH_AGE_RATIO = 0.75D;
+
+    /**
+     * Minimum time between attempts to refresh the same CRL.
+     */
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofMinutes(5);
+
+    /**
+     * Maximum time between attempts to refresh the same CRL, once backed off.
+     */
+    private static final Duration MAX_REFRESH_INTERVAL = Duration.ofHours(1);
+
+    private static final int MAX_BACKOFF_SHIFT = 8;
+
+    private final Cache<URI, X509CRL> crlCache;
 
     private final CRLFetcher fetcher;
 
     private final boolean throwOnFetchFailure;
 
-    public CRLDistributionPointRevocationChecker(final Cache<URI, byte[]> crlCache,
+    private final Set<URI> refreshingCrls = ConcurrentHashMap.newKeySet();
+
+    private final Map<URI, RefreshAttempt> refreshAttempts = new ConcurrentHashMap<>();
+
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        val thread = new Thread(runnable, "CRLRefresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CRLDistributionPointRevocationChecker(final Cache<URI, X509CRL> crlCache,
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
                                                  final RevocationPolicy<Void> unavailableCRLPolicy) {
         this(crlCache, expiredCRLPolicy, unavailableCRLPolicy, false);
     }
 
-    public CRLDistributionPointRevocationChecker(final Cache<URI, byte[]> crlCache,
+    public CRLDistributionPointRevocationChecker(final Cache<URI, X509CRL> crlCache,
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
                                                  final RevocationPolicy<Void> unavailableCRLPolicy,
                                                  final boolean throwOnFetchFailure) {
@@ -67,7 +119,7 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
     public CRLDistributionPointRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
-                                                 final Cache<URI, byte[]> crlCache,
+                                                 final Cache<URI, X509CRL> crlCache,
                                                  final CRLFetcher fetcher, final boolean throwOnFetchFailure) {
         super(checkAll, unavailableCRLPolicy, expiredCRLPolicy);
         this.crlCache = crlCache;
@@ -143,21 +195,18 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
         for (var index = 0; !stopFetching && index < urls.length; index++) {
             val url = urls[index];
-            val item = this.crlCache.asMap().get(url);
+            val item = this.crlCache.getIfPresent(url);
 
             if (item != null) {
                 LOGGER.debug("Found CRL in cache for [{}]", CertUtils.toString(cert));
-                val crlFetched = FunctionUtils.doUnchecked(() -> this.fetcher.fetch(new ByteArrayResource(item)));
-
-                if (crlFetched != null) {
-                    listOfLocations.add(crlFetched);
-                } else {
-                    LOGGER.warn("Could fetch X509 CRL for [{}]. Returned value is null", url);
+                listOfLocations.add(item);
+                if (isRefreshDue(url, item)) {
+                    refreshCRL(url);
                 }
             } else {
                 LOGGER.debug("CRL for [{}] is not cached. Fetching and caching...", CertUtils.toString(cert));
                 try {
-                    val crl = this.fetcher.fetch(url);
+                    val crl = IndexedX509CRL.of(this.fetcher.fetch(url));
                     if (crl != null) {
                         LOGGER.info("Success. Caching fetched CRL at [{}].", url);
                         addCRLbyURI(url, crl);
@@ -184,16 +233,84 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
     @Override
     protected boolean addCRL(final Object id, final X509CRL crl) {
-        return FunctionUtils.doUnchecked(() -> {
-            var uri = (URI) id;
-            if (crl == null) {
-                LOGGER.debug("No CRL was passed. Removing [{}] from cache...", id);
-                this.crlCache.invalidate(uri);
-                return false;
+        val uri = (URI) id;
+        if (crl == null) {
+            LOGGER.debug("No CRL was passed. Removing [{}] from cache...", id);
+            this.crlCache.invalidate(uri);
+            return false;
+        }
+        this.crlCache.put(uri, IndexedX509CRL.of(crl));
+        return this.crlCache.asMap().containsKey(uri);
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Determine whether the cached CRL should be refreshed, which is the case
+     * when its next update is near or when its cache entry is about to expire.
+     *
+     * @param uri the uri
+     * @param crl the crl
+     * @return true if the crl should be refreshed
+     */
+    protected boolean isRefreshDue(final URI uri, final X509CRL crl) {
+        if (crl.getNextUpdate() != null) {
+            val refreshAt = DateTimeUtils.zonedDateTimeOf(crl.getNextUpdate()).minus(REFRESH_LEAD_TIME);
+            if (!ZonedDateTime.now(ZoneOffset.UTC).isBefore(refreshAt)) {
+                return true;
             }
+        }
+        return crlCache.policy().expireAfterWrite()
+            .flatMap(expiration -> expiration.ageOf(uri)
+                .map(age -> age.toMillis() >= expiration.getExpiresAfter().toMillis() * REFRESH_AGE_RATIO))
+            .orElse(Boolean.FALSE);
+    }
 
-            this.crlCache.put(uri, crl.getEncoded());
-            return this.crlCache.asMap().containsKey(uri);
-        });
+    private void refreshCRL(final URI uri) {
+        val now = Instant.now(Clock.systemUTC());
+        val previousAttempt = refreshAttempts.get(uri);
+        if (previousAttempt != null && now.isBefore(previousAttempt.getNextAttemptTime())) {
+            LOGGER.trace("CRL at [{}] was last refreshed at [{}]; next refresh is not due before [{}]",
+                uri, previousAttempt.attemptTime(), previousAttempt.getNextAttemptTime());
+            return;
+        }
+        if (refreshingCrls.add(uri)) {
+            val unsuccessfulAttempts = Optional.ofNullable(previousAttempt).map(RefreshAttempt::unsuccessfulAttempts).orElse(0);
+            refreshAttempts.put(uri, new RefreshAttempt(now, unsuccessfulAttempts));
+            try {
+                refreshExecutor.execute(() -> {
+                    var successful = false;
+                    try {
+                        LOGGER.debug("Refreshing CRL at [{}] in the background", uri);
+                        val crl = this.fetcher.fetch(uri);
+                        if (crl != null) {
+                            addCRLbyURI(uri, crl);
+                            LOGGER.info("Refreshed CRL at [{}]", uri);
+                            successful = !isRefreshDue(uri, crl);
+                        }
+                    } catch (final Exception e) {
+                        LOGGER.warn("Unable to refresh CRL at [{}]; the cached CRL will continue to be used", uri);
+                        LoggingUtils.error(LOGGER, e);
+                    } finally {
+                        val outcome = successful ? 0 : unsuccessfulAttempts + 1;
+                        refreshAttempts.computeIfPresent(uri, (key, attempt) -> new RefreshAttempt(attempt.attemptTime(), outcome));
+                        refreshingCrls.remove(uri);
+                    }
+                });
+            } catch (final RejectedExecutionException e) {
+                refreshingCrls.remove(uri);
+                LOGGER.debug("Unable to schedule CRL refresh for [{}]", uri);
+            }
+        }
+    }
+
+    private record RefreshAttempt(Instant attemptTime, int unsuccessfulAttempts) {
+        Instant getNextAttemptTime() {
+            val backoff = MIN_REFRESH_INTERVAL.multipliedBy(1L << Math.min(unsuccessfulAttempts, MAX_BACKOFF_SHIFT));
+            return attemptTime.plus(backoff.compareTo(MAX_REFRESH_INTERVAL) > 0 ? MAX_REFRESH_INTERVAL : backoff);
+        }
     }
 }
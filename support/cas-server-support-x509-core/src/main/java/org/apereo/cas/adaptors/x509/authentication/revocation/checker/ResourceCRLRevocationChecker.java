@@ -1,6 +1,7 @@
 package org.apereo.cas.adaptors.x509.authentication.revocation.checker;
 
 import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.IndexedX509CRL;
 import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
 import org.apereo.cas.adaptors.x509.authentication.handler.support.X509CredentialsAuthenticationHandler;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationPolicy;
@@ -19,9 +20,8 @@ import java.security.cert.X509CRL;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -55,9 +55,9 @@ public class ResourceCRLRevocationChecker extends AbstractCRLRevocationChecker i
     private final CRLFetcher fetcher;
 
     /**
-     * Map of CRL issuer to CRL.
+     * Map of CRL issuer to CRL, indexed by serial number.
      */
-    private final Map<X500Principal, X509CRL> crlIssuerMap = Collections.synchronizedMap(new HashMap<>(0));
+    private final Map<X500Principal, X509CRL> crlIssuerMap = new ConcurrentHashMap<>(0);
 
     /**
      * Resource CRLs.
@@ -167,16 +167,20 @@ public class ResourceCRLRevocationChecker extends AbstractCRLRevocationChecker i
     @Override
     protected boolean addCRL(final Object issuer, final X509CRL crl) {
         LOGGER.debug("Adding CRL for issuer [{}]", issuer);
-        this.crlIssuerMap.put((X500Principal) issuer, crl);
+        if (crl == null) {
+            this.crlIssuerMap.remove(issuer);
+            return false;
+        }
+        this.crlIssuerMap.put((X500Principal) issuer, IndexedX509CRL.of(crl));
         return this.crlIssuerMap.containsKey(issuer);
     }
 
     @Override
     protected Collection<X509CRL> getCRLs(final X509Certificate cert) {
         val principal = cert.getIssuerX500Principal();
-
-        if (this.crlIssuerMap.containsKey(principal)) {
-            return CollectionUtils.wrap(this.crlIssuerMap.get(principal));
+        val crl = this.crlIssuerMap.get(principal);
+        if (crl != null) {
+            return CollectionUtils.wrap(crl);
         }
         LOGGER.warn("Could not locate CRL for issuer principal [{}]", principal);
         return new ArrayList<>(0);
@@ -0,0 +1,68 @@
+package org.apereo.cas.adaptors.x509.authentication;
+
+import org.apereo.cas.util.crypto.CertUtils;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.security.cert.X509CRL;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link IndexedX509CRLTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("X509")
+class IndexedX509CRLTests {
+    private static X509CRL readCRL(final String name) throws Exception {
+        try (val in = new ClassPathResource(name).getInputStream()) {
+            return (X509CRL) CertUtils.getCertificateFactory().generateCRL(in);
+        }
+    }
+
+    @Test
+    void verifyRevocationLookupsMatchCRL() throws Exception {
+        val crl = readCRL("userCA-valid.crl");
+        val indexed = IndexedX509CRL.of(crl);
+        assertInstanceOf(IndexedX509CRL.class, indexed);
+        assertSame(indexed, IndexedX509CRL.of(indexed));
+
+        val revoked = CertUtils.readCertificate(new ClassPathResource("user-revoked-distcrl.crt"));
+        assertEquals(crl.getRevokedCertificate(revoked), indexed.getRevokedCertificate(revoked));
+        assertNotNull(indexed.getRevokedCertificate(revoked));
+        assertNotNull(indexed.getRevokedCertificate(revoked.getSerialNumber()));
+        assertTrue(indexed.isRevoked(revoked));
+
+        val valid = CertUtils.readCertificate(new ClassPathResource("user-valid-distcrl.crt"));
+        assertNull(indexed.getRevokedCertificate(valid));
+        assertFalse(indexed.isRevoked(valid));
+
+        val otherIssuer = CertUtils.readCertificate(new ClassPathResource("userCA.crt"));
+        assertEquals(crl.getRevokedCertificate(otherIssuer), indexed.getRevokedCertificate(otherIssuer));
+    }
+
+    @Test
+    void verifyDelegation() throws Exception {
+        val crl = readCRL("userCA-expired.crl");
+        val indexed = IndexedX509CRL.of(crl);
+        assertEquals(crl, indexed);
+        assertEquals(indexed, crl);
+        assertEquals(crl.hashCode(), indexed.hashCode());
+        assertArrayEquals(crl.getEncoded(), indexed.getEncoded());
+        assertEquals(crl.getNextUpdate(), indexed.getNextUpdate());
+        assertEquals(crl.getIssuerX500Principal(), indexed.getIssuerX500Principal());
+        assertTrue(CertUtils.isExpired(indexed));
+        assertNull(IndexedX509CRL.of(null));
+    }
+
+    @Test
+    void verifyFetcherIndexesCRL() throws Exception {
+        val fetcher = new ResourceCRLFetcher();
+        assertInstanceOf(IndexedX509CRL.class, fetcher.fetch(new ClassPathResource("userCA-valid.crl")));
+    }
+}
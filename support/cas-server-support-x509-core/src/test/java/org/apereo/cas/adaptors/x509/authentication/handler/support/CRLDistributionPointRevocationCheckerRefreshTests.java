@@ -0,0 +1,93 @@
+package org.apereo.cas.adaptors.x509.authentication.handler.support;
+
+import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.IndexedX509CRL;
+import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.CRLDistributionPointRevocationChecker;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.ThresholdExpiredCRLRevocationPolicy;
+import org.apereo.cas.util.crypto.CertUtils;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.net.URI;
+import java.security.cert.X509CRL;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CRLDistributionPointRevocationCheckerRefreshTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("X509")
+class CRLDistributionPointRevocationCheckerRefreshTests {
+    @Test
+    void verifyCachedCRLIsRefreshedInBackground() throws Exception {
+        val crl = new ResourceCRLFetcher().fetch(new ClassPathResource("userCA-valid.crl"));
+        val fetcher = mock(CRLFetcher.class);
+        when(fetcher.fetch(any(URI.class))).thenReturn(crl);
+
+        val cache = Caffeine.newBuilder()
+            .maximumSize(10)
+            .expireAfterWrite(Duration.ofSeconds(2))
+            .<URI, X509CRL>build();
+        val checker = new CRLDistributionPointRevocationChecker(false, null,
+            new ThresholdExpiredCRLRevocationPolicy(0), cache, fetcher, true);
+        try {
+            val cert = CertUtils.readCertificate(new ClassPathResource("user-valid-distcrl.crt"));
+            checker.check(cert);
+            verify(fetcher, times(1)).fetch(any(URI.class));
+            assertEquals(1, cache.estimatedSize());
+            assertInstanceOf(IndexedX509CRL.class, cache.asMap().values().iterator().next());
+
+            checker.check(cert);
+            verify(fetcher, times(1)).fetch(any(URI.class));
+
+            Thread.sleep(1_600);
+            checker.check(cert);
+            verify(fetcher, timeout(2_000).times(2)).fetch(any(URI.class));
+            assertEquals(1, cache.estimatedSize());
+        } finally {
+            checker.destroy();
+        }
+    }
+
+    @Test
+    void verifyLatePublishedCRLIsNotRefreshedContinuously() throws Exception {
+        val crl = new ResourceCRLFetcher().fetch(new ClassPathResource("userCA-expired.crl"));
+        val fetcher = mock(CRLFetcher.class);
+        when(fetcher.fetch(any(URI.class))).thenReturn(crl);
+
+        val cache = Caffeine.newBuilder()
+            .maximumSize(10)
+            .expireAfterWrite(Duration.ofHours(1))
+            .<URI, X509CRL>build();
+        val checker = new CRLDistributionPointRevocationChecker(false, null,
+            expiredCrl -> {
+            }, cache, fetcher, true);
+        try {
+            val cert = CertUtils.readCertificate(new ClassPathResource("user-valid-distcrl.crt"));
+            checker.check(cert);
+            verify(fetcher, times(1)).fetch(any(URI.class));
+
+            checker.check(cert);
+            verify(fetcher, timeout(2_000).times(2)).fetch(any(URI.class));
+
+            for (var i = 0; i < 5; i++) {
+                checker.check(cert);
+            }
+            Thread.sleep(500);
+            verify(fetcher, times(2)).fetch(any(URI.class));
+        } finally {
+            checker.destroy();
+        }
+    }
+}
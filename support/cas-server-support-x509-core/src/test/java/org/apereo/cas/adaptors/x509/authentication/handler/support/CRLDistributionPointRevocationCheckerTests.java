@@ -28,6 +28,7 @@ import java.io.FileOutputStream;
 import java.math.BigInteger;
 import java.net.URI;
 import java.security.GeneralSecurityException;
+import java.security.cert.X509CRL;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -51,7 +52,7 @@ class CRLDistributionPointRevocationCheckerTests extends BaseCRLRevocationChecke
      */
     private MockWebServer webServer;
 
-    private static Cache<URI, byte[]> getCache() {
+    private static Cache<URI, X509CRL> getCache() {
         return Caffeine.newBuilder()
             .maximumSize(1000)
             .expireAfterWrite(Beans.newDuration("PT1H"))
@@ -53,6 +53,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
 
 import java.net.URI;
+import java.security.cert.X509CRL;
 import java.util.Locale;
 import java.util.stream.Collectors;
 
@@ -195,7 +196,7 @@ public class X509AuthenticationConfiguration {
         val cache = Caffeine.newBuilder()
             .maximumSize(x509.getCacheMaxElementsInMemory())
             .expireAfterWrite(Beans.newDuration(x509.getCacheTimeToLiveSeconds()))
-            .<URI, byte[]>build();
+            .<URI, X509CRL>build();
 
         return new CRLDistributionPointRevocationChecker(x509.isCheckAll(),
             getRevocationPolicy(x509.getCrlUnavailablePolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
@@ -34,6 +34,7 @@ import org.springframework.test.context.TestPropertySource;
 import java.net.URI;
 import java.net.URL;
 import java.security.cert.CertificateException;
+import java.security.cert.X509CRL;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -160,7 +161,7 @@ class LdaptiveResourceCRLFetcherTests {
             }
         }
 
-        private static Cache<URI, byte[]> getCache() {
+        private static Cache<URI, X509CRL> getCache() {
             return Caffeine.newBuilder()
                 .maximumSize(1000)
                 .expireAfterWrite(Beans.newDuration("PT1H"))
@@ -62,6 +62,9 @@ public class YamlServiceRegistryConfiguration {
             if (registry.getYaml().isWatcherEnabled()) {
                 yaml.enableDefaultWatcherService();
             }
+            if (registry.getYaml().isChangeDetectionEnabled()) {
+                yaml.enableChangeDetection();
+            }
             return yaml;
         }
 